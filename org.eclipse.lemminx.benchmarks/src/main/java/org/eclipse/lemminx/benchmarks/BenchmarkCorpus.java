@@ -0,0 +1,141 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+/**
+ * Generated XML documents used by the benchmarks.
+ *
+ */
+public enum BenchmarkCorpus {
+
+	/**
+	 * Small document without grammar.
+	 */
+	SMALL(null, 10),
+
+	/**
+	 * Large document without grammar with a lot of sibling elements.
+	 */
+	LARGE_FLAT(null, 20000),
+
+	/**
+	 * Document without grammar with deeply nested elements.
+	 */
+	DEEP_NESTED(null, 500),
+
+	/**
+	 * Document bound to a DTD with a DOCTYPE.
+	 */
+	DTD("addressBook.dtd", 2000),
+
+	/**
+	 * Document bound to a XML Schema with xsi:noNamespaceSchemaLocation.
+	 */
+	XSD("addressBook.xsd", 2000),
+
+	/**
+	 * Document bound to a XML Schema with a root element which has 10000 child
+	 * elements.
+	 */
+	LARGE_XSD("addressBook.xsd", 10000),
+
+	/**
+	 * Document bound to a RelaxNG schema with xml-model.
+	 */
+	RELAXNG("addressBook.rng", 2000);
+
+	private final String grammar;
+
+	private final int size;
+
+	private BenchmarkCorpus(String grammar, int size) {
+		this.grammar = grammar;
+		this.size = size;
+	}
+
+	/**
+	 * Returns the grammar file name (stored in the 'grammars' resources folder)
+	 * and null if the document is not bound to a grammar.
+	 *
+	 * @return the grammar file name and null if the document is not bound to a
+	 *         grammar.
+	 */
+	public String getGrammar() {
+		return grammar;
+	}
+
+	/**
+	 * Returns the number of generated elements.
+	 *
+	 * @return the number of generated elements.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the XML content of the document.
+	 *
+	 * @return the XML content of the document.
+	 */
+	public String generate() {
+		StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		if (this == DEEP_NESTED) {
+			xml.append("<root>\n");
+			for (int i = 0; i < size; i++) {
+				indent(xml, i + 1).append("<item level=\"").append(i).append("\">\n");
+				indent(xml, i + 2).append("<name>Item ").append(i).append("</name>\n");
+			}
+			for (int i = size - 1; i >= 0; i--) {
+				indent(xml, i + 1).append("</item>\n");
+			}
+			return xml.append("</root>").toString();
+		}
+		switch (this) {
+		case DTD:
+			xml.append("<!DOCTYPE addressBook SYSTEM \"").append(grammar).append("\">\n") //
+					.append("<addressBook>\n");
+			break;
+		case XSD:
+		case LARGE_XSD:
+			xml.append(
+					"<addressBook xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\"")
+					.append(grammar).append("\">\n");
+			break;
+		case RELAXNG:
+			xml.append("<?xml-model href=\"").append(grammar).append("\"?>\n") //
+					.append("<addressBook>\n");
+			break;
+		default:
+			xml.append("<addressBook>\n");
+		}
+		for (int i = 0; i < size; i++) {
+			xml.append("  <card id=\"c").append(i).append("\" type=\"").append(i % 2 == 0 ? "personal" : "work")
+					.append("\">\n") //
+					.append("    <name>Name ").append(i).append("</name>\n") //
+					.append("    <email>name").append(i).append("@example.com</email>\n");
+			if (i % 10 == 0) {
+				xml.append("    <!-- a comment -->\n") //
+						.append("    <note><![CDATA[ note with <markup> ]]></note>\n");
+			}
+			xml.append("  </card>\n");
+		}
+		return xml.append("</addressBook>").toString();
+	}
+
+	private static StringBuilder indent(StringBuilder xml, int level) {
+		for (int i = 0; i < level; i++) {
+			xml.append("  ");
+		}
+		return xml;
+	}
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run the LemMinX benchmarks with the GC profiler (to report the allocation
+ * rate) and write the results in a JSON file which can be compared between
+ * releases.
+ *
+ * <p>
+ * Usage: <code>java -jar target/benchmarks.jar [regexp...]</code> where the
+ * optional regular expressions select the benchmarks to run (ex :
+ * <code>DOMParser</code>). The JSON file is 'jmh-result.json' by default and can
+ * be changed with the "lemminx.benchmarks.result" system property.
+ * </p>
+ *
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException {
+		ChainedOptionsBuilder options = new OptionsBuilder() //
+				.addProfiler(GCProfiler.class) //
+				.resultFormat(ResultFormatType.JSON) //
+				.result(System.getProperty("lemminx.benchmarks.result", "jmh-result.json"));
+		if (args.length == 0) {
+			options.include(BenchmarkRunner.class.getPackageName() + ".*");
+		}
+		for (String include : args) {
+			options.include(include);
+		}
+		new Runner(options.build()).run();
+	}
+}
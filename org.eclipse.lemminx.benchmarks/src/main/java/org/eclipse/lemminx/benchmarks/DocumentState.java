@@ -0,0 +1,145 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.services.extensions.save.AbstractSaveContext;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.Position;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark state which stores the generated document (and its grammar) of a
+ * {@link BenchmarkCorpus} in a temporary folder, and the XML language service
+ * used to process it.
+ *
+ */
+@State(Scope.Benchmark)
+public class DocumentState {
+
+	@Param({ "SMALL", "LARGE_FLAT", "DEEP_NESTED", "DTD", "XSD", "RELAXNG" })
+	public BenchmarkCorpus corpus;
+
+	private Path folder;
+
+	private String text;
+
+	private TextDocument textDocument;
+
+	private DOMDocument document;
+
+	private XMLLanguageService languageService;
+
+	private SharedSettings sharedSettings;
+
+	private Position completionPosition;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException, BadLocationException {
+		folder = Files.createTempDirectory("lemminx-benchmarks");
+		String grammar = corpus.getGrammar();
+		if (grammar != null) {
+			try (InputStream in = DocumentState.class.getResourceAsStream("/grammars/" + grammar)) {
+				Files.copy(in, folder.resolve(grammar), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		text = corpus.generate();
+		Path file = folder.resolve(corpus.name().toLowerCase() + ".xml");
+		Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+		textDocument = new TextDocument(text, file.toUri().toString());
+
+		languageService = new XMLLanguageService();
+		ContentModelSettings settings = new ContentModelSettings();
+		settings.setUseCache(true);
+		languageService.doSave(new SettingsSaveContext(settings));
+		languageService.initializeIfNeeded();
+		sharedSettings = new SharedSettings();
+		document = parse();
+		languageService.setDocumentProvider(uri -> document);
+
+		// Complete the element start tag in the middle of the document
+		int offset = text.indexOf("<name>", text.length() / 2) + 1;
+		completionPosition = textDocument.positionAt(offset);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.walk(folder)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Returns a new DOM document parsed from the document text.
+	 *
+	 * @return a new DOM document parsed from the document text.
+	 */
+	public DOMDocument parse() {
+		return DOMParser.getInstance().parse(textDocument, languageService.getResolverExtensionManager());
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public DOMDocument getDocument() {
+		return document;
+	}
+
+	public XMLLanguageService getLanguageService() {
+		return languageService;
+	}
+
+	public SharedSettings getSharedSettings() {
+		return sharedSettings;
+	}
+
+	public Position getCompletionPosition() {
+		return completionPosition;
+	}
+
+	private static class SettingsSaveContext extends AbstractSaveContext {
+
+		public SettingsSaveContext(Object settings) {
+			super(settings);
+		}
+
+		@Override
+		public DOMDocument getDocument(String uri) {
+			return null;
+		}
+
+		@Override
+		public void collectDocumentToValidate(Predicate<DOMDocument> validateDocumentPredicate) {
+		}
+	}
+}
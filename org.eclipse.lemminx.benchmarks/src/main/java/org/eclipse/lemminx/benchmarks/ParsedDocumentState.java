@@ -0,0 +1,39 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark state which parses a new DOM document of the {@link DocumentState}
+ * before each invocation, so that the results cached for a DOM document
+ * (folding ranges, symbols, etc) are not reused by the measured invocation.
+ *
+ */
+@State(Scope.Thread)
+public class ParsedDocumentState {
+
+	private DOMDocument document;
+
+	@Setup(Level.Invocation)
+	public void setup(DocumentState state) {
+		document = state.parse();
+	}
+
+	public DOMDocument getDocument() {
+		return document;
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.xerces.util.XMLCatalogResolver;
+import org.eclipse.lemminx.extensions.contentmodel.uriresolver.XMLCatalogResolverExtension;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the resolution of a system identifier with a generated XML
+ * catalog which has 10000 'uri', 'system' and 'rewriteSystem' entries.
+ *
+ * <p>
+ * The <code>resolver</code> parameter compares the Xerces
+ * {@link XMLCatalogResolver} (which walks the catalog entries for each lookup)
+ * with the {@link XMLCatalogResolverExtension} (which resolves the catalog
+ * entries with lookup tables). The <code>lookup</code> parameter selects the
+ * kind of entry which matches the system identifier.
+ * </p>
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XMLCatalogResolverBenchmark {
+
+	private static final int ENTRIES = 10000;
+
+	@State(Scope.Benchmark)
+	public static class CatalogState {
+
+		@Param({ "xerces", "compiled" })
+		public String resolver;
+
+		@Param({ "uri", "system", "rewrite", "miss" })
+		public String lookup;
+
+		private Path folder;
+
+		private XMLCatalogResolver xercesResolver;
+
+		private XMLCatalogResolverExtension catalogExtension;
+
+		private String systemId;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+			folder = Files.createTempDirectory("lemminx-benchmarks");
+			Path catalog = folder.resolve("catalog.xml");
+			Files.write(catalog, generateCatalog().getBytes(StandardCharsets.UTF_8));
+			String catalogURI = catalog.toUri().toString();
+			if ("xerces".equals(resolver)) {
+				xercesResolver = new XMLCatalogResolver(new String[] { catalogURI });
+			} else {
+				catalogExtension = new XMLCatalogResolverExtension();
+				catalogExtension.setCatalogs(new String[] { catalogURI });
+			}
+			// the last entry of the catalog
+			int index = ENTRIES / 3 - 1;
+			switch (lookup) {
+			case "uri":
+				systemId = "http://example.org/ns/" + index + "/schema.xsd";
+				break;
+			case "system":
+				systemId = "http://example.org/dtd/" + index + ".dtd";
+				break;
+			case "rewrite":
+				systemId = "http://example.org/rewrite/" + index + "/folder/schema.xsd";
+				break;
+			default:
+				systemId = "http://example.org/unknown/schema.xsd";
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			try (Stream<Path> files = Files.walk(folder)) {
+				files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+
+		String resolve() throws IOException {
+			if (xercesResolver != null) {
+				// same lookups than LSPXMLCatalogResolver for a system identifier
+				String resolved = xercesResolver.resolveSystem(systemId);
+				return resolved != null ? resolved : xercesResolver.resolveURI(systemId);
+			}
+			return catalogExtension.resolve(null, null, systemId);
+		}
+
+		private static String generateCatalog() {
+			StringBuilder catalog = new StringBuilder(
+					"<catalog xmlns=\"urn:oasis:names:tc:entity:xmlns:xml:catalog\">\n");
+			for (int i = 0; i < ENTRIES / 3; i++) {
+				catalog.append("  <uri name=\"http://example.org/ns/").append(i)
+						.append("/schema.xsd\" uri=\"xsd/").append(i).append(".xsd\" />\n");
+				catalog.append("  <system systemId=\"http://example.org/dtd/").append(i)
+						.append(".dtd\" uri=\"dtd/").append(i).append(".dtd\" />\n");
+				catalog.append("  <rewriteSystem systemIdStartString=\"http://example.org/rewrite/").append(i)
+						.append("/\" rewritePrefix=\"rewrite/").append(i).append("/\" />\n");
+			}
+			return catalog.append("</catalog>").toString();
+		}
+	}
+
+	@Benchmark
+	public String resolve(CatalogState state) throws IOException {
+		return state.resolve();
+	}
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of XMLFormatter which compares the formatting of the whole
+ * document, of a selection of some elements and of the line where the user
+ * types (like a format on type) in the middle of a large document.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XMLRangeFormatterBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class RangeState {
+
+		@Param({ "LARGE_FLAT", "DEEP_NESTED" })
+		public BenchmarkCorpus corpus;
+
+		private DOMDocument document;
+
+		private XMLLanguageService languageService;
+
+		private SharedSettings sharedSettings;
+
+		private Range selectionRange;
+
+		private Range lineRange;
+
+		@Setup(Level.Trial)
+		public void setup() throws BadLocationException {
+			String text = corpus.generate();
+			TextDocument textDocument = new TextDocument(text, corpus.name().toLowerCase() + ".xml");
+			languageService = new XMLLanguageService();
+			languageService.initializeIfNeeded();
+			sharedSettings = new SharedSettings();
+			document = DOMParser.getInstance().parse(textDocument, languageService.getResolverExtensionManager());
+
+			// Select the 10 elements after the middle of the document
+			int start = text.lastIndexOf('\n', text.indexOf("<name>", text.length() / 2)) + 1;
+			int end = start;
+			for (int i = 0; i < 10; i++) {
+				end = text.indexOf("</name>", end) + "</name>".length();
+			}
+			selectionRange = new Range(textDocument.positionAt(start), textDocument.positionAt(end));
+
+			// The line of the first selected element
+			int lineEnd = text.indexOf('\n', start);
+			lineRange = new Range(textDocument.positionAt(start), textDocument.positionAt(lineEnd));
+		}
+	}
+
+	@Benchmark
+	public List<? extends TextEdit> formatDocument(RangeState state) {
+		return state.languageService.format(state.document, null, state.sharedSettings);
+	}
+
+	@Benchmark
+	public List<? extends TextEdit> formatSelection(RangeState state) {
+		return state.languageService.format(state.document, state.selectionRange, state.sharedSettings);
+	}
+
+	@Benchmark
+	public List<? extends TextEdit> formatOnType(RangeState state) {
+		return state.languageService.format(state.document, state.lineRange, state.sharedSettings);
+	}
+}
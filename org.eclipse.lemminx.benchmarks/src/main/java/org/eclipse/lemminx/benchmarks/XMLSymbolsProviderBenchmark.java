@@ -0,0 +1,49 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of XMLSymbolsProvider which computes the document symbols.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XMLSymbolsProviderBenchmark {
+
+	@Benchmark
+	public List<DocumentSymbol> findDocumentSymbols(DocumentState state, ParsedDocumentState parsed) {
+		return state.getLanguageService().findDocumentSymbols(parsed.getDocument(),
+				state.getSharedSettings().getSymbolSettings());
+	}
+
+	@Benchmark
+	public List<DocumentSymbol> findCachedDocumentSymbols(DocumentState state) {
+		// the symbols are computed once for the DOM document
+		return state.getLanguageService().findDocumentSymbols(state.getDocument(),
+				state.getSharedSettings().getSymbolSettings());
+	}
+}
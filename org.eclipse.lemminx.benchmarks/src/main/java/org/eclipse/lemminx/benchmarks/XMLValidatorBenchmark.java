@@ -0,0 +1,66 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.xerces.xni.parser.XMLEntityResolver;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.XMLValidator;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the XML validation (syntax and grammar validation with Xerces)
+ * done by {@link XMLValidator#doDiagnostics(DOMDocument, XMLEntityResolver, List, XMLValidationSettings, ContentModelManager, CancelChecker)}
+ * and of the whole diagnostics pipeline of the XML language service (all the
+ * diagnostics participants) for comparison.
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XMLValidatorBenchmark {
+
+	@Benchmark
+	public List<Diagnostic> doDiagnostics(DocumentState state) {
+		XMLLanguageService languageService = state.getLanguageService();
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		XMLValidator.doDiagnostics(state.getDocument(), languageService.getResolverExtensionManager(), diagnostics,
+				new XMLValidationRootSettings(), languageService.getComponent(ContentModelManager.class), () -> {
+				});
+		return diagnostics;
+	}
+
+	@Benchmark
+	public List<Diagnostic> doLanguageServiceDiagnostics(DocumentState state) {
+		return state.getLanguageService().doDiagnostics(state.getDocument(), new XMLValidationRootSettings(),
+				Collections.emptyMap(), () -> {
+				});
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of XMLCompletions.doComplete for a child element of an element
+ * bound to a XML Schema which has 10000 child elements (see
+ * {@link BenchmarkCorpus#LARGE_XSD}).
+ *
+ * <p>
+ * The possible elements are computed by replaying the XML Schema content model
+ * for the previous child elements. The <code>parse</code> parameter measures the
+ * completion with a new DOM document for each operation (like after each key
+ * stroke) or with the same DOM document.
+ * </p>
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XSDChildElementCompletionBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class ChildElementState {
+
+		/**
+		 * The index of the child element before which the completion is done.
+		 */
+		@Param({ "5000", "10000" })
+		public int childIndex;
+
+		@Param({ "false", "true" })
+		public boolean parse;
+
+		private Path folder;
+
+		private TextDocument textDocument;
+
+		private DOMDocument document;
+
+		private XMLLanguageService languageService;
+
+		private SharedSettings sharedSettings;
+
+		private Position completionPosition;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException, BadLocationException {
+			BenchmarkCorpus corpus = BenchmarkCorpus.LARGE_XSD;
+			folder = Files.createTempDirectory("lemminx-benchmarks");
+			String grammar = corpus.getGrammar();
+			try (InputStream in = XSDChildElementCompletionBenchmark.class.getResourceAsStream("/grammars/" + grammar)) {
+				Files.copy(in, folder.resolve(grammar), StandardCopyOption.REPLACE_EXISTING);
+			}
+			String text = corpus.generate();
+			Path file = folder.resolve(corpus.name().toLowerCase() + ".xml");
+			Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+			textDocument = new TextDocument(text, file.toUri().toString());
+
+			languageService = new XMLLanguageService();
+			languageService.initializeIfNeeded();
+			sharedSettings = new SharedSettings();
+			document = DOMParser.getInstance().parse(textDocument, languageService.getResolverExtensionManager());
+			languageService.setDocumentProvider(uri -> document);
+
+			// Complete the child element before the card (or the end tag of the root
+			// element)
+			int offset = text.indexOf(childIndex < corpus.getSize() ? "<card id=\"c" + childIndex + "\""
+					: "</addressBook>");
+			completionPosition = textDocument.positionAt(offset);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			try (Stream<Path> files = Files.walk(folder)) {
+				files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+
+		DOMDocument getDocument() {
+			if (parse) {
+				document = DOMParser.getInstance().parse(textDocument, languageService.getResolverExtensionManager());
+			}
+			return document;
+		}
+	}
+
+	@Benchmark
+	public CompletionList doComplete(ChildElementState state) {
+		return state.languageService.doComplete(state.getDocument(), state.completionPosition, state.sharedSettings);
+	}
+}
@@ -14,8 +14,10 @@ package com.thaiopensource.relaxng.pattern;
 import static org.eclipse.lemminx.utils.DOMUtils.findFirstChildElementByTagName;
 import static org.eclipse.lemminx.utils.DOMUtils.isDOMElement;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -220,8 +222,9 @@ public class CMRelaxNGDocument implements CMDocument {
 		if (document != null) {
 			return document;
 		}
-		document = DOMUtils.loadDocument(systemId,
-				resolverExtensionManager);
+		// The document is kept by the grammar and the locations come from the RelaxNG
+		// file, the opened editor buffer must not be used.
+		document = DOMUtils.loadFileDocument(systemId, resolverExtensionManager);
 		documents.put(systemId, document);
 		return document;
 	}
@@ -231,6 +234,11 @@ public class CMRelaxNGDocument implements CMDocument {
 		return tracker != null ? tracker.isDirty() : false;
 	}
 
+	@Override
+	public Collection<Path> getGrammarFiles() {
+		return tracker != null ? tracker.getFiles() : Collections.emptyList();
+	}
+
 	public String getDocumentation(Locator locator) {
 		return getDocumentation(locator, null);
 	}
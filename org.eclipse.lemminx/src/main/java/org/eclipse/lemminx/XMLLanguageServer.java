@@ -34,6 +34,7 @@ import org.eclipse.lemminx.customservice.AutoCloseTagResponse;
 import org.eclipse.lemminx.customservice.XMLLanguageClientAPI;
 import org.eclipse.lemminx.customservice.XMLLanguageServerAPI;
 import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
 import org.eclipse.lemminx.logs.LogHelper;
@@ -153,6 +154,21 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 	public void initialized(InitializedParams params) {
 		capabilityManager.initializeCapabilities();
 		getTelemetryManager().onInitialized(params);
+		preloadGrammars();
+	}
+
+	/**
+	 * Preload in background the grammars used in the previous sessions.
+	 */
+	private void preloadGrammars() {
+		if ("false".equals(System.getProperty(ContentModelManager.GRAMMAR_INDEX_PROPERTY))) {
+			return;
+		}
+		ContentModelManager contentModelManager = xmlLanguageService.getComponent(ContentModelManager.class);
+		if (contentModelManager != null) {
+			contentModelManager.setGrammarIndexEnabled(true);
+			contentModelManager.preloadGrammars();
+		}
 	}
 
 	/**
@@ -253,6 +269,7 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 	@Override
 	public void exit(int exitCode) {
 		delayer.shutdown();
+		xmlTextDocumentService.getValidationScheduler().shutdown();
 		System.exit(exitCode);
 	}
 
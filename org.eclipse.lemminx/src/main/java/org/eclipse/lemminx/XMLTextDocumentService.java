@@ -22,8 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -34,7 +34,8 @@ import org.eclipse.lemminx.client.LimitExceededWarner;
 import org.eclipse.lemminx.client.LimitFeature;
 import org.eclipse.lemminx.commons.ModelTextDocument;
 import org.eclipse.lemminx.commons.ModelTextDocuments;
-import org.eclipse.lemminx.commons.ModelValidatorDelayer;
+import org.eclipse.lemminx.commons.ModelValidationScheduler;
+import org.eclipse.lemminx.commons.ModelValidationScheduler.Priority;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMParser;
@@ -127,7 +128,15 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	private final XMLLanguageServer xmlLanguageServer;
 	private final ModelTextDocuments<DOMDocument> documents;
-	private final ModelValidatorDelayer<DOMDocument> xmlValidatorDelayer;
+	private final ModelValidationScheduler<DOMDocument> xmlValidationScheduler;
+
+	private static final long DID_CHANGE_VALIDATION_DELAY_MS = 100;
+
+	private static final long DEPENDENT_VALIDATION_DELAY_MS = 500;
+
+	private final Consumer<ModelTextDocument<DOMDocument>> didOpenParticipants;
+
+	private final Consumer<ModelTextDocument<DOMDocument>> didChangeParticipants;
 
 	private SharedSettings sharedSettings;
 	private LimitExceededWarner limitExceededWarner;
@@ -203,13 +212,27 @@ public class XMLTextDocumentService implements TextDocumentService {
 		DOMParser parser = DOMParser.getInstance();
 		this.documents = new ModelTextDocuments<DOMDocument>((document, cancelChecker) -> {
 			return parser.parse(document, getXMLLanguageService().getResolverExtensionManager(), true, cancelChecker);
+		}, (previousDocument, document, change, cancelChecker) -> {
+			return parser.reparse(previousDocument, document, change, true, cancelChecker);
 		});
 		this.sharedSettings = new SharedSettings();
 		this.limitExceededWarner = null;
-		this.xmlValidatorDelayer = new ModelValidatorDelayer<DOMDocument>((document) -> {
+		this.xmlValidationScheduler = new ModelValidationScheduler<DOMDocument>((document) -> {
+			validate(document.getModel(), Collections.emptyMap());
+		});
+		this.didOpenParticipants = (document) -> {
+			DOMDocument xmlDocument = document.getModel();
+			getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
+				try {
+					participant.didOpen(xmlDocument);
+				} catch (Exception e) {
+					LOGGER.log(Level.SEVERE, "Error while processing didOpen for the participant '"
+							+ participant.getClass().getName() + "'.", e);
+				}
+			});
+		};
+		this.didChangeParticipants = (document) -> {
 			DOMDocument xmlDocument = document.getModel();
-			validate(xmlDocument, Collections.emptyMap());
-
 			getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
 				try {
 					participant.didChange(xmlDocument);
@@ -218,7 +241,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 							+ participant.getClass().getName() + "'.", e);
 				}
 			});
-		});
+		};
 	}
 
 	public void updateClientCapabilities(ClientCapabilities capabilities,
@@ -416,8 +439,8 @@ public class XMLTextDocumentService implements TextDocumentService {
 		DOMDocument xmlDocument = documents.getExistingModel(uri);
 		// Remove the document from the cache
 		documents.onDidCloseTextDocument(params);
-		// Remove the validation from the delayer
-		xmlValidatorDelayer.cleanPendingValidation(uri);
+		// Remove the validation from the scheduler
+		xmlValidationScheduler.cleanPendingValidation(uri);
 		// Publish empty errors from the document
 		xmlLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, Collections.emptyList()));
@@ -663,17 +686,11 @@ public class XMLTextDocumentService implements TextDocumentService {
 	}
 
 	private void triggerValidationFor(Collection<ModelTextDocument<DOMDocument>> documents) {
-		if (!documents.isEmpty()) {
-			xmlLanguageServer.schedule(() -> {
-				documents.forEach(document -> {
-					try {
-						validate(document.getModel(), Collections.emptyMap());
-					} catch (CancellationException e) {
-						// Ignore the error and continue to validate other documents
-					}
-				});
-			}, 500, TimeUnit.MILLISECONDS);
-		}
+		// Validate the dependent documents in parallel, the focused document is
+		// validated first.
+		documents.forEach(document -> {
+			xmlValidationScheduler.validate(document, Priority.NORMAL, DEPENDENT_VALIDATION_DELAY_MS, null);
+		});
 	}
 
 	private void triggerValidationFor(TextDocument document, TriggeredBy triggeredBy) {
@@ -687,6 +704,11 @@ public class XMLTextDocumentService implements TextDocumentService {
 		// delay to avoid
 		// reporting to many 'textDocument/publishDiagnostics' notifications on client
 		// side.
+		if (triggeredBy != TriggeredBy.Other) {
+			// The opened/changed document is the document which is edited by the user, it
+			// must be validated before the other documents.
+			xmlValidationScheduler.setFocusedDocument(document.getUri());
+		}
 		validate(document, triggeredBy == TriggeredBy.didChange);
 
 	}
@@ -701,24 +723,24 @@ public class XMLTextDocumentService implements TextDocumentService {
 	 */
 	@SuppressWarnings("unchecked")
 	void validate(TextDocument document, boolean withDelay) throws CancellationException {
+		ModelTextDocument<DOMDocument> modelDocument = (ModelTextDocument<DOMDocument>) document;
 		if (withDelay) {
-			xmlValidatorDelayer.validateWithDelay((ModelTextDocument<DOMDocument>) document);
+			xmlValidationScheduler.validate(modelDocument, Priority.HIGH, DID_CHANGE_VALIDATION_DELAY_MS,
+					didChangeParticipants);
 		} else {
-			CompletableFuture.runAsync(() -> {
-				DOMDocument xmlDocument = ((ModelTextDocument<DOMDocument>) document).getModel();
-				validate(xmlDocument, Collections.emptyMap());
-				getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
-					try {
-						participant.didOpen(xmlDocument);
-					} catch (Exception e) {
-						LOGGER.log(Level.SEVERE, "Error while processing didOpen for the participant '"
-								+ participant.getClass().getName() + "'.", e);
-					}
-				});
-			});
+			xmlValidationScheduler.validate(modelDocument, Priority.HIGH, 0, didOpenParticipants);
 		}
 	}
 
+	/**
+	 * Returns the validation scheduler.
+	 *
+	 * @return the validation scheduler.
+	 */
+	public ModelValidationScheduler<DOMDocument> getValidationScheduler() {
+		return xmlValidationScheduler;
+	}
+
 	/**
 	 * Validate and publish diagnostics for the given DOM document.
 	 *
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.lemminx.dom.ExternalDocumentCache;
 import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
@@ -84,10 +85,15 @@ public class XMLWorkspaceService implements WorkspaceService, IXMLCommandService
 
 	@Override
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
+		xmlLanguageServer.getXMLLanguageService().getWorkspaceServiceParticipants()
+				.forEach(participant -> participant.didChangeWatchedFiles(params));
 		XMLTextDocumentService xmlTextDocumentService = (XMLTextDocumentService) xmlLanguageServer
 				.getTextDocumentService();
+		ExternalDocumentCache externalDocumentCache = xmlLanguageServer.getXMLLanguageService()
+				.getResolverExtensionManager().getExternalDocumentCache();
 		List<FileEvent> changes = params.getChanges();
 		for (FileEvent change : changes) {
+			externalDocumentCache.evict(change.getUri());
 			if (!xmlTextDocumentService.documentIsOpen(change.getUri())) {
 				xmlTextDocumentService.doSave(change.getUri());
 			}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Parser which creates the model of a new version of the text from the model
+ * of the previous version and the text range which has changed since it (ex :
+ * to track the changed range in the new model).
+ *
+ * @param <T> the model type (ex : DOM Document)
+ */
+@FunctionalInterface
+public interface ModelReparser<T> {
+
+	/**
+	 * Returns a new model for the given text document parsed after the given change
+	 * of the previous model and null if the previous model cannot be used (in this
+	 * case a full parse must be done).
+	 *
+	 * <p>
+	 * The previous model must never be modified: it can be used by other threads
+	 * while the new model is parsed.
+	 * </p>
+	 *
+	 * @param previousModel the model parsed for the text before the change.
+	 * @param document      the text document which contains the new text.
+	 * @param change        the changed range since the previous model.
+	 * @param cancelChecker the cancel checker.
+	 * @return the new model and null if the previous model cannot be used.
+	 */
+	T parse(T previousModel, TextDocument document, TextChangeRange change, CancelChecker cancelChecker);
+}
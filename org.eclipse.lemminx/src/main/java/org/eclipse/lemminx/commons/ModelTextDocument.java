@@ -11,10 +11,18 @@
 *******************************************************************************/
 package org.eclipse.lemminx.commons;
 
+import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.logging.Logger;
 
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
@@ -29,18 +37,58 @@ public class ModelTextDocument<T> extends TextDocument {
 
 	private static final Logger LOGGER = Logger.getLogger(ModelTextDocument.class.getName());
 
+	// Dedicated threads for the parse started in background (see getModelAsync),
+	// to not block the tasks of the common ForkJoin pool with long parses.
+	private static final ExecutorService PARSE_EXECUTOR = Executors.newFixedThreadPool(
+			Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)), new ThreadFactory() {
+
+				private final AtomicInteger count = new AtomicInteger();
+
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "XML parse " + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
-	private T model;
+	private final ModelReparser<T> reparse;
+
+	private final Object changeLock = new Object();
+
+	private volatile T model;
+
+	// The last parsed model which is not synchronized with the text and the
+	// changed range of the text since this model was parsed.
+	private T previousModel;
+	private TextChangeRange change;
+	private int changeCount;
+
+	// The parse of the current version of the text shared by all readers
+	private ParseTask parseTask;
 
 	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(document, parse, null);
+	}
+
+	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse,
+			ModelReparser<T> reparse) {
 		super(document);
 		this.parse = parse;
+		this.reparse = reparse;
 	}
 
 	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(text, uri, parse, null);
+	}
+
+	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse,
+			ModelReparser<T> reparse) {
 		super(text, uri);
 		this.parse = parse;
+		this.reparse = reparse;
 	}
 
 	/**
@@ -54,6 +102,47 @@ public class ModelTextDocument<T> extends TextDocument {
 		return model;
 	}
 
+	/**
+	 * Returns the parsed model synchronized with last version of the text document
+	 * if it exists, otherwise the last parsed model which is not synchronized with
+	 * the text (the model is never updated after its parse, so it can be used while
+	 * the new version is parsed) and null if the text has never been parsed or if
+	 * the whole text has been replaced since the last parse.
+	 * 
+	 * @return the parsed model synchronized with last version of the text
+	 *         document, otherwise the last parsed model and null if there is no
+	 *         parsed model.
+	 */
+	public T getLastModel() {
+		T current = model;
+		if (current != null) {
+			return current;
+		}
+		synchronized (changeLock) {
+			return model != null ? model : previousModel;
+		}
+	}
+
+	/**
+	 * Start the parse of the last version of the text document in a thread if the
+	 * model is not synchronized with the text and returns the parsed model in a
+	 * future.
+	 * 
+	 * @return the parsed model synchronized with last version of the text document
+	 *         in a future.
+	 */
+	public CompletableFuture<T> getModelAsync() {
+		T current = model;
+		if (current != null) {
+			return CompletableFuture.completedFuture(current);
+		}
+		ParseTask task = getOrCreateParseTask();
+		if (task.start()) {
+			PARSE_EXECUTOR.execute(task::parse);
+		}
+		return task.future;
+	}
+
 	/**
 	 * Returns the parsed model synchronized with last version of the text document.
 	 * 
@@ -70,38 +159,162 @@ public class ModelTextDocument<T> extends TextDocument {
 	 * Return the existing parsed model synchronized with last version of the text
 	 * document or parse the model.
 	 * 
+	 * <p>
+	 * The parse of a version of the text is shared: when several threads require
+	 * the model, the first thread parses the text and the other threads wait for
+	 * the result of this parse.
+	 * </p>
+	 * 
 	 * @return the existing parsed model synchronized with last version of the text
 	 *         document or parse the model.
 	 */
-	private synchronized T getSynchronizedModel() {
-		if (model != null) {
-			return model;
+	private T getSynchronizedModel() {
+		T current = model;
+		if (current != null) {
+			return current;
+		}
+		ParseTask task = getOrCreateParseTask();
+		if (task.start()) {
+			// parse the text in the current thread
+			task.parse();
 		}
-		int version = super.getVersion();
-		long start = System.currentTimeMillis();
 		try {
-			LOGGER.fine("Start parsing of model with version '" + version);
-			// Stop of parse process can be done when completable future is canceled or when
-			// version of document changes
-			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
-			// parse the model
-			model = parse.apply(this, cancelChecker);
-		} catch (CancellationException e) {
-			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
-					+ (System.currentTimeMillis() - start) + "ms");
+			return task.future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
 			throw e;
-		} finally {
-			LOGGER.fine("End parse of model with version '" + version + "' in " + (System.currentTimeMillis() - start)
-					+ "ms");
 		}
-		return model;
+	}
+
+	private ParseTask getOrCreateParseTask() {
+		synchronized (changeLock) {
+			int version = super.getVersion();
+			ParseTask task = parseTask;
+			if (task == null || task.version != version || task.changeCount != changeCount) {
+				task = new ParseTask(version, changeCount, previousModel, change);
+				parseTask = task;
+			}
+			return task;
+		}
+	}
+
+	/**
+	 * Parse of a version of the text.
+	 */
+	private class ParseTask {
+
+		private final int version;
+		private final int changeCount;
+		private final T baseModel;
+		private final TextChangeRange baseChange;
+		private final CompletableFuture<T> future;
+		private boolean started;
+
+		ParseTask(int version, int changeCount, T baseModel, TextChangeRange baseChange) {
+			this.version = version;
+			this.changeCount = changeCount;
+			this.baseModel = baseModel;
+			this.baseChange = baseChange;
+			this.future = new CompletableFuture<>();
+		}
+
+		/**
+		 * Returns true if the caller must parse the text and false if the parse is
+		 * already started by another thread.
+		 */
+		synchronized boolean start() {
+			if (started) {
+				return false;
+			}
+			started = true;
+			return true;
+		}
+
+		void parse() {
+			long start = System.currentTimeMillis();
+			try {
+				LOGGER.fine("Start parsing of model with version '" + version);
+				// Stop of parse process can be done when completable future is canceled or when
+				// version of document changes
+				CancelChecker cancelChecker = new TextDocumentVersionChecker(ModelTextDocument.this, version);
+				// parse the model
+				T parsedModel = null;
+				if (reparse != null && baseModel != null && baseChange != null) {
+					// parse from the previous model (the previous model is not modified)
+					parsedModel = reparse.parse(baseModel, ModelTextDocument.this, baseChange, cancelChecker);
+					if (parsedModel != null) {
+						synchronized (changeLock) {
+							if (changeCount != ModelTextDocument.this.changeCount) {
+								// the text has changed while parsing, the change range doesn't match the
+								// parsed text.
+								throw new CancellationException();
+							}
+						}
+					}
+				}
+				if (parsedModel == null) {
+					parsedModel = parse.apply(ModelTextDocument.this, cancelChecker);
+				}
+				synchronized (changeLock) {
+					if (version == ModelTextDocument.super.getVersion()
+							&& changeCount == ModelTextDocument.this.changeCount) {
+						// the parsed model is synchronized with the text
+						model = parsedModel;
+					}
+					if (model == parsedModel) {
+						// the next changes are collected by cancelModel
+						previousModel = null;
+						change = null;
+					}
+				}
+				future.complete(parsedModel);
+			} catch (CancellationException e) {
+				LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
+						+ (System.currentTimeMillis() - start) + "ms");
+				future.completeExceptionally(e);
+			} catch (RuntimeException | Error e) {
+				future.completeExceptionally(e);
+			} finally {
+				LOGGER.fine("End parse of model with version '" + version + "' in "
+						+ (System.currentTimeMillis() - start) + "ms");
+			}
+		}
+	}
+
+	@Override
+	public void update(List<TextDocumentContentChangeEvent> changes) {
+		synchronized (changeLock) {
+			// text will change, mark the model as dirty before collecting the changes
+			cancelModel();
+			super.update(changes);
+		}
+	}
+
+	@Override
+	protected void textChanged(int offset, int removedLength, int insertedLength) {
+		synchronized (changeLock) {
+			changeCount++;
+			if (previousModel != null) {
+				change = change == null ? TextChangeRange.of(offset, removedLength, insertedLength)
+						: change.merge(offset, removedLength, insertedLength);
+			}
+		}
 	}
 
 	@Override
 	public void setText(String text) {
-		super.setText(text);
-		// text changed, cancel the completable future which load the model
-		cancelModel();
+		synchronized (changeLock) {
+			super.setText(text);
+			// text changed, cancel the completable future which load the model
+			cancelModel();
+			// the whole text is replaced, the next parse must be a full parse
+			changeCount++;
+			previousModel = null;
+			change = null;
+		}
 	}
 
 	@Override
@@ -115,7 +328,21 @@ public class ModelTextDocument<T> extends TextDocument {
 	 * Mark the model as dirty
 	 */
 	private void cancelModel() {
-		model = null;
+		synchronized (changeLock) {
+			if (model != null) {
+				// keep the model to return it with getLastModel and to parse the next version
+				// from it
+				previousModel = model;
+				change = null;
+			}
+			model = null;
+			if (parseTask != null) {
+				// the parse of the old version is canceled (the parse process is stopped by
+				// the version checker)
+				parseTask.future.cancel(false);
+				parseTask = null;
+			}
+		}
 	}
 
 }
\ No newline at end of file
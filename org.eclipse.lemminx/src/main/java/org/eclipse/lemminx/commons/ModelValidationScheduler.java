@@ -0,0 +1,412 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Schedule the validation of model documents with a bounded pool of workers.
+ *
+ * <ul>
+ * <li>the validation of the focused document (the last opened/changed
+ * document) and the validation requested with {@link Priority#HIGH} are
+ * processed before the other validations.</li>
+ * <li>several validation requests for the same document which are not started
+ * are coalesced to one validation.</li>
+ * <li>a validation request of an old version of the document is canceled
+ * before it starts.</li>
+ * </ul>
+ *
+ * @param <T> the model type.
+ */
+public class ModelValidationScheduler<T> {
+
+	private static final Logger LOGGER = Logger.getLogger(ModelValidationScheduler.class.getName());
+
+	/**
+	 * System property used to configure the number of validation workers.
+	 */
+	public static final String VALIDATION_THREADS_PROPERTY = "lemminx.validation.threads";
+
+	/**
+	 * Validation priority.
+	 */
+	public static enum Priority {
+		HIGH, //
+		NORMAL;
+	}
+
+	private final Consumer<ModelTextDocument<T>> validator;
+
+	private final ScheduledExecutorService delayer;
+
+	private final ThreadPoolExecutor workers;
+
+	private final Map<String, ValidationRequest> pendingValidationRequests;
+
+	private final AtomicLong sequence;
+
+	private volatile String focusedUri;
+
+	// Metrics
+	private final AtomicLong scheduledCount;
+	private final AtomicLong coalescedCount;
+	private final AtomicLong staleCount;
+	private final AtomicLong completedCount;
+	private final AtomicLong totalQueueLatencyNanos;
+	private final AtomicLong totalValidationNanos;
+
+	public ModelValidationScheduler(Consumer<ModelTextDocument<T>> validator) {
+		this(validator, getDefaultThreads());
+	}
+
+	public ModelValidationScheduler(Consumer<ModelTextDocument<T>> validator, int threads) {
+		this.validator = validator;
+		this.delayer = Executors.newSingleThreadScheduledExecutor(new ValidationThreadFactory("delayer"));
+		this.workers = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+				new PriorityBlockingQueue<>(), new ValidationThreadFactory("worker"));
+		this.workers.allowCoreThreadTimeOut(true);
+		this.pendingValidationRequests = new HashMap<>();
+		this.sequence = new AtomicLong();
+		this.scheduledCount = new AtomicLong();
+		this.coalescedCount = new AtomicLong();
+		this.staleCount = new AtomicLong();
+		this.completedCount = new AtomicLong();
+		this.totalQueueLatencyNanos = new AtomicLong();
+		this.totalValidationNanos = new AtomicLong();
+	}
+
+	/**
+	 * Returns the default number of validation workers (the number of available
+	 * processors minus one to keep a processor for the LSP requests) which can be
+	 * overridden with the "lemminx.validation.threads" system property.
+	 *
+	 * @return the default number of validation workers.
+	 */
+	private static int getDefaultThreads() {
+		String value = System.getProperty(VALIDATION_THREADS_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				int threads = Integer.parseInt(value);
+				if (threads > 0) {
+					return threads;
+				}
+			} catch (NumberFormatException e) {
+				LOGGER.warning("Invalid value '" + value + "' for the system property '"
+						+ VALIDATION_THREADS_PROPERTY + "'.");
+			}
+		}
+		return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	}
+
+	/**
+	 * Set the focused document which is validated before the other documents. A
+	 * validation of the document which waits for a worker is promoted.
+	 *
+	 * @param uri the focused document URI.
+	 */
+	public void setFocusedDocument(String uri) {
+		this.focusedUri = uri;
+		if (uri == null) {
+			return;
+		}
+		synchronized (pendingValidationRequests) {
+			ValidationRequest request = pendingValidationRequests.get(uri);
+			if (request != null && request.priority != Priority.HIGH && workers.remove(request)) {
+				// queue again the validation with the high priority
+				request.priority = Priority.HIGH;
+				workers.execute(request);
+			}
+		}
+	}
+
+	/**
+	 * Validate the given model <code>document</code> with the given delay.
+	 *
+	 * @param document          the document model to validate.
+	 * @param priority          the validation priority.
+	 * @param delayMs           the delay in milliseconds.
+	 * @param afterValidation   the callback to call after the validation of the
+	 *                          document and null otherwise. The callback is kept
+	 *                          when the validation request is coalesced with
+	 *                          another request.
+	 */
+	public void validate(ModelTextDocument<T> document, Priority priority, long delayMs,
+			Consumer<ModelTextDocument<T>> afterValidation) {
+		String uri = document.getUri();
+		int version = document.getVersion();
+		if (uri.equals(focusedUri)) {
+			priority = Priority.HIGH;
+		}
+		ValidationRequest request = null;
+		synchronized (pendingValidationRequests) {
+			ValidationRequest pending = pendingValidationRequests.get(uri);
+			if (pending != null && pending.version == version && pending.document == document
+					&& pending.priority.compareTo(priority) <= 0) {
+				// The same version of the document will be validated with the same or a higher
+				// priority, coalesce the request.
+				coalescedCount.incrementAndGet();
+				pending.addCallback(afterValidation);
+				return;
+			}
+			request = new ValidationRequest(document, version, priority, sequence.incrementAndGet());
+			if (pending != null) {
+				if (pending.version != version) {
+					// the pending validation is for an old version of the document
+					staleCount.incrementAndGet();
+				} else {
+					coalescedCount.incrementAndGet();
+				}
+				cancel(pending);
+				request.callbacks.addAll(pending.callbacks);
+			}
+			request.addCallback(afterValidation);
+			pendingValidationRequests.put(uri, request);
+		}
+		scheduledCount.incrementAndGet();
+		if (delayMs > 0) {
+			request.delayedTask = delayer.schedule(request::enqueue, delayMs, TimeUnit.MILLISECONDS);
+		} else {
+			request.enqueue();
+		}
+	}
+
+	/**
+	 * Cancel the pending validation of the document identified by the given uri.
+	 *
+	 * @param uri the document URI.
+	 */
+	public void cleanPendingValidation(String uri) {
+		synchronized (pendingValidationRequests) {
+			ValidationRequest request = pendingValidationRequests.remove(uri);
+			if (request != null) {
+				cancel(request);
+			}
+		}
+		if (uri.equals(focusedUri)) {
+			focusedUri = null;
+		}
+	}
+
+	private void cancel(ValidationRequest request) {
+		request.canceled = true;
+		if (request.delayedTask != null) {
+			request.delayedTask.cancel(false);
+		}
+		workers.remove(request);
+	}
+
+	/**
+	 * Shutdown the validation workers.
+	 */
+	public void shutdown() {
+		delayer.shutdownNow();
+		workers.shutdownNow();
+	}
+
+	/**
+	 * Returns the number of validations which wait for a worker.
+	 *
+	 * @return the number of validations which wait for a worker.
+	 */
+	public int getQueueDepth() {
+		return workers.getQueue().size();
+	}
+
+	/**
+	 * Returns the number of validations which are not started (delayed or waiting
+	 * for a worker).
+	 *
+	 * @return the number of validations which are not started.
+	 */
+	public int getPendingCount() {
+		synchronized (pendingValidationRequests) {
+			return pendingValidationRequests.size();
+		}
+	}
+
+	/**
+	 * Returns the number of scheduled validations.
+	 *
+	 * @return the number of scheduled validations.
+	 */
+	public long getScheduledCount() {
+		return scheduledCount.get();
+	}
+
+	/**
+	 * Returns the number of validation requests which have been coalesced with a
+	 * pending request of the same document.
+	 *
+	 * @return the number of coalesced validation requests.
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.get();
+	}
+
+	/**
+	 * Returns the number of validation requests which have been canceled before
+	 * starting because the document has changed.
+	 *
+	 * @return the number of stale validation requests.
+	 */
+	public long getStaleCount() {
+		return staleCount.get();
+	}
+
+	/**
+	 * Returns the number of completed validations.
+	 *
+	 * @return the number of completed validations.
+	 */
+	public long getCompletedCount() {
+		return completedCount.get();
+	}
+
+	/**
+	 * Returns the average time in milliseconds that a validation waits for a worker.
+	 *
+	 * @return the average time in milliseconds that a validation waits for a
+	 *         worker.
+	 */
+	public double getAverageQueueLatency() {
+		long completed = completedCount.get();
+		return completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalQueueLatencyNanos.get()) / 1000.0 / completed;
+	}
+
+	/**
+	 * Returns the average validation time in milliseconds.
+	 *
+	 * @return the average validation time in milliseconds.
+	 */
+	public double getAverageValidationTime() {
+		long completed = completedCount.get();
+		return completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalValidationNanos.get()) / 1000.0 / completed;
+	}
+
+	/**
+	 * Validation request of a version of a document.
+	 */
+	private class ValidationRequest implements Runnable, Comparable<ValidationRequest> {
+
+		private final ModelTextDocument<T> document;
+		private final int version;
+		private volatile Priority priority;
+		private final long sequence;
+		private final List<Consumer<ModelTextDocument<T>>> callbacks;
+
+		private volatile boolean canceled;
+		private volatile ScheduledFuture<?> delayedTask;
+		private long enqueueTime;
+
+		ValidationRequest(ModelTextDocument<T> document, int version, Priority priority, long sequence) {
+			this.document = document;
+			this.version = version;
+			this.priority = priority;
+			this.sequence = sequence;
+			this.callbacks = new ArrayList<>();
+		}
+
+		void addCallback(Consumer<ModelTextDocument<T>> callback) {
+			if (callback != null && !callbacks.contains(callback)) {
+				callbacks.add(callback);
+			}
+		}
+
+		void enqueue() {
+			synchronized (pendingValidationRequests) {
+				if (canceled) {
+					return;
+				}
+				// the document can be focused since the validation has been delayed
+				if (document.getUri().equals(focusedUri)) {
+					priority = Priority.HIGH;
+				}
+				enqueueTime = System.nanoTime();
+				workers.execute(this);
+			}
+		}
+
+		@Override
+		public void run() {
+			List<Consumer<ModelTextDocument<T>>> callbacks;
+			synchronized (pendingValidationRequests) {
+				if (canceled) {
+					return;
+				}
+				if (version != document.getVersion()) {
+					// the document has changed and a validation request will be scheduled for the
+					// new version: the request is kept pending to hand on its callbacks to the new
+					// request (it is counted as stale when the new request replaces it).
+					return;
+				}
+				pendingValidationRequests.remove(document.getUri(), this);
+				callbacks = new ArrayList<>(this.callbacks);
+			}
+			long start = System.nanoTime();
+			try {
+				validator.accept(document);
+				for (Consumer<ModelTextDocument<T>> callback : callbacks) {
+					callback.accept(document);
+				}
+			} catch (CancellationException e) {
+				// the document has changed during the validation
+			} catch (Exception e) {
+				LOGGER.log(Level.SEVERE, "Error while validating '" + document.getUri() + "'.", e);
+			} finally {
+				long end = System.nanoTime();
+				totalQueueLatencyNanos.addAndGet(start - enqueueTime);
+				totalValidationNanos.addAndGet(end - start);
+				completedCount.incrementAndGet();
+			}
+		}
+
+		@Override
+		public int compareTo(ModelValidationScheduler<T>.ValidationRequest other) {
+			int result = priority.compareTo(other.priority);
+			return result != 0 ? result : Long.compare(sequence, other.sequence);
+		}
+	}
+
+	private static class ValidationThreadFactory implements ThreadFactory {
+
+		private final String name;
+		private final AtomicInteger count = new AtomicInteger();
+
+		ValidationThreadFactory(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "XML validation " + name + " " + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
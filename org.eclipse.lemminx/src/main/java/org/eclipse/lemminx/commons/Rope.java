@@ -0,0 +1,298 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable text buffer implemented with a rope (a binary tree of text
+ * pieces).
+ *
+ * <p>
+ * A replace creates a new rope which shares the unchanged pieces with the
+ * original rope, so that an edit doesn't copy the whole text and a rope can be
+ * used as a cheap snapshot of the text by another thread.
+ * </p>
+ *
+ * <p>
+ * The rope implements {@link CharSequence}, sequential access with
+ * {@link #charAt(int)} is optimized by caching the last accessed piece.
+ * </p>
+ *
+ */
+public abstract class Rope implements CharSequence {
+
+	/**
+	 * Pieces smaller than this length are merged when they are concatenated.
+	 */
+	private static final int MERGE_LENGTH = 256;
+
+	/**
+	 * The rope is rebalanced when its depth exceeds this value.
+	 */
+	private static final int MAX_DEPTH = 48;
+
+	private static final Rope EMPTY = new Leaf("", 0, 0);
+
+	/**
+	 * Returns a rope for the given text. The text is not copied.
+	 *
+	 * @param text the text.
+	 * @return a rope for the given text.
+	 */
+	public static Rope of(String text) {
+		return text.isEmpty() ? EMPTY : new Leaf(text, 0, text.length());
+	}
+
+	/**
+	 * Returns a new rope where the characters between start (inclusive) and end
+	 * (exclusive) are replaced with the given text.
+	 *
+	 * @param start the start offset.
+	 * @param end   the end offset.
+	 * @param text  the text to insert.
+	 * @return a new rope where the characters between start and end are replaced
+	 *         with the given text.
+	 */
+	public Rope replace(int start, int end, String text) {
+		checkRange(start, end, length());
+		Rope result = concat(concat(subRope(0, start), of(text)), subRope(end, length()));
+		if (result.depth() > MAX_DEPTH) {
+			result = result.rebalance();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the rope between start (inclusive) and end (exclusive). The text is
+	 * not copied.
+	 *
+	 * @param start the start offset.
+	 * @param end   the end offset.
+	 * @return the rope between start and end.
+	 */
+	public abstract Rope subRope(int start, int end);
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		checkRange(start, end, length());
+		return subRope(start, end);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder(length());
+		appendTo(text);
+		return text.toString();
+	}
+
+	/**
+	 * Appends the text of this rope to the given builder.
+	 *
+	 * @param text the builder.
+	 */
+	public abstract void appendTo(StringBuilder text);
+
+	abstract int depth();
+
+	abstract void collectLeaves(List<Leaf> leaves);
+
+	private Rope rebalance() {
+		List<Leaf> leaves = new ArrayList<>();
+		collectLeaves(leaves);
+		return build(leaves, 0, leaves.size());
+	}
+
+	private static Rope build(List<Leaf> leaves, int from, int to) {
+		int size = to - from;
+		if (size == 0) {
+			return EMPTY;
+		}
+		if (size == 1) {
+			return leaves.get(from);
+		}
+		int middle = from + size / 2;
+		return concat(build(leaves, from, middle), build(leaves, middle, to));
+	}
+
+	private static Rope concat(Rope left, Rope right) {
+		if (left.length() == 0) {
+			return right;
+		}
+		if (right.length() == 0) {
+			return left;
+		}
+		if (left instanceof Leaf && right instanceof Leaf && left.length() + right.length() <= MERGE_LENGTH) {
+			// Merge small pieces to avoid a tree with a lot of small leaves
+			StringBuilder text = new StringBuilder(left.length() + right.length());
+			left.appendTo(text);
+			right.appendTo(text);
+			return of(text.toString());
+		}
+		return new Concat(left, right);
+	}
+
+	private static void checkRange(int start, int end, int length) {
+		if (start < 0 || end > length || start > end) {
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+		}
+	}
+
+	/**
+	 * A piece of a String.
+	 */
+	private static class Leaf extends Rope {
+
+		private final String text;
+		private final int offset;
+		private final int length;
+
+		Leaf(String text, int offset, int length) {
+			this.text = text;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+			}
+			return text.charAt(offset + index);
+		}
+
+		@Override
+		public Rope subRope(int start, int end) {
+			if (start == 0 && end == length) {
+				return this;
+			}
+			return start == end ? EMPTY : new Leaf(text, offset + start, end - start);
+		}
+
+		@Override
+		public void appendTo(StringBuilder builder) {
+			builder.append(text, offset, offset + length);
+		}
+
+		@Override
+		int depth() {
+			return 0;
+		}
+
+		@Override
+		void collectLeaves(List<Leaf> leaves) {
+			leaves.add(this);
+		}
+	}
+
+	/**
+	 * The concatenation of two ropes.
+	 */
+	private static class Concat extends Rope {
+
+		private final Rope left;
+		private final Rope right;
+		private final int length;
+		private final int depth;
+
+		// the last accessed leaf (with its start offset) to optimize sequential access
+		private LeafCursor cursor;
+
+		Concat(Rope left, Rope right) {
+			this.left = left;
+			this.right = right;
+			this.length = left.length() + right.length();
+			this.depth = Math.max(left.depth(), right.depth()) + 1;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			LeafCursor current = cursor;
+			if (current != null && index >= current.start && index < current.start + current.leaf.length) {
+				return current.leaf.charAt(index - current.start);
+			}
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+			}
+			// Search the leaf which contains the index
+			Rope node = this;
+			int start = 0;
+			while (node instanceof Concat) {
+				Concat concat = (Concat) node;
+				int leftLength = concat.left.length();
+				if (index - start < leftLength) {
+					node = concat.left;
+				} else {
+					start += leftLength;
+					node = concat.right;
+				}
+			}
+			Leaf leaf = (Leaf) node;
+			cursor = new LeafCursor(leaf, start);
+			return leaf.charAt(index - start);
+		}
+
+		@Override
+		public Rope subRope(int start, int end) {
+			if (start == 0 && end == length) {
+				return this;
+			}
+			int leftLength = left.length();
+			if (end <= leftLength) {
+				return left.subRope(start, end);
+			}
+			if (start >= leftLength) {
+				return right.subRope(start - leftLength, end - leftLength);
+			}
+			return concat(left.subRope(start, leftLength), right.subRope(0, end - leftLength));
+		}
+
+		@Override
+		public void appendTo(StringBuilder builder) {
+			left.appendTo(builder);
+			right.appendTo(builder);
+		}
+
+		@Override
+		int depth() {
+			return depth;
+		}
+
+		@Override
+		void collectLeaves(List<Leaf> leaves) {
+			left.collectLeaves(leaves);
+			right.collectLeaves(leaves);
+		}
+	}
+
+	private static class LeafCursor {
+
+		final Leaf leaf;
+		final int start;
+
+		LeafCursor(Leaf leaf, int start) {
+			this.leaf = leaf;
+			this.start = start;
+		}
+	}
+}
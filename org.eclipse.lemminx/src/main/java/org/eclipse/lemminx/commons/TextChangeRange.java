@@ -0,0 +1,110 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+/**
+ * The offset range of a text which changed since a given text content.
+ *
+ * <p>
+ * The range is expressed with the start offset (which is the same in the old
+ * and the new text), the end offset in the old text and the end offset in the
+ * new text. Several edits can be merged to one range which covers all of them.
+ * </p>
+ *
+ */
+public class TextChangeRange {
+
+	private final int start;
+
+	private final int oldEnd;
+
+	private final int newEnd;
+
+	public TextChangeRange(int start, int oldEnd, int newEnd) {
+		this.start = start;
+		this.oldEnd = oldEnd;
+		this.newEnd = newEnd;
+	}
+
+	/**
+	 * Returns the change range for an edit which replaces <code>removedLength</code>
+	 * characters at the given offset with <code>insertedLength</code> characters.
+	 *
+	 * @param offset         the start offset of the edit.
+	 * @param removedLength  the number of removed characters.
+	 * @param insertedLength the number of inserted characters.
+	 * @return the change range.
+	 */
+	public static TextChangeRange of(int offset, int removedLength, int insertedLength) {
+		return new TextChangeRange(offset, offset + removedLength, offset + insertedLength);
+	}
+
+	/**
+	 * Returns a new change range which covers this range and the given edit
+	 * applied after it.
+	 *
+	 * @param offset         the start offset of the edit in the current text.
+	 * @param removedLength  the number of removed characters.
+	 * @param insertedLength the number of inserted characters.
+	 * @return a new change range which covers this range and the given edit.
+	 */
+	public TextChangeRange merge(int offset, int removedLength, int insertedLength) {
+		int delta = getDelta();
+		int mergedStart = Math.min(start, offset);
+		// end of the merged range in the current text (before applying the edit)
+		int currentEnd = Math.max(newEnd, offset + removedLength);
+		int mergedOldEnd = currentEnd - delta;
+		int mergedNewEnd = currentEnd + insertedLength - removedLength;
+		return new TextChangeRange(mergedStart, mergedOldEnd, mergedNewEnd);
+	}
+
+	/**
+	 * Returns the start offset of the change.
+	 *
+	 * @return the start offset of the change.
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * Returns the end offset of the change in the old text.
+	 *
+	 * @return the end offset of the change in the old text.
+	 */
+	public int getOldEnd() {
+		return oldEnd;
+	}
+
+	/**
+	 * Returns the end offset of the change in the new text.
+	 *
+	 * @return the end offset of the change in the new text.
+	 */
+	public int getNewEnd() {
+		return newEnd;
+	}
+
+	/**
+	 * Returns the difference between the new and the old text length.
+	 *
+	 * @return the difference between the new and the old text length.
+	 */
+	public int getDelta() {
+		return newEnd - oldEnd;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + start + ", " + oldEnd + " -> " + newEnd + "]";
+	}
+}
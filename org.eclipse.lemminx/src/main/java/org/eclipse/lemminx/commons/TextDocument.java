@@ -26,6 +26,13 @@ import org.eclipse.lsp4j.TextDocumentItem;
  * Text document extends LSP4j {@link TextDocumentItem} to provide methods to
  * retrieve position.
  *
+ * <p>
+ * The text content is stored in an immutable {@link Rope} which is updated
+ * without copying the whole text when incremental changes are applied. The
+ * String content is only built when {@link #getText()} is called, the rope is
+ * then rebuilt on this String so that the text is not kept twice.
+ * </p>
+ *
  */
 public class TextDocument extends TextDocumentItem {
 
@@ -39,6 +46,11 @@ public class TextDocument extends TextDocumentItem {
 
 	private boolean incremental;
 
+	private volatile Rope buffer;
+
+	// true when the buffer has been updated and the String text must be rebuilt
+	private volatile boolean textOutOfDate;
+
 	public TextDocument(TextDocumentItem document) {
 		this(document.getText(), document.getUri());
 		super.setVersion(document.getVersion());
@@ -48,6 +60,46 @@ public class TextDocument extends TextDocumentItem {
 	public TextDocument(String text, String uri) {
 		super.setUri(uri);
 		super.setText(text);
+		this.buffer = Rope.of(text);
+	}
+
+	@Override
+	public String getText() {
+		if (textOutOfDate) {
+			synchronized (lock) {
+				if (textOutOfDate) {
+					String text = buffer.toString();
+					super.setText(text);
+					// rebase the rope on the new String to release the pieces of the old texts
+					buffer = Rope.of(text);
+					textOutOfDate = false;
+				}
+			}
+		}
+		return super.getText();
+	}
+
+	@Override
+	public void setText(String text) {
+		synchronized (lock) {
+			super.setText(text);
+			buffer = Rope.of(text);
+			textOutOfDate = false;
+		}
+	}
+
+	/**
+	 * Returns an immutable snapshot of the text content.
+	 *
+	 * <p>
+	 * The snapshot is not affected by the next changes of the document and can be
+	 * read without building the String text (see {@link #getText()}).
+	 * </p>
+	 *
+	 * @return an immutable snapshot of the text content.
+	 */
+	public CharSequence getTextBuffer() {
+		return buffer;
 	}
 
 	public void setIncremental(boolean incremental) {
@@ -74,7 +126,7 @@ public class TextDocument extends TextDocumentItem {
 	public String lineText(int lineNumber) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		Line line = lineTracker.getLineInformation(lineNumber);
-		String text = super.getText();
+		String text = getText();
 		return text.substring(line.offset, line.offset + line.length);
 	}
 
@@ -115,7 +167,7 @@ public class TextDocument extends TextDocumentItem {
 			Position pos = positionAt(textOffset);
 			ILineTracker lineTracker = getLineTracker();
 			Line line = lineTracker.getLineInformation(pos.getLine());
-			String text = super.getText();
+			String text = getText();
 			String lineText = text.substring(line.offset, textOffset);
 			int position = lineText.length();
 			Matcher m = wordDefinition.matcher(lineText);
@@ -149,7 +201,7 @@ public class TextDocument extends TextDocumentItem {
 			return lineTracker;
 		}
 		ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-		lineTracker.set(super.getText());
+		lineTracker.set(getText());
 		return lineTracker;
 	}
 
@@ -168,8 +220,9 @@ public class TextDocument extends TextDocumentItem {
 			try {
 				long start = System.currentTimeMillis();
 				synchronized (lock) {
-					// Initialize buffer and line tracker from the current text document
-					StringBuilder buffer = new StringBuilder(getText());
+					// Initialize buffer from the current text document, the rope is updated
+					// without copying the whole text
+					Rope buffer = this.buffer;
 
 					// Loop for each changes and update the buffer
 					for (int i = 0; i < changes.size(); i++) {
@@ -188,11 +241,14 @@ public class TextDocument extends TextDocumentItem {
 						}
 						String text = changeEvent.getText();
 						int startOffset = offsetAt(range.getStart());
-						buffer.replace(startOffset, startOffset + length, text);
+						buffer = buffer.replace(startOffset, startOffset + length, text);
 						lineTracker.replace(startOffset, length, text);
+						textChanged(startOffset, length, text.length());
 					}
-					// Update the new text content from the updated buffer
-					setText(buffer.toString());
+					// Update the new text content from the updated buffer, the String text will
+					// be built on demand
+					this.buffer = buffer;
+					textOutOfDate = true;
 				}
 				LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
 			} catch (BadLocationException e) {
@@ -204,9 +260,22 @@ public class TextDocument extends TextDocumentItem {
 			// https://github.com/Microsoft/vscode-languageserver-node/blob/master/server/src/main.ts
 			TextDocumentContentChangeEvent last = changes.size() > 0 ? changes.get(changes.size() - 1) : null;
 			if (last != null) {
+				int oldLength = getText().length();
 				setText(last.getText());
 				lineTracker.set(last.getText());
+				textChanged(0, oldLength, last.getText().length());
 			}
 		}
 	}
+
+	/**
+	 * Called by {@link #update(List)} for each edit applied to the text.
+	 * 
+	 * @param offset         the start offset of the edit.
+	 * @param removedLength  the number of removed characters.
+	 * @param insertedLength the number of inserted characters.
+	 */
+	protected void textChanged(int offset, int removedLength, int insertedLength) {
+		// Do nothing
+	}
 }
@@ -96,7 +96,7 @@ public class TextEditUtils {
 	 * @return true if the given content from the range [from, to] of the given text
 	 *         is the same than expected content and false otherwise.
 	 */
-	private static boolean isMatchExpectedContent(int from, int to, String expectedContent, String text) {
+	public static boolean isMatchExpectedContent(int from, int to, String expectedContent, String text) {
 		if (expectedContent.length() == to - from) {
 			int j = 0;
 			for (int i = from; i < to; i++) {
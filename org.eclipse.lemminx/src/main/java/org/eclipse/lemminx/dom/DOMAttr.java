@@ -32,7 +32,7 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 	// For 546K attributes, this eliminates 1,092,576 objects (AttrName + AttrValue)
 	// Saves ~35 MB of heap memory
 
-	private String name; // Only cached if set programmatically (rare)
+	private String name; // Set programmatically or shared by the parser symbol table
 
 	// Attribute name offsets (instead of AttrName object)
 	private int nameStart = NULL_VALUE;
@@ -87,13 +87,16 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 	 */
 	@Override
 	public String getName() {
+		if (name != null) {
+			// Name set programmatically or shared by the parser symbol table
+			return name;
+		}
 		// Memory optimization: Extract name from document instead of caching
 		if (nameStart != NULL_VALUE && nameEnd != NULL_VALUE) {
 			// Name is in the document, extract it
 			return getOwnerDocument().getText().substring(nameStart, nameEnd);
 		}
-		// Name was set programmatically or doesn't exist
-		return name;
+		return null;
 	}
 
 	@Override
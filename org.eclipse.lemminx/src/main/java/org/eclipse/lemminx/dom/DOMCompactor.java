@@ -0,0 +1,109 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.lemminx.dom.DOMNode.CompactNodeList;
+
+/**
+ * Compact the DOM tree of a huge document once it is parsed:
+ *
+ * <ul>
+ * <li>the children and attributes of all nodes are moved to two arrays shared
+ * by the whole document. Each node keeps a read-only slice of those arrays
+ * instead of its own {@link java.util.ArrayList} (and its backing array with
+ * unused capacity).</li>
+ * </ul>
+ *
+ * <p>
+ * The element tag names, attribute names and processing instruction targets
+ * are already shared by the symbol table of the parser.
+ * </p>
+ *
+ * <p>
+ * The DOM nodes are kept, so the compact DOM document can be used like a DOM
+ * document which is not compacted. When the children or the attributes of a
+ * node are updated, the node copies its slice in a mutable list.
+ * </p>
+ *
+ */
+class DOMCompactor {
+
+	private DOMCompactor() {
+	}
+
+	/**
+	 * Compact the given DOM document.
+	 *
+	 * @param document the DOM document to compact.
+	 */
+	static void compact(DOMDocument document) {
+		// First pass: count the children and attributes to allocate the shared
+		// arrays with the exact size.
+		int childCount = 0;
+		int attrCount = 0;
+		Deque<DOMNode> stack = new ArrayDeque<>();
+		stack.push(document);
+		while (!stack.isEmpty()) {
+			DOMNode node = stack.pop();
+			List<DOMNode> children = node.getChildren();
+			childCount += children.size();
+			List<DOMAttr> attributes = node.getAttributeNodes();
+			if (attributes != null) {
+				attrCount += attributes.size();
+			}
+			for (int i = children.size() - 1; i >= 0; i--) {
+				stack.push(children.get(i));
+			}
+		}
+
+		// Second pass: copy the children and attributes in the shared arrays in
+		// document order.
+		DOMNode[] childNodes = new DOMNode[childCount];
+		DOMNode[] attrNodes = new DOMNode[attrCount];
+		int childIndex = 0;
+		int attrIndex = 0;
+		stack.push(document);
+		while (!stack.isEmpty()) {
+			DOMNode node = stack.pop();
+			List<DOMNode> children = node.getChildren();
+			CompactNodeList<DOMNode> compactChildren = null;
+			int size = children.size();
+			if (size > 0) {
+				for (int i = 0; i < size; i++) {
+					DOMNode child = children.get(i);
+					child.cachedIndexInParent = i;
+					childNodes[childIndex + i] = child;
+				}
+				compactChildren = new CompactNodeList<>(childNodes, childIndex, size);
+				childIndex += size;
+			}
+			List<DOMAttr> attributes = node.getAttributeNodes();
+			CompactNodeList<DOMAttr> compactAttributes = null;
+			if (attributes != null && !attributes.isEmpty()) {
+				for (int i = 0; i < attributes.size(); i++) {
+					attrNodes[attrIndex + i] = attributes.get(i);
+				}
+				compactAttributes = new CompactNodeList<>(attrNodes, attrIndex, attributes.size());
+				attrIndex += attributes.size();
+			}
+			node.setCompactNodes(compactChildren, compactAttributes);
+			for (int i = size - 1; i >= 0; i--) {
+				stack.push(children.get(i));
+			}
+		}
+		document.setCompact(true);
+	}
+}
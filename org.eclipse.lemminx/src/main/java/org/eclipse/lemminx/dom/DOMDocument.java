@@ -19,13 +19,16 @@ package org.eclipse.lemminx.dom;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextChangeRange;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.parser.Constants;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
@@ -50,12 +53,19 @@ import org.w3c.dom.NodeList;
  */
 public class DOMDocument extends DOMNode implements Document {
 
+	private static final AtomicLong PARSE_STAMPS = new AtomicLong();
+
+	// maximum number of parses which are tracked by the parse changes
+	private static final int MAX_PARSE_CHANGES = 32;
+
 	private SchemaLocation schemaLocation;
 	private NoNamespaceSchemaLocation noNamespaceSchemaLocation;
 	private List<XMLModel> xmlModels;
 
-	private boolean referencedExternalGrammarInitialized;
-	private boolean referencedSchemaInitialized;
+	// the flags are volatile since the document can be used by several threads (ex
+	// : diagnostics participants executed in parallel)
+	private volatile boolean referencedExternalGrammarInitialized;
+	private volatile boolean referencedSchemaInitialized;
 	private final URIResolverExtensionManager resolverExtensionManager;
 
 	private final TextDocument textDocument;
@@ -65,11 +75,18 @@ public class DOMDocument extends DOMNode implements Document {
 	private String schemaPrefix;
 	private CancelChecker cancelChecker;
 	private String externalGrammarFromNamespaceURI;
+	private boolean compact;
+	private final Object nodeIndexLock = new Object();
+	private volatile DOMNodeIndex nodeIndex;
+	private volatile boolean nodeIndexUpToDate;
+	private final long parseStamp;
+	private ParseChange parseChange;
 
 	public DOMDocument(TextDocument textDocument, URIResolverExtensionManager resolverExtensionManager) {
 		super(0, textDocument.getText().length());
 		this.textDocument = textDocument;
 		this.resolverExtensionManager = resolverExtensionManager;
+		this.parseStamp = PARSE_STAMPS.incrementAndGet();
 		resetGrammar();
 	}
 
@@ -81,6 +98,140 @@ public class DOMDocument extends DOMNode implements Document {
 		return cancelChecker;
 	}
 
+	/**
+	 * Returns true if the children and attributes of the DOM nodes are stored in
+	 * shared arrays (huge document) and false otherwise.
+	 * 
+	 * @return true if the children and attributes of the DOM nodes are stored in
+	 *         shared arrays (huge document) and false otherwise.
+	 * 
+	 * @see DOMParser#setCompactThreshold(int)
+	 */
+	public boolean isCompact() {
+		return compact;
+	}
+
+	void setCompact(boolean compact) {
+		this.compact = compact;
+	}
+
+	/**
+	 * Invalidate the offset index of the nodes used by {@link #findNodeAt(int)} and
+	 * {@link #findNodeBefore(int)}. This method must be called when the DOM tree
+	 * has been updated by the parser.
+	 * 
+	 * <p>
+	 * The index is built on the first lookup, so that a parse (after each key
+	 * stroke) doesn't pay the indexing of the whole document when no lookup is
+	 * done.
+	 * </p>
+	 */
+	void invalidateNodeIndex() {
+		synchronized (nodeIndexLock) {
+			this.nodeIndexUpToDate = false;
+			this.nodeIndex = null;
+		}
+	}
+
+	private DOMNodeIndex getNodeIndex() {
+		if (!nodeIndexUpToDate) {
+			synchronized (nodeIndexLock) {
+				if (!nodeIndexUpToDate) {
+					nodeIndex = DOMNodeIndex.create(this);
+					nodeIndexUpToDate = true;
+				}
+			}
+		}
+		return nodeIndex;
+	}
+
+	/**
+	 * Returns the unique stamp of this DOM document which can be given to
+	 * {@link #getTextChangeSince(long)} to retrieve the text changed since this
+	 * DOM document was parsed.
+	 *
+	 * @return the unique stamp of this DOM document.
+	 */
+	public long getParseStamp() {
+		return parseStamp;
+	}
+
+	/**
+	 * Returns the range of the text which changed between the DOM document with
+	 * the given parse stamp and this DOM document and null if this DOM document
+	 * has not been parsed from it (see
+	 * {@link DOMParser#reparse(DOMDocument, TextDocument, TextChangeRange, boolean, CancelChecker)}).
+	 *
+	 * @param parseStamp the parse stamp of a previous DOM document of the same
+	 *                   text document.
+	 * @return the range of the text which changed between the DOM document with
+	 *         the given parse stamp and this DOM document and null if it is
+	 *         unknown.
+	 */
+	public TextChangeRange getTextChangeSince(long parseStamp) {
+		List<TextChangeRange> changes = new ArrayList<>();
+		for (ParseChange current = parseChange; current != null; current = current.previous) {
+			changes.add(current.change);
+			if (current.baseStamp == parseStamp) {
+				// merge the changes from the oldest to the newest
+				TextChangeRange merged = changes.get(changes.size() - 1);
+				for (int i = changes.size() - 2; i >= 0; i--) {
+					TextChangeRange change = changes.get(i);
+					merged = merged.merge(change.getStart(), change.getOldEnd() - change.getStart(),
+							change.getNewEnd() - change.getStart());
+				}
+				return merged;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Track that this DOM document has been parsed from the given DOM document
+	 * with the given text change.
+	 *
+	 * @param previousDocument the DOM document parsed before the change.
+	 * @param change           the changed range since the previous DOM document.
+	 */
+	void setParsedFrom(DOMDocument previousDocument, TextChangeRange change) {
+		ParseChange previous = previousDocument.parseChange;
+		if (previous != null && previous.depth >= MAX_PARSE_CHANGES) {
+			// don't keep the changes of the old parses
+			previous = null;
+		}
+		this.parseChange = new ParseChange(previousDocument.parseStamp, change, previous);
+	}
+
+	/**
+	 * Text change between a DOM document and the DOM document parsed from it.
+	 */
+	private static class ParseChange {
+
+		final long baseStamp;
+		final TextChangeRange change;
+		final ParseChange previous;
+		final int depth;
+
+		ParseChange(long baseStamp, TextChangeRange change, ParseChange previous) {
+			this.baseStamp = baseStamp;
+			this.change = change;
+			this.previous = previous;
+			this.depth = previous != null ? previous.depth + 1 : 1;
+		}
+	}
+
+	@Override
+	public DOMNode findNodeAt(int offset) {
+		DOMNodeIndex index = getNodeIndex();
+		return index != null ? index.findNodeAt(offset) : super.findNodeAt(offset);
+	}
+
+	@Override
+	public DOMNode findNodeBefore(int offset) {
+		DOMNodeIndex index = getNodeIndex();
+		return index != null ? index.findNodeBefore(offset) : super.findNodeBefore(offset);
+	}
+
 	public List<DOMNode> getRoots() {
 		return super.getChildren();
 	}
@@ -12,10 +12,12 @@
  */
 package org.eclipse.lemminx.dom;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.Function;
 
 import org.w3c.dom.DOMException;
@@ -66,8 +68,10 @@ public abstract class DOMNode implements Node, DOMRange {
 	private static final byte FLAG_CLOSED = 0x01;
 	// Reserved for future flags: 0x02, 0x04, 0x08, 0x10, 0x20, 0x40, 0x80
 
-	private XMLNamedNodeMap<DOMAttr> attributeNodes;
-	private XMLNodeList<DOMNode> children;
+	// XMLNamedNodeMap / XMLNodeList or a CompactNodeList when the document has
+	// been compacted (see DOMCompactor).
+	private List<DOMAttr> attributeNodes;
+	private List<DOMNode> children;
 
 	final int start; // |<root> </root>
 	int end; // <root> </root>|
@@ -103,6 +107,10 @@ public abstract class DOMNode implements Node, DOMRange {
 			super(INITIAL_CAPACITY);
 		}
 
+		XMLNodeList(List<T> nodes) {
+			super(nodes);
+		}
+
 		@Override
 		public int getLength() {
 			return super.size();
@@ -144,10 +152,185 @@ public abstract class DOMNode implements Node, DOMRange {
 
 	}
 
+	/**
+	 * Slice of an array shared by all the nodes of a compacted document. It is
+	 * used both for the children and for the attributes of a node and replaces the
+	 * per-node {@link XMLNodeList} / {@link XMLNamedNodeMap} (and their backing
+	 * array with unused capacity).
+	 * 
+	 * <p>
+	 * The shared array is never updated: the first update of the list copies the
+	 * slice to a mutable {@link XMLNodeList} which is used by the next operations.
+	 * </p>
+	 *
+	 * @param <T> the node type.
+	 */
+	static class CompactNodeList<T extends DOMNode> extends AbstractList<T>
+			implements NodeList, NamedNodeMap, RandomAccess {
+
+		private final DOMNode[] nodes;
+		private final int from;
+		private final int size;
+
+		// mutable copy of the slice created when the list is updated
+		private XMLNodeList<T> copy;
+
+		CompactNodeList(DOMNode[] nodes, int from, int size) {
+			this.nodes = nodes;
+			this.from = from;
+			this.size = size;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T get(int index) {
+			if (copy != null) {
+				return copy.get(index);
+			}
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			}
+			return (T) nodes[from + index];
+		}
+
+		@Override
+		public int size() {
+			return copy != null ? copy.size() : size;
+		}
+
+		@Override
+		public T set(int index, T node) {
+			return getMutableList().set(index, node);
+		}
+
+		@Override
+		public void add(int index, T node) {
+			getMutableList().add(index, node);
+			modCount++;
+		}
+
+		@Override
+		public T remove(int index) {
+			T removed = getMutableList().remove(index);
+			modCount++;
+			return removed;
+		}
+
+		@Override
+		protected void removeRange(int fromIndex, int toIndex) {
+			getMutableList().subList(fromIndex, toIndex).clear();
+			modCount++;
+		}
+
+		private XMLNodeList<T> getMutableList() {
+			if (copy == null) {
+				XMLNodeList<T> list = new XMLNodeList<>();
+				list.ensureCapacity(size);
+				for (int i = 0; i < size; i++) {
+					list.add(get(i));
+				}
+				copy = list;
+			}
+			return copy;
+		}
+
+		@Override
+		public int getLength() {
+			return size();
+		}
+
+		@Override
+		public T item(int index) {
+			return index >= 0 && index < size() ? get(index) : null;
+		}
+
+		@Override
+		public T getNamedItem(String name) {
+			int index = indexOfNamedItem(name);
+			return index != -1 ? get(index) : null;
+		}
+
+		@Override
+		public T getNamedItemNS(String namespaceURI, String localName) throws DOMException {
+			int index = indexOfNamedItemNS(namespaceURI, localName);
+			return index != -1 ? get(index) : null;
+		}
+
+		@Override
+		public T removeNamedItem(String name) throws DOMException {
+			int index = indexOfNamedItem(name);
+			if (index == -1) {
+				throw new DOMException(DOMException.NOT_FOUND_ERR, "No node named '" + name + "'.");
+			}
+			return remove(index);
+		}
+
+		@Override
+		public T removeNamedItemNS(String namespaceURI, String localName) throws DOMException {
+			int index = indexOfNamedItemNS(namespaceURI, localName);
+			if (index == -1) {
+				throw new DOMException(DOMException.NOT_FOUND_ERR,
+						"No node named '" + localName + "' in the namespace '" + namespaceURI + "'.");
+			}
+			return remove(index);
+		}
+
+		@Override
+		public T setNamedItem(org.w3c.dom.Node arg) throws DOMException {
+			return setNamedItem(arg, indexOfNamedItem(arg.getNodeName()));
+		}
+
+		@Override
+		public T setNamedItemNS(org.w3c.dom.Node arg) throws DOMException {
+			return setNamedItem(arg, indexOfNamedItemNS(arg.getNamespaceURI(), arg.getLocalName()));
+		}
+
+		@SuppressWarnings("unchecked")
+		private T setNamedItem(org.w3c.dom.Node arg, int index) {
+			if (!(arg instanceof DOMNode)) {
+				throw new DOMException(DOMException.WRONG_DOCUMENT_ERR, "The node is not a DOM node.");
+			}
+			T node = (T) arg;
+			if (index == -1) {
+				add(node);
+				return null;
+			}
+			return set(index, node);
+		}
+
+		private int indexOfNamedItem(String name) {
+			for (int i = 0; i < size(); i++) {
+				if (name.equals(get(i).getNodeName())) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private int indexOfNamedItemNS(String namespaceURI, String localName) {
+			for (int i = 0; i < size(); i++) {
+				T node = get(i);
+				if (Objects.equals(namespaceURI, node.getNamespaceURI())
+						&& Objects.equals(localName, node.getLocalName())) {
+					return i;
+				}
+			}
+			return -1;
+		}
+	}
+
 	static class XMLNamedNodeMap<T extends DOMNode> extends ArrayList<T> implements NamedNodeMap {
 
 		private static final long serialVersionUID = 1L;
 
+		XMLNamedNodeMap() {
+			super();
+		}
+
+		XMLNamedNodeMap(List<T> nodes) {
+			super(nodes);
+		}
+
 		@Override
 		public int getLength() {
 			return super.size();
@@ -325,7 +508,20 @@ public abstract class DOMNode implements Node, DOMRange {
 
 	public static DOMAttr findAttrAt(DOMNode node, int offset) {
 		if (node != null && node.hasAttributes()) {
-			for (DOMAttr attr : node.getAttributeNodes()) {
+			List<DOMAttr> attributes = node.getAttributeNodes();
+			if (attributes.size() > 8) {
+				// Parsed attributes are sorted by offset, search the first attribute which
+				// ends after the offset.
+				int idx = findFirst(attributes, attr -> offset <= attr.getEnd());
+				if (idx < attributes.size()) {
+					DOMAttr attr = attributes.get(idx);
+					if (attr.isIncluded(offset)) {
+						return attr;
+					}
+				}
+				return null;
+			}
+			for (DOMAttr attr : attributes) {
 				if (attr.isIncluded(offset)) {
 					return attr;
 				}
@@ -459,7 +655,7 @@ public abstract class DOMNode implements Node, DOMRange {
 			return null;
 		}
 
-		if (index > attributeNodes.getLength() - 1) {
+		if (index > attributeNodes.size() - 1) {
 			return null;
 		}
 		return attributeNodes.get(index);
@@ -491,6 +687,9 @@ public abstract class DOMNode implements Node, DOMRange {
 	public void setAttributeNode(DOMAttr attr) {
 		if (attributeNodes == null) {
 			attributeNodes = new XMLNamedNodeMap<>();
+		} else if (attributeNodes instanceof CompactNodeList) {
+			// the node is updated, copy the compact attributes to a mutable list
+			attributeNodes = new XMLNamedNodeMap<>(attributeNodes);
 		}
 		attributeNodes.add(attr);
 	}
@@ -541,12 +740,40 @@ public abstract class DOMNode implements Node, DOMRange {
 		child.parent = this;
 		if (children == null) {
 			children = new XMLNodeList<>();
+		} else if (children instanceof CompactNodeList) {
+			// the node is updated, copy the compact children to a mutable list
+			children = new XMLNodeList<>(children);
 		}
 		// Cache the index when adding
 		child.cachedIndexInParent = children.size();
 		children.add(child);
 	}
 
+	/**
+	 * Replaces the children and attributes lists of this node with the given
+	 * read-only compact lists (see {@link DOMCompactor}).
+	 * 
+	 * @param compactChildren   the compact children and null if the node has no
+	 *                          children.
+	 * @param compactAttributes the compact attributes and null if the node has no
+	 *                          attributes.
+	 */
+	void setCompactNodes(List<DOMNode> compactChildren, List<DOMAttr> compactAttributes) {
+		this.children = compactChildren;
+		this.attributeNodes = compactAttributes;
+	}
+
+	/**
+	 * Returns true if the children and attributes of this node are stored in the
+	 * arrays of a compacted document and false otherwise.
+	 * 
+	 * @return true if the children and attributes of this node are stored in the
+	 *         arrays of a compacted document and false otherwise.
+	 */
+	boolean isCompact() {
+		return children instanceof CompactNodeList || attributeNodes instanceof CompactNodeList;
+	}
+
 	/**
 	 * Returns node child at the given index.
 	 * 
@@ -710,7 +937,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public NamedNodeMap getAttributes() {
-		return attributeNodes;
+		return (NamedNodeMap) attributeNodes;
 	}
 
 	/*
@@ -720,7 +947,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public NodeList getChildNodes() {
-		return children != null ? children : EMPTY_CHILDREN;
+		return children != null ? (NodeList) children : EMPTY_CHILDREN;
 	}
 
 	/*
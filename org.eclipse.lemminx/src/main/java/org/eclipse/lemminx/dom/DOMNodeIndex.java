@@ -0,0 +1,170 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Offset index of the nodes of a DOM document used to find the node at a given
+ * offset with a binary search instead of searching in the children of each
+ * level of the DOM tree.
+ *
+ * <p>
+ * The nodes are stored in document order (a parent before its children) with
+ * their start offset in a sorted array. The node at a given offset is found
+ * from the last node which starts before the offset by walking up to the first
+ * ancestor which contains the offset.
+ * </p>
+ *
+ * <p>
+ * The index is immutable, a new index must be created when the DOM document is
+ * updated.
+ * </p>
+ *
+ */
+class DOMNodeIndex {
+
+	private final DOMDocument document;
+
+	private final DOMNode[] nodes;
+
+	private final int[] starts;
+
+	private DOMNodeIndex(DOMDocument document, DOMNode[] nodes, int[] starts) {
+		this.document = document;
+		this.nodes = nodes;
+		this.starts = starts;
+	}
+
+	/**
+	 * Returns the offset index of the given DOM document and null if the start
+	 * offsets of the nodes are not sorted in document order (in this case the
+	 * node must be searched in the DOM tree).
+	 *
+	 * @param document the DOM document.
+	 * @return the offset index of the given DOM document and null if the start
+	 *         offsets of the nodes are not sorted in document order.
+	 */
+	static DOMNodeIndex create(DOMDocument document) {
+		DOMNode[] nodes = new DOMNode[64];
+		int[] starts = new int[64];
+		int size = 0;
+		int previousStart = Integer.MIN_VALUE;
+		Deque<DOMNode> stack = new ArrayDeque<>();
+		pushChildren(document, stack);
+		while (!stack.isEmpty()) {
+			DOMNode node = stack.pop();
+			int start = node.getStart();
+			if (start < previousStart) {
+				return null;
+			}
+			previousStart = start;
+			if (size == nodes.length) {
+				nodes = Arrays.copyOf(nodes, size * 2);
+				starts = Arrays.copyOf(starts, size * 2);
+			}
+			nodes[size] = node;
+			starts[size] = start;
+			size++;
+			pushChildren(node, stack);
+		}
+		return new DOMNodeIndex(document, Arrays.copyOf(nodes, size), Arrays.copyOf(starts, size));
+	}
+
+	private static void pushChildren(DOMNode node, Deque<DOMNode> stack) {
+		List<DOMNode> children = node.getChildren();
+		for (int i = children.size() - 1; i >= 0; i--) {
+			stack.push(children.get(i));
+		}
+	}
+
+	/**
+	 * Returns the node at the given offset.
+	 *
+	 * @param offset the offset.
+	 * @return the node at the given offset.
+	 *
+	 * @see DOMNode#findNodeAt(int)
+	 */
+	DOMNode findNodeAt(int offset) {
+		int index = findLastNodeBefore(offset);
+		if (index < 0) {
+			return document;
+		}
+		// The result is the parent of the highest ancestor which doesn't contain the
+		// offset.
+		DOMNode result = nodes[index];
+		for (DOMNode node = result; node != document && node != null; node = node.parent) {
+			if (!DOMNode.isIncluded(node, offset)) {
+				result = node.parent;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the node before the given offset.
+	 *
+	 * @param offset the offset.
+	 * @return the node before the given offset.
+	 *
+	 * @see DOMNode#findNodeBefore(int)
+	 */
+	DOMNode findNodeBefore(int offset) {
+		int index = findLastNodeBefore(offset);
+		if (index < 0) {
+			return document;
+		}
+		// The result is the highest ancestor which ends before the offset and which is
+		// not an unclosed element.
+		DOMNode result = nodes[index];
+		for (DOMNode node = result; node != document && node != null; node = node.parent) {
+			if (offset >= node.end) {
+				DOMNode lastChild = node.getLastChild();
+				if (lastChild == null || lastChild.end != node.end) {
+					result = node;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the index of the last node which starts before the given offset and
+	 * -1 otherwise.
+	 */
+	private int findLastNodeBefore(int offset) {
+		int low = 0;
+		int high = starts.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (starts[mid] < offset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low - 1;
+	}
+
+	/**
+	 * Returns the number of indexed nodes.
+	 *
+	 * @return the number of indexed nodes.
+	 */
+	int size() {
+		return nodes.length;
+	}
+}
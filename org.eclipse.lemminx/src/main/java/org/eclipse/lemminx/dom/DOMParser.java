@@ -21,8 +21,10 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextChangeRange;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.parser.Scanner;
+import org.eclipse.lemminx.dom.parser.SymbolTable;
 import org.eclipse.lemminx.dom.parser.TokenType;
 import org.eclipse.lemminx.dom.parser.XMLScanner;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
@@ -43,8 +45,56 @@ public class DOMParser {
 		return INSTANCE;
 	}
 
+	/**
+	 * System property used to configure the size (in characters) from which a
+	 * parsed DOM document is compacted.
+	 */
+	public static final String COMPACT_THRESHOLD_PROPERTY = "lemminx.dom.compact.threshold";
+
+	private static final int DEFAULT_COMPACT_THRESHOLD = 10 * 1024 * 1024;
+
+	private volatile int compactThreshold;
+
 	private DOMParser() {
+		this.compactThreshold = getDefaultCompactThreshold();
+	}
+
+	private static int getDefaultCompactThreshold() {
+		String value = System.getProperty(COMPACT_THRESHOLD_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				return Integer.parseInt(value);
+			} catch (NumberFormatException e) {
+				LOGGER.warning("Invalid value '" + value + "' for the system property '"
+						+ COMPACT_THRESHOLD_PROPERTY + "'.");
+			}
+		}
+		return DEFAULT_COMPACT_THRESHOLD;
+	}
 
+	/**
+	 * Returns the size (in characters) from which a parsed DOM document is
+	 * compacted.
+	 * 
+	 * @return the size (in characters) from which a parsed DOM document is
+	 *         compacted and a negative value if compaction is disabled.
+	 */
+	public int getCompactThreshold() {
+		return compactThreshold;
+	}
+
+	/**
+	 * Set the size (in characters) from which a parsed DOM document is compacted:
+	 * the children and attributes of the DOM nodes are stored in arrays shared by
+	 * the whole document and the tag names are interned to reduce the memory used
+	 * by huge documents.
+	 * 
+	 * @param compactThreshold the size (in characters) from which a parsed DOM
+	 *                         document is compacted and a negative value to
+	 *                         disable the compaction.
+	 */
+	public void setCompactThreshold(int compactThreshold) {
+		this.compactThreshold = compactThreshold;
 	}
 
 	public DOMDocument parse(String text, String uri, URIResolverExtensionManager resolverExtensionManager) {
@@ -71,6 +121,8 @@ public class DOMParser {
 		boolean inDTDInternalSubset = false;
 		String text = document.getText();
 		Scanner scanner = XMLScanner.createScanner(text, 0, isDTD);
+		// the names are shared to avoid one string per element and attribute
+		SymbolTable symbols = new SymbolTable();
 		DOMDocument xmlDocument = new DOMDocument(document, resolverExtensionManager);
 		xmlDocument.setCancelChecker(monitor);
 
@@ -153,7 +205,7 @@ public class DOMParser {
 
 				case StartTag: {
 					DOMElement element = (DOMElement) curr;
-					element.tag = scanner.getTokenText();
+					element.tag = symbols.intern(text, scanner.getTokenOffset(), scanner.getTokenEnd());
 					curr.end = scanner.getTokenEnd();
 					break;
 				}
@@ -193,7 +245,7 @@ public class DOMParser {
 
 				case EndTag:
 					// end tag (ex: </root>)
-					String closeTag = scanner.getTokenText();
+					String closeTag = symbols.intern(text, scanner.getTokenOffset(), scanner.getTokenEnd());
 					DOMNode current = curr;
 
 					/**
@@ -249,8 +301,8 @@ public class DOMParser {
 					break;
 
 				case AttributeName: {
-					attr = new DOMAttr(null, scanner.getTokenOffset(),
-							scanner.getTokenEnd(), curr);
+					attr = new DOMAttr(symbols.intern(text, scanner.getTokenOffset(), scanner.getTokenEnd()),
+							scanner.getTokenOffset(), scanner.getTokenEnd(), curr);
 					curr.setAttributeNode(attr);
 					curr.end = scanner.getTokenEnd();
 					break;
@@ -305,14 +357,16 @@ public class DOMParser {
 
 				case PIName: {
 					DOMProcessingInstruction processingInstruction = ((DOMProcessingInstruction) curr);
-					processingInstruction.target = scanner.getTokenText();
+					processingInstruction.target = symbols.intern(text, scanner.getTokenOffset(),
+							scanner.getTokenEnd());
 					processingInstruction.processingInstruction = true;
 					break;
 				}
 
 				case PrologName: {
 					DOMProcessingInstruction processingInstruction = ((DOMProcessingInstruction) curr);
-					processingInstruction.target = scanner.getTokenText();
+					processingInstruction.target = symbols.intern(text, scanner.getTokenOffset(),
+							scanner.getTokenEnd());
 					processingInstruction.prolog = true;
 					break;
 				}
@@ -691,6 +745,40 @@ public class DOMParser {
 			curr.end = text.length();
 			curr = curr.parent;
 		}
+		int threshold = compactThreshold;
+		if (threshold >= 0 && text.length() >= threshold) {
+			DOMCompactor.compact(xmlDocument);
+		}
+		xmlDocument.invalidateNodeIndex();
+		return xmlDocument;
+	}
+
+	/**
+	 * Returns a new DOM document parsed from the text of the given text document
+	 * and which tracks the given text change since the given previous DOM
+	 * document (see {@link DOMDocument#getTextChangeSince(long)}).
+	 * 
+	 * <p>
+	 * The whole text is parsed again. The given previous DOM document is never
+	 * modified (it can be used by other threads).
+	 * </p>
+	 * 
+	 * @param previousDocument        the DOM document parsed before the change.
+	 * @param document                the text document which contains the new
+	 *                                text.
+	 * @param change                  the changed range since the previous DOM
+	 *                                document.
+	 * @param ignoreWhitespaceContent true if whitespace content must be ignored.
+	 * @param monitor                 the cancel checker.
+	 * @return the new DOM document.
+	 */
+	public DOMDocument reparse(DOMDocument previousDocument, TextDocument document, TextChangeRange change,
+			boolean ignoreWhitespaceContent, CancelChecker monitor) {
+		DOMDocument xmlDocument = parse(document, previousDocument.getResolverExtensionManager(),
+				ignoreWhitespaceContent, monitor);
+		if (previousDocument.getTextDocument() == document) {
+			xmlDocument.setParsedFrom(previousDocument, change);
+		}
 		return xmlDocument;
 	}
 
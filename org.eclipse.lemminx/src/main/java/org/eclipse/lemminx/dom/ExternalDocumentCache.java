@@ -0,0 +1,364 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.eclipse.lemminx.services.IXMLDocumentProvider;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lemminx.utils.FilesUtils;
+import org.eclipse.lemminx.utils.IOUtils;
+import org.eclipse.lemminx.utils.URIUtils;
+
+/**
+ * Memory-bounded cache of the DOM documents loaded from files which are not
+ * opened in an editor (xs:include, xs:import, xi:include, RelaxNG include,
+ * referenced grammars, etc).
+ *
+ * <p>
+ * The cache is owned by the {@link URIResolverExtensionManager} of a language
+ * service (see {@link URIResolverExtensionManager#getExternalDocumentCache()})
+ * and an entry is keyed by the file URI:
+ * </p>
+ *
+ * <ul>
+ * <li>when the document is opened in an editor,
+ * {@link #getDocument(String, URIResolverExtensionManager)} returns the DOM
+ * document of the editor buffer (given by the {@link IXMLDocumentProvider} of
+ * the {@link URIResolverExtensionManager}) instead of the file content. This
+ * document is never cached, it must not be kept by a cache which lives longer
+ * than the request (ex : a grammar), which must use
+ * {@link #getFileDocument(String, URIResolverExtensionManager)} instead.</li>
+ * <li>a cached DOM document is reused while the last modified time and the size
+ * of the file are the same. The entry is also evicted when the file is
+ * changed/deleted (see {@link #evict(String)}).</li>
+ * <li>each entry is weighted with the estimated memory size of the DOM document.
+ * When the total weight exceeds the memory budget, the least recently used
+ * entries are evicted.</li>
+ * </ul>
+ *
+ * <p>
+ * The memory budget can be configured with the system property
+ * "lemminx.externalDocument.cache.maxSize" in MB (a negative value disables the
+ * eviction). By default, the budget is an eighth of the maximum heap size.
+ * </p>
+ *
+ * <p>
+ * A cached DOM document is shared by several requests and several threads, it
+ * must not be updated.
+ * </p>
+ *
+ */
+public class ExternalDocumentCache {
+
+	private static final Logger LOGGER = Logger.getLogger(ExternalDocumentCache.class.getName());
+
+	/**
+	 * System property used to configure the memory budget of the external
+	 * documents cache in MB.
+	 */
+	public static final String MAX_SIZE_PROPERTY = "lemminx.externalDocument.cache.maxSize";
+
+	/**
+	 * Factor between the size of the file and the memory retained by the DOM
+	 * document (the text and the DOM nodes).
+	 */
+	private static final int FILE_SIZE_FACTOR = 8;
+
+	private static final long MB = 1024 * 1024;
+
+	private static class CacheEntry {
+
+		final DOMDocument document;
+
+		final long lastModified;
+
+		final long fileSize;
+
+		final long weight;
+
+		CacheEntry(DOMDocument document, long lastModified, long fileSize) {
+			this.document = document;
+			this.lastModified = lastModified;
+			this.fileSize = fileSize;
+			this.weight = fileSize * FILE_SIZE_FACTOR;
+		}
+
+		boolean isValid(BasicFileAttributes attributes, URIResolverExtensionManager resolverExtensionManager) {
+			return lastModified == attributes.lastModifiedTime().toMillis() && fileSize == attributes.size()
+					&& document.getResolverExtensionManager() == resolverExtensionManager;
+		}
+	}
+
+	/**
+	 * Statistics of the external documents cache.
+	 */
+	public static class Stats {
+
+		private final long hits;
+
+		private final long misses;
+
+		private final long evictions;
+
+		private final int entries;
+
+		private final long size;
+
+		Stats(long hits, long misses, long evictions, int entries, long size) {
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.entries = entries;
+			this.size = size;
+		}
+
+		/**
+		 * Returns the number of loads which have reused a cached DOM document.
+		 *
+		 * @return the number of loads which have reused a cached DOM document.
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * Returns the number of loads which have parsed the file.
+		 *
+		 * @return the number of loads which have parsed the file.
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * Returns the number of entries evicted to respect the memory budget.
+		 *
+		 * @return the number of entries evicted to respect the memory budget.
+		 */
+		public long getEvictions() {
+			return evictions;
+		}
+
+		/**
+		 * Returns the number of cached DOM documents.
+		 *
+		 * @return the number of cached DOM documents.
+		 */
+		public int getEntries() {
+			return entries;
+		}
+
+		/**
+		 * Returns the estimated size in bytes of the cached DOM documents.
+		 *
+		 * @return the estimated size in bytes of the cached DOM documents.
+		 */
+		public long getSize() {
+			return size;
+		}
+	}
+
+	private final LinkedHashMap<String, CacheEntry> entries;
+
+	private long maxSize;
+
+	private long size;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	public ExternalDocumentCache() {
+		this(getDefaultMaxSize());
+	}
+
+	ExternalDocumentCache(long maxSize) {
+		// access order to iterate from the least recently used entry
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+		this.maxSize = maxSize;
+	}
+
+	private static long getDefaultMaxSize() {
+		String value = System.getProperty(MAX_SIZE_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				long maxSize = Long.parseLong(value);
+				return maxSize < 0 ? -1 : maxSize * MB;
+			} catch (NumberFormatException e) {
+				LOGGER.warning("Invalid value '" + value + "' for the system property '" + MAX_SIZE_PROPERTY + "'.");
+			}
+		}
+		return Runtime.getRuntime().maxMemory() / 8;
+	}
+
+	/**
+	 * Returns the DOM document of the given URI and null if it cannot be loaded.
+	 *
+	 * @param documentURI              the document URI.
+	 * @param resolverExtensionManager the resolver extension manager.
+	 * @return the DOM document of the given URI and null if it cannot be loaded.
+	 */
+	public DOMDocument getDocument(String documentURI, URIResolverExtensionManager resolverExtensionManager) {
+		// The opened editor buffer is preferred over the file content
+		IXMLDocumentProvider documentProvider = resolverExtensionManager != null
+				? resolverExtensionManager.getDocumentProvider()
+				: null;
+		if (documentProvider != null) {
+			DOMDocument openedDocument = documentProvider.getDocument(documentURI);
+			if (openedDocument != null && documentURI.equals(openedDocument.getDocumentURI())) {
+				return openedDocument;
+			}
+		}
+		return getFileDocument(documentURI, resolverExtensionManager);
+	}
+
+	/**
+	 * Returns the DOM document of the file content of the given URI, even if the
+	 * document is opened in an editor, and null if it cannot be loaded.
+	 *
+	 * <p>
+	 * This method must be used when the DOM document is kept by a cache (ex : the
+	 * DOM documents of a grammar) or when the locations of the DOM document must
+	 * match the file which has been loaded by a parser (ex : the errors of a
+	 * grammar reported by Xerces).
+	 * </p>
+	 *
+	 * @param documentURI              the document URI.
+	 * @param resolverExtensionManager the resolver extension manager.
+	 * @return the DOM document of the file content of the given URI and null if it
+	 *         cannot be loaded.
+	 */
+	public DOMDocument getFileDocument(String documentURI, URIResolverExtensionManager resolverExtensionManager) {
+		if (!URIUtils.isFileResource(documentURI)) {
+			return load(documentURI, resolverExtensionManager);
+		}
+		BasicFileAttributes attributes = null;
+		try {
+			Path file = FilesUtils.getPath(documentURI);
+			attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		} catch (Exception e) {
+			// the file doesn't exist or the URI is not a valid path
+			evict(documentURI);
+			return load(documentURI, resolverExtensionManager);
+		}
+		synchronized (this) {
+			CacheEntry entry = entries.get(documentURI);
+			if (entry != null && entry.isValid(attributes, resolverExtensionManager)) {
+				hits++;
+				return entry.document;
+			}
+			misses++;
+		}
+		// Parse the file outside the lock to load several documents in parallel.
+		DOMDocument document = load(documentURI, resolverExtensionManager);
+		if (document != null) {
+			put(documentURI, new CacheEntry(document, attributes.lastModifiedTime().toMillis(), attributes.size()));
+		}
+		return document;
+	}
+
+	/**
+	 * Returns the DOM document of the file content of the given URI parsed without
+	 * cache and null if it cannot be loaded.
+	 *
+	 * @param documentURI              the document URI.
+	 * @param resolverExtensionManager the resolver extension manager.
+	 * @return the DOM document of the file content of the given URI parsed without
+	 *         cache and null if it cannot be loaded.
+	 */
+	public static DOMDocument load(String documentURI, URIResolverExtensionManager resolverExtensionManager) {
+		try {
+			return DOMParser.getInstance().parse(IOUtils.convertStreamToString(new URL(documentURI).openStream()),
+					documentURI, resolverExtensionManager);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private synchronized void put(String documentURI, CacheEntry entry) {
+		CacheEntry old = entries.put(documentURI, entry);
+		if (old != null) {
+			size -= old.weight;
+		}
+		size += entry.weight;
+		evictIfNeeded(documentURI);
+	}
+
+	private void evictIfNeeded(String newURI) {
+		if (maxSize < 0 || size <= maxSize) {
+			return;
+		}
+		Iterator<Map.Entry<String, CacheEntry>> it = entries.entrySet().iterator();
+		while (size > maxSize && it.hasNext()) {
+			Map.Entry<String, CacheEntry> entry = it.next();
+			// the entry which has just been cached is kept even if it exceeds the budget
+			// alone.
+			if (!entry.getKey().equals(newURI)) {
+				size -= entry.getValue().weight;
+				it.remove();
+				evictions++;
+			}
+		}
+	}
+
+	/**
+	 * Evict the cached DOM document of the given URI (ex : when the file is
+	 * changed or deleted).
+	 *
+	 * @param documentURI the document URI.
+	 */
+	public synchronized void evict(String documentURI) {
+		CacheEntry entry = entries.remove(documentURI);
+		if (entry != null) {
+			size -= entry.weight;
+		}
+	}
+
+	/**
+	 * Remove all cached DOM documents.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+
+	/**
+	 * Set the memory budget in bytes (-1 if there is no limit) and evict the least
+	 * recently used entries if needed.
+	 *
+	 * @param maxSize the memory budget in bytes.
+	 */
+	public synchronized void setMaxSize(long maxSize) {
+		this.maxSize = maxSize < 0 ? -1 : maxSize;
+		evictIfNeeded(null);
+	}
+
+	/**
+	 * Returns the statistics of the cache.
+	 *
+	 * @return the statistics of the cache.
+	 */
+	public synchronized Stats getStats() {
+		return new Stats(hits, misses, evictions, entries.size(), size);
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom.parser;
+
+/**
+ * Character classes used by the XML scanner, with a lookup table for ASCII
+ * characters to avoid regular expressions and boxed predicates when the
+ * scanner advances on names and whitespaces.
+ *
+ */
+final class CharacterClasses {
+
+	private static final int WHITESPACE = 0x01; // [ \t\n\r\f]
+	private static final int NAME_START = 0x02; // [_:\p{L}]
+	private static final int NAME_CHAR = 0x04; // [_:.\-\p{L}\p{Nd}]
+	private static final int ATTRIBUTE_NAME_CHAR = 0x08; // [^\s\?\"'<>/=\x00-\x0F\x7F\x80-\x9F]
+	private static final int REGEX_NAME_START = 0x10; // [_:\w]
+	private static final int REGEX_NAME_CHAR = 0x20; // [_:\w-.\d]
+	private static final int REGEX_ATTRIBUTE_NAME_CHAR = 0x40; // [^\s\?\"'<>/=\x00-\x0F\x7F\x80-\x9F] (ASCII \s)
+
+	private static final byte[] ASCII = new byte[128];
+
+	static {
+		for (int ch = 0; ch < ASCII.length; ch++) {
+			int flags = 0;
+			boolean letter = (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+			boolean digit = ch >= '0' && ch <= '9';
+			if (ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r' || ch == '\f') {
+				flags |= WHITESPACE;
+			}
+			if (letter || ch == '_' || ch == ':') {
+				flags |= NAME_START | NAME_CHAR | REGEX_NAME_START | REGEX_NAME_CHAR;
+			}
+			if (digit) {
+				flags |= NAME_CHAR | REGEX_NAME_START | REGEX_NAME_CHAR;
+			}
+			if (ch == '.' || ch == '-') {
+				flags |= NAME_CHAR | REGEX_NAME_CHAR;
+			}
+			if (!Character.isWhitespace(ch) && ch != '?' && ch != '"' && ch != '\'' && ch != '<' && ch != '>'
+					&& ch != '/' && ch != '=' && ch > 0x0F && ch != 0x7F) {
+				flags |= ATTRIBUTE_NAME_CHAR;
+			}
+			if (ch != ' ' && ch != '\t' && ch != '\n' && ch != 0x0B && ch != '\f' && ch != '\r' && ch != '?'
+					&& ch != '"' && ch != '\'' && ch != '<' && ch != '>' && ch != '/' && ch != '=' && ch > 0x0F
+					&& ch != 0x7F) {
+				flags |= REGEX_ATTRIBUTE_NAME_CHAR;
+			}
+			ASCII[ch] = (byte) flags;
+		}
+	}
+
+	private CharacterClasses() {
+	}
+
+	/**
+	 * Returns true if the given character is a whitespace (' ', '\t', '\n', '\r',
+	 * '\f') and false otherwise.
+	 */
+	static boolean isWhitespace(int ch) {
+		return ch >= 0 && ch < 128 && (ASCII[ch] & WHITESPACE) != 0;
+	}
+
+	/**
+	 * Returns true if the given character can start an element name and false
+	 * otherwise.
+	 */
+	static boolean isElementNameStart(int ch) {
+		if (ch >= 0 && ch < 128) {
+			return (ASCII[ch] & NAME_START) != 0;
+		}
+		return Character.isLetter(ch);
+	}
+
+	/**
+	 * Returns true if the given character can be used in an element name and
+	 * false otherwise.
+	 */
+	static boolean isElementNameChar(int ch) {
+		if (ch >= 0 && ch < 128) {
+			return (ASCII[ch] & NAME_CHAR) != 0;
+		}
+		return Character.isLetterOrDigit(ch);
+	}
+
+	/**
+	 * Returns true if the given character can be used in an attribute name and
+	 * false otherwise.
+	 */
+	static boolean isAttributeNameChar(int ch) {
+		if (ch >= 0 && ch < 128) {
+			return (ASCII[ch] & ATTRIBUTE_NAME_CHAR) != 0;
+		}
+		return ch > 0x9F && !Character.isWhitespace(ch);
+	}
+
+	/**
+	 * Returns true if the given character can start a name matching the regular
+	 * expression <code>^[_:\w][_:\w-.\d]*</code> (ASCII names used in DTD) and
+	 * false otherwise.
+	 */
+	static boolean isDTDNameStart(int ch) {
+		return ch >= 0 && ch < 128 && (ASCII[ch] & REGEX_NAME_START) != 0;
+	}
+
+	/**
+	 * Returns true if the given character can be used in a name matching the
+	 * regular expression <code>^[_:\w][_:\w-.\d]*</code> (ASCII names used in DTD)
+	 * and false otherwise.
+	 */
+	static boolean isDTDNameChar(int ch) {
+		return ch >= 0 && ch < 128 && (ASCII[ch] & REGEX_NAME_CHAR) != 0;
+	}
+
+	/**
+	 * Returns true if the given character can be used in a name matching the
+	 * regular expression <code>^[^\s\?\"'<>/=\x00-\x0F\x7F\x80-\x9F]*</code>
+	 * (DTD attribute names and processing instruction targets) and false
+	 * otherwise.
+	 */
+	static boolean isDTDAttributeNameChar(int ch) {
+		if (ch >= 0 && ch < 128) {
+			return (ASCII[ch] & REGEX_ATTRIBUTE_NAME_CHAR) != 0;
+		}
+		return ch > 0x9F;
+	}
+}
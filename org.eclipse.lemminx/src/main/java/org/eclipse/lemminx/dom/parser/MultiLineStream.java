@@ -17,19 +17,14 @@
  */
 package org.eclipse.lemminx.dom.parser;
 
-import static org.eclipse.lemminx.dom.parser.Constants._CAR;
 import static org.eclipse.lemminx.dom.parser.Constants._CSB;
 import static org.eclipse.lemminx.dom.parser.Constants._LAN;
-import static org.eclipse.lemminx.dom.parser.Constants._LFD;
-import static org.eclipse.lemminx.dom.parser.Constants._NWL;
 import static org.eclipse.lemminx.dom.parser.Constants._OSB;
 import static org.eclipse.lemminx.dom.parser.Constants._RAN;
-import static org.eclipse.lemminx.dom.parser.Constants._TAB;
-import static org.eclipse.lemminx.dom.parser.Constants._WSP;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,27 +34,26 @@ import java.util.regex.Pattern;
  */
 public class MultiLineStream {
 
-	private static final Predicate<Integer> WHITESPACE_PREDICATE = ch -> {
-		return ch == _WSP || ch == _TAB || ch == _NWL || ch == _LFD || ch == _CAR;
-	};
+	private static final IntPredicate WHITESPACE_PREDICATE = CharacterClasses::isWhitespace;
 
-	private final String source;
+	private final CharSequence source;
 	private final int len;
 	private int position;
 	private final Map<Pattern, Matcher> regexpCache;
 
-	public MultiLineStream(String source, int position) {
+	public MultiLineStream(CharSequence source, int position) {
 		this.source = source;
 		this.len = source.length();
 		this.position = position;
-		this.regexpCache = new HashMap<>();
+		// Regular expressions are only used to scan DTD declarations
+		this.regexpCache = new HashMap<>(4);
 	}
 
 	public boolean eos() {
 		return this.len <= this.position;
 	}
 
-	public String getSource() {
+	public CharSequence getSource() {
 		return this.source;
 	}
 
@@ -103,7 +97,7 @@ public class MultiLineStream {
 		if (pos >= len) {
 			return -1;
 		}
-		return this.source.codePointAt(pos);
+		return Character.codePointAt(this.source, pos);
 	}
 
 	/**
@@ -115,7 +109,7 @@ public class MultiLineStream {
 		if (offset >= len || offset < 0) {
 			return -1;
 		}
-		return this.source.codePointAt(offset);
+		return Character.codePointAt(this.source, offset);
 	}
 
 	public boolean advanceIfChar(int ch) {
@@ -301,7 +295,7 @@ public class MultiLineStream {
 		return n > 0;
 	}
 
-	public int advanceWhileChar(Predicate<Integer> condition) {
+	public int advanceWhileChar(IntPredicate condition) {
 		int posNow = this.position;
 		while (this.position < this.len && condition.test(peekChar())) {
 			this.position++;
@@ -19,6 +19,13 @@ package org.eclipse.lemminx.dom.parser;
 
 /**
  * Scanner API.
+ * 
+ * <p>
+ * A token is described by its type, its start and its end offsets which are
+ * available without allocation with {@link #getTokenType()},
+ * {@link #getTokenOffset()} and {@link #getTokenEnd()}. {@link #getTokenText()}
+ * creates a new string and should be used only when the text is required.
+ * </p>
  *
  */
 public interface Scanner {
@@ -43,6 +50,11 @@ public interface Scanner {
 	 */
 	int getTokenEnd();
 
+	/**
+	 * Returns the text of the current token (which creates a new string).
+	 * 
+	 * @return the text of the current token.
+	 */
 	String getTokenText();
 
 	String getTokenError();
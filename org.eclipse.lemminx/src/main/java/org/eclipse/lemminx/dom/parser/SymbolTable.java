@@ -0,0 +1,120 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom.parser;
+
+/**
+ * Symbol table used to share the same string instance for the names (element
+ * tags, attribute names, processing instruction targets) of a parsed document.
+ *
+ * <p>
+ * A name is looked up with its offsets in the source text, the characters are
+ * compared in place, so that a string is created only the first time a name is
+ * found.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe, a symbol table must be used by one parser.
+ * </p>
+ *
+ */
+public final class SymbolTable {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private String[] symbols;
+
+	private int[] hashes;
+
+	private int size;
+
+	public SymbolTable() {
+		this.symbols = new String[INITIAL_CAPACITY];
+		this.hashes = new int[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Returns the symbol for the text between the given offsets of the source.
+	 *
+	 * @param source the source text.
+	 * @param start  the start offset (inclusive).
+	 * @param end    the end offset (exclusive).
+	 * @return the symbol for the text between the given offsets of the source.
+	 */
+	public String intern(CharSequence source, int start, int end) {
+		int hash = hash(source, start, end);
+		int mask = symbols.length - 1;
+		int index = hash & mask;
+		String symbol;
+		while ((symbol = symbols[index]) != null) {
+			if (hashes[index] == hash && equals(symbol, source, start, end)) {
+				return symbol;
+			}
+			index = (index + 1) & mask;
+		}
+		symbol = source.subSequence(start, end).toString();
+		symbols[index] = symbol;
+		hashes[index] = hash;
+		if (++size * 4 > symbols.length * 3) {
+			rehash();
+		}
+		return symbol;
+	}
+
+	/**
+	 * Returns the number of symbols.
+	 *
+	 * @return the number of symbols.
+	 */
+	public int size() {
+		return size;
+	}
+
+	private void rehash() {
+		String[] oldSymbols = symbols;
+		int[] oldHashes = hashes;
+		symbols = new String[oldSymbols.length * 2];
+		hashes = new int[oldSymbols.length * 2];
+		int mask = symbols.length - 1;
+		for (int i = 0; i < oldSymbols.length; i++) {
+			if (oldSymbols[i] != null) {
+				int index = oldHashes[i] & mask;
+				while (symbols[index] != null) {
+					index = (index + 1) & mask;
+				}
+				symbols[index] = oldSymbols[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	private static int hash(CharSequence source, int start, int end) {
+		// Same hash than String#hashCode, spread to use the high bits with the mask
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + source.charAt(i);
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean equals(String symbol, CharSequence source, int start, int end) {
+		int length = end - start;
+		if (symbol.length() != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (symbol.charAt(i) != source.charAt(start + i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -17,11 +17,8 @@
  */
 package org.eclipse.lemminx.dom.parser;
 
-import static org.eclipse.lemminx.dom.parser.Constants.ATTRIBUTE_NAME_REGEX;
 import static org.eclipse.lemminx.dom.parser.Constants.DOCTYPE_KIND_OPTIONS;
 import static org.eclipse.lemminx.dom.parser.Constants.DTD_ELEMENT_CATEGORY;
-import static org.eclipse.lemminx.dom.parser.Constants.ELEMENT_NAME_REGEX;
-import static org.eclipse.lemminx.dom.parser.Constants.PROLOG_NAME_OPTIONS;
 import static org.eclipse.lemminx.dom.parser.Constants.URL_VALUE_REGEX;
 import static org.eclipse.lemminx.dom.parser.Constants._AST;
 import static org.eclipse.lemminx.dom.parser.Constants._AVL;
@@ -29,8 +26,6 @@ import static org.eclipse.lemminx.dom.parser.Constants._CAR;
 import static org.eclipse.lemminx.dom.parser.Constants._CRB;
 import static org.eclipse.lemminx.dom.parser.Constants._CSB;
 import static org.eclipse.lemminx.dom.parser.Constants._CVL;
-import static org.eclipse.lemminx.dom.parser.Constants._DDT;
-import static org.eclipse.lemminx.dom.parser.Constants._DOT;
 import static org.eclipse.lemminx.dom.parser.Constants._DQO;
 import static org.eclipse.lemminx.dom.parser.Constants._DVL;
 import static org.eclipse.lemminx.dom.parser.Constants._EQS;
@@ -55,11 +50,10 @@ import static org.eclipse.lemminx.dom.parser.Constants._RAN;
 import static org.eclipse.lemminx.dom.parser.Constants._SIQ;
 import static org.eclipse.lemminx.dom.parser.Constants._SVL;
 import static org.eclipse.lemminx.dom.parser.Constants._TVL;
-import static org.eclipse.lemminx.dom.parser.Constants._UDS;
 import static org.eclipse.lemminx.dom.parser.Constants._WSP;
 import static org.eclipse.lemminx.dom.parser.Constants._YVL;
 
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 
 import org.eclipse.lemminx.dom.DOMDocumentType.DocumentTypeKind;
 import org.eclipse.lemminx.utils.StringUtils;;
@@ -70,22 +64,20 @@ import org.eclipse.lemminx.utils.StringUtils;;
  */
 public class XMLScanner implements Scanner {
 
-	private static final Predicate<Integer> START_ELEMENT_NAME_PREDICATE = ch -> {
-		// ^[_:\w]
-		return ch == _UDS || ch == _DDT || Character.isLetter(ch);
-	};
+	// The names are scanned with the character class tables instead of regular
+	// expressions to avoid allocations for each token.
 
-	private static final Predicate<Integer> ELEMENT_NAME_PREDICATE = ch -> {
-		// [_:\w-.\d]*
-		return ch == _UDS /* '_' */ || ch == _DDT /* ':' */ || ch == _DOT /* '.' */ || ch == _MIN /* '-' */
-				|| Character.isLetterOrDigit(ch);
-	};
+	// [_:\w-.\d]*
+	private static final IntPredicate ELEMENT_NAME_PREDICATE = CharacterClasses::isElementNameChar;
 
-	private static final Predicate<Integer> ATTRIBUTE_NAME_PREDICATE = ch -> {
-		// ^[^\s\?\"'<>\/=\x00-\x0F\x7F\x80-\x9F]*
-		return !Character.isWhitespace(ch) && ch != _QMA && ch != _DQO && ch != _SIQ && ch != _LAN && ch != _RAN
-				&& ch != _FSL && ch != _EQS && !(ch >= 0x00 && ch <= 0x0F) && ch != 0x7F && !(ch >= 0x80 && ch <= 0x9F);
-	};
+	// ^[^\s\?\"'<>\/=\x00-\x0F\x7F\x80-\x9F]*
+	private static final IntPredicate ATTRIBUTE_NAME_PREDICATE = CharacterClasses::isAttributeNameChar;
+
+	// [_:\w-.\d]* (ASCII)
+	private static final IntPredicate DTD_NAME_PREDICATE = CharacterClasses::isDTDNameChar;
+
+	// ^[^\s\?\"'<>\/=\x00-\x0F\x7F\x80-\x9F]* (ASCII \s)
+	private static final IntPredicate DTD_ATTRIBUTE_NAME_PREDICATE = CharacterClasses::isDTDAttributeNameChar;
 
 	private static final int[] END_COMMENT_PATTERN = new int[] { _MIN, _MIN, _RAN }; // -->
 
@@ -139,7 +131,7 @@ public class XMLScanner implements Scanner {
 	boolean isInitialAttlistDeclCompleted = false;
 	private int nbBraceOpened;
 
-	public XMLScanner(String input, int initialOffset, ScannerState initialState, boolean isDTDFile) {
+	public XMLScanner(CharSequence input, int initialOffset, ScannerState initialState, boolean isDTDFile) {
 		stream = new MultiLineStream(input, initialOffset);
 		state = initialState;
 		tokenOffset = 0;
@@ -156,7 +148,7 @@ public class XMLScanner implements Scanner {
 	boolean hasNextElementName() {
 		// Element name regexp : ^[_:\w][_:\w-.\d]*
 		// ^[_:\w]
-		if (!START_ELEMENT_NAME_PREDICATE.test(stream.peekChar())) {
+		if (!CharacterClasses.isElementNameStart(stream.peekChar())) {
 			return false;
 		}
 		stream.advance(1);
@@ -193,8 +185,30 @@ public class XMLScanner implements Scanner {
 		return false;
 	}
 
-	String doctypeName() {
-		return stream.advanceIfRegExp(ELEMENT_NAME_REGEX);
+	/**
+	 * Returns true if the current token is a DTD name (which matches
+	 * <code>^[_:\w][_:\w-.\d]*</code>) and false otherwise.
+	 * 
+	 * @return true if the current token is a DTD name and false otherwise.
+	 */
+	boolean hasNextDTDName() {
+		if (!CharacterClasses.isDTDNameStart(stream.peekChar())) {
+			return false;
+		}
+		stream.advance(1);
+		stream.advanceWhileChar(DTD_NAME_PREDICATE);
+		return true;
+	}
+
+	/**
+	 * Returns true if the current token is a DTD attribute name and false
+	 * otherwise.
+	 * 
+	 * @return true if the current token is a DTD attribute name and false
+	 *         otherwise.
+	 */
+	boolean hasNextDTDAttributeName() {
+		return stream.advanceWhileChar(DTD_ATTRIBUTE_NAME_PREDICATE) > 0;
 	}
 
 	/**
@@ -257,8 +271,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.PIEnd);
 			}
 			if (stream.advanceUntilAnyOfChars(END_WS_OR_PROLOG_PATTERN) || stream.eos()) { // \n or \r or ' ' or '?'
-				String name = getTokenTextFromOffset(offset);
-				if (PROLOG_NAME_OPTIONS.matcher(name).matches()) { // name eg: xml
+				if (isPrologName(offset, stream.pos())) { // name eg: xml
 					state = ScannerState.WithinTag;
 					return finishToken(offset, TokenType.PrologName);
 				}
@@ -266,7 +279,7 @@ public class XMLScanner implements Scanner {
 				// state = ScannerState.WithinTag;
 				// return finishToken(offset, TokenType.PIName);
 				// }
-				if (ATTRIBUTE_NAME_REGEX.matcher(name).matches()) { // {name} eg: m2e
+				if (isPIName(offset, stream.pos())) { // {name} eg: m2e
 					state = ScannerState.WithinPI;
 					return finishToken(offset, TokenType.PIName);
 				}
@@ -290,7 +303,7 @@ public class XMLScanner implements Scanner {
 				if (stream.peekChar() == _LAN) {
 					state = getWithinContentState();
 				}
-				if (getTokenTextFromOffset(offset).length() == 0) {
+				if (stream.pos() == offset) {
 					return finishToken(offset, TokenType.PIEnd);
 				}
 			}
@@ -482,8 +495,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			if (isDeclCompleted == false) {
-				String doctypeName = doctypeName();
-				if (!doctypeName.equals("")) {
+				if (hasNextDTDName()) {
 					state = ScannerState.DTDAfterDoctypeName;
 					return finishToken(offset, TokenType.DTDDoctypeName);
 				}
@@ -658,7 +670,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDElementAfterName;
 				return finishToken(offset, TokenType.DTDElementDeclName);
 			}
@@ -736,7 +748,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			if (isInitialAttlistDeclCompleted == false
-					&& !stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+					&& hasNextDTDName()) {
 				state = ScannerState.DTDAfterAttlistElementName;
 				return finishToken(offset, TokenType.DTDAttlistElementName);
 			}
@@ -749,7 +761,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.Whitespace);
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ATTRIBUTE_NAME_REGEX).equals("")) {
+			if (hasNextDTDAttributeName()) {
 				state = ScannerState.DTDAfterAttlistAttributeName;
 				return finishToken(offset, TokenType.DTDAttlistAttributeName);
 			}
@@ -815,7 +827,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDAfterEntityName;
 				return finishToken(offset, TokenType.DTDEntityName);
 			}
@@ -907,7 +919,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDAfterNotationName;
 				return finishToken(offset, TokenType.DTDNotationName);
 			}
@@ -1031,7 +1043,7 @@ public class XMLScanner implements Scanner {
 
 	@Override
 	public String getTokenText() {
-		return stream.getSource().substring(tokenOffset, stream.pos());
+		return stream.getSource().subSequence(tokenOffset, stream.pos()).toString();
 	}
 
 	@Override
@@ -1049,32 +1061,68 @@ public class XMLScanner implements Scanner {
 		return tokenError;
 	}
 
+	/**
+	 * Returns true if the text between the given offsets matches the prolog name
+	 * <code>^(xml)[\s<>?]?</code> and false otherwise.
+	 */
+	private boolean isPrologName(int start, int end) {
+		int length = end - start;
+		if (length != 3 && length != 4) {
+			return false;
+		}
+		CharSequence source = stream.getSource();
+		if (source.charAt(start) != 'x' || source.charAt(start + 1) != 'm' || source.charAt(start + 2) != 'l') {
+			return false;
+		}
+		if (length == 3) {
+			return true;
+		}
+		char ch = source.charAt(start + 3);
+		return CharacterClasses.isWhitespace(ch) || ch == 0x0B || ch == '\f' || ch == _LAN || ch == _RAN
+				|| ch == _QMA;
+	}
+
+	/**
+	 * Returns true if the text between the given offsets matches the processing
+	 * instruction name <code>^[^\s\?\"'<>/=\x00-\x0F\x7F\x80-\x9F]*</code> and
+	 * false otherwise.
+	 */
+	private boolean isPIName(int start, int end) {
+		CharSequence source = stream.getSource();
+		for (int i = start; i < end; i++) {
+			if (!CharacterClasses.isDTDAttributeNameChar(source.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public String getTokenTextFromOffset(int offset) {
-		return stream.getSource().substring(offset, stream.pos());
+		return stream.getSource().subSequence(offset, stream.pos()).toString();
 	}
 
-	public static Scanner createScanner(String input) {
+	public static Scanner createScanner(CharSequence input) {
 		return createScanner(input, false);
 	}
 
-	public static Scanner createScanner(String input, boolean isDTD) {
+	public static Scanner createScanner(CharSequence input, boolean isDTD) {
 		return createScanner(input, 0, isDTD);
 	}
 
-	public static Scanner createScanner(String input, int initialOffset) {
+	public static Scanner createScanner(CharSequence input, int initialOffset) {
 		return createScanner(input, initialOffset, false);
 	}
 
-	public static Scanner createScanner(String input, int initialOffset, boolean isDTDFile) {
+	public static Scanner createScanner(CharSequence input, int initialOffset, boolean isDTDFile) {
 		return createScanner(input, initialOffset,
 				isDTDFile ? ScannerState.DTDWithinContent : ScannerState.WithinContent, isDTDFile);
 	}
 
-	public static Scanner createScanner(String input, int initialOffset, ScannerState initialState) {
+	public static Scanner createScanner(CharSequence input, int initialOffset, ScannerState initialState) {
 		return new XMLScanner(input, initialOffset, initialState, false);
 	}
 
-	public static Scanner createScanner(String input, int initialOffset, ScannerState initialState, boolean isDTDFile) {
+	public static Scanner createScanner(CharSequence input, int initialOffset, ScannerState initialState, boolean isDTDFile) {
 		return new XMLScanner(input, initialOffset, initialState, isDTDFile);
 	}
 
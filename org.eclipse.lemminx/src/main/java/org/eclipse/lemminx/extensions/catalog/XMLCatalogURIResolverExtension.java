@@ -66,6 +66,12 @@ public class XMLCatalogURIResolverExtension implements URIResolverExtension {
 		return CATALOG_SYSTEM;
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		// the resolution depends on the DTD / XML Schema declared in the document
+		return !CATALOG_NAMESPACE_URI.equals(publicId);
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		if (hasDTDorXMLSchema(resourceIdentifier.getBaseSystemId())) {
@@ -58,4 +58,9 @@ public class XMLCatalogDiagnosticsParticipant implements IDiagnosticsParticipant
 			}
 		}
 	}
+
+	@Override
+	public boolean isParallelizable() {
+		return true;
+	}
 }
@@ -32,6 +32,8 @@ import org.eclipse.lemminx.extensions.colors.settings.XMLColorsSettings;
 import org.eclipse.lemminx.extensions.colors.utils.ColorUtils;
 import org.eclipse.lemminx.services.extensions.IDocumentColorParticipant;
 import org.eclipse.lemminx.utils.XMLPositionUtility;
+import org.eclipse.lemminx.xpath.matcher.CompiledXPathMatcher;
+import org.eclipse.lemminx.xpath.matcher.XPathMatcher;
 import org.eclipse.lsp4j.Color;
 import org.eclipse.lsp4j.ColorInformation;
 import org.eclipse.lsp4j.ColorPresentation;
@@ -59,11 +61,23 @@ public class XMLDocumentColorParticipant implements IDocumentColorParticipant {
 		if (expressions.isEmpty()) {
 			return;
 		}
-		doDocumentColor(xmlDocument, expressions, colors, cancelChecker);
+		// Compile the XPath expressions to match each node of the document with all
+		// expressions at once.
+		CompiledXPathMatcher<XMLColorExpression> matcher = new CompiledXPathMatcher<>();
+		for (XMLColorExpression expression : expressions) {
+			XPathMatcher pathMatcher = expression.getPathMatcher();
+			if (pathMatcher != null) {
+				matcher.add(pathMatcher, expression);
+			}
+		}
+		if (matcher.isEmpty()) {
+			return;
+		}
+		doDocumentColor(xmlDocument, matcher, colors, cancelChecker);
 	}
 
-	private void doDocumentColor(DOMNode node, List<XMLColorExpression> expressions, List<ColorInformation> colors,
-			CancelChecker cancelChecker) {
+	private void doDocumentColor(DOMNode node, CompiledXPathMatcher<XMLColorExpression> expressions,
+			List<ColorInformation> colors, CancelChecker cancelChecker) {
 		if (node.isElement()) {
 			DOMElement element = (DOMElement) node;
 			if (element.hasAttributes()) {
@@ -138,12 +152,12 @@ public class XMLDocumentColorParticipant implements IDocumentColorParticipant {
 	 * and false otherwise.
 	 *
 	 * @param node        the node to match.
-	 * @param expressions XML color expressions.
+	 * @param expressions XML color expressions compiled in one matcher.
 	 *
 	 * @return true if the given <code>node>code> matches an XML color expression
 	 *         and false otherwise.
 	 */
-	private static boolean isColorNode(DOMNode node, List<XMLColorExpression> expressions) {
+	private static boolean isColorNode(DOMNode node, CompiledXPathMatcher<XMLColorExpression> expressions) {
 		if (node.isAttribute()) {
 			DOMAttr attr = (DOMAttr) node;
 			if (attr.getValue() == null || attr.getValue().isEmpty()) {
@@ -155,12 +169,7 @@ public class XMLDocumentColorParticipant implements IDocumentColorParticipant {
 				return false;
 			}
 		}
-		for (XMLColorExpression expression : expressions) {
-			if (expression.match(node)) {
-				return true;
-			}
-		}
-		return false;
+		return expressions.match(node);
 	}
 
 	/**
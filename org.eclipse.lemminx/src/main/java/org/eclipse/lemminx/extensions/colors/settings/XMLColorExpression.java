@@ -38,16 +38,29 @@ public class XMLColorExpression {
 
 	public void setXPath(String xpath) {
 		this.xpath = xpath;
+		this.pathMatcher = null;
 	}
 
 	public boolean match(final Node node) {
+		XPathMatcher pathMatcher = getPathMatcher();
+		return pathMatcher != null && pathMatcher.match(node);
+	}
+
+	/**
+	 * Returns the XPath matcher of the expression and null if there is no XPath
+	 * expression.
+	 * 
+	 * @return the XPath matcher of the expression and null if there is no XPath
+	 *         expression.
+	 */
+	public XPathMatcher getPathMatcher() {
 		if (xpath == null) {
-			return false;
+			return null;
 		}
 		if (pathMatcher == null) {
 			pathMatcher = new XPathMatcher(xpath);
 		}
-		return pathMatcher.match(node);
+		return pathMatcher;
 	}
 
 }
@@ -19,7 +19,9 @@ import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.commands.AssociateGrammarCommand;
 import org.eclipse.lemminx.extensions.contentmodel.commands.CheckBoundGrammarCommand;
 import org.eclipse.lemminx.extensions.contentmodel.commands.CheckFilePatternCommand;
+import org.eclipse.lemminx.extensions.contentmodel.commands.GrammarCacheStatsCommand;
 import org.eclipse.lemminx.extensions.contentmodel.commands.SurroundWithCommand;
+import org.eclipse.lemminx.extensions.contentmodel.commands.URIResolveCacheStatsCommand;
 import org.eclipse.lemminx.extensions.contentmodel.commands.XMLValidationAllFilesCommand;
 import org.eclipse.lemminx.extensions.contentmodel.commands.XMLValidationFileCommand;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
@@ -31,7 +33,9 @@ import org.eclipse.lemminx.extensions.contentmodel.participants.ContentModelForm
 import org.eclipse.lemminx.extensions.contentmodel.participants.ContentModelHoverParticipant;
 import org.eclipse.lemminx.extensions.contentmodel.participants.ContentModelSymbolsProviderParticipant;
 import org.eclipse.lemminx.extensions.contentmodel.participants.ContentModelTypeDefinitionParticipant;
+import org.eclipse.lemminx.extensions.contentmodel.participants.ContentModelWorkspaceServiceParticipant;
 import org.eclipse.lemminx.extensions.contentmodel.participants.DocumentTelemetryParticipant;
+import org.eclipse.lemminx.extensions.contentmodel.participants.GrammarCachePinningParticipant;
 import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.ContentModelDiagnosticsParticipant;
 import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLDownloadExternalResourcesSettings;
@@ -88,6 +92,10 @@ public class ContentModelPlugin implements IXMLExtension {
 
 	private DocumentTelemetryParticipant documentTelemetryParticipant;
 
+	private GrammarCachePinningParticipant grammarCachePinningParticipant;
+
+	private ContentModelWorkspaceServiceParticipant workspaceServiceParticipant;
+
 	private ContentModelFormatterParticipant formatterParticipant;
 
 	public ContentModelPlugin() {
@@ -106,8 +114,8 @@ public class ContentModelPlugin implements IXMLExtension {
 			DOMDocument document = context.getDocument(documentURI);
 			if (document != null && DOMUtils.isCatalog(document)) {
 				// the XML document which has changed is a XML catalog.
-				// 1) refresh catalogs
-				contentModelManager.refreshCatalogs();
+				// 1) refresh the catalogs which use this catalog file
+				contentModelManager.refreshCatalog(documentURI);
 			}
 			// 2) Validate all opened XML files except the catalog which have changed
 			context.collectDocumentToValidate(d -> {
@@ -215,6 +223,10 @@ public class ContentModelPlugin implements IXMLExtension {
 		documentTelemetryParticipant = new DocumentTelemetryParticipant(registry.getTelemetryManager(),
 				contentModelManager);
 		registry.registerDocumentLifecycleParticipant(documentTelemetryParticipant);
+		grammarCachePinningParticipant = new GrammarCachePinningParticipant(contentModelManager);
+		registry.registerDocumentLifecycleParticipant(grammarCachePinningParticipant);
+		workspaceServiceParticipant = new ContentModelWorkspaceServiceParticipant();
+		registry.registerWorkspaceServiceParticipant(workspaceServiceParticipant);
 		formatterParticipant = new ContentModelFormatterParticipant(contentModelManager);
 		registry.registerFormatterParticipant(formatterParticipant);
 
@@ -232,6 +244,10 @@ public class ContentModelPlugin implements IXMLExtension {
 			commandService.registerCommand(CheckBoundGrammarCommand.COMMAND_ID,
 					new CheckBoundGrammarCommand(documentProvider));
 			commandService.registerCommand(CheckFilePatternCommand.COMMAND_ID, new CheckFilePatternCommand());
+			commandService.registerCommand(GrammarCacheStatsCommand.COMMAND_ID,
+					new GrammarCacheStatsCommand(contentModelManager));
+			commandService.registerCommand(URIResolveCacheStatsCommand.COMMAND_ID,
+					new URIResolveCacheStatsCommand(registry.getResolverExtensionManager()));
 			commandService.registerCommand(SurroundWithCommand.COMMAND_ID,
 					new SurroundWithCommand(documentProvider, contentModelManager));
 		}
@@ -248,7 +264,10 @@ public class ContentModelPlugin implements IXMLExtension {
 		registry.unregisterSymbolsProviderParticipant(symbolsProviderParticipant);
 		registry.unregisterCodeLensParticipant(codeLensParticipant);
 		registry.unregisterDocumentLifecycleParticipant(documentTelemetryParticipant);
+		registry.unregisterDocumentLifecycleParticipant(grammarCachePinningParticipant);
+		registry.unregisterWorkspaceServiceParticipant(workspaceServiceParticipant);
 		registry.unregisterFormatterParticipant(formatterParticipant);
+		contentModelManager.flushGrammarIndex();
 
 		// Un-register custom commands to re-validate XML files
 		IXMLCommandService commandService = registry.getCommandService();
@@ -258,6 +277,8 @@ public class ContentModelPlugin implements IXMLExtension {
 			commandService.unregisterCommand(AssociateGrammarCommand.COMMAND_ID);
 			commandService.unregisterCommand(CheckBoundGrammarCommand.COMMAND_ID);
 			commandService.unregisterCommand(CheckFilePatternCommand.COMMAND_ID);
+			commandService.unregisterCommand(GrammarCacheStatsCommand.COMMAND_ID);
+			commandService.unregisterCommand(URIResolveCacheStatsCommand.COMMAND_ID);
 			commandService.unregisterCommand(SurroundWithCommand.COMMAND_ID);
 		}
 	}
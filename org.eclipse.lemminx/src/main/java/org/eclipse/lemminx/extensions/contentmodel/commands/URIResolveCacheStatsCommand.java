@@ -0,0 +1,42 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.commands;
+
+import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService.IDelegateCommandHandler;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lemminx.uriresolver.URIResolveCache;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * XML Command "xml.uri.resolve.cache.stats" which returns the statistics
+ * (hits, misses, hit ratio, entries, generation) of the resolved URIs cache.
+ *
+ * @see URIResolveCache#getStats()
+ */
+public class URIResolveCacheStatsCommand implements IDelegateCommandHandler {
+
+	public static final String COMMAND_ID = "xml.uri.resolve.cache.stats";
+
+	private final URIResolverExtensionManager resolverManager;
+
+	public URIResolveCacheStatsCommand(URIResolverExtensionManager resolverManager) {
+		this.resolverManager = resolverManager;
+	}
+
+	@Override
+	public Object executeCommand(ExecuteCommandParams params, SharedSettings sharedSettings,
+			CancelChecker cancelChecker) throws Exception {
+		return resolverManager.getResolveCache().getStats();
+	}
+}
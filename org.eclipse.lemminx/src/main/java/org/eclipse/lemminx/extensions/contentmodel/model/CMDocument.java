@@ -12,10 +12,14 @@
  */
 package org.eclipse.lemminx.extensions.contentmodel.model;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.xerces.xni.grammars.Grammar;
+import org.apache.xerces.xni.grammars.XMLGrammarDescription;
 import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
@@ -88,6 +92,29 @@ public interface CMDocument {
 	 */
 	boolean isDirty();
 
+	/**
+	 * Returns the files of the grammar (the grammar file and the included,
+	 * imported files) which are tracked to know if the content model document is
+	 * dirty.
+	 * 
+	 * @return the files of the grammar.
+	 */
+	default Collection<Path> getGrammarFiles() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Returns the Xerces grammars of the content model document which can be
+	 * cached in the grammar pool used to validate the XML documents, mapped by the
+	 * grammar description used as key by the pool.
+	 * 
+	 * @return the Xerces grammars which can be cached in the validation grammar
+	 *         pool, mapped by their grammar description.
+	 */
+	default Map<XMLGrammarDescription, Grammar> getValidationGrammars() {
+		return Collections.emptyMap();
+	}
+
 	/**
 	 * Returns list of declared entities.
 	 * 
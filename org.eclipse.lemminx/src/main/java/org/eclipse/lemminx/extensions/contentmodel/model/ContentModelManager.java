@@ -17,17 +17,21 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import org.apache.xerces.impl.XMLEntityManager;
+import org.apache.xerces.util.URI.MalformedURIException;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelProvider.Identifier;
 import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPXMLGrammarPool;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPXMLParserPool;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLFileAssociation;
 import org.eclipse.lemminx.extensions.contentmodel.uriresolver.XMLCacheResolverExtension;
 import org.eclipse.lemminx.extensions.contentmodel.uriresolver.XMLCatalogResolverExtension;
@@ -46,7 +50,20 @@ import org.eclipse.lemminx.utils.URIUtils;
  */
 public class ContentModelManager {
 
-	private final Map<String, CMDocument> cmDocumentCache;
+	private static final Logger LOGGER = Logger.getLogger(ContentModelManager.class.getName());
+
+	/**
+	 * System property used to disable the grammar index (with "false") which
+	 * stores the loaded grammars to preload them when the language server
+	 * restarts.
+	 */
+	public static final String GRAMMAR_INDEX_PROPERTY = "lemminx.grammar.index";
+
+	private final GrammarCache grammarCache;
+
+	private final GrammarIndex grammarIndex;
+
+	private volatile boolean grammarIndexEnabled;
 
 	private final URIResolverExtensionManager resolverManager;
 	private final List<ContentModelProvider> modelProviders;
@@ -55,20 +72,23 @@ public class ContentModelManager {
 	private final XMLCatalogResolverExtension catalogResolverExtension;
 	private final XMLFileAssociationResolverExtension fileAssociationResolver;
 	private final LSPXMLGrammarPool grammarPool;
+	private final LSPXMLParserPool parserPool;
 
 	private boolean resolveExternalEntities;
 
 	public ContentModelManager(URIResolverExtensionManager resolverManager) {
 		this.resolverManager = resolverManager;
 		modelProviders = new ArrayList<>();
-		cmDocumentCache = Collections.synchronizedMap(new HashMap<>());
+		grammarCache = new GrammarCache();
+		grammarIndex = new GrammarIndex();
 		fileAssociationResolver = new XMLFileAssociationResolverExtension();
 		resolverManager.registerResolver(fileAssociationResolver);
 		catalogResolverExtension = new XMLCatalogResolverExtension();
 		resolverManager.registerResolver(catalogResolverExtension);
 		cacheResolverExtension = new XMLCacheResolverExtension();
 		resolverManager.registerResolver(cacheResolverExtension);
-		grammarPool = new LSPXMLGrammarPool();
+		grammarPool = new LSPXMLGrammarPool(grammarCache);
+		parserPool = new LSPXMLParserPool(this);
 		// Use cache by default
 		setUseCache(true);
 	}
@@ -313,6 +333,8 @@ public class ContentModelManager {
 		if (cmDocument != null) {
 			return cmDocument;
 		}
+		String location = resolvedUri;
+		long start = System.currentTimeMillis();
 		if (cacheResolverExtension.canUseCache(resolvedUri)) {
 			// The DTD/XML Schema comes from http://, ftp:// etc and cache manager is
 			// activated
@@ -320,7 +342,8 @@ public class ContentModelManager {
 			try {
 				Path file = cacheResolverExtension.getCachedResource(resolvedUri);
 				if (file != null) {
-					cmDocument = modelProvider.createCMDocument(file.toUri().toString(), isResolveExternalEntities());
+					location = file.toUri().toString();
+					cmDocument = modelProvider.createCMDocument(location, isResolveExternalEntities());
 				}
 			} catch (CacheResourceDownloadingException e) {
 				// the DTD/XML Schema is downloading
@@ -334,27 +357,192 @@ public class ContentModelManager {
 		}
 		// Cache the document
 		if (cmDocument != null) {
+			long loadTime = System.currentTimeMillis() - start;
+			LOGGER.fine("Loaded grammar '" + resolvedUri + "' in " + loadTime + "ms (cold).");
 			cache(resolvedUri, cmDocument);
+			if (grammarIndexEnabled) {
+				grammarIndex.record(resolvedUri, location, modelProvider, cmDocument, loadTime);
+			}
 		}
 		return cmDocument;
 	}
 
-	private CMDocument getCMDocumentFromCache(String key) {
-		CMDocument document = null;
-		synchronized (cmDocumentCache) {
-			document = cmDocumentCache.get(key);
-			if (document != null && document.isDirty()) {
-				cmDocumentCache.remove(key);
-				return null;
+	/**
+	 * Load in background the grammars (XML Schema, DTD) stored in the grammar index
+	 * by the previous sessions, which are still valid (the content of the grammar
+	 * files has not changed), so that the first completion, hover, etc don't wait
+	 * for the load of the grammar. The XML Schema grammars are cached too in the
+	 * Xerces grammar pool used by the validation, the DTD grammars are not since
+	 * they depend on the internal subset of the validated XML document.
+	 *
+	 * @return the number of preloaded grammars.
+	 */
+	public CompletableFuture<Integer> preloadGrammars() {
+		if (!grammarIndexEnabled) {
+			return CompletableFuture.completedFuture(0);
+		}
+		return CompletableFuture.supplyAsync(() -> {
+			long start = System.currentTimeMillis();
+			int preloaded = 0;
+			long coldLoadTime = 0;
+			for (GrammarIndex.Entry entry : grammarIndex.getValidEntries()) {
+				if (getCMDocumentFromCache(entry.uri) != null) {
+					continue;
+				}
+				ContentModelProvider modelProvider = getModelProviderByClassName(entry.provider);
+				if (modelProvider == null) {
+					continue;
+				}
+				try {
+					CMDocument cmDocument = modelProvider.createCMDocument(entry.location,
+							isResolveExternalEntities());
+					if (cmDocument != null) {
+						grammarCache.putIfAbsent(entry.uri, entry.uri, cmDocument,
+								GrammarCache.estimateWeight(cmDocument.getGrammarFiles()));
+						LSPXMLGrammarPool validationGrammarPool = getGrammarPool();
+						if (validationGrammarPool != null && entry.location.equals(entry.uri)) {
+							// Preload the Xerces grammars used by the validation, only for a local
+							// grammar since the grammar pool stores a remote grammar with its URL.
+							validationGrammarPool.cacheGrammarsIfAbsent(cmDocument.getValidationGrammars());
+						}
+						preloaded++;
+						coldLoadTime += entry.loadTime;
+					}
+				} catch (Exception e) {
+					LOGGER.log(Level.WARNING, "Error while preloading grammar '" + entry.uri + "'.", e);
+				}
 			}
+			if (preloaded > 0) {
+				LOGGER.info("Preloaded " + preloaded + " grammars in background in "
+						+ (System.currentTimeMillis() - start) + "ms (cold load time: " + coldLoadTime + "ms).");
+			}
+			return preloaded;
+		}, runnable -> {
+			Thread thread = new Thread(runnable, "XML grammar preload");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			thread.start();
+		});
+	}
+
+	private ContentModelProvider getModelProviderByClassName(String className) {
+		for (ContentModelProvider modelProvider : modelProviders) {
+			if (modelProvider.getClass().getName().equals(className)) {
+				return modelProvider;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Wait for the loaded grammars being stored in the grammar index and save the
+	 * grammar index file now.
+	 */
+	public void flushGrammarIndex() {
+		if (grammarIndexEnabled) {
+			grammarIndex.flush();
+		}
+	}
+
+	/**
+	 * Returns true if the loaded grammars are stored in the grammar index to
+	 * preload them when the server restarts and false otherwise.
+	 *
+	 * @return true if the loaded grammars are stored in the grammar index and
+	 *         false otherwise.
+	 */
+	public boolean isGrammarIndexEnabled() {
+		return grammarIndexEnabled;
+	}
+
+	/**
+	 * Set true if the loaded grammars must be stored in the grammar index to
+	 * preload them when the server restarts and false otherwise (default).
+	 *
+	 * @param grammarIndexEnabled true if the loaded grammars must be stored in the
+	 *                            grammar index and false otherwise.
+	 */
+	public void setGrammarIndexEnabled(boolean grammarIndexEnabled) {
+		this.grammarIndexEnabled = grammarIndexEnabled;
+	}
+
+	private CMDocument getCMDocumentFromCache(String key) {
+		CMDocument document = (CMDocument) grammarCache.get(key);
+		if (document != null && document.isDirty()) {
+			grammarCache.remove(key);
+			return null;
 		}
 		return document;
 	}
 
 	private void cache(String key, CMDocument cmDocument) {
-		synchronized (cmDocumentCache) {
-			cmDocumentCache.put(key, cmDocument);
+		grammarCache.put(key, key, cmDocument, GrammarCache.estimateWeight(cmDocument.getGrammarFiles()));
+	}
+
+	/**
+	 * Returns the memory-bounded cache which stores the content model documents
+	 * and the Xerces grammars.
+	 *
+	 * @return the memory-bounded cache which stores the content model documents
+	 *         and the Xerces grammars.
+	 */
+	public GrammarCache getGrammarCache() {
+		return grammarCache;
+	}
+
+	/**
+	 * Pin the grammars referenced by the given opened document to avoid evicting
+	 * them from the grammar cache.
+	 *
+	 * @param document the opened DOM document.
+	 */
+	public void pinGrammars(DOMDocument document) {
+		Set<String> grammarURIs = new HashSet<>();
+		String namespaceURI = document.getNamespaceURI();
+		for (ContentModelProvider modelProvider : modelProviders) {
+			if (modelProvider.adaptFor(document, false)) {
+				Collection<Identifier> identifiers = modelProvider.getIdentifiers(document, namespaceURI);
+				for (Identifier identifier : identifiers) {
+					String publicId = identifier.getPublicId() != null ? identifier.getPublicId() : namespaceURI;
+					String grammarURI = resolverManager.resolve(document.getDocumentURI(), publicId,
+							identifier.getSystemId());
+					if (grammarURI != null) {
+						grammarURIs.add(grammarURI);
+					}
+					// The Xerces grammars are cached with the expanded system id which differs from
+					// the resolved URI when the grammar is resolved with a catalog.
+					String expandedSystemId = expandSystemId(identifier.getSystemId(), document.getDocumentURI());
+					if (expandedSystemId != null) {
+						grammarURIs.add(expandedSystemId);
+					}
+				}
+			}
 		}
+		String grammarURI = resolverManager.resolve(document.getDocumentURI(), null, null);
+		if (grammarURI != null) {
+			grammarURIs.add(grammarURI);
+		}
+		grammarCache.pin(document.getDocumentURI(), grammarURIs);
+	}
+
+	private static String expandSystemId(String systemId, String documentURI) {
+		if (systemId == null) {
+			return null;
+		}
+		try {
+			return XMLEntityManager.expandSystemId(systemId, documentURI, false);
+		} catch (MalformedURIException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Unpin the grammars referenced by the given closed document.
+	 *
+	 * @param document the closed DOM document.
+	 */
+	public void unpinGrammars(DOMDocument document) {
+		grammarCache.unpin(document.getDocumentURI());
 	}
 
 	/**
@@ -399,7 +587,10 @@ public class ContentModelManager {
 	 * @return true if catalogs changed and false otherwise
 	 */
 	public boolean setCatalogs(String[] catalogs) {
-		return catalogResolverExtension.setCatalogs(catalogs);
+		boolean result = catalogResolverExtension.setCatalogs(catalogs);
+		// the catalogs are reloaded, the resolved URIs must be computed again
+		resolverManager.getResolveCache().invalidate();
+		return result;
 	}
 
 	/**
@@ -407,6 +598,18 @@ public class ContentModelManager {
 	 */
 	public void refreshCatalogs() {
 		catalogResolverExtension.refreshCatalogs();
+		resolverManager.getResolveCache().invalidate();
+	}
+
+	/**
+	 * Refresh only the XML catalogs which use the given catalog file.
+	 *
+	 * @param catalogURI the catalog file URI.
+	 */
+	public void refreshCatalog(String catalogURI) {
+		if (catalogResolverExtension.refreshCatalog(catalogURI)) {
+			resolverManager.getResolveCache().invalidate();
+		}
 	}
 
 	/**
@@ -416,13 +619,16 @@ public class ContentModelManager {
 	 * @return true if file associations changed and false otherwise
 	 */
 	public boolean setFileAssociations(XMLFileAssociation[] fileAssociations) {
-		return this.fileAssociationResolver.setFileAssociations(fileAssociations);
+		boolean result = this.fileAssociationResolver.setFileAssociations(fileAssociations);
+		resolverManager.getResolveCache().invalidate();
+		return result;
 	}
 
 	public void setRootURI(String rootUri) {
 		rootUri = URIUtils.sanitizingUri(rootUri);
 		fileAssociationResolver.setRootUri(rootUri);
 		catalogResolverExtension.setRootUri(rootUri);
+		resolverManager.getResolveCache().invalidate();
 	}
 
 	public void setUseCache(boolean useCache) {
@@ -474,7 +680,7 @@ public class ContentModelManager {
 					String resolvedURI = referencedGrammarInfo.getGrammarCacheInfo().getCachedResolvedUri();
 					Files.deleteIfExists(FilesUtils.getPath(resolvedURI));
 					// remove the XSD/DTD content model document from the cache.
-					cmDocumentCache.remove(resolvedURI);
+					grammarCache.remove(resolvedURI);
 					nbDeletedFiles++;
 				}
 				// TODO : get XSD, DTD dependencies from the current referenced grammar to
@@ -502,7 +708,9 @@ public class ContentModelManager {
 			// clear Xerces cache
 			grammarPool.clear();
 			// clear the XSD/DTD content model documents.
-			cmDocumentCache.clear();
+			grammarCache.clear();
+			// the grammar index is stored in the cache directory
+			grammarIndex.clear();
 		}
 
 	}
@@ -519,6 +727,15 @@ public class ContentModelManager {
 		return cacheResolverExtension.isUseCache() ? grammarPool : null;
 	}
 
+	/**
+	 * Returns the pool of Xerces parsers used to validate XML documents.
+	 *
+	 * @return the pool of Xerces parsers used to validate XML documents.
+	 */
+	public LSPXMLParserPool getParserPool() {
+		return parserPool;
+	}
+
 	/**
 	 * Returns true if external entities must be resolved and false otherwise.
 	 *
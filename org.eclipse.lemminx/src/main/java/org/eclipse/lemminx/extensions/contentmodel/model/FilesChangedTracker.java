@@ -26,6 +26,16 @@ import java.util.logging.Logger;
 /**
  * File changed tracker.
  * 
+ * <p>
+ * The tracked files are watched with the {@link FilesWatcher}: the last
+ * modified time of a file is checked only when the watcher has notified a
+ * change, otherwise {@link #isDirty()} is an in-memory check. Since the
+ * notifications are asynchronous, a watched file which has been loaded or
+ * changed less than a polling interval ago is still checked on each call (the
+ * file is probably being edited). The files which cannot be watched are polled
+ * at most once per polling interval.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  */
@@ -33,13 +43,24 @@ public class FilesChangedTracker {
 
 	private static final Logger LOGGER = Logger.getLogger(FilesChangedTracker.class.getName());
 
-	private static class FileChangedTracker {
+	private static class FileChangedTracker implements FilesWatcher.Listener {
 
 		private final Path file;
+		private final FilesWatcher watcher;
 		private FileTime lastModified;
 
-		public FileChangedTracker(Path file) {
+		private volatile boolean watched;
+		private volatile boolean changed;
+		private boolean deleted;
+		private long nextCheck;
+		// time until which the last modified time of a watched file is checked
+		private volatile long verifyUntil;
+
+		public FileChangedTracker(Path file, FilesWatcher watcher) {
 			this.file = file;
+			this.watcher = watcher;
+			// watch the file before getting its last modified time to not miss a change
+			this.watched = watcher.watch(file, this);
 			if (Files.exists(file)) {
 				try {
 					lastModified = Files.getLastModifiedTime(file);
@@ -47,11 +68,42 @@ public class FilesChangedTracker {
 					LOGGER.log(Level.SEVERE, "Get last modified time failed", e);
 				}
 			}
+			this.nextCheck = System.currentTimeMillis() + watcher.getPollingInterval();
+			this.verifyUntil = nextCheck;
 		}
 
-		public boolean isDirty() {
+		@Override
+		public void fileChanged() {
+			verifyUntil = System.currentTimeMillis() + watcher.getPollingInterval();
+			changed = true;
+		}
+
+		@Override
+		public void watchCancelled() {
+			watched = false;
+			changed = true;
+		}
+
+		public synchronized boolean isDirty() {
+			if (!deleted && !changed) {
+				long now = System.currentTimeMillis();
+				if (watched) {
+					if (now >= verifyUntil) {
+						return false;
+					}
+					// the file has been loaded or changed recently, the notification of a new
+					// change could be not processed yet
+				} else {
+					if (now < nextCheck) {
+						return false;
+					}
+					nextCheck = now + watcher.getPollingInterval();
+				}
+			}
+			changed = false;
 			try {
-				if (!Files.exists(file)) {
+				deleted = !Files.exists(file);
+				if (deleted) {
 					// This case occurs when user delete the XML Schema / DTD file
 					return true;
 				}
@@ -71,8 +123,15 @@ public class FilesChangedTracker {
 
 	private final List<FileChangedTracker> files;
 
+	private final FilesWatcher watcher;
+
 	public FilesChangedTracker() {
-		files = new ArrayList<>();
+		this(FilesWatcher.getInstance());
+	}
+
+	FilesChangedTracker(FilesWatcher watcher) {
+		this.files = new ArrayList<>();
+		this.watcher = watcher;
 	}
 
 	/**
@@ -94,7 +153,20 @@ public class FilesChangedTracker {
 	 * @param fileURI
 	 */
 	public void addFileURI(URI fileURI) {
-		files.add(new FileChangedTracker(Paths.get(fileURI)));
+		files.add(new FileChangedTracker(Paths.get(fileURI), watcher));
+	}
+
+	/**
+	 * Returns the tracked files.
+	 * 
+	 * @return the tracked files.
+	 */
+	public List<Path> getFiles() {
+		List<Path> result = new ArrayList<>(files.size());
+		for (FileChangedTracker tracker : files) {
+			result.add(tracker.file);
+		}
+		return result;
 	}
 
 	/**
@@ -0,0 +1,375 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.ProviderMismatchException;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Files watcher which notifies the {@link FilesChangedTracker} when a tracked
+ * file (XML Schema, DTD, etc) is created, modified or deleted.
+ *
+ * <p>
+ * The directories of the tracked files are registered in a NIO
+ * {@link WatchService} and the events are processed in a background thread, so
+ * that checking if a grammar is dirty doesn't access the file system. The
+ * changes notified by the client with "workspace/didChangeWatchedFiles" are
+ * given with {@link #fileChanged(String)}.
+ * </p>
+ *
+ * <p>
+ * A file which cannot be watched (the watch service is not available for the
+ * file system, the maximum of watched directories is reached, the JDK watch
+ * service polls the directories itself like on macOS, etc) is checked by
+ * polling its last modified time, at most once per polling interval.
+ * </p>
+ *
+ * <p>
+ * The listeners are weakly referenced: when the grammars which track the files
+ * are released, the directories which have no more listeners are unregistered
+ * from the watch service.
+ * </p>
+ *
+ * <p>
+ * The watch service can be disabled with the system property
+ * "lemminx.files.watch" set to "false" and the polling interval (in
+ * milliseconds) can be configured with the system property
+ * "lemminx.files.pollingInterval".
+ * </p>
+ *
+ */
+public class FilesWatcher {
+
+	private static final Logger LOGGER = Logger.getLogger(FilesWatcher.class.getName());
+
+	/**
+	 * System property used to disable the watch service (with "false").
+	 */
+	public static final String WATCH_PROPERTY = "lemminx.files.watch";
+
+	/**
+	 * System property used to configure the polling interval in milliseconds of
+	 * the files which cannot be watched.
+	 */
+	public static final String POLLING_INTERVAL_PROPERTY = "lemminx.files.pollingInterval";
+
+	private static final long DEFAULT_POLLING_INTERVAL = 1000;
+
+	private static final int MAX_WATCHED_DIRECTORIES = 1024;
+
+	// interval in milliseconds to unregister the directories of the released
+	// listeners
+	private static final long PURGE_INTERVAL = 60000;
+
+	// JDK watch service which polls the directories (ex : on macOS) and notifies
+	// the changes several seconds later
+	private static final String POLLING_WATCH_SERVICE = "sun.nio.fs.PollingWatchService";
+
+	/**
+	 * Listener notified when a watched file changes.
+	 */
+	interface Listener {
+
+		/**
+		 * Handler called when the watched file is created, modified or deleted.
+		 */
+		void fileChanged();
+
+		/**
+		 * Handler called when the file cannot be watched anymore (ex : the directory
+		 * has been deleted).
+		 */
+		void watchCancelled();
+	}
+
+	private static final FilesWatcher INSTANCE = new FilesWatcher(
+			!"false".equals(System.getProperty(WATCH_PROPERTY, "")), getDefaultPollingInterval());
+
+	public static FilesWatcher getInstance() {
+		return INSTANCE;
+	}
+
+	private final boolean watchEnabled;
+
+	private final long pollingInterval;
+
+	// file -> weak set of listeners (the listeners are released with the grammars)
+	private final Map<Path, Set<Listener>> listeners;
+
+	private final Map<Path, WatchKey> watchedDirectories;
+
+	private final Set<Path> unwatchableDirectories;
+
+	private WatchService watchService;
+
+	private boolean watchServiceUnavailable;
+
+	FilesWatcher(boolean watchEnabled, long pollingInterval) {
+		this.watchEnabled = watchEnabled;
+		this.pollingInterval = pollingInterval;
+		this.listeners = new HashMap<>();
+		this.watchedDirectories = new HashMap<>();
+		this.unwatchableDirectories = new HashSet<>();
+	}
+
+	private static long getDefaultPollingInterval() {
+		String value = System.getProperty(POLLING_INTERVAL_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				return Math.max(0, Long.parseLong(value));
+			} catch (NumberFormatException e) {
+				LOGGER.warning(
+						"Invalid value '" + value + "' for the system property '" + POLLING_INTERVAL_PROPERTY + "'.");
+			}
+		}
+		return DEFAULT_POLLING_INTERVAL;
+	}
+
+	/**
+	 * Returns the polling interval in milliseconds of the files which cannot be
+	 * watched.
+	 *
+	 * @return the polling interval in milliseconds of the files which cannot be
+	 *         watched.
+	 */
+	public long getPollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * Watch the given file and returns true if the given listener will be notified
+	 * when the file changes and false if the file cannot be watched with the watch
+	 * service (in this case, the listener is notified only by
+	 * {@link #fileChanged(Path)}).
+	 *
+	 * @param file     the file to watch.
+	 * @param listener the listener.
+	 * @return true if the given listener will be notified when the file changes
+	 *         and false if the file cannot be watched.
+	 */
+	synchronized boolean watch(Path file, Listener listener) {
+		listeners.computeIfAbsent(file, k -> Collections.newSetFromMap(new WeakHashMap<>())).add(listener);
+		Path dir = file.getParent();
+		if (!watchEnabled || dir == null || unwatchableDirectories.contains(dir)) {
+			return false;
+		}
+		if (!watchedDirectories.containsKey(dir)) {
+			purgeReleasedListeners();
+			WatchKey key = register(dir);
+			if (key == null) {
+				unwatchableDirectories.add(dir);
+				return false;
+			}
+			watchedDirectories.put(dir, key);
+		}
+		return true;
+	}
+
+	private WatchKey register(Path dir) {
+		if (watchServiceUnavailable || watchedDirectories.size() >= MAX_WATCHED_DIRECTORIES
+				|| dir.getFileSystem() != FileSystems.getDefault()) {
+			return null;
+		}
+		try {
+			if (watchService == null) {
+				WatchService service = dir.getFileSystem().newWatchService();
+				if (isPollingWatchService(service)) {
+					// the polled files are checked sooner by polling their last modified time
+					service.close();
+					watchServiceUnavailable = true;
+					return null;
+				}
+				watchService = service;
+				Thread thread = new Thread(this::processEvents, "XML files watcher");
+				thread.setDaemon(true);
+				thread.start();
+			}
+			return dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+		} catch (IOException | UnsupportedOperationException | ProviderMismatchException | SecurityException e) {
+			LOGGER.log(Level.FINE, "Cannot watch the directory '" + dir + "', the files will be polled.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Returns true if the given watch service polls the directories and false if
+	 * it uses the native notifications of the file system.
+	 *
+	 * @param watchService the watch service.
+	 * @return true if the given watch service polls the directories.
+	 */
+	static boolean isPollingWatchService(WatchService watchService) {
+		return POLLING_WATCH_SERVICE.equals(watchService.getClass().getName());
+	}
+
+	/**
+	 * Unregister the directories whose tracked files have no more listeners (the
+	 * grammars which track them have been released).
+	 */
+	synchronized void purgeReleasedListeners() {
+		Set<Path> usedDirectories = new HashSet<>();
+		Iterator<Map.Entry<Path, Set<Listener>>> it = listeners.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Path, Set<Listener>> entry = it.next();
+			if (entry.getValue().isEmpty()) {
+				it.remove();
+			} else {
+				usedDirectories.add(entry.getKey().getParent());
+			}
+		}
+		Iterator<Map.Entry<Path, WatchKey>> keys = watchedDirectories.entrySet().iterator();
+		while (keys.hasNext()) {
+			Map.Entry<Path, WatchKey> entry = keys.next();
+			if (!usedDirectories.contains(entry.getKey())) {
+				entry.getValue().cancel();
+				keys.remove();
+			}
+		}
+		unwatchableDirectories.retainAll(usedDirectories);
+	}
+
+	/**
+	 * Notify the listeners of the given file URI that the file has changed.
+	 *
+	 * <p>
+	 * This method is used when the client notifies the file changes with
+	 * "workspace/didChangeWatchedFiles".
+	 * </p>
+	 *
+	 * @param fileURI the file URI.
+	 */
+	public void fileChanged(String fileURI) {
+		if (fileURI == null || !fileURI.startsWith("file:")) {
+			return;
+		}
+		try {
+			fileChanged(Paths.get(new URI(fileURI)));
+		} catch (Exception e) {
+			LOGGER.log(Level.FINE, "Invalid file URI '" + fileURI + "'.", e);
+		}
+	}
+
+	/**
+	 * Notify the listeners of the given file that the file has changed.
+	 *
+	 * @param file the file.
+	 */
+	public void fileChanged(Path file) {
+		for (Listener listener : getListeners(file)) {
+			listener.fileChanged();
+		}
+	}
+
+	private synchronized List<Listener> getListeners(Path file) {
+		Set<Listener> fileListeners = listeners.get(file);
+		if (fileListeners == null) {
+			return Collections.emptyList();
+		}
+		if (fileListeners.isEmpty()) {
+			listeners.remove(file);
+			return Collections.emptyList();
+		}
+		return new ArrayList<>(fileListeners);
+	}
+
+	private void processEvents() {
+		long nextPurge = System.currentTimeMillis() + PURGE_INTERVAL;
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.poll(PURGE_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+			if (System.currentTimeMillis() >= nextPurge) {
+				purgeReleasedListeners();
+				nextPurge = System.currentTimeMillis() + PURGE_INTERVAL;
+			}
+			if (key == null) {
+				continue;
+			}
+			Path dir = (Path) key.watchable();
+			for (WatchEvent<?> event : key.pollEvents()) {
+				if (event.kind() == OVERFLOW) {
+					// some events are lost, consider that all files of the directory have
+					// changed
+					for (Listener listener : getDirectoryListeners(dir)) {
+						listener.fileChanged();
+					}
+				} else {
+					fileChanged(dir.resolve((Path) event.context()));
+				}
+			}
+			if (!key.reset()) {
+				// the directory has been deleted (or unregistered), the files of the
+				// directory must be polled
+				synchronized (this) {
+					watchedDirectories.remove(dir, key);
+				}
+				for (Listener listener : getDirectoryListeners(dir)) {
+					listener.watchCancelled();
+				}
+			}
+		}
+	}
+
+	private synchronized List<Listener> getDirectoryListeners(Path dir) {
+		List<Listener> result = new ArrayList<>();
+		Iterator<Map.Entry<Path, Set<Listener>>> it = listeners.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Path, Set<Listener>> entry = it.next();
+			if (dir.equals(entry.getKey().getParent())) {
+				if (entry.getValue().isEmpty()) {
+					it.remove();
+				} else {
+					result.addAll(entry.getValue());
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns true if the given directory is watched and false otherwise.
+	 *
+	 * @param dir the directory.
+	 * @return true if the given directory is watched and false otherwise.
+	 */
+	synchronized boolean isWatched(Path dir) {
+		return watchedDirectories.containsKey(dir);
+	}
+}
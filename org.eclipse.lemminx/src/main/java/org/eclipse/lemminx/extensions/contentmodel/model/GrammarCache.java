@@ -0,0 +1,450 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * Memory-bounded grammar cache shared by the content model documents cache of
+ * the {@link ContentModelManager} and the Xerces grammar pool used for the
+ * validation.
+ *
+ * <p>
+ * Each entry is weighted with the estimated memory size of the grammar (see
+ * {@link #estimateWeight(Collection)}). When the total weight exceeds the
+ * memory budget, the least recently used entries are evicted, except the
+ * entries of the grammars which are pinned because they are referenced by an
+ * opened document.
+ * </p>
+ *
+ * <p>
+ * The memory budget can be configured with the system property
+ * "lemminx.grammar.cache.maxSize" in MB (a negative value disables the
+ * eviction). By default, the budget is a quarter of the maximum heap size.
+ * </p>
+ *
+ */
+public class GrammarCache {
+
+	private static final Logger LOGGER = Logger.getLogger(GrammarCache.class.getName());
+
+	/**
+	 * System property used to configure the memory budget of the grammar cache in
+	 * MB.
+	 */
+	public static final String MAX_SIZE_PROPERTY = "lemminx.grammar.cache.maxSize";
+
+	/**
+	 * Factor between the size of the grammar files and the memory retained by the
+	 * loaded grammar (XSModel, Xerces grammar).
+	 */
+	private static final int FILE_SIZE_FACTOR = 10;
+
+	private static final long MIN_WEIGHT = 16 * 1024;
+
+	private static final long MB = 1024 * 1024;
+
+	private static class CacheEntry {
+
+		final String grammarURI;
+
+		final Object value;
+
+		final long weight;
+
+		CacheEntry(String grammarURI, Object value, long weight) {
+			this.grammarURI = grammarURI;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * Statistics of the grammar cache.
+	 */
+	public static class Stats {
+
+		private final long hits;
+
+		private final long misses;
+
+		private final long evictions;
+
+		private final int entries;
+
+		private final int pinnedEntries;
+
+		private final long size;
+
+		private final long maxSize;
+
+		Stats(long hits, long misses, long evictions, int entries, int pinnedEntries, long size, long maxSize) {
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.entries = entries;
+			this.pinnedEntries = pinnedEntries;
+			this.size = size;
+			this.maxSize = maxSize;
+		}
+
+		/**
+		 * Returns the number of lookups which have found a cached grammar.
+		 *
+		 * @return the number of lookups which have found a cached grammar.
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * Returns the number of lookups which have not found a cached grammar.
+		 *
+		 * @return the number of lookups which have not found a cached grammar.
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * Returns the number of entries evicted to respect the memory budget.
+		 *
+		 * @return the number of entries evicted to respect the memory budget.
+		 */
+		public long getEvictions() {
+			return evictions;
+		}
+
+		/**
+		 * Returns the number of cached entries.
+		 *
+		 * @return the number of cached entries.
+		 */
+		public int getEntries() {
+			return entries;
+		}
+
+		/**
+		 * Returns the number of cached entries which are pinned.
+		 *
+		 * @return the number of cached entries which are pinned.
+		 */
+		public int getPinnedEntries() {
+			return pinnedEntries;
+		}
+
+		/**
+		 * Returns the estimated size in bytes of the cached entries.
+		 *
+		 * @return the estimated size in bytes of the cached entries.
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the memory budget in bytes and -1 if there is no limit.
+		 *
+		 * @return the memory budget in bytes and -1 if there is no limit.
+		 */
+		public long getMaxSize() {
+			return maxSize;
+		}
+	}
+
+	private final LinkedHashMap<Object, CacheEntry> entries;
+
+	private final Map<String, Set<String>> pinnedGrammarsByDocument;
+
+	private final Map<String, Integer> pinnedGrammars;
+
+	private long maxSize;
+
+	private long size;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	public GrammarCache() {
+		this(getDefaultMaxSize());
+	}
+
+	public GrammarCache(long maxSize) {
+		this(maxSize, 16);
+	}
+
+	public GrammarCache(long maxSize, int initialCapacity) {
+		// access order to iterate from the least recently used entry
+		this.entries = new LinkedHashMap<>(initialCapacity, 0.75f, true);
+		this.pinnedGrammarsByDocument = new HashMap<>();
+		this.pinnedGrammars = new HashMap<>();
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the default memory budget in bytes, configured with the
+	 * {@link #MAX_SIZE_PROPERTY} system property.
+	 *
+	 * @return the default memory budget in bytes and -1 if there is no limit.
+	 */
+	public static long getDefaultMaxSize() {
+		String value = System.getProperty(MAX_SIZE_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				long maxSize = Long.parseLong(value);
+				return maxSize < 0 ? -1 : maxSize * MB;
+			} catch (NumberFormatException e) {
+				LOGGER.warning("Invalid value '" + value + "' for the system property '" + MAX_SIZE_PROPERTY + "'.");
+			}
+		}
+		return Runtime.getRuntime().maxMemory() / 4;
+	}
+
+	/**
+	 * Returns the cached value for the given key and null otherwise.
+	 *
+	 * @param key the cache key.
+	 * @return the cached value for the given key and null otherwise.
+	 */
+	public synchronized Object get(Object key) {
+		CacheEntry entry = entries.get(key);
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+		hits++;
+		return entry.value;
+	}
+
+	/**
+	 * Returns the cached value for the given key and null otherwise without
+	 * updating the statistics.
+	 *
+	 * @param key the cache key.
+	 * @return the cached value for the given key and null otherwise.
+	 */
+	public synchronized Object peek(Object key) {
+		CacheEntry entry = entries.get(key);
+		return entry != null ? entry.value : null;
+	}
+
+	/**
+	 * Cache the given value and evict the least recently used entries if the
+	 * memory budget is exceeded.
+	 *
+	 * @param key        the cache key.
+	 * @param grammarURI the grammar URI used to pin the entry.
+	 * @param value      the value to cache.
+	 * @param weight     the estimated memory size of the value in bytes.
+	 */
+	public synchronized void put(Object key, String grammarURI, Object value, long weight) {
+		CacheEntry old = entries.put(key, new CacheEntry(grammarURI, value, weight));
+		if (old != null) {
+			size -= old.weight;
+		}
+		size += weight;
+		evictIfNeeded(key);
+	}
+
+	/**
+	 * Cache the given value if there is no value for the given key and returns
+	 * the cached value.
+	 *
+	 * @param key        the cache key.
+	 * @param grammarURI the grammar URI used to pin the entry.
+	 * @param value      the value to cache.
+	 * @param weight     the estimated memory size of the value in bytes.
+	 * @return the cached value.
+	 */
+	public synchronized Object putIfAbsent(Object key, String grammarURI, Object value, long weight) {
+		CacheEntry entry = entries.get(key);
+		if (entry != null) {
+			return entry.value;
+		}
+		put(key, grammarURI, value, weight);
+		return value;
+	}
+
+	/**
+	 * Remove the entry of the given key and returns the removed value.
+	 *
+	 * @param key the cache key.
+	 * @return the removed value and null otherwise.
+	 */
+	public synchronized Object remove(Object key) {
+		CacheEntry entry = entries.remove(key);
+		if (entry == null) {
+			return null;
+		}
+		size -= entry.weight;
+		return entry.value;
+	}
+
+	/**
+	 * Remove the entries whose key matches the given filter.
+	 *
+	 * @param keyFilter the key filter.
+	 */
+	public synchronized void removeIf(Predicate<Object> keyFilter) {
+		Iterator<Map.Entry<Object, CacheEntry>> it = entries.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Object, CacheEntry> entry = it.next();
+			if (keyFilter.test(entry.getKey())) {
+				size -= entry.getValue().weight;
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+
+	/**
+	 * Pin the given grammars which are referenced by the given document: they are
+	 * not evicted while the document is pinned. The grammars previously pinned by
+	 * the document are unpinned.
+	 *
+	 * @param documentURI the document URI.
+	 * @param grammarURIs the URIs of the grammars referenced by the document.
+	 */
+	public synchronized void pin(String documentURI, Collection<String> grammarURIs) {
+		unpin(documentURI);
+		if (grammarURIs.isEmpty()) {
+			return;
+		}
+		Set<String> uris = new HashSet<>(grammarURIs);
+		pinnedGrammarsByDocument.put(documentURI, uris);
+		for (String uri : uris) {
+			pinnedGrammars.merge(uri, 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * Unpin the grammars referenced by the given document.
+	 *
+	 * @param documentURI the document URI.
+	 */
+	public synchronized void unpin(String documentURI) {
+		Set<String> uris = pinnedGrammarsByDocument.remove(documentURI);
+		if (uris == null) {
+			return;
+		}
+		for (String uri : uris) {
+			pinnedGrammars.computeIfPresent(uri, (k, count) -> count > 1 ? count - 1 : null);
+		}
+		evictIfNeeded(null);
+	}
+
+	/**
+	 * Returns true if the given grammar is referenced by an opened document and
+	 * false otherwise.
+	 *
+	 * @param grammarURI the grammar URI.
+	 * @return true if the given grammar is referenced by an opened document and
+	 *         false otherwise.
+	 */
+	public synchronized boolean isPinned(String grammarURI) {
+		return grammarURI != null && pinnedGrammars.containsKey(grammarURI);
+	}
+
+	private void evictIfNeeded(Object newKey) {
+		if (maxSize < 0 || size <= maxSize) {
+			return;
+		}
+		Iterator<Map.Entry<Object, CacheEntry>> it = entries.entrySet().iterator();
+		while (size > maxSize && it.hasNext()) {
+			Map.Entry<Object, CacheEntry> entry = it.next();
+			// the entry which has just been cached is kept even if it exceeds the budget
+			// alone.
+			if (!entry.getKey().equals(newKey) && !isPinned(entry.getValue().grammarURI)) {
+				size -= entry.getValue().weight;
+				it.remove();
+				evictions++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the memory budget in bytes and -1 if there is no limit.
+	 *
+	 * @return the memory budget in bytes and -1 if there is no limit.
+	 */
+	public synchronized long getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Set the memory budget in bytes (-1 if there is no limit) and evict the least
+	 * recently used entries if needed.
+	 *
+	 * @param maxSize the memory budget in bytes.
+	 */
+	public synchronized void setMaxSize(long maxSize) {
+		this.maxSize = maxSize < 0 ? -1 : maxSize;
+		evictIfNeeded(null);
+	}
+
+	/**
+	 * Returns the statistics of the cache.
+	 *
+	 * @return the statistics of the cache.
+	 */
+	public synchronized Stats getStats() {
+		int pinnedEntries = 0;
+		for (CacheEntry entry : entries.values()) {
+			if (isPinned(entry.grammarURI)) {
+				pinnedEntries++;
+			}
+		}
+		return new Stats(hits, misses, evictions, entries.size(), pinnedEntries, size, maxSize);
+	}
+
+	/**
+	 * Returns the estimated memory size in bytes of a grammar loaded from the
+	 * given files (the grammar file and the included, imported files).
+	 *
+	 * @param files the grammar files.
+	 * @return the estimated memory size in bytes of a grammar.
+	 */
+	public static long estimateWeight(Collection<Path> files) {
+		long weight = 0;
+		if (files != null) {
+			for (Path file : files) {
+				try {
+					weight += Files.size(file) * FILE_SIZE_FACTOR;
+				} catch (IOException e) {
+					// the file doesn't exist
+				}
+			}
+		}
+		return Math.max(weight, MIN_WEIGHT);
+	}
+}
@@ -0,0 +1,364 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lemminx.utils.FilesUtils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+/**
+ * Persistent index of the grammars (XML Schema, DTD) loaded by the
+ * {@link ContentModelManager}, stored in the lemminx cache folder
+ * (.lemminx/cache/grammar-index.json) to load them again when the server
+ * restarts.
+ *
+ * <p>
+ * An entry is keyed by the resolved grammar URI and stores a content hash of
+ * all files of the grammar (the grammar file and the included, imported files).
+ * An entry is valid only while the hash of the files is the same, once the
+ * grammar is loaded, the changes are tracked with {@link FilesChangedTracker}.
+ * </p>
+ *
+ * <p>
+ * The Xerces grammars are not serializable, the index stores the grammars to
+ * load and their load time (cold start) to preload them in background when the
+ * server starts.
+ * </p>
+ *
+ * <p>
+ * The content hash of a loaded grammar is computed and the index file is saved
+ * on a background thread, the save is debounced to write the index once when
+ * several grammars are loaded.
+ * </p>
+ *
+ */
+class GrammarIndex {
+
+	private static final Logger LOGGER = Logger.getLogger(GrammarIndex.class.getName());
+
+	private static final Path INDEX_PATH = Paths.get("cache", "grammar-index.json");
+
+	private static final int VERSION = 1;
+
+	static final int MAX_ENTRIES = 50;
+
+	private static final long SAVE_DELAY = 2000;
+
+	private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "XML grammar index");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		return thread;
+	});
+
+	/**
+	 * Grammar index entry.
+	 */
+	static class Entry {
+
+		/**
+		 * The resolved grammar URI used as key of the content model document cache.
+		 */
+		String uri;
+
+		/**
+		 * The URI used to load the grammar (the cached file for a remote grammar).
+		 */
+		String location;
+
+		/**
+		 * The class name of the content model provider which loads the grammar.
+		 */
+		String provider;
+
+		/**
+		 * The files of the grammar.
+		 */
+		List<String> files;
+
+		/**
+		 * The SHA-256 hash of the content of the files of the grammar.
+		 */
+		String hash;
+
+		/**
+		 * The time (in milliseconds) to load the grammar without the index.
+		 */
+		long loadTime;
+
+		/**
+		 * The last time (in milliseconds) when the grammar was loaded.
+		 */
+		long lastUsed;
+	}
+
+	private static class Index {
+
+		int version;
+
+		List<Entry> entries;
+	}
+
+	private final Gson gson;
+
+	private final Map<String, Entry> entries;
+
+	private boolean loaded;
+
+	/**
+	 * Number of times where the index has been cleared, to ignore the grammars
+	 * recorded before the clear.
+	 */
+	private int generation;
+
+	private ScheduledFuture<?> pendingSave;
+
+	GrammarIndex() {
+		this.gson = new GsonBuilder().setPrettyPrinting().create();
+		this.entries = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Record the given loaded grammar in the index. The content hash of the grammar
+	 * files is computed in background and the save of the index is debounced.
+	 *
+	 * @param uri        the resolved grammar URI.
+	 * @param location   the URI used to load the grammar.
+	 * @param provider   the content model provider which has loaded the grammar.
+	 * @param cmDocument the loaded content model document.
+	 * @param loadTime   the time (in milliseconds) to load the grammar.
+	 */
+	void record(String uri, String location, ContentModelProvider provider, CMDocument cmDocument, long loadTime) {
+		Collection<Path> files = new ArrayList<>(cmDocument.getGrammarFiles());
+		if (files.isEmpty()) {
+			// Grammar which is not stored in files, it cannot be validated
+			return;
+		}
+		String providerName = provider.getClass().getName();
+		long lastUsed = System.currentTimeMillis();
+		int recordGeneration = getGeneration();
+		EXECUTOR.execute(() -> {
+			String hash = computeHash(files);
+			if (hash == null) {
+				return;
+			}
+			Entry entry = new Entry();
+			entry.uri = uri;
+			entry.location = location;
+			entry.provider = providerName;
+			entry.files = new ArrayList<>(files.size());
+			for (Path file : files) {
+				entry.files.add(file.toUri().toString());
+			}
+			entry.hash = hash;
+			entry.loadTime = loadTime;
+			entry.lastUsed = lastUsed;
+			synchronized (this) {
+				if (recordGeneration != generation) {
+					// the index has been cleared
+					return;
+				}
+				loadIfNeeded();
+				entries.remove(uri);
+				entries.put(uri, entry);
+				// Keep only the most recently used grammars
+				while (entries.size() > MAX_ENTRIES) {
+					entries.remove(entries.keySet().iterator().next());
+				}
+				if (pendingSave == null) {
+					pendingSave = EXECUTOR.schedule(this::savePending, SAVE_DELAY, TimeUnit.MILLISECONDS);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Wait for the grammars being recorded and save the index now if it has
+	 * changed.
+	 */
+	void flush() {
+		try {
+			EXECUTOR.submit(this::savePending).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			LOGGER.log(Level.WARNING, "Error while saving the grammar index", e.getCause());
+		}
+	}
+
+	private synchronized void savePending() {
+		if (pendingSave == null) {
+			return;
+		}
+		pendingSave.cancel(false);
+		pendingSave = null;
+		save();
+	}
+
+	private synchronized int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Returns the valid entries (the files of the grammar have the same content
+	 * hash) from the most recently used to the least recently used. The invalid
+	 * entries are removed from the index.
+	 *
+	 * @return the valid entries.
+	 */
+	synchronized List<Entry> getValidEntries() {
+		loadIfNeeded();
+		List<Entry> validEntries = new ArrayList<>();
+		boolean changed = false;
+		for (Entry entry : new ArrayList<>(entries.values())) {
+			if (isValid(entry)) {
+				validEntries.add(entry);
+			} else {
+				entries.remove(entry.uri);
+				changed = true;
+			}
+		}
+		if (changed) {
+			save();
+		}
+		validEntries.sort(Comparator.comparingLong((Entry entry) -> entry.lastUsed).reversed());
+		return validEntries;
+	}
+
+	/**
+	 * Clear the index.
+	 */
+	synchronized void clear() {
+		entries.clear();
+		loaded = false;
+		generation++;
+		if (pendingSave != null) {
+			pendingSave.cancel(false);
+			pendingSave = null;
+		}
+	}
+
+	private static boolean isValid(Entry entry) {
+		if (entry.uri == null || entry.location == null || entry.provider == null || entry.files == null
+				|| entry.files.isEmpty() || entry.hash == null) {
+			return false;
+		}
+		List<Path> files = new ArrayList<>(entry.files.size());
+		try {
+			for (String file : entry.files) {
+				files.add(Paths.get(URI.create(file)));
+			}
+		} catch (Exception e) {
+			return false;
+		}
+		return entry.hash.equals(computeHash(files));
+	}
+
+	/**
+	 * Returns the SHA-256 hash of the content of the given files and null if a
+	 * file cannot be read.
+	 *
+	 * @param files the files.
+	 * @return the SHA-256 hash of the content of the given files and null if a
+	 *         file cannot be read.
+	 */
+	static String computeHash(Collection<Path> files) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (Path file : files) {
+				digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+				digest.update(Files.readAllBytes(file));
+			}
+			StringBuilder hash = new StringBuilder();
+			for (byte b : digest.digest()) {
+				hash.append(String.format("%02x", b));
+			}
+			return hash.toString();
+		} catch (IOException | NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	private void loadIfNeeded() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+		try {
+			Path indexPath = getIndexPath();
+			if (!Files.exists(indexPath)) {
+				return;
+			}
+			try (Reader reader = Files.newBufferedReader(indexPath, StandardCharsets.UTF_8)) {
+				Index index = gson.fromJson(reader, Index.class);
+				if (index != null && index.version == VERSION && index.entries != null) {
+					for (Entry entry : index.entries) {
+						if (entry != null && entry.uri != null) {
+							entries.put(entry.uri, entry);
+						}
+					}
+				}
+			}
+		} catch (IOException | JsonParseException e) {
+			LOGGER.log(Level.WARNING, "Error while loading the grammar index", e);
+		}
+	}
+
+	private void save() {
+		try {
+			Path indexPath = getIndexPath();
+			Files.createDirectories(indexPath.getParent());
+			Index index = new Index();
+			index.version = VERSION;
+			index.entries = new ArrayList<>(entries.values());
+			// Write in a temporary file to never read a partial index
+			Path tempPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+				gson.toJson(index, writer);
+			}
+			Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while saving the grammar index", e);
+		}
+	}
+
+	private static Path getIndexPath() throws IOException {
+		return FilesUtils.getDeployedPath(INDEX_PATH);
+	}
+}
@@ -11,6 +11,7 @@
 *******************************************************************************/
 package org.eclipse.lemminx.extensions.contentmodel.participants;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -20,6 +21,7 @@ import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelProvider.Identifier;
 import org.eclipse.lemminx.extensions.contentmodel.model.GrammarCacheInfo;
 import org.eclipse.lemminx.extensions.contentmodel.model.ReferencedGrammarInfo;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPXMLGrammarPool;
 import org.eclipse.lemminx.services.DocumentSymbolsResult;
 import org.eclipse.lemminx.services.SymbolInformationResult;
 import org.eclipse.lemminx.services.extensions.ISymbolsProviderParticipant;
@@ -57,6 +59,14 @@ public class ContentModelSymbolsProviderParticipant implements ISymbolsProviderP
 		return SymbolStrategy.INSERT;
 	}
 
+	@Override
+	public Object getCacheKey(DOMDocument document) {
+		// the referenced grammars change when a grammar is removed from the pool
+		LSPXMLGrammarPool grammarPool = contentModelManager.getGrammarPool();
+		int grammarGeneration = grammarPool != null ? grammarPool.getGeneration() : 0;
+		return Arrays.asList(isEnabled(), grammarGeneration);
+	}
+
 	@Override
 	public void findSymbolInformations(DOMDocument document, SymbolInformationResult symbols, XMLSymbolFilter filter,
 			CancelChecker cancelChecker) {
@@ -0,0 +1,41 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants;
+
+import org.eclipse.lemminx.extensions.contentmodel.model.FilesWatcher;
+import org.eclipse.lemminx.services.extensions.IWorkspaceServiceParticipant;
+import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
+import org.eclipse.lsp4j.FileEvent;
+
+/**
+ * Content model workspace service participant which notifies the
+ * {@link FilesWatcher} about the grammar files (XML Schema, DTD, etc) changed
+ * on client side, to invalidate the cached grammars without waiting for the
+ * file system events.
+ *
+ */
+public class ContentModelWorkspaceServiceParticipant implements IWorkspaceServiceParticipant {
+
+	@Override
+	public void didChangeWorkspaceFolders(DidChangeWorkspaceFoldersParams params) {
+		// Do nothing
+	}
+
+	@Override
+	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
+		for (FileEvent change : params.getChanges()) {
+			FilesWatcher.getInstance().fileChanged(change.getUri());
+		}
+	}
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.model.GrammarCache;
+import org.eclipse.lemminx.services.extensions.IDocumentLifecycleParticipant;
+
+/**
+ * Pin the grammars referenced by the opened documents in the
+ * {@link GrammarCache} to avoid evicting them while they are used.
+ *
+ * <p>
+ * The referenced grammars are computed when the document is opened and saved
+ * (and not on each change) to avoid resolving the grammars on each keystroke.
+ * </p>
+ *
+ */
+public class GrammarCachePinningParticipant implements IDocumentLifecycleParticipant {
+
+	private final ContentModelManager contentModelManager;
+
+	public GrammarCachePinningParticipant(ContentModelManager contentModelManager) {
+		this.contentModelManager = contentModelManager;
+	}
+
+	@Override
+	public void didOpen(DOMDocument document) {
+		contentModelManager.pinGrammars(document);
+	}
+
+	@Override
+	public void didChange(DOMDocument document) {
+		// Do nothing
+	}
+
+	@Override
+	public void didSave(DOMDocument document) {
+		contentModelManager.pinGrammars(document);
+	}
+
+	@Override
+	public void didClose(DOMDocument document) {
+		contentModelManager.unpinGrammars(document);
+	}
+
+}
@@ -36,8 +36,11 @@ public class ContentModelDiagnosticsParticipant implements IDiagnosticsParticipa
 
 	private final ContentModelPlugin contentModelPlugin;
 
+	private final IncrementalXMLValidator validator;
+
 	public ContentModelDiagnosticsParticipant(ContentModelPlugin contentModelPlugin) {
 		this.contentModelPlugin = contentModelPlugin;
+		this.validator = new IncrementalXMLValidator();
 	}
 
 	@Override
@@ -54,8 +57,9 @@ public class ContentModelDiagnosticsParticipant implements IDiagnosticsParticipa
 		LSPXMLEntityResolver entityResolverWrapper = new LSPXMLEntityResolver(entityResolver,
 				(DiagnosticsResult) diagnostics);
 
-		// Process validation
-		XMLValidator.doDiagnostics(xmlDocument, entityResolverWrapper, diagnostics, validationSettings,
+		// Process validation (only the changed element is validated when incremental
+		// validation is enabled)
+		validator.doDiagnostics(xmlDocument, entityResolverWrapper, diagnostics, validationSettings,
 				contentModelPlugin.getContentModelManager(), monitor);
 
 	}
@@ -68,4 +72,9 @@ public class ContentModelDiagnosticsParticipant implements IDiagnosticsParticipa
 		}
 	}
 
+	@Override
+	public boolean isParallelizable() {
+		return true;
+	}
+
 }
@@ -0,0 +1,497 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.xerces.xni.parser.XMLEntityResolver;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextChangeRange;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.participants.XMLSyntaxErrorCode;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLNamespacesSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLProgressiveSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLSchemaSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLXIncludeSettings;
+import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.xml.sax.InputSource;
+
+/**
+ * XML validator which reports new diagnostics only for the top-level element
+ * (child of the document element) which contains the changes since the last
+ * validation of a document and reuses the previous diagnostics for the rest of
+ * the document.
+ *
+ * <p>
+ * The changed range is tracked by the parse of the DOM document (see
+ * {@link DOMDocument#getTextChangeSince(long)}). Xerces still reads the whole
+ * text of the document and no state of the validator is kept between two
+ * validations: the content of the other top-level elements is replaced on the
+ * fly with spaces, so that Xerces doesn't validate the elements and attributes
+ * of the siblings against the grammar. The start/end tags of the siblings are
+ * kept, so that the content model of the document element is validated in the
+ * same state than with the full document, and the offsets are the same than
+ * the offsets of the document, so that the diagnostics don't need to be
+ * adjusted. Previous diagnostics which are located after the changed element
+ * are shifted.
+ * </p>
+ *
+ * <p>
+ * A full validation is done when the change cannot be restricted to the
+ * content of one top-level element, when the DOM document has not been parsed
+ * from the last validated DOM document, when the document
+ * has a DOCTYPE, when the
+ * previous or the new validation reports a syntax error, or when a grammar has
+ * been removed from the grammar pool since the last validation.
+ * </p>
+ *
+ */
+public class IncrementalXMLValidator {
+
+	private static final Logger LOGGER = Logger.getLogger(IncrementalXMLValidator.class.getName());
+
+	// maximum estimated size of the cached diagnostics of all documents
+	private static final long MAX_CACHED_SIZE = 4 * 1024 * 1024;
+
+	// estimated size of a cached diagnostic without its message
+	private static final int CACHED_DIAGNOSTIC_SIZE = 256;
+
+	// last validation results by document URI, in access order
+	private final Map<String, ValidationResult> results;
+
+	private long cachedSize;
+
+	public IncrementalXMLValidator() {
+		this.results = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Validate the given DOM document and add the diagnostics to the given list.
+	 *
+	 * <p>
+	 * The validation is incremental only if it is enabled in the given validation
+	 * settings, otherwise a full validation is done with
+	 * {@link XMLValidator#doDiagnostics(DOMDocument, XMLEntityResolver, List, XMLValidationSettings, ContentModelManager, CancelChecker)}.
+	 * </p>
+	 *
+	 * @param document            the DOM document to validate.
+	 * @param entityResolver      the entity resolver.
+	 * @param diagnostics         the diagnostics list to update.
+	 * @param validationSettings  the validation settings.
+	 * @param contentModelManager the content model manager.
+	 * @param monitor             the cancel checker.
+	 */
+	public void doDiagnostics(DOMDocument document, XMLEntityResolver entityResolver, List<Diagnostic> diagnostics,
+			XMLValidationSettings validationSettings, ContentModelManager contentModelManager,
+			CancelChecker monitor) {
+		String uri = document.getDocumentURI();
+		LSPXMLGrammarPool grammarPool = contentModelManager.getGrammarPool();
+		if (validationSettings == null || !validationSettings.isIncremental() || grammarPool == null) {
+			removeResult(uri);
+			XMLValidator.doDiagnostics(document, entityResolver, diagnostics, validationSettings, contentModelManager,
+					monitor);
+			return;
+		}
+
+		ValidationResult previous = getResult(uri);
+		if (previous != null && previous.isCompatible(validationSettings, grammarPool.getGeneration())) {
+			List<Diagnostic> merged = null;
+			try {
+				merged = revalidateChangedElement(previous, document, entityResolver, diagnostics,
+						validationSettings, contentModelManager, monitor);
+			} catch (BadLocationException e) {
+				LOGGER.log(Level.SEVERE, "Error while merging the previous diagnostics", e);
+			}
+			if (merged != null) {
+				diagnostics.addAll(merged);
+				storeResult(document, merged, diagnostics, validationSettings, grammarPool);
+				return;
+			}
+		}
+
+		// Full validation
+		int start = diagnostics.size();
+		XMLValidator.doDiagnostics(document, entityResolver, diagnostics, validationSettings, contentModelManager,
+				monitor);
+		storeResult(document, diagnostics.subList(start, diagnostics.size()), diagnostics, validationSettings,
+				grammarPool);
+	}
+
+	/**
+	 * Returns the diagnostics of the document computed by revalidating only the
+	 * top-level element which contains the changes since the previous validation
+	 * and null if a full validation must be done.
+	 */
+	private static List<Diagnostic> revalidateChangedElement(ValidationResult previous, DOMDocument document,
+			XMLEntityResolver entityResolver, List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
+			ContentModelManager contentModelManager, CancelChecker monitor) throws BadLocationException {
+		if (previous.parseStamp == document.getParseStamp() || document.hasDTD()) {
+			// - same DOM document: the validation is triggered because something else
+			// changed (grammar, catalog, etc)
+			// - DTD: entities and ID can be declared
+			return null;
+		}
+		TextChangeRange change = document.getTextChangeSince(previous.parseStamp);
+		if (change == null) {
+			// the DOM document has been fully parsed since the previous validation
+			return null;
+		}
+		int changeStart = change.getStart();
+		int newChangeEnd = change.getNewEnd();
+		int delta = change.getDelta();
+
+		// Search the top-level element which contains the change
+		DOMElement documentElement = document.getDocumentElement();
+		if (documentElement == null || !hasStartAndEndTags(documentElement)) {
+			return null;
+		}
+		DOMElement changedElement = null;
+		for (DOMNode child : documentElement.getChildren()) {
+			if (child.isElement() && child.getStart() < changeStart && newChangeEnd < child.getEnd()) {
+				DOMElement element = (DOMElement) child;
+				if (hasStartAndEndTags(element) && element.getStartTagCloseOffset() < changeStart
+						&& newChangeEnd <= element.getEndTagOpenOffset()) {
+					changedElement = element;
+				}
+				break;
+			}
+		}
+		if (changedElement == null) {
+			return null;
+		}
+
+		// Validate the changed element with the start/end tags of its siblings
+		int[] blankRanges = getBlankRanges(documentElement, changedElement);
+		if (blankRanges == null) {
+			return null;
+		}
+		monitor.checkCanceled();
+		InputSource input = new InputSource(new BlankingReader(document.getText(), blankRanges));
+		input.setSystemId(document.getDocumentURI());
+		DiagnosticsResult partialDiagnostics = new DiagnosticsResult(
+				diagnostics instanceof DiagnosticsResult ? ((DiagnosticsResult) diagnostics).getValidationArgs()
+						: Collections.emptyMap());
+		XMLValidator.doDiagnostics(document, input, entityResolver, partialDiagnostics, validationSettings,
+				contentModelManager, monitor);
+		if (hasSyntaxError(partialDiagnostics)) {
+			// The syntax error stops the validation of the following elements
+			return null;
+		}
+		LSPXMLGrammarPool grammarPool = contentModelManager.getGrammarPool();
+		if (grammarPool == null || grammarPool.getGeneration() != previous.grammarGeneration) {
+			// a grammar has been reloaded while validating the element, the previous
+			// diagnostics could be obsolete
+			return null;
+		}
+
+		// Merge the new diagnostics of the changed element with the previous
+		// diagnostics
+		int elementStart = changedElement.getStart();
+		int elementEnd = changedElement.getEnd();
+		int oldElementEnd = elementEnd - delta;
+		List<Diagnostic> merged = new ArrayList<>();
+		for (CachedDiagnostic cached : previous.diagnostics) {
+			if (cached.start >= elementStart && cached.end <= oldElementEnd) {
+				// diagnostic of the old content of the changed element
+				continue;
+			}
+			int start = cached.start >= oldElementEnd ? cached.start + delta : cached.start;
+			int end = cached.end >= oldElementEnd ? cached.end + delta : cached.end;
+			if (start == cached.start && end == cached.end) {
+				merged.add(cached.diagnostic);
+			} else {
+				merged.add(copy(cached.diagnostic,
+						new Range(document.positionAt(start), document.positionAt(end))));
+			}
+		}
+		for (Diagnostic diagnostic : partialDiagnostics) {
+			int start = document.offsetAt(diagnostic.getRange().getStart());
+			int end = document.offsetAt(diagnostic.getRange().getEnd());
+			if (start >= elementStart && end <= elementEnd) {
+				merged.add(diagnostic);
+			}
+		}
+		String elementName = changedElement.getTagName();
+		LOGGER.fine(() -> "Incremental validation of '" + document.getDocumentURI() + "' for the element '"
+				+ elementName + "'");
+		return merged;
+	}
+
+	/**
+	 * Returns the offset ranges (start and end offsets) of the content of the
+	 * children of the document element (except the changed element) which must be
+	 * replaced with spaces and null if the children are not well formed.
+	 */
+	private static int[] getBlankRanges(DOMElement documentElement, DOMElement changedElement) {
+		List<DOMNode> children = documentElement.getChildren();
+		int[] ranges = new int[children.size() * 2];
+		int size = 0;
+		for (DOMNode child : children) {
+			if (child == changedElement) {
+				continue;
+			}
+			if (child.isElement()) {
+				DOMElement element = (DOMElement) child;
+				if (element.isSelfClosed()) {
+					continue;
+				}
+				if (!hasStartAndEndTags(element)) {
+					return null;
+				}
+				ranges[size++] = element.getStartTagCloseOffset() + 1;
+				ranges[size++] = element.getEndTagOpenOffset();
+			} else {
+				ranges[size++] = child.getStart();
+				ranges[size++] = child.getEnd();
+			}
+		}
+		return size == ranges.length ? ranges : Arrays.copyOf(ranges, size);
+	}
+
+	private static boolean hasStartAndEndTags(DOMElement element) {
+		return element.isClosed() && !element.isSelfClosed() && element.isStartTagClosed() && element.hasEndTag()
+				&& element.isEndTagClosed();
+	}
+
+	private static boolean hasSyntaxError(List<Diagnostic> diagnostics) {
+		for (Diagnostic diagnostic : diagnostics) {
+			if (diagnostic.getCode() != null && diagnostic.getCode().isLeft()
+					&& XMLSyntaxErrorCode.get(diagnostic.getCode().getLeft()) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Diagnostic copy(Diagnostic diagnostic, Range range) {
+		Diagnostic copy = new Diagnostic();
+		copy.setRange(range);
+		copy.setMessage(diagnostic.getMessage());
+		copy.setSeverity(diagnostic.getSeverity());
+		copy.setSource(diagnostic.getSource());
+		copy.setCode(diagnostic.getCode());
+		copy.setCodeDescription(diagnostic.getCodeDescription());
+		copy.setTags(diagnostic.getTags());
+		copy.setRelatedInformation(diagnostic.getRelatedInformation());
+		copy.setData(diagnostic.getData());
+		return copy;
+	}
+
+	private void storeResult(DOMDocument document, List<Diagnostic> validatorDiagnostics,
+			List<Diagnostic> diagnostics, XMLValidationSettings validationSettings, LSPXMLGrammarPool grammarPool) {
+		String uri = document.getDocumentURI();
+		if (diagnostics instanceof DiagnosticsResult && !((DiagnosticsResult) diagnostics).getFutures().isEmpty()) {
+			// Some resources are downloading, the diagnostics are not complete
+			removeResult(uri);
+			return;
+		}
+		if (diagnostics instanceof DiagnosticsResult
+				&& ((DiagnosticsResult) diagnostics).getPartialPublisher() != null
+				&& ((DiagnosticsResult) diagnostics).getPartialPublisher().isMaxProblemsReached()) {
+			// The validation stopped at the maximum number of problems
+			removeResult(uri);
+			return;
+		}
+		if (hasSyntaxError(validatorDiagnostics)) {
+			// The validation stopped at the syntax error
+			removeResult(uri);
+			return;
+		}
+		try {
+			List<CachedDiagnostic> cached = new ArrayList<>(validatorDiagnostics.size());
+			for (Diagnostic diagnostic : validatorDiagnostics) {
+				Range range = diagnostic.getRange();
+				cached.add(new CachedDiagnostic(diagnostic, document.offsetAt(range.getStart()),
+						document.offsetAt(range.getEnd())));
+			}
+			putResult(uri, new ValidationResult(document.getParseStamp(), cached, validationSettings,
+					grammarPool.getGeneration()));
+		} catch (BadLocationException e) {
+			removeResult(uri);
+		}
+	}
+
+	private ValidationResult getResult(String uri) {
+		synchronized (results) {
+			return results.get(uri);
+		}
+	}
+
+	private void putResult(String uri, ValidationResult result) {
+		synchronized (results) {
+			ValidationResult old = results.put(uri, result);
+			if (old != null) {
+				cachedSize -= old.size;
+			}
+			cachedSize += result.size;
+			// evict the least recently validated documents
+			Iterator<ValidationResult> iterator = results.values().iterator();
+			while (cachedSize > MAX_CACHED_SIZE && iterator.hasNext()) {
+				ValidationResult eldest = iterator.next();
+				cachedSize -= eldest.size;
+				iterator.remove();
+			}
+		}
+	}
+
+	private void removeResult(String uri) {
+		synchronized (results) {
+			ValidationResult old = results.remove(uri);
+			if (old != null) {
+				cachedSize -= old.size;
+			}
+		}
+	}
+
+	private static class CachedDiagnostic {
+
+		final Diagnostic diagnostic;
+		final int start;
+		final int end;
+
+		CachedDiagnostic(Diagnostic diagnostic, int start, int end) {
+			this.diagnostic = diagnostic;
+			this.start = start;
+			this.end = end;
+		}
+	}
+
+	/**
+	 * Diagnostics of the last validation of a document.
+	 */
+	private static class ValidationResult {
+
+		final long parseStamp;
+		final List<CachedDiagnostic> diagnostics;
+		final XMLValidationSettings validationSettings;
+		final boolean relatedInformation;
+		final int grammarGeneration;
+		final long size;
+
+		ValidationResult(long parseStamp, List<CachedDiagnostic> diagnostics,
+				XMLValidationSettings validationSettings, int grammarGeneration) {
+			this.parseStamp = parseStamp;
+			this.diagnostics = diagnostics;
+			// copy the settings since they can be updated
+			this.validationSettings = copy(validationSettings);
+			this.relatedInformation = validationSettings.isRelatedInformation();
+			this.grammarGeneration = grammarGeneration;
+			long size = 0;
+			for (CachedDiagnostic cached : diagnostics) {
+				String message = cached.diagnostic.getMessage() != null ? cached.diagnostic.getMessage().getLeft()
+						: null;
+				size += CACHED_DIAGNOSTIC_SIZE + (message != null ? message.length() * 2 : 0);
+			}
+			this.size = size;
+		}
+
+		boolean isCompatible(XMLValidationSettings validationSettings, int grammarGeneration) {
+			return this.grammarGeneration == grammarGeneration
+					&& this.relatedInformation == validationSettings.isRelatedInformation()
+					&& this.validationSettings.equals(new XMLValidationSettings().merge(validationSettings));
+		}
+
+		/**
+		 * Returns a copy of the given settings which doesn't share the nested settings
+		 * (schema, namespaces, etc) which can be updated.
+		 */
+		private static XMLValidationSettings copy(XMLValidationSettings validationSettings) {
+			XMLValidationSettings copy = new XMLValidationSettings().merge(validationSettings);
+			if (validationSettings.getNamespaces() != null) {
+				XMLNamespacesSettings namespaces = new XMLNamespacesSettings();
+				namespaces.setEnabled(validationSettings.getNamespaces().getEnabled());
+				copy.setNamespaces(namespaces);
+			}
+			if (validationSettings.getSchema() != null) {
+				XMLSchemaSettings schema = new XMLSchemaSettings();
+				schema.setEnabled(validationSettings.getSchema().getEnabled());
+				copy.setSchema(schema);
+			}
+			if (validationSettings.getXInclude() != null) {
+				XMLXIncludeSettings xInclude = new XMLXIncludeSettings();
+				xInclude.setEnabled(validationSettings.getXInclude().isEnabled());
+				copy.setXInclude(xInclude);
+			}
+			if (validationSettings.getProgressive() != null) {
+				XMLProgressiveSettings progressive = new XMLProgressiveSettings();
+				progressive.setEnabled(validationSettings.getProgressive().isEnabled());
+				progressive.setInterval(validationSettings.getProgressive().getInterval());
+				progressive.setBatchSize(validationSettings.getProgressive().getBatchSize());
+				progressive.setMaxProblems(validationSettings.getProgressive().getMaxProblems());
+				copy.setProgressive(progressive);
+			}
+			return copy;
+		}
+	}
+
+	/**
+	 * Reader of a text where the given offset ranges are replaced with spaces
+	 * (line delimiters are kept).
+	 */
+	private static class BlankingReader extends Reader {
+
+		private final String text;
+		private final int[] blankRanges;
+		private int position;
+		private int rangeIndex;
+
+		BlankingReader(String text, int[] blankRanges) {
+			this.text = text;
+			this.blankRanges = blankRanges;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) {
+			if (position >= text.length()) {
+				return -1;
+			}
+			int end = Math.min(text.length(), position + length);
+			text.getChars(position, end, buffer, offset);
+			while (rangeIndex < blankRanges.length && blankRanges[rangeIndex + 1] <= position) {
+				rangeIndex += 2;
+			}
+			for (int i = rangeIndex; i < blankRanges.length && blankRanges[i] < end; i += 2) {
+				int blankEnd = Math.min(blankRanges[i + 1], end);
+				for (int j = Math.max(blankRanges[i], position); j < blankEnd; j++) {
+					char c = buffer[offset + j - position];
+					if (c != '\r' && c != '\n') {
+						buffer[offset + j - position] = ' ';
+					}
+				}
+			}
+			int read = end - position;
+			position = end;
+			return read;
+		}
+
+		@Override
+		public void close() {
+			// nothing to close
+		}
+	}
+}
@@ -140,6 +140,12 @@ public class LSPErrorReporterForXML extends AbstractReferencedGrammarLSPErrorRep
 		return null;
 	}
 
+	@Override
+	public void reuse(DOMDocument xmlDocument, List<Diagnostic> diagnostics, boolean hasRelatedInfo) {
+		super.reuse(xmlDocument, diagnostics, hasRelatedInfo);
+		referencedGrammars = null;
+	}
+
 	@Override
 	protected boolean isIgnoreFatalError(String key) {
 		// Don't stop the validation when there are
@@ -51,7 +51,7 @@ public class LSPSAXParser extends SAXParser {
 
 	private final LSPXMLGrammarPool grammarPool;
 
-	private final DOMDocument document;
+	private DOMDocument document;
 
 	public LSPSAXParser(LSPErrorReporterForXML reporter, XMLParserConfiguration config, LSPXMLGrammarPool grammarPool,
 			DOMDocument document) {
@@ -71,6 +71,15 @@ public class LSPSAXParser extends SAXParser {
 		}
 	}
 
+	/**
+	 * Reuse this parser to validate the given DOM document.
+	 *
+	 * @param document the DOM document to validate.
+	 */
+	void setDocument(DOMDocument document) {
+		this.document = document;
+	}
+
 	private XMLLocator locator;
 
 	@Override
@@ -16,6 +16,8 @@
  */
 package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
 
+import java.util.Map;
+
 import org.apache.xerces.impl.dtd.DTDGrammar;
 import org.apache.xerces.impl.dtd.XMLDTDDescription;
 import org.apache.xerces.impl.xs.SchemaGrammar;
@@ -23,6 +25,7 @@ import org.apache.xerces.xni.grammars.Grammar;
 import org.apache.xerces.xni.grammars.XMLGrammarDescription;
 import org.apache.xerces.xni.grammars.XMLGrammarPool;
 import org.eclipse.lemminx.extensions.contentmodel.model.FilesChangedTracker;
+import org.eclipse.lemminx.extensions.contentmodel.model.GrammarCache;
 import org.eclipse.lemminx.extensions.dtd.utils.DTDUtils;
 import org.eclipse.lemminx.extensions.relaxng.jing.RelaxNGGrammar;
 import org.eclipse.lemminx.extensions.relaxng.utils.RelaxNGUtils;
@@ -39,6 +42,12 @@ import com.google.common.base.Objects;
  * Xerces adapated to use .lemminx cache.
  * </p>
  * 
+ * <p>
+ * The grammars are stored in a {@link GrammarCache} keyed by the expanded
+ * system id of the grammar, which can be shared with the content model
+ * documents cache to bound the memory used by all loaded grammars.
+ * </p>
+ * 
  * @author Jeffrey Rodriguez, IBM
  * @author Andy Clark, IBM
  * @author Neil Graham, IBM
@@ -50,17 +59,22 @@ import com.google.common.base.Objects;
  */
 public class LSPXMLGrammarPool implements XMLGrammarPool {
 
-	private static final int TABLE_SIZE = 11;
-
 	/** Grammars. */
-	private final Entry[] fGrammars;
+	private final GrammarCache fGrammars;
+
+	/** Number of times where grammars have been removed from the pool. */
+	private volatile int generation;
 
 	public LSPXMLGrammarPool() {
-		this(TABLE_SIZE);
+		this(new GrammarCache());
 	}
 
 	public LSPXMLGrammarPool(int initialCapacity) {
-		fGrammars = new Entry[initialCapacity];
+		this(new GrammarCache(GrammarCache.getDefaultMaxSize(), initialCapacity));
+	}
+
+	public LSPXMLGrammarPool(GrammarCache grammarCache) {
+		fGrammars = grammarCache;
 	}
 
 	@Override
@@ -79,89 +93,97 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 		}
 	}
 
+	/**
+	 * Cache the given grammars which are not already in the pool (ex : the XML
+	 * Schema grammars preloaded from the grammar index when the server starts).
+	 * 
+	 * @param grammars the grammars to cache mapped by their grammar description.
+	 */
+	public void cacheGrammarsIfAbsent(Map<XMLGrammarDescription, Grammar> grammars) {
+		for (Map.Entry<XMLGrammarDescription, Grammar> grammar : grammars.entrySet()) {
+			XMLGrammarDescription desc = grammar.getKey();
+			GrammarKey key = GrammarKey.of(desc);
+			if (key == null) {
+				continue;
+			}
+			Entry entry = new Entry(desc, grammar.getValue());
+			fGrammars.putIfAbsent(key, key.systemId, entry, entry.getWeight());
+		}
+	}
+
 	@Override
 	public Grammar retrieveGrammar(XMLGrammarDescription desc) {
 		return getGrammar(desc);
 	}
 
 	private void putGrammar(Grammar grammar) {
+		XMLGrammarDescription desc = grammar.getGrammarDescription();
+		GrammarKey key = GrammarKey.of(desc);
+		if (key == null) {
+			// a grammar without system id cannot be retrieved
+			return;
+		}
 		synchronized (fGrammars) {
-			XMLGrammarDescription desc = grammar.getGrammarDescription();
-			int hash = hashCode(desc);
-			int index = (hash & 0x7FFFFFFF) % fGrammars.length;
-			for (Entry entry = fGrammars[index]; entry != null; entry = entry.next) {
-				if (entry.hash == hash && equals(entry.desc, desc)) {
-					entry.grammar = grammar;
-					return;
-				}
+			Entry entry = (Entry) fGrammars.peek(key);
+			if (entry != null && entry.grammar == grammar) {
+				return;
 			}
 			// create a new entry
-			Entry entry = new Entry(hash, desc, grammar, fGrammars[index]);
-			fGrammars[index] = entry;
+			Entry newEntry = new Entry(desc, grammar);
+			if (entry != null) {
+				newEntry.internalSubset = entry.internalSubset;
+			}
+			fGrammars.put(key, key.systemId, newEntry, newEntry.getWeight());
 		}
 	}
 
 	/**
 	 * Returns the grammar associated to the specified grammar description.
-	 * Currently, the root element name is used as the key for DTD grammars and the
-	 * target namespace is used as the key for Schema grammars.
+	 * Currently, the expanded system id is used as the key for DTD and Schema
+	 * grammars.
 	 *
 	 * @param desc The Grammar Description.
 	 */
 	private Grammar getGrammar(XMLGrammarDescription desc) {
-		synchronized (fGrammars) {
-			int hash = hashCode(desc);
-			int index = (hash & 0x7FFFFFFF) % fGrammars.length;
-			for (Entry entry = fGrammars[index]; entry != null; entry = entry.next) {
-				if ((entry.hash == hash) && equals(entry.desc, desc)) {
-					if (entry.isDirty()) {
-						removeGrammar(entry.desc);
-						return null;
-					}
-					return entry.grammar;
-				}
-			}
+		GrammarKey key = GrammarKey.of(desc);
+		if (key == null) {
 			return null;
 		}
+		Entry entry = (Entry) fGrammars.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isDirty()) {
+			removeGrammar(entry.desc);
+			return null;
+		}
+		return entry.grammar;
 	}
 
 	/**
 	 * Removes the grammar associated to the specified grammar description from the
-	 * grammar pool and returns the removed grammar. Currently, the root element
-	 * name is used as the key for DTD grammars and the target namespace is used as
-	 * the key for Schema grammars.
+	 * grammar pool and returns the removed grammar. Currently, the expanded system
+	 * id is used as the key for DTD and Schema grammars.
 	 *
 	 * @param desc The Grammar Description.
 	 * @return The removed grammar.
 	 */
 	public Grammar removeGrammar(XMLGrammarDescription desc) {
-		synchronized (fGrammars) {
-			int hash = hashCode(desc);
-			int index = (hash & 0x7FFFFFFF) % fGrammars.length;
-			for (Entry entry = fGrammars[index], prev = null; entry != null; prev = entry, entry = entry.next) {
-				if ((entry.hash == hash) && equals(entry.desc, desc)) {
-					if (prev != null) {
-						prev.next = entry.next;
-					} else {
-						fGrammars[index] = entry.next;
-					}
-					Grammar tempGrammar = entry.grammar;
-					entry.grammar = null;
-					return tempGrammar;
-				}
-			}
+		GrammarKey key = GrammarKey.of(desc);
+		if (key == null) {
 			return null;
 		}
+		Entry entry = (Entry) fGrammars.remove(key);
+		if (entry == null) {
+			return null;
+		}
+		generation++;
+		return entry.grammar;
 	}
 
 	public void removeGrammar(String grammarURI) {
-		for (Entry entry : fGrammars) {
-			if (entry != null) {
-				if (grammarURI.equals(entry.desc.getExpandedSystemId())) {
-					removeGrammar(entry.desc);
-					return;
-				}
-			}
+		if (grammarURI != null && fGrammars.remove(new GrammarKey(grammarURI)) != null) {
+			generation++;
 		}
 	}
 
@@ -177,18 +199,31 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 
 	@Override
 	public void clear() {
-		for (int i = 0; i < fGrammars.length; i++) {
-			if (fGrammars[i] != null) {
-				fGrammars[i].clear();
-				fGrammars[i] = null;
-			}
-		}
+		fGrammars.removeIf(key -> key instanceof GrammarKey);
+		generation++;
+	}
+
+	/**
+	 * Returns the generation of the pool which changes each time a grammar is
+	 * removed from the pool (ex : when a grammar file is modified).
+	 *
+	 * <p>
+	 * A validation result computed with a given generation can be reused only
+	 * while the generation is the same. A grammar evicted from the pool to respect
+	 * the memory budget doesn't change the generation since the grammar will be
+	 * loaded again with the same content.
+	 * </p>
+	 *
+	 * @return the generation of the pool.
+	 */
+	public int getGeneration() {
+		return generation;
 	}
 
 	/**
 	 * This method checks whether two grammars are the same. Currently, we compare
-	 * the root element names for DTD grammars and the target namespaces for Schema
-	 * grammars. The application can override this behaviour and add its own logic.
+	 * the expanded system ids of the grammars. The application can override this
+	 * behaviour and add its own logic.
 	 *
 	 * @param desc1 The grammar description
 	 * @param desc2 The grammar description of the grammar to be compared to
@@ -214,22 +249,44 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 	}
 
 	/**
-	 * This class is a grammar pool entry. Each entry acts as a node in a linked
-	 * list.
+	 * Key of a grammar in the grammar cache.
+	 */
+	private static final class GrammarKey {
+
+		private final String systemId;
+
+		private GrammarKey(String systemId) {
+			this.systemId = systemId;
+		}
+
+		static GrammarKey of(XMLGrammarDescription desc) {
+			String systemId = desc.getExpandedSystemId();
+			return systemId != null ? new GrammarKey(systemId) : null;
+		}
+
+		@Override
+		public int hashCode() {
+			return systemId.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof GrammarKey && systemId.equals(((GrammarKey) obj).systemId);
+		}
+	}
+
+	/**
+	 * This class is a grammar pool entry.
 	 */
 	protected static final class Entry {
-		public int hash;
-		public XMLGrammarDescription desc;
-		public Grammar grammar;
-		public Entry next;
+		public final XMLGrammarDescription desc;
+		public final Grammar grammar;
 		private final FilesChangedTracker tracker;
 		public String internalSubset;
 
-		protected Entry(int hash, XMLGrammarDescription desc, Grammar grammar, Entry next) {
-			this.hash = hash;
+		protected Entry(XMLGrammarDescription desc, Grammar grammar) {
 			this.desc = desc;
 			this.grammar = grammar;
-			this.next = next;
 			this.tracker = create(grammar);
 		}
 
@@ -250,15 +307,13 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 			return tracker != null ? tracker.isDirty() : true;
 		}
 
-		// clear this entry; useful to promote garbage collection
-		// since reduces reference count of objects to be destroyed
-		protected void clear() {
-			desc = null;
-			grammar = null;
-			if (next != null) {
-				next.clear();
-				next = null;
-			}
+		/**
+		 * Returns the estimated memory size of the grammar.
+		 *
+		 * @return the estimated memory size of the grammar.
+		 */
+		long getWeight() {
+			return GrammarCache.estimateWeight(tracker != null ? tracker.getFiles() : null);
 		}
 	}
 
@@ -274,17 +329,18 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 	 *         internal subset and false otherwise.
 	 */
 	public boolean setInternalSubset(XMLDTDDescription desc, String internalSubset) {
+		GrammarKey key = GrammarKey.of(desc);
+		if (key == null) {
+			return false;
+		}
 		synchronized (fGrammars) {
-			int hash = hashCode(desc);
-			int index = (hash & 0x7FFFFFFF) % fGrammars.length;
-			for (Entry entry = fGrammars[index]; entry != null; entry = entry.next) {
-				if ((entry.hash == hash) && equals(entry.desc, desc)) {
-					if (Objects.equal(entry.internalSubset, internalSubset)) {
-						return false;
-					}
-					entry.internalSubset = internalSubset;
-					return true;
+			Entry entry = (Entry) fGrammars.peek(key);
+			if (entry != null) {
+				if (Objects.equal(entry.internalSubset, internalSubset)) {
+					return false;
 				}
+				entry.internalSubset = internalSubset;
+				return true;
 			}
 		}
 		return false;
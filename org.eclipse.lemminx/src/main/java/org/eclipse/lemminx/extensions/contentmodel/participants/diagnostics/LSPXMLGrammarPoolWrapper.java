@@ -36,6 +36,14 @@ public class LSPXMLGrammarPoolWrapper extends LSPXMLGrammarPool {
 		this.cachedGrammars = new ArrayList<>();
 	}
 
+	/**
+	 * Forget the grammars cached by the previous validation to reuse this wrapper
+	 * for a new validation.
+	 */
+	void reset() {
+		cachedGrammars.clear();
+	}
+
 	public Grammar[] retrieveInitialGrammarSet(String grammarType) {
 		return delegate.retrieveInitialGrammarSet(grammarType);
 	}
@@ -13,6 +13,8 @@ package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
 
 import org.apache.xerces.impl.Constants;
 import org.apache.xerces.impl.dtd.XMLDTDValidator;
+import org.apache.xerces.impl.xs.XMLSchemaValidator;
+import org.apache.xerces.impl.xs.XSMessageFormatter;
 import org.apache.xerces.util.SecurityManager;
 import org.apache.xerces.xni.XMLDocumentHandler;
 import org.apache.xerces.xni.XNIException;
@@ -120,6 +122,7 @@ class LSPXMLParserConfiguration extends XMLModelAwareParserConfiguration {
 
 	@Override
 	protected void configurePipeline() {
+		createSchemaValidatorIfNeeded();
 		super.configurePipeline();
 		configureExternalDTDPipeline();
 		configureExternalRelaxNGPipeline();
@@ -127,11 +130,41 @@ class LSPXMLParserConfiguration extends XMLModelAwareParserConfiguration {
 
 	@Override
 	protected void configureXML11Pipeline() {
+		createSchemaValidatorIfNeeded();
 		super.configureXML11Pipeline();
 		configureExternalDTDPipeline();
 		configureExternalRelaxNGPipeline();
 	}
 
+	private void createSchemaValidatorIfNeeded() {
+		if (fSchemaValidator == null && fFeatures.get(XMLSCHEMA_VALIDATION) == Boolean.TRUE) {
+			// Same code than XML11Configuration#configurePipeline but with a schema
+			// validator which can be reused to validate another XML document.
+			fSchemaValidator = new LSPXMLSchemaValidator();
+			setProperty(SCHEMA_VALIDATOR, fSchemaValidator);
+			addCommonComponent(fSchemaValidator);
+			fSchemaValidator.reset(this);
+			if (fErrorReporter.getMessageFormatter(XSMessageFormatter.SCHEMA_DOMAIN) == null) {
+				XSMessageFormatter xmft = new XSMessageFormatter();
+				fErrorReporter.putMessageFormatter(XSMessageFormatter.SCHEMA_DOMAIN, xmft);
+			}
+		}
+	}
+
+	/**
+	 * XML Schema validator which forgets the grammar description of the previous
+	 * validated XML document (used to retrieve the grammar from the grammar pool)
+	 * when the parser is reused.
+	 */
+	private static class LSPXMLSchemaValidator extends XMLSchemaValidator {
+
+		@Override
+		public void reset(XMLComponentManager componentManager) throws XMLConfigurationException {
+			fXSDDescription.reset();
+			super.reset(componentManager);
+		}
+	}
+
 	private void configureExternalDTDPipeline() {
 		if (externalDTDValidator == null) {
 			externalDTDValidator = new ExternalXMLDTDValidator();
@@ -0,0 +1,275 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.extensions.xerces.LSPXMLEntityManager;
+import org.eclipse.lemminx.extensions.xerces.ReferencedGrammarDiagnosticsInfo;
+import org.eclipse.lemminx.uriresolver.IExternalGrammarLocationProvider;
+import org.eclipse.lsp4j.Diagnostic;
+import org.xml.sax.SAXNotRecognizedException;
+import org.xml.sax.SAXNotSupportedException;
+
+/**
+ * Pool of configured Xerces parsers used by {@link XMLValidator} to validate
+ * XML documents.
+ *
+ * <p>
+ * Creating a Xerces parser configuration (scanner, DTD/XML Schema validators,
+ * entity manager, error reporters) is expensive when a lot of documents are
+ * validated (ex : when a catalog changes, all opened documents are
+ * validated). A parser is borrowed from the pool for one validation and is
+ * reset before validating the next document.
+ * </p>
+ *
+ * <p>
+ * Parsers are pooled by the features which are given when the configuration is
+ * created (DTD only validation, DOCTYPE declaration, external entities,
+ * XInclude), the other features are updated for each validation.
+ * </p>
+ *
+ */
+public class LSPXMLParserPool {
+
+	private static final int MAX_IDLE_PARSERS_PER_KEY = 4;
+
+	private final ContentModelManager contentModelManager;
+
+	private final Map<Key, Deque<PooledParser>> idleParsers;
+
+	private final AtomicLong hitCount;
+
+	private final AtomicLong missCount;
+
+	public LSPXMLParserPool(ContentModelManager contentModelManager) {
+		this.contentModelManager = contentModelManager;
+		this.idleParsers = new HashMap<>();
+		this.hitCount = new AtomicLong();
+		this.missCount = new AtomicLong();
+	}
+
+	/**
+	 * Returns a parser configured to validate the given DOM document. The parser
+	 * must be given back to the pool with {@link #release(PooledParser)} after
+	 * the validation.
+	 */
+	PooledParser borrow(DOMDocument document, List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
+			boolean disableDTDValidation) throws SAXNotRecognizedException, SAXNotSupportedException {
+		LSPXMLGrammarPool grammarPool = contentModelManager.getGrammarPool();
+		Key key = new Key(grammarPool, disableDTDValidation, validationSettings);
+		PooledParser parser = null;
+		synchronized (idleParsers) {
+			Deque<PooledParser> parsers = idleParsers.get(key);
+			if (parsers != null) {
+				parser = parsers.poll();
+			}
+		}
+		boolean hasRelatedInformation = validationSettings != null ? validationSettings.isRelatedInformation()
+				: false;
+		if (parser != null) {
+			hitCount.incrementAndGet();
+			parser.reuse(document, diagnostics, hasRelatedInformation);
+		} else {
+			missCount.incrementAndGet();
+			parser = new PooledParser(key, document, diagnostics, hasRelatedInformation, validationSettings,
+					contentModelManager);
+		}
+		return parser;
+	}
+
+	/**
+	 * Give back the given parser to the pool.
+	 *
+	 * @param parser the parser to release.
+	 */
+	void release(PooledParser parser) {
+		// Don't keep the validated document in memory
+		parser.reuse(null, null, false);
+		if (parser.key.grammarPool != contentModelManager.getGrammarPool()) {
+			// the cache settings has changed
+			return;
+		}
+		synchronized (idleParsers) {
+			Deque<PooledParser> parsers = idleParsers.computeIfAbsent(parser.key, k -> new ArrayDeque<>());
+			if (parsers.size() < MAX_IDLE_PARSERS_PER_KEY) {
+				parsers.push(parser);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of validations which have reused a parser of the pool.
+	 *
+	 * @return the number of validations which have reused a parser of the pool.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of validations which have created a new parser.
+	 *
+	 * @return the number of validations which have created a new parser.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns the number of parsers which are available in the pool.
+	 *
+	 * @return the number of parsers which are available in the pool.
+	 */
+	public int getIdleCount() {
+		synchronized (idleParsers) {
+			return idleParsers.values().stream().mapToInt(Deque::size).sum();
+		}
+	}
+
+	/**
+	 * Features used to create the parser configuration.
+	 */
+	private static class Key {
+
+		private final LSPXMLGrammarPool grammarPool;
+		private final boolean disableDTDValidation;
+		private final boolean disallowDocTypeDecl;
+		private final boolean resolveExternalEntities;
+		private final boolean xincludeEnabled;
+
+		Key(LSPXMLGrammarPool grammarPool, boolean disableDTDValidation, XMLValidationSettings validationSettings) {
+			this.grammarPool = grammarPool;
+			this.disableDTDValidation = disableDTDValidation;
+			this.disallowDocTypeDecl = validationSettings != null ? validationSettings.isDisallowDocTypeDecl()
+					: false;
+			this.resolveExternalEntities = validationSettings != null
+					? validationSettings.isResolveExternalEntities()
+					: false;
+			this.xincludeEnabled = validationSettings != null ? validationSettings.getXInclude().isEnabled() : false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(System.identityHashCode(grammarPool), disableDTDValidation, disallowDocTypeDecl,
+					resolveExternalEntities, xincludeEnabled);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return grammarPool == other.grammarPool && disableDTDValidation == other.disableDTDValidation
+					&& disallowDocTypeDecl == other.disallowDocTypeDecl
+					&& resolveExternalEntities == other.resolveExternalEntities
+					&& xincludeEnabled == other.xincludeEnabled;
+		}
+	}
+
+	/**
+	 * Xerces parser with its configuration, error reporters and entity manager.
+	 */
+	static class PooledParser {
+
+		private static final String[] EXTERNAL_GRAMMAR_PROPERTIES = {
+				IExternalGrammarLocationProvider.NO_NAMESPACE_SCHEMA_LOCATION,
+				IExternalGrammarLocationProvider.SCHEMA_LOCATION, IExternalGrammarLocationProvider.DOCTYPE,
+				IExternalGrammarLocationProvider.RELAXNG };
+
+		private final Key key;
+
+		private final LSPXMLGrammarPoolWrapper grammarPool;
+
+		private final LSPErrorReporterForXML reporterForXML;
+
+		private final LSPErrorReporterForXML reporterForGrammar;
+
+		private final LSPXMLEntityManager entityManager;
+
+		private final LSPXMLParserConfiguration configuration;
+
+		private final LSPSAXParser parser;
+
+		PooledParser(Key key, DOMDocument document, List<Diagnostic> diagnostics, boolean hasRelatedInformation,
+				XMLValidationSettings validationSettings, ContentModelManager contentModelManager) {
+			this.key = key;
+			this.grammarPool = key.grammarPool != null ? new LSPXMLGrammarPoolWrapper(key.grammarPool) : null;
+			Map<String, ReferencedGrammarDiagnosticsInfo> referencedGrammarDiagnosticsInfoCache = new HashMap<>();
+			this.reporterForXML = new LSPErrorReporterForXML(document, diagnostics, contentModelManager,
+					hasRelatedInformation, referencedGrammarDiagnosticsInfoCache);
+			// When referenced grammar (XSD, DTD) have an error (ex : syntax error), the
+			// error must be reported.
+			// We create a reporter for grammar since Xerces reporter stores the XMLLocator
+			// for XML and Grammar.
+			this.reporterForGrammar = new LSPErrorReporterForXML(document, diagnostics, contentModelManager,
+					hasRelatedInformation, referencedGrammarDiagnosticsInfoCache);
+			this.entityManager = new LSPXMLEntityManager(reporterForXML, grammarPool);
+			this.configuration = new LSPXMLParserConfiguration(grammarPool, key.disableDTDValidation,
+					reporterForXML, reporterForGrammar, entityManager, validationSettings);
+			this.parser = new LSPSAXParser(reporterForXML, configuration, grammarPool, document);
+		}
+
+		private void reuse(DOMDocument document, List<Diagnostic> diagnostics, boolean hasRelatedInformation) {
+			if (grammarPool != null) {
+				grammarPool.reset();
+			}
+			reporterForXML.reuse(document, diagnostics, hasRelatedInformation);
+			reporterForGrammar.reuse(document, diagnostics, hasRelatedInformation);
+			parser.setDocument(document);
+			if (document == null) {
+				return;
+			}
+			// Remove the external grammars of the previous validated document
+			for (String property : EXTERNAL_GRAMMAR_PROPERTIES) {
+				try {
+					parser.setProperty(property, null);
+				} catch (SAXNotRecognizedException | SAXNotSupportedException e) {
+					// Should never occur.
+				}
+			}
+		}
+
+		LSPErrorReporterForXML getReporterForXML() {
+			return reporterForXML;
+		}
+
+		LSPErrorReporterForXML getReporterForGrammar() {
+			return reporterForGrammar;
+		}
+
+		LSPXMLEntityManager getEntityManager() {
+			return entityManager;
+		}
+
+		LSPXMLParserConfiguration getConfiguration() {
+			return configuration;
+		}
+
+		LSPSAXParser getParser() {
+			return parser;
+		}
+	}
+}
@@ -15,7 +15,6 @@ package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
@@ -34,14 +33,13 @@ import org.eclipse.lemminx.dom.NoNamespaceSchemaLocation;
 import org.eclipse.lemminx.dom.SchemaLocationHint;
 import org.eclipse.lemminx.dom.XMLModel;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPXMLParserPool.PooledParser;
 import org.eclipse.lemminx.extensions.contentmodel.participants.XMLSyntaxErrorCode;
 import org.eclipse.lemminx.extensions.contentmodel.settings.NamespacesEnabled;
 import org.eclipse.lemminx.extensions.contentmodel.settings.SchemaEnabled;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLNamespacesSettings;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLSchemaSettings;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
-import org.eclipse.lemminx.extensions.xerces.LSPXMLEntityManager;
-import org.eclipse.lemminx.extensions.xerces.ReferencedGrammarDiagnosticsInfo;
 import org.eclipse.lemminx.services.extensions.diagnostics.LSPContentHandler;
 import org.eclipse.lemminx.uriresolver.CacheResourceException;
 import org.eclipse.lemminx.uriresolver.IExternalGrammarLocationProvider;
@@ -69,32 +67,29 @@ public class XMLValidator {
 	public static void doDiagnostics(DOMDocument document, XMLEntityResolver entityResolver,
 			List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
 			ContentModelManager contentModelManager, CancelChecker monitor) {
+		doDiagnostics(document, null, entityResolver, diagnostics, validationSettings, contentModelManager, monitor);
+	}
 
-		LSPXMLGrammarPool pool = contentModelManager.getGrammarPool();
-		LSPXMLGrammarPoolWrapper grammarPool = pool != null ? new LSPXMLGrammarPoolWrapper(pool) : null;
-		Map<String, ReferencedGrammarDiagnosticsInfo> referencedGrammarDiagnosticsInfoCache = new HashMap<>();
-		final LSPErrorReporterForXML reporterForXML = new LSPErrorReporterForXML(document, diagnostics,
-				contentModelManager, validationSettings != null ? validationSettings.isRelatedInformation() : false,
-				referencedGrammarDiagnosticsInfoCache);
-		// When referenced grammar (XSD, DTD) have an error (ex : syntax error), the
-		// error must be reported.
-		// We create a reporter for grammar since Xerces reporter stores the XMLLocator
-		// for XML and Grammar.
-		final LSPErrorReporterForXML reporterForGrammar = new LSPErrorReporterForXML(document, diagnostics,
-				contentModelManager, validationSettings != null ? validationSettings.isRelatedInformation() : false,
-				referencedGrammarDiagnosticsInfoCache);
-		LSPXMLEntityManager entityManager = new LSPXMLEntityManager(reporterForXML, grammarPool);
-		try {
-
-			LSPXMLParserConfiguration configuration = new LSPXMLParserConfiguration(grammarPool,
-					isDisableOnlyDTDValidation(document), reporterForXML, reporterForGrammar, entityManager,
-					validationSettings);
+	/**
+	 * Validate the given DOM document by parsing the given input (which must have
+	 * the same offsets than the text of the DOM document) and the text of the DOM
+	 * document if the input is null.
+	 */
+	static void doDiagnostics(DOMDocument document, InputSource input, XMLEntityResolver entityResolver,
+			List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
+			ContentModelManager contentModelManager, CancelChecker monitor) {
 
-			if (entityResolver != null) {
-				configuration.setProperty("http://apache.org/xml/properties/internal/entity-resolver", entityResolver); //$NON-NLS-1$
-			}
+		LSPXMLParserPool parserPool = contentModelManager.getParserPool();
+		PooledParser pooledParser = null;
+		boolean reusable = false;
+		try {
+			// Borrow a parser configured with the validation settings from the pool
+			pooledParser = parserPool.borrow(document, diagnostics, validationSettings,
+					isDisableOnlyDTDValidation(document));
+			LSPXMLParserConfiguration configuration = pooledParser.getConfiguration();
+			configuration.setProperty("http://apache.org/xml/properties/internal/entity-resolver", entityResolver); //$NON-NLS-1$
 
-			SAXParser parser = new LSPSAXParser(reporterForXML, configuration, grammarPool, document);
+			SAXParser parser = pooledParser.getParser();
 
 			// Add LSP content handler to stop XML parsing if monitor is canceled.
 			parser.setContentHandler(new LSPContentHandler(monitor));
@@ -128,20 +123,27 @@ public class XMLValidator {
 			parser.setFeature("http://xml.org/sax/features/namespaces", namespacesValidationEnabled); //$NON-NLS-1$
 
 			// Parse XML
-			InputSource input = DOMUtils.createInputSource(document);
-			parser.parse(input);
+			parser.parse(input != null ? input : DOMUtils.createInputSource(document));
+			reusable = true;
 		} catch (IOException | SAXException | CancellationException exception) {
 			// ignore error
+			reusable = true;
 		} catch (CacheResourceException e) {
 			throw e;
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Unexpected XMLValidator error", e);
 		} finally {
-			reporterForXML.endReport();
-			reporterForGrammar.endReport();
-			// remove DTD grammars cache which are not completely loaded (because of some
-			// downloading of included DTD which is not finished)
-			entityManager.dispose();
+			if (pooledParser != null) {
+				pooledParser.getReporterForXML().endReport();
+				pooledParser.getReporterForGrammar().endReport();
+				// remove DTD grammars cache which are not completely loaded (because of some
+				// downloading of included DTD which is not finished)
+				pooledParser.getEntityManager().dispose();
+				if (reusable) {
+					// the parser is in a consistent state, it can validate another document
+					parserPool.release(pooledParser);
+				}
+			}
 		}
 	}
 
@@ -0,0 +1,144 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.settings;
+
+/**
+ * XML progressive validation settings.
+ *
+ * <p>
+ * When the progressive validation is enabled, the diagnostics are published by
+ * batches while the document is validated (the syntax errors first), and the
+ * validation is stopped after a maximum number of problems.
+ * </p>
+ *
+ */
+public class XMLProgressiveSettings {
+
+	private static final int DEFAULT_INTERVAL = 500;
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	private static final int DEFAULT_MAX_PROBLEMS = 1000;
+
+	private boolean enabled;
+
+	private int interval;
+
+	private int batchSize;
+
+	private int maxProblems;
+
+	public XMLProgressiveSettings() {
+		setEnabled(false);
+		setInterval(DEFAULT_INTERVAL);
+		setBatchSize(DEFAULT_BATCH_SIZE);
+		setMaxProblems(DEFAULT_MAX_PROBLEMS);
+	}
+
+	/**
+	 * Returns true if the diagnostics are published while the document is
+	 * validated and false otherwise.
+	 *
+	 * @return true if the diagnostics are published while the document is
+	 *         validated and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the minimum time in milliseconds between two publications of the
+	 * diagnostics.
+	 *
+	 * @return the minimum time in milliseconds between two publications of the
+	 *         diagnostics.
+	 */
+	public int getInterval() {
+		return interval;
+	}
+
+	public void setInterval(int interval) {
+		this.interval = interval;
+	}
+
+	/**
+	 * Returns the number of new diagnostics which publishes the diagnostics
+	 * without waiting for the interval.
+	 *
+	 * @return the number of new diagnostics which publishes the diagnostics
+	 *         without waiting for the interval.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns the number of problems after which the validation is stopped and 0
+	 * if the validation is never stopped.
+	 *
+	 * @return the number of problems after which the validation is stopped and 0
+	 *         if the validation is never stopped.
+	 */
+	public int getMaxProblems() {
+		return maxProblems;
+	}
+
+	public void setMaxProblems(int maxProblems) {
+		this.maxProblems = maxProblems;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + batchSize;
+		result = prime * result + (enabled ? 1231 : 1237);
+		result = prime * result + interval;
+		result = prime * result + maxProblems;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		XMLProgressiveSettings other = (XMLProgressiveSettings) obj;
+		if (batchSize != other.batchSize) {
+			return false;
+		}
+		if (enabled != other.enabled) {
+			return false;
+		}
+		if (interval != other.interval) {
+			return false;
+		}
+		if (maxProblems != other.maxProblems) {
+			return false;
+		}
+		return true;
+	}
+}
@@ -33,6 +33,10 @@ public class XMLValidationSettings {
 
 	private XMLXIncludeSettings xInclude;
 
+	private boolean incremental;
+
+	private XMLProgressiveSettings progressive;
+
 	/**
 	 * This severity preference to mark the root element of XML document which is
 	 * not bound to a XML Schema/DTD.
@@ -51,6 +55,7 @@ public class XMLValidationSettings {
 		setNamespaces(new XMLNamespacesSettings());
 		setSchema(new XMLSchemaSettings());
 		setXInclude(new XMLXIncludeSettings());
+		setProgressive(new XMLProgressiveSettings());
 	}
 
 	/**
@@ -172,6 +177,51 @@ public class XMLValidationSettings {
 		this.xInclude = xInclude;
 	}
 
+	/**
+	 * Returns true if the XML validation must report new diagnostics only for the
+	 * top-level element which contains the changes and reuse the previous
+	 * diagnostics for the rest of the document and false otherwise.
+	 *
+	 * <p>
+	 * The whole text is still read by the validator, only the content of the other
+	 * top-level elements is not validated. Constraints which span several
+	 * top-level elements (ex : ID/IDREF, XML Schema identity constraints) are only
+	 * updated with a full validation.
+	 * </p>
+	 *
+	 * @return true if the XML validation is incremental and false otherwise.
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Set true if the XML validation must be incremental and false otherwise.
+	 *
+	 * @param incremental true if the XML validation must be incremental.
+	 */
+	public void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Returns the progressive validation settings.
+	 *
+	 * @return the progressive validation settings.
+	 */
+	public XMLProgressiveSettings getProgressive() {
+		return progressive;
+	}
+
+	/**
+	 * Set the progressive validation settings.
+	 *
+	 * @param progressive the progressive validation settings.
+	 */
+	public void setProgressive(XMLProgressiveSettings progressive) {
+		this.progressive = progressive;
+	}
+
 	/**
 	 * Returns the <code>noGrammar</code> severity according the given settings and
 	 * {@link DiagnosticSeverity#Hint} otherwise.
@@ -208,6 +258,8 @@ public class XMLValidationSettings {
 			this.disallowDocTypeDecl = settings.disallowDocTypeDecl;
 			this.resolveExternalEntities = settings.resolveExternalEntities;
 			this.xInclude = settings.xInclude;
+			this.incremental = settings.incremental;
+			this.progressive = settings.progressive;
 		}
 		return this;
 	}
@@ -227,8 +279,10 @@ public class XMLValidationSettings {
 		int result = 1;
 		result = prime * result + (disallowDocTypeDecl ? 1231 : 1237);
 		result = prime * result + ((enabled == null) ? 0 : enabled.hashCode());
+		result = prime * result + (incremental ? 1231 : 1237);
 		result = prime * result + ((namespaces == null) ? 0 : namespaces.hashCode());
 		result = prime * result + ((noGrammar == null) ? 0 : noGrammar.hashCode());
+		result = prime * result + ((progressive == null) ? 0 : progressive.hashCode());
 		result = prime * result + (resolveExternalEntities ? 1231 : 1237);
 		result = prime * result + ((schema == null) ? 0 : schema.hashCode());
 		result = prime * result + ((xInclude == null) ? 0 : xInclude.hashCode());
@@ -250,6 +304,9 @@ public class XMLValidationSettings {
 		if (disallowDocTypeDecl != other.disallowDocTypeDecl) {
 			return false;
 		}
+		if (incremental != other.incremental) {
+			return false;
+		}
 		if (enabled == null) {
 			if (other.enabled != null) {
 				return false;
@@ -271,6 +328,13 @@ public class XMLValidationSettings {
 		} else if (!noGrammar.equals(other.noGrammar)) {
 			return false;
 		}
+		if (progressive == null) {
+			if (other.progressive != null) {
+				return false;
+			}
+		} else if (!progressive.equals(other.progressive)) {
+			return false;
+		}
 		if (resolveExternalEntities != other.resolveExternalEntities) {
 			return false;
 		}
@@ -0,0 +1,313 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.uriresolver;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.xml.resolver.Catalog;
+import org.apache.xml.resolver.CatalogEntry;
+import org.apache.xml.resolver.CatalogManager;
+
+/**
+ * XML catalog which compiles its 'uri' and 'system' entries in lookup tables.
+ *
+ * <p>
+ * The xml-resolver {@link Catalog} resolves an URI or a system identifier by
+ * iterating over all the entries of the catalog (three times: for the exact,
+ * the rewrite and the suffix entries). This catalog compiles the entries once
+ * it is parsed:
+ * </p>
+ *
+ * <ul>
+ * <li>the 'uri' and 'system' entries in a hash map.</li>
+ * <li>the 'rewriteURI' and 'rewriteSystem' entries in a prefix trie to find the
+ * longest matching prefix.</li>
+ * <li>the 'uriSuffix' and 'systemSuffix' entries in a trie of the reversed
+ * suffixes to find the longest matching suffix.</li>
+ * </ul>
+ *
+ * <p>
+ * The delegate entries, the public identifiers and the 'nextCatalog' entries
+ * are resolved by {@link Catalog} (the subordinate catalogs are
+ * {@link CompiledCatalog} too).
+ * </p>
+ *
+ */
+class CompiledCatalog extends Catalog {
+
+	private static final boolean WINDOWS = System.getProperty("os.name", "").indexOf("Windows") >= 0;
+
+	/**
+	 * Trie of strings used to find the longest key which is a prefix of a given
+	 * string.
+	 */
+	static class Trie {
+
+		private static class Node {
+
+			private char[] chars = new char[0];
+
+			private Node[] children = new Node[0];
+
+			private String value;
+
+			Node getChild(char c) {
+				int index = Arrays.binarySearch(chars, c);
+				return index >= 0 ? children[index] : null;
+			}
+
+			Node getOrCreateChild(char c) {
+				int index = Arrays.binarySearch(chars, c);
+				if (index >= 0) {
+					return children[index];
+				}
+				int insert = -(index + 1);
+				char[] newChars = new char[chars.length + 1];
+				Node[] newChildren = new Node[children.length + 1];
+				System.arraycopy(chars, 0, newChars, 0, insert);
+				System.arraycopy(children, 0, newChildren, 0, insert);
+				System.arraycopy(chars, insert, newChars, insert + 1, chars.length - insert);
+				System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+				Node child = new Node();
+				newChars[insert] = c;
+				newChildren[insert] = child;
+				chars = newChars;
+				children = newChildren;
+				return child;
+			}
+		}
+
+		private final boolean reversed;
+
+		private final Node root;
+
+		private boolean empty;
+
+		/**
+		 * Create a trie.
+		 *
+		 * @param reversed true if the keys are suffixes (the trie is built with the
+		 *                 reversed keys) and false if the keys are prefixes.
+		 */
+		Trie(boolean reversed) {
+			this.reversed = reversed;
+			this.root = new Node();
+			this.empty = true;
+		}
+
+		/**
+		 * Add the given key with its value if the key is not already in the trie.
+		 */
+		void putIfAbsent(String key, String value) {
+			Node node = root;
+			int length = key.length();
+			for (int i = 0; i < length; i++) {
+				node = node.getOrCreateChild(key.charAt(reversed ? length - 1 - i : i));
+			}
+			if (node.value == null) {
+				node.value = value;
+				empty = false;
+			}
+		}
+
+		/**
+		 * Returns the length of the longest key which is a prefix (or a suffix) of
+		 * the given string and -1 if there is no matching key.
+		 */
+		int findLongestKeyLength(String s) {
+			if (empty) {
+				return -1;
+			}
+			int length = s.length();
+			int result = root.value != null ? 0 : -1;
+			Node node = root;
+			for (int i = 0; i < length; i++) {
+				node = node.getChild(s.charAt(reversed ? length - 1 - i : i));
+				if (node == null) {
+					break;
+				}
+				if (node.value != null) {
+					result = i + 1;
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Returns the value of the key which is the prefix (or the suffix) of the
+		 * given string with the given length.
+		 */
+		String getValue(String s, int keyLength) {
+			Node node = root;
+			int length = s.length();
+			for (int i = 0; i < keyLength; i++) {
+				node = node.getChild(s.charAt(reversed ? length - 1 - i : i));
+			}
+			return node.value;
+		}
+	}
+
+	/**
+	 * Lookup tables of the 'uri' or 'system' entries of the catalog.
+	 */
+	private static class LookupTables {
+
+		private final Map<String, String> exact;
+
+		private final Trie rewrite;
+
+		private final Trie suffix;
+
+		private final boolean ignoreCase;
+
+		private boolean hasDelegate;
+
+		LookupTables(boolean ignoreCase) {
+			this.exact = new HashMap<>();
+			this.rewrite = new Trie(false);
+			this.suffix = new Trie(true);
+			this.ignoreCase = ignoreCase;
+		}
+
+		void addExact(String id, String value) {
+			exact.putIfAbsent(ignoreCase ? id.toLowerCase(Locale.ROOT) : id, value);
+		}
+
+		/**
+		 * Returns the resolved identifier with the exact, rewrite and suffix entries
+		 * and null otherwise.
+		 */
+		String resolve(String id) {
+			// exact entry
+			String resolved = exact.get(ignoreCase ? id.toLowerCase(Locale.ROOT) : id);
+			if (resolved != null) {
+				return resolved;
+			}
+			// rewrite entry with the longest prefix
+			int prefixLength = rewrite.findLongestKeyLength(id);
+			if (prefixLength >= 0) {
+				return rewrite.getValue(id, prefixLength) + id.substring(prefixLength);
+			}
+			// suffix entry with the longest suffix
+			int suffixLength = suffix.findLongestKeyLength(id);
+			if (suffixLength >= 0) {
+				return suffix.getValue(id, suffixLength);
+			}
+			return null;
+		}
+	}
+
+	private final Set<String> catalogFiles;
+
+	private LookupTables uriTables;
+
+	private LookupTables systemTables;
+
+	private int compiledEntries = -1;
+
+	/**
+	 * Create a compiled catalog.
+	 *
+	 * @param manager      the catalog manager.
+	 * @param catalogFiles the set where the parsed catalog files (including the
+	 *                     subordinate catalogs) are collected.
+	 */
+	CompiledCatalog(CatalogManager manager, Set<String> catalogFiles) {
+		super(manager);
+		this.catalogFiles = catalogFiles;
+	}
+
+	@Override
+	protected Catalog newCatalog() {
+		// The default implementation creates the subordinate catalogs with
+		// reflection which requires a public class with a public constructor.
+		CompiledCatalog catalog = new CompiledCatalog(getCatalogManager(), catalogFiles);
+		copyReaders(catalog);
+		return catalog;
+	}
+
+	@Override
+	public synchronized void parseCatalog(String fileName) throws MalformedURLException, IOException {
+		// track the file even if it doesn't exist, to reload the catalog when the file
+		// is created
+		catalogFiles.add(fileName);
+		super.parseCatalog(fileName);
+	}
+
+	@Override
+	protected String resolveLocalURI(String uri) throws MalformedURLException, IOException {
+		LookupTables tables = getTables(true);
+		String resolved = tables.resolve(uri);
+		if (resolved != null || !tables.hasDelegate) {
+			return resolved;
+		}
+		// the delegate entries are resolved by the xml-resolver catalog
+		return super.resolveLocalURI(uri);
+	}
+
+	@Override
+	protected String resolveLocalSystem(String systemId) throws MalformedURLException, IOException {
+		LookupTables tables = getTables(false);
+		String resolved = tables.resolve(systemId);
+		if (resolved != null || !tables.hasDelegate) {
+			return resolved;
+		}
+		// the delegate entries are resolved by the xml-resolver catalog
+		return super.resolveLocalSystem(systemId);
+	}
+
+	private synchronized LookupTables getTables(boolean uri) {
+		if (compiledEntries != catalogEntries.size()) {
+			compile();
+		}
+		return uri ? uriTables : systemTables;
+	}
+
+	/**
+	 * Compile the catalog entries in the lookup tables.
+	 */
+	private void compile() {
+		LookupTables uriTables = new LookupTables(false);
+		// xml-resolver compares the system identifiers case insensitively on Windows
+		LookupTables systemTables = new LookupTables(WINDOWS);
+		for (Object element : catalogEntries) {
+			CatalogEntry entry = (CatalogEntry) element;
+			int type = entry.getEntryType();
+			if (type == URI) {
+				uriTables.addExact(entry.getEntryArg(0), entry.getEntryArg(1));
+			} else if (type == REWRITE_URI) {
+				uriTables.rewrite.putIfAbsent(entry.getEntryArg(0), entry.getEntryArg(1));
+			} else if (type == URI_SUFFIX) {
+				uriTables.suffix.putIfAbsent(entry.getEntryArg(0), entry.getEntryArg(1));
+			} else if (type == DELEGATE_URI) {
+				uriTables.hasDelegate = true;
+			} else if (type == SYSTEM) {
+				systemTables.addExact(entry.getEntryArg(0), entry.getEntryArg(1));
+			} else if (type == REWRITE_SYSTEM) {
+				systemTables.rewrite.putIfAbsent(entry.getEntryArg(0), entry.getEntryArg(1));
+			} else if (type == SYSTEM_SUFFIX) {
+				systemTables.suffix.putIfAbsent(entry.getEntryArg(0), entry.getEntryArg(1));
+			} else if (type == DELEGATE_SYSTEM) {
+				systemTables.hasDelegate = true;
+			}
+		}
+		this.uriTables = uriTables;
+		this.systemTables = systemTables;
+		this.compiledEntries = catalogEntries.size();
+	}
+}
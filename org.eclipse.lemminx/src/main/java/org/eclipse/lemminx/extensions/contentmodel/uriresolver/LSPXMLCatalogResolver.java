@@ -12,13 +12,30 @@
 package org.eclipse.lemminx.extensions.contentmodel.uriresolver;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.xml.parsers.SAXParserFactory;
 
 import org.apache.xerces.dom.DOMInputImpl;
 import org.apache.xerces.impl.xs.XSDDescription;
+import org.apache.xerces.jaxp.SAXParserFactoryImpl;
 import org.apache.xerces.util.URI;
 import org.apache.xerces.util.XMLCatalogResolver;
 import org.apache.xerces.xni.XMLResourceIdentifier;
 import org.apache.xerces.xni.XNIException;
+import org.apache.xml.resolver.Catalog;
+import org.apache.xml.resolver.CatalogManager;
+import org.apache.xml.resolver.readers.OASISXMLCatalogReader;
+import org.apache.xml.resolver.readers.SAXCatalogReader;
+import org.eclipse.lemminx.extensions.contentmodel.model.FilesChangedTracker;
 import org.w3c.dom.ls.LSInput;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -26,13 +43,219 @@ import org.xml.sax.SAXException;
 /**
  * Extension of Xerces XML catalog resolver to support include of XSD.
  * 
+ * <p>
+ * Each catalog file of the list is parsed in a {@link CompiledCatalog} which
+ * resolves the 'uri' and 'system' entries with lookup tables. The catalog files
+ * (and their subordinate catalogs) are tracked with a
+ * {@link FilesChangedTracker}: when a catalog file changes, only the catalog of
+ * the list which uses this file is reloaded.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  */
 class LSPXMLCatalogResolver extends XMLCatalogResolver {
 
+	private static final Logger LOGGER = Logger.getLogger(LSPXMLCatalogResolver.class.getName());
+
+	/**
+	 * Catalog file of the catalog list, loaded on demand and reloaded when the
+	 * catalog file or a subordinate catalog file changes.
+	 */
+	private class CatalogFile {
+
+		private final String file;
+
+		private CompiledCatalog catalog;
+
+		private Set<String> parsedFiles;
+
+		private FilesChangedTracker tracker;
+
+		private int trackedFiles;
+
+		CatalogFile(String file) {
+			this.file = file;
+		}
+
+		/**
+		 * Returns the loaded catalog and reload it if the catalog files have changed.
+		 */
+		synchronized Catalog getCatalog() {
+			if (catalog == null) {
+				load();
+			} else if (tracker.isDirty()) {
+				load();
+				generation.incrementAndGet();
+			}
+			return catalog;
+		}
+
+		private void load() {
+			parsedFiles = ConcurrentHashMap.newKeySet();
+			tracker = new FilesChangedTracker();
+			trackedFiles = 0;
+			catalog = new CompiledCatalog(catalogManager, parsedFiles);
+			attachReaderToCatalog(catalog);
+			try {
+				catalog.parseCatalog(file);
+			} catch (IOException e) {
+				LOGGER.log(Level.SEVERE, "Error while parsing the XML catalog '" + file + "'.", e);
+			}
+			trackParsedFiles();
+		}
+
+		/**
+		 * Track the catalog files which have been parsed (the subordinate catalogs are
+		 * parsed when they are used).
+		 */
+		synchronized void trackParsedFiles() {
+			if (tracker == null || parsedFiles.size() == trackedFiles) {
+				return;
+			}
+			List<Path> tracked = tracker.getFiles();
+			for (String parsedFile : parsedFiles) {
+				Path path = getPath(parsedFile);
+				if (path != null && !tracked.contains(path)) {
+					tracker.addFileURI(path.toUri());
+				}
+			}
+			trackedFiles = parsedFiles.size();
+		}
+
+		synchronized boolean isTracked(Path path) {
+			return tracker != null && tracker.getFiles().contains(path);
+		}
+
+		synchronized void unload() {
+			catalog = null;
+			tracker = null;
+		}
+	}
+
+	@FunctionalInterface
+	private interface CatalogLookup {
+
+		String resolve(Catalog catalog) throws IOException;
+	}
+
+	private final CatalogManager catalogManager;
+
+	private final List<CatalogFile> catalogFiles;
+
+	private final AtomicLong generation;
+
 	public LSPXMLCatalogResolver(String[] catalogs) {
 		super(catalogs);
+		// Same configuration than the Xerces XMLCatalogResolver
+		catalogManager = new CatalogManager();
+		catalogManager.setAllowOasisXMLCatalogPI(false);
+		catalogManager.setCatalogClassName(Catalog.class.getName());
+		catalogManager.setCatalogFiles("");
+		catalogManager.setIgnoreMissingProperties(true);
+		catalogManager.setPreferPublic(getPreferPublic());
+		catalogManager.setRelativeCatalogs(false);
+		catalogManager.setUseStaticCatalog(false);
+		catalogManager.setVerbosity(0);
+		catalogFiles = new ArrayList<>();
+		generation = new AtomicLong();
+		if (catalogs != null) {
+			for (String catalog : catalogs) {
+				if (catalog != null && !catalog.isEmpty()) {
+					catalogFiles.add(new CatalogFile(catalog));
+				}
+			}
+		}
+	}
+
+	private static void attachReaderToCatalog(Catalog catalog) {
+		SAXParserFactory spf = new SAXParserFactoryImpl();
+		spf.setNamespaceAware(true);
+		spf.setValidating(false);
+
+		SAXCatalogReader saxReader = new SAXCatalogReader(spf);
+		saxReader.setCatalogParser(OASISXMLCatalogReader.namespaceName, "catalog",
+				OASISXMLCatalogReader.class.getName());
+		catalog.addReader("application/xml", saxReader);
+	}
+
+	private static Path getPath(String fileURI) {
+		if (fileURI == null || !fileURI.startsWith("file:")) {
+			return null;
+		}
+		try {
+			return Paths.get(new java.net.URI(fileURI));
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Reload the catalogs whose catalog files have changed.
+	 */
+	public void reloadChangedCatalogs() {
+		for (CatalogFile catalogFile : catalogFiles) {
+			catalogFile.getCatalog();
+		}
+	}
+
+	/**
+	 * Reload the catalogs which use the given catalog file URI.
+	 * 
+	 * @param fileURI the catalog file URI.
+	 * @return true if a catalog uses the given file and false otherwise.
+	 */
+	public boolean reloadCatalog(String fileURI) {
+		Path path = getPath(fileURI);
+		if (path == null) {
+			return false;
+		}
+		boolean reloaded = false;
+		for (CatalogFile catalogFile : catalogFiles) {
+			if (catalogFile.isTracked(path)) {
+				catalogFile.unload();
+				reloaded = true;
+			}
+		}
+		if (reloaded) {
+			generation.incrementAndGet();
+		}
+		return reloaded;
+	}
+
+	/**
+	 * Returns the number of reloads of the catalogs.
+	 * 
+	 * @return the number of reloads of the catalogs.
+	 */
+	public long getGeneration() {
+		return generation.get();
+	}
+
+	/**
+	 * Returns the first result of the given lookup in the catalogs of the list.
+	 */
+	private String resolveInCatalogs(CatalogLookup lookup) throws IOException {
+		for (CatalogFile catalogFile : catalogFiles) {
+			String resolved = lookup.resolve(catalogFile.getCatalog());
+			catalogFile.trackParsedFiles();
+			if (resolved != null) {
+				return resolved;
+			}
+		}
+		return null;
+	}
+
+	private String resolveURIInCatalogs(String uri) throws IOException {
+		return resolveInCatalogs(catalog -> catalog.resolveURI(uri));
+	}
+
+	private String resolveSystemInCatalogs(String systemId) throws IOException {
+		return resolveInCatalogs(catalog -> catalog.resolveSystem(systemId));
+	}
+
+	private String resolvePublicInCatalogs(String publicId, String systemId) throws IOException {
+		return resolveInCatalogs(catalog -> catalog.resolvePublic(publicId, systemId));
 	}
 
 	/**
@@ -61,7 +284,7 @@ class LSPXMLCatalogResolver extends XMLCatalogResolver {
 			// grammars such as XML schema. Let it take precedence over
 			// the external identifier if one exists.
 			if (namespaceURI != null) {
-				resolvedId = resolveURI(namespaceURI);
+				resolvedId = resolveURIInCatalogs(namespaceURI);
 				if (resolvedId != null) {
 					return resolvedId;
 				}
@@ -85,11 +308,11 @@ class LSPXMLCatalogResolver extends XMLCatalogResolver {
 			// specified as a location hint.
 			if (resolvedId == null) {
 				if (publicId != null && systemId != null) {
-					resolvedId = resolvePublic(publicId, systemId);
+					resolvedId = resolvePublicInCatalogs(publicId, systemId);
 				} else if (systemId != null) {
-					resolvedId = resolveSystem(systemId);
+					resolvedId = resolveSystemInCatalogs(systemId);
 				} else if (publicId != null) {
-					return resolvePublic(publicId, null);
+					return resolvePublicInCatalogs(publicId, null);
 				}
 				if (resolvedId == null && systemId != null) {
 					// ex systemId = http://java.sun.com/xml/ns/j2ee/web-app_2_4.xsd
@@ -103,7 +326,7 @@ class LSPXMLCatalogResolver extends XMLCatalogResolver {
 					// XML catalog
 					// <uri name="http://java.sun.com/xml/ns/j2ee/web-app_2_4.xsd"
 					// uri="file:///...web-app_2_4.xsd"/>
-					resolvedId = resolveURI(systemId);
+					resolvedId = resolveURIInCatalogs(systemId);
 				}
 			}
 		}
@@ -69,6 +69,12 @@ public class XMLCacheResolverExtension implements URIResolverExtension {
 		return null;
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		// this resolver doesn't resolve URIs
+		return true;
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		String url = resourceIdentifier.getExpandedSystemId();
@@ -37,6 +37,7 @@ public class XMLCatalogResolverExtension implements URIResolverExtension {
 
 	private LSPXMLCatalogResolver catalogResolver;
 	private String rootUri;
+	private long catalogGeneration;
 
 	@Override
 	public String getName() {
@@ -56,6 +57,27 @@ public class XMLCatalogResolverExtension implements URIResolverExtension {
 
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		// the cache is invalidated when the catalogs are reloaded
+		return true;
+	}
+
+	@Override
+	public synchronized boolean reloadIfChanged() {
+		LSPXMLCatalogResolver catalogResolver = this.catalogResolver;
+		if (catalogResolver == null) {
+			return false;
+		}
+		catalogResolver.reloadChangedCatalogs();
+		long generation = catalogResolver.getGeneration();
+		if (generation != catalogGeneration) {
+			catalogGeneration = generation;
+			return true;
+		}
+		return false;
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		if (catalogResolver != null) {
@@ -117,8 +139,9 @@ public class XMLCatalogResolverExtension implements URIResolverExtension {
 		}
 	}
 
-	private void setCatalogResolver(LSPXMLCatalogResolver catalogResolver) {
+	private synchronized void setCatalogResolver(LSPXMLCatalogResolver catalogResolver) {
 		this.catalogResolver = catalogResolver;
+		this.catalogGeneration = 0;
 	}
 
 	/**
@@ -130,6 +153,18 @@ public class XMLCatalogResolverExtension implements URIResolverExtension {
 		}
 	}
 
+	/**
+	 * Reload only the XML catalogs which use the given catalog file.
+	 * 
+	 * @param catalogURI the catalog file URI.
+	 * @return true if a XML catalog uses the given catalog file and false
+	 *         otherwise.
+	 */
+	public boolean refreshCatalog(String catalogURI) {
+		LSPXMLCatalogResolver catalogResolver = this.catalogResolver;
+		return catalogResolver != null && catalogResolver.reloadCatalog(catalogURI);
+	}
+
 	/**
 	 * Get the XML catalogs.
 	 */
@@ -72,6 +72,12 @@ public class XMLFileAssociationResolverExtension implements URIResolverExtension
 		return null;
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		// the cache is invalidated when the file associations change
+		return true;
+	}
+
 	@Override
 	public Map<String, String> getExternalGrammarLocation(URI fileURI) {
 		if (fileAssociations != null) {
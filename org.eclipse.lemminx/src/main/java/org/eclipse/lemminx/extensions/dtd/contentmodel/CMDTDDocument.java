@@ -14,8 +14,10 @@ package org.eclipse.lemminx.extensions.dtd.contentmodel;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -462,6 +464,11 @@ public class CMDTDDocument extends LSPXML11DTDProcessor implements CMDocument {
 		return tracker != null ? tracker.isDirty() : false;
 	}
 
+	@Override
+	public Collection<Path> getGrammarFiles() {
+		return tracker != null ? tracker.getFiles() : Collections.emptyList();
+	}
+
 	@Override
 	public List<Entity> getEntities() {
 		return entities;
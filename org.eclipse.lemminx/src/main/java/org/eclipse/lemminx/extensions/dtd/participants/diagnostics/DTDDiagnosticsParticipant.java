@@ -54,4 +54,9 @@ public class DTDDiagnosticsParticipant implements IDiagnosticsParticipant {
 				contentModelManager, cancelChecker);
 	}
 
+	@Override
+	public boolean isParallelizable() {
+		return true;
+	}
+
 }
@@ -67,23 +67,23 @@ public class XMLReferencesCodeLensParticipant implements ICodeLensParticipant {
 				DOMElement toElement = toNode.isAttribute() ? ((DOMAttr) toNode).getOwnerElement()
 						: toNode.getParentElement();
 				if (toElement != null) {
-					for (SearchNode from : link.getFroms()) {
-						if (from.matchesValue(to)) {
-
-							CodeLens codeLens = cache.get(toElement);
-							if (codeLens == null) {
-								Range range = XMLPositionUtility.createRange(toNode);
-								codeLens = new CodeLens(range);
-								codeLens.setCommand(
-										new ReferenceCommand(document.getDocumentURI(), range.getStart(),
-												supportedByClient));
-								cache.put(toElement, codeLens);
-								lenses.add(codeLens);
-							} else {
-								((ReferenceCommand) codeLens.getCommand()).increment();
-							}
-
-						}
+					int count = link.getFromsCount(to);
+					if (count == 0) {
+						continue;
+					}
+					CodeLens codeLens = cache.get(toElement);
+					if (codeLens == null) {
+						Range range = XMLPositionUtility.createRange(toNode);
+						codeLens = new CodeLens(range);
+						ReferenceCommand command = new ReferenceCommand(document.getDocumentURI(),
+								range.getStart(), supportedByClient);
+						// the command is created with one reference
+						command.increment(count - 1);
+						codeLens.setCommand(command);
+						cache.put(toElement, codeLens);
+						lenses.add(codeLens);
+					} else {
+						((ReferenceCommand) codeLens.getCommand()).increment(count);
 					}
 				}
 			}
@@ -73,14 +73,7 @@ public class XMLReferencesDiagnosticParticipant implements IDiagnosticsParticipa
 						diagnostics.add(diagnostic);
 					}
 				} else {
-					boolean validReference = false;
-					for (SearchNode to : link.getTos()) {
-						if (from.matchesValue(to)) {
-							validReference = true;
-							break;
-						}
-					}
-					if (!validReference) {
+					if (!link.hasTo(from)) {
 						// Undefined reference error
 						Range range = XMLPositionUtility.createRange(from);
 						String value = from.getValue(null);
@@ -100,4 +93,9 @@ public class XMLReferencesDiagnosticParticipant implements IDiagnosticsParticipa
 
 	}
 
+	@Override
+	public boolean isParallelizable() {
+		return true;
+	}
+
 }
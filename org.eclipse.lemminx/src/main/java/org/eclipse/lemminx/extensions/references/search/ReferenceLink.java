@@ -12,7 +12,11 @@
 package org.eclipse.lemminx.extensions.references.search;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.lemminx.extensions.references.settings.XMLReferenceExpression;
 
@@ -29,6 +33,10 @@ public class ReferenceLink {
 	private final List<SearchNode> froms;
 	private final List<SearchNode> tos;
 
+	private Map<String, Integer> fromCounts;
+
+	private Set<String> toValues;
+
 	public ReferenceLink(XMLReferenceExpression expression) {
 		this.froms = new ArrayList<>();
 		this.tos = new ArrayList<>();
@@ -37,10 +45,57 @@ public class ReferenceLink {
 
 	public void addTo(SearchNode to) {
 		tos.add(to);
+		toValues = null;
 	}
 
 	public void addFrom(SearchNode from) {
 		froms.add(from);
+		fromCounts = null;
+	}
+
+	/**
+	 * Returns the number of 'from' search nodes which match the given 'to' search
+	 * node.
+	 * 
+	 * @param to the 'to' search node.
+	 * 
+	 * @return the number of 'from' search nodes which match the given 'to' search
+	 *         node.
+	 */
+	public int getFromsCount(SearchNode to) {
+		if (fromCounts == null) {
+			Map<String, Integer> counts = new HashMap<>();
+			for (SearchNode from : froms) {
+				String value = from.getMatchValue();
+				if (value != null) {
+					counts.merge(value, 1, Integer::sum);
+				}
+			}
+			fromCounts = counts;
+		}
+		Integer count = fromCounts.get(to.getMatchValue());
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * Returns true if the given 'from' search node matches a 'to' search node of
+	 * the link and false otherwise.
+	 * 
+	 * @param from the 'from' search node.
+	 * 
+	 * @return true if the given 'from' search node matches a 'to' search node of
+	 *         the link and false otherwise.
+	 */
+	public boolean hasTo(SearchNode from) {
+		if (toValues == null) {
+			Set<String> values = new HashSet<>();
+			for (SearchNode to : tos) {
+				values.add(to.getMatchValue());
+			}
+			toValues = values;
+		}
+		String value = from.getMatchValue();
+		return value != null && toValues.contains(value);
 	}
 
 	public List<SearchNode> getFroms() {
@@ -11,31 +11,28 @@
 *******************************************************************************/
 package org.eclipse.lemminx.extensions.references.search;
 
-import static org.eclipse.lemminx.extensions.references.search.SearchQueryFactory.getInversedDirection;
-
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMDocument;
-import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
-import org.eclipse.lemminx.dom.DOMText;
 import org.eclipse.lemminx.extensions.references.search.SearchNode.Direction;
 import org.eclipse.lemminx.extensions.references.search.SearchQuery.QueryDirection;
+import org.eclipse.lemminx.extensions.references.search.XMLReferencesIndex.ExpressionIndex;
+import org.eclipse.lemminx.extensions.references.search.XMLReferencesIndex.IndexedNode;
 import org.eclipse.lemminx.extensions.references.settings.XMLReferenceExpression;
 import org.eclipse.lemminx.extensions.references.settings.XMLReferencesSettings;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lemminx.utils.DOMUtils;
 import org.eclipse.lemminx.utils.URIUtils;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
 
 /**
  * XML references search engine to collect attribute , text which matches XML
@@ -52,9 +49,20 @@ public class SearchEngine {
 		return INSTANCE;
 	}
 
-	private static final String INCLUDE_TAG = "include";
+	/**
+	 * Indexed search node of a given expression.
+	 */
+	private static class ExpressionNode {
+
+		private final IndexedNode node;
 
-	private static final String HREF_ATTR = "href";
+		private final XMLReferenceExpression expression;
+
+		ExpressionNode(IndexedNode node, XMLReferenceExpression expression) {
+			this.node = node;
+			this.expression = expression;
+		}
+	}
 
 	/**
 	 * Perform the XML references search by using the given search query.
@@ -111,10 +119,11 @@ public class SearchEngine {
 	private void searchInDocument(DOMDocument document, SearchQuery query, IXMLReferenceCollector collector,
 			Set<String> visitedURIs, CancelChecker cancelChecker) {
 
-		// Perform the search by using the DOM document
-		Set<String> externalURIsForDocument = query.isSearchInIncludedFiles() ? new HashSet<>() : null;
-		searchInNode(document, query, collector, externalURIsForDocument, cancelChecker);
+		// Perform the search by using the references index of the DOM document
+		XMLReferencesIndex index = XMLReferencesIndex.getIndex(document);
+		searchInIndex(index, query, collector, cancelChecker);
 
+		Set<String> externalURIsForDocument = query.isSearchInIncludedFiles() ? index.getIncludedFiles() : null;
 		if (externalURIsForDocument != null && !externalURIsForDocument.isEmpty()) {
 			// The search for the document has collected some external document, URIs,
 			// perform the search for each of them.
@@ -153,107 +162,97 @@ public class SearchEngine {
 	}
 
 	/**
-	 * Perform the search in the given DOM node.
+	 * Perform the search in the given references index.
+	 * 
+	 * <p>
+	 * When the query must match the value of the requested search node, only the
+	 * search nodes which have the same value are retrieved from the index.
+	 * Otherwise all search nodes of the query expressions are visited. The search
+	 * nodes are collected in the document order like a search which walks the DOM
+	 * document.
+	 * </p>
 	 * 
-	 * @param node          the DOM node.
+	 * @param index         the references index of a DOM document.
 	 * @param query         the search query.
 	 * @param collector     the collector used to collect attribute, text nodes.
-	 * @param externalURIs  the collected external URIs (xi:include/@href)
 	 * @param cancelChecker the cancel checker.
 	 */
-	private void searchInNode(DOMNode node, SearchQuery query, IXMLReferenceCollector collector,
-			Set<String> externalURIs, CancelChecker cancelChecker) {
-		// Stop the search if required
-		if (cancelChecker != null) {
-			cancelChecker.checkCanceled();
+	private void searchInIndex(XMLReferencesIndex index, SearchQuery query, IXMLReferenceCollector collector,
+			CancelChecker cancelChecker) {
+		if (!query.isSearchInAttribute() && !query.isSearchInText()) {
+			return;
 		}
-
-		if (node.isElement()) {
-			// Search in the attributes of the element
-			DOMElement element = (DOMElement) node;
-			searchInAttributes(element, query, collector, cancelChecker);
-			if (externalURIs != null) {
-				if (isInclude(element)) {
-					// collect xi:include
-					String includedFile = element.getAttribute(HREF_ATTR);
-					if (includedFile != null) {
-						externalURIs.add(includedFile);
-					}
-				}
+		String value = null;
+		SearchNode requestedNode = query.getSearchNode();
+		if (query.isMatchNode() && requestedNode != null && query.getQueryDirection() != QueryDirection.BOTH) {
+			value = requestedNode.getMatchValue();
+			if (value == null) {
+				// The requested node has an invalid prefix, it cannot match any search node.
+				return;
 			}
-
-		} else if (node.isText()) {
-			// Search in the text
-			searchInText((DOMText) node, query, collector, cancelChecker);
 		}
-		if (node.hasChildNodes()) {
-			// Search in the children
-			for (DOMNode child : node.getChildren()) {
-				searchInNode(child, query, collector, externalURIs, cancelChecker);
+		List<XMLReferenceExpression> expressions = query.getExpressions();
+		if (expressions.size() == 1) {
+			XMLReferenceExpression expression = expressions.get(0);
+			List<IndexedNode> nodes = getIndexedNodes(index, expression, value, cancelChecker);
+			for (IndexedNode node : nodes) {
+				collectNode(node, expression, query, collector, cancelChecker);
+			}
+			return;
+		}
+		// Merge the search nodes of each expression in the document order, and in the
+		// expressions order for the same DOM node.
+		List<ExpressionNode> nodes = new ArrayList<>();
+		for (XMLReferenceExpression expression : expressions) {
+			for (IndexedNode node : getIndexedNodes(index, expression, value, cancelChecker)) {
+				nodes.add(new ExpressionNode(node, expression));
 			}
 		}
+		// the sort is stable, the expressions order is kept for the same DOM node
+		nodes.sort(Comparator.comparingInt(entry -> entry.node.getNodeOrder()));
+		for (ExpressionNode entry : nodes) {
+			collectNode(entry.node, entry.expression, query, collector, cancelChecker);
+		}
 	}
 
-	/**
-	 * Perform the search in the given DOM text node.
-	 * 
-	 * @param text          the DOM text node.
-	 * @param query         the search query.
-	 * @param collector     the collector used to collect attribute, text nodes.
-	 * @param cancelChecker the cancel checker.
-	 */
-	private void searchInText(DOMText text, SearchQuery query, IXMLReferenceCollector collector,
-			CancelChecker cancelChecker) {
-		if (query.isSearchInText()) {
-			if (cancelChecker != null) {
-				cancelChecker.checkCanceled();
-			}
-			collectNodes(text, query, collector);
+	private static List<IndexedNode> getIndexedNodes(XMLReferencesIndex index, XMLReferenceExpression expression,
+			String value, CancelChecker cancelChecker) {
+		ExpressionIndex expressionIndex = index.getExpressionIndex(expression, cancelChecker);
+		return value != null ? expressionIndex.getNodes(value) : expressionIndex.getNodes();
+	}
+
+	private void collectNode(IndexedNode node, XMLReferenceExpression expression, SearchQuery query,
+			IXMLReferenceCollector collector, CancelChecker cancelChecker) {
+		if (cancelChecker != null) {
+			cancelChecker.checkCanceled();
+		}
+		SearchNode searchNode = node.getSearchNode();
+		DOMNode domNode = searchNode.getNode();
+		if (domNode.isAttribute() ? !query.isSearchInAttribute() : !query.isSearchInText()) {
+			return;
+		}
+		if (searchNode.getDirection() == getInversedDirection(node, query.getQueryDirection())) {
+			// The DOM node matches the XPath (from / to) declared in the reference
+			// expression with the direction of the query, collect the current search node
+			collect(query, searchNode, expression, collector);
 		}
 	}
 
 	/**
-	 * Perform the search in the attributes of the given DOM element node.
+	 * Returns the direction of the search nodes of the DOM node of the given
+	 * indexed node which are collected for the given query direction.
 	 * 
-	 * @param element       the DOM element node.
-	 * @param query         the search query.
-	 * @param collector     the collector used to collect attribute, text nodes.
-	 * @param cancelChecker the cancel checker.
+	 * @see SearchQueryFactory#getInversedDirection(DOMNode, XMLReferenceExpression,
+	 *      QueryDirection)
 	 */
-	private void searchInAttributes(DOMElement element, SearchQuery query, IXMLReferenceCollector collector,
-			CancelChecker cancelChecker) {
-		if (query.isSearchInAttribute()) {
-			// Search to reference in attribute nodes
-			if (element.hasAttributes()) {
-				NamedNodeMap toAttributes = element.getAttributes();
-				if (toAttributes != null) {
-					for (int j = 0; j < toAttributes.getLength(); j++) {
-						DOMAttr toAttr = (DOMAttr) toAttributes.item(j);
-						if (cancelChecker != null) {
-							cancelChecker.checkCanceled();
-						}
-						collectNodes(toAttr, query, collector);
-					}
-				}
-			}
-		}
-	}
-
-	private void collectNodes(DOMNode node, SearchQuery query, IXMLReferenceCollector collector) {
-		QueryDirection queryDirection = query.getQueryDirection();
-		// Loop for reference expressions of the query
-		for (XMLReferenceExpression expression : query.getExpressions()) {
-			Direction nodeDirection = getInversedDirection(node, expression, queryDirection);
-			if (nodeDirection != null) {
-				// The DOM node matches the XPath (from / to) declared in the reference
-				// expression
-				// get the search nodes for this attribute / text node
-				List<SearchNode> searchNodes = findSearchNodes(node, expression, nodeDirection);
-				for (SearchNode searchNode : searchNodes) {
-					// Collect the current search node
-					collect(query, searchNode, expression, collector);
-				}
-			}
+	private static Direction getInversedDirection(IndexedNode node, QueryDirection queryDirection) {
+		switch (queryDirection) {
+			case FROM_2_TO:
+				return Direction.TO;
+			case TO_2_FROM:
+				return Direction.FROM;
+			default:
+				return node.isMatchFrom() ? Direction.FROM : Direction.TO;
 		}
 	}
 
@@ -282,25 +281,4 @@ public class SearchEngine {
 				}
 		}
 	}
-
-	private List<SearchNode> findSearchNodes(DOMNode node, XMLReferenceExpression expression, Direction nodeDirection) {
-		if (nodeDirection == Direction.FROM) {
-			return SearchNodeFactory.findSearchNodes(node, expression.getPrefix(), expression.isMultiple(),
-					nodeDirection);
-		}
-		return SearchNodeFactory.findSearchNodes(node, null, false, nodeDirection);
-	}
-
-	/**
-	 * Returns true if the given element is an include element (ex : xi:include) and
-	 * false otherwise.
-	 * 
-	 * @param element the DOM element.
-	 * 
-	 * @return true if the given element is an include element (ex : xi:include) and
-	 *         false otherwise.
-	 */
-	private static boolean isInclude(Element element) {
-		return element != null && INCLUDE_TAG.equals(element.getLocalName());
-	}
 }
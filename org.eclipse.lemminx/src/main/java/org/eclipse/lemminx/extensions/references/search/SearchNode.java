@@ -154,6 +154,27 @@ public class SearchNode implements DOMRange {
 		return true;
 	}
 
+	/**
+	 * Returns the value used to match this search node with the search nodes of
+	 * the other direction (the value without the prefix for a 'from' search node)
+	 * and null if the prefix of the 'from' search node is invalid.
+	 * 
+	 * <p>
+	 * Two search nodes of different directions match (see
+	 * {@link #matchesValue(SearchNode)}) when they have the same match value.
+	 * </p>
+	 * 
+	 * @return the value used to match this search node and null if the prefix of
+	 *         the 'from' search node is invalid.
+	 */
+	public String getMatchValue() {
+		int adjust = direction == Direction.FROM ? adjustWithPrefix(this) : 0;
+		if (adjust == -1) {
+			return null;
+		}
+		return getOwnerDocument().getText().substring(start + adjust, end);
+	}
+
 	private static int adjustWithPrefix(SearchNode node) {
 		String prefix = node.getPrefix();
 		if (prefix == null) {
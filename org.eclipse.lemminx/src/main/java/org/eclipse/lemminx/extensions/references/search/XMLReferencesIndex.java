@@ -0,0 +1,262 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.references.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.extensions.references.search.SearchNode.Direction;
+import org.eclipse.lemminx.extensions.references.settings.XMLReferenceExpression;
+import org.eclipse.lemminx.services.DocumentResultCache;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Index of the search nodes of a DOM document which match the 'from' / 'to'
+ * XPath of the XML references expressions.
+ * 
+ * <p>
+ * The index is created once for a version of the DOM document and it is shared
+ * by the references, rename, highlight, codelens, diagnostics requests. The DOM
+ * documents of the included files are shared by the
+ * {@link org.eclipse.lemminx.dom.ExternalDocumentCache}, so their index is
+ * reused while the files don't change. For each expression, the index stores:
+ * </p>
+ * 
+ * <ul>
+ * <li>the search nodes in the document order.</li>
+ * <li>the search nodes grouped by their match value (see
+ * {@link SearchNode#getMatchValue()}) to find the search nodes which match a
+ * given search node without walking the whole document.</li>
+ * </ul>
+ *
+ */
+class XMLReferencesIndex {
+
+	private static final DocumentResultCache<XMLReferencesIndex> INDEXES = new DocumentResultCache<>();
+
+	private static final String INCLUDE_TAG = "include";
+
+	private static final String HREF_ATTR = "href";
+
+	/**
+	 * Indexed search node.
+	 */
+	static class IndexedNode {
+
+		private final int nodeOrder;
+
+		private final SearchNode searchNode;
+
+		private final boolean matchFrom;
+
+		private IndexedNode(int nodeOrder, SearchNode searchNode, boolean matchFrom) {
+			this.nodeOrder = nodeOrder;
+			this.searchNode = searchNode;
+			this.matchFrom = matchFrom;
+		}
+
+		/**
+		 * Returns the order of the DOM node of the search node in the document.
+		 * 
+		 * @return the order of the DOM node of the search node in the document.
+		 */
+		int getNodeOrder() {
+			return nodeOrder;
+		}
+
+		SearchNode getSearchNode() {
+			return searchNode;
+		}
+
+		/**
+		 * Returns true if the DOM node of the search node matches the 'from' XPath of
+		 * the expression (a 'to' search node can be a 'from' node too) and false
+		 * otherwise.
+		 * 
+		 * @return true if the DOM node of the search node matches the 'from' XPath of
+		 *         the expression and false otherwise.
+		 */
+		boolean isMatchFrom() {
+			return matchFrom;
+		}
+	}
+
+	/**
+	 * Search nodes of an expression.
+	 */
+	static class ExpressionIndex {
+
+		private final List<IndexedNode> nodes;
+
+		private final Map<String, List<IndexedNode>> nodesByValue;
+
+		private ExpressionIndex() {
+			this.nodes = new ArrayList<>();
+			this.nodesByValue = new HashMap<>();
+		}
+
+		private void add(IndexedNode node) {
+			nodes.add(node);
+			String value = node.getSearchNode().getMatchValue();
+			if (value != null) {
+				nodesByValue.computeIfAbsent(value, k -> new ArrayList<>()).add(node);
+			}
+		}
+
+		/**
+		 * Returns the search nodes in the document order.
+		 * 
+		 * @return the search nodes in the document order.
+		 */
+		List<IndexedNode> getNodes() {
+			return nodes;
+		}
+
+		/**
+		 * Returns the search nodes which have the given match value in the document
+		 * order.
+		 * 
+		 * @param value the match value.
+		 * @return the search nodes which have the given match value in the document
+		 *         order.
+		 */
+		List<IndexedNode> getNodes(String value) {
+			List<IndexedNode> result = nodesByValue.get(value);
+			return result != null ? result : Collections.emptyList();
+		}
+	}
+
+	private final DOMDocument document;
+
+	private final Map<XMLReferenceExpression, ExpressionIndex> expressionIndexes;
+
+	private Set<String> includedFiles;
+
+	private XMLReferencesIndex(DOMDocument document) {
+		this.document = document;
+		// the expressions are weak keys to release the index of the old expressions
+		// when the settings are updated.
+		this.expressionIndexes = new WeakHashMap<>();
+	}
+
+	/**
+	 * Returns the references index of the given DOM document.
+	 * 
+	 * @param document the DOM document.
+	 * @return the references index of the given DOM document.
+	 */
+	static XMLReferencesIndex getIndex(DOMDocument document) {
+		return INDEXES.get(document, null, () -> new XMLReferencesIndex(document));
+	}
+
+	/**
+	 * Returns the index of the search nodes of the given expression.
+	 * 
+	 * @param expression    the reference expression.
+	 * @param cancelChecker the cancel checker.
+	 * @return the index of the search nodes of the given expression.
+	 */
+	synchronized ExpressionIndex getExpressionIndex(XMLReferenceExpression expression,
+			CancelChecker cancelChecker) {
+		ExpressionIndex index = expressionIndexes.get(expression);
+		if (index == null) {
+			index = new ExpressionIndex();
+			indexNode(document, expression, index, new int[1], cancelChecker);
+			expressionIndexes.put(expression, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the included files (xi:include/@href) of the DOM document.
+	 * 
+	 * @return the included files (xi:include/@href) of the DOM document.
+	 */
+	synchronized Set<String> getIncludedFiles() {
+		if (includedFiles == null) {
+			Set<String> files = new HashSet<>();
+			collectIncludedFiles(document, files);
+			includedFiles = files;
+		}
+		return includedFiles;
+	}
+
+	/**
+	 * Index the search nodes of the given DOM node and its children in the same
+	 * order than {@link SearchEngine}: the attributes of an element, then its
+	 * children.
+	 */
+	private static void indexNode(DOMNode node, XMLReferenceExpression expression, ExpressionIndex index,
+			int[] nodeOrder, CancelChecker cancelChecker) {
+		if (cancelChecker != null) {
+			cancelChecker.checkCanceled();
+		}
+		if (node.isElement()) {
+			if (node.hasAttributes()) {
+				for (DOMAttr attr : node.getAttributeNodes()) {
+					indexSearchNodes(attr, expression, index, nodeOrder[0]++);
+				}
+			}
+		} else if (node.isText()) {
+			indexSearchNodes(node, expression, index, nodeOrder[0]++);
+		}
+		if (node.hasChildNodes()) {
+			for (DOMNode child : node.getChildren()) {
+				indexNode(child, expression, index, nodeOrder, cancelChecker);
+			}
+		}
+	}
+
+	private static void indexSearchNodes(DOMNode node, XMLReferenceExpression expression, ExpressionIndex index,
+			int nodeOrder) {
+		boolean matchFrom = expression.matchFrom(node);
+		if (matchFrom) {
+			for (SearchNode searchNode : SearchNodeFactory.findSearchNodes(node, expression.getPrefix(),
+					expression.isMultiple(), Direction.FROM)) {
+				index.add(new IndexedNode(nodeOrder, searchNode, true));
+			}
+		}
+		if (expression.matchTo(node)) {
+			for (SearchNode searchNode : SearchNodeFactory.findSearchNodes(node, null, false, Direction.TO)) {
+				index.add(new IndexedNode(nodeOrder, searchNode, matchFrom));
+			}
+		}
+	}
+
+	private static void collectIncludedFiles(DOMNode node, Set<String> includedFiles) {
+		if (node.isElement()) {
+			DOMElement element = (DOMElement) node;
+			if (INCLUDE_TAG.equals(element.getLocalName())) {
+				// collect xi:include
+				String includedFile = element.getAttribute(HREF_ATTR);
+				if (includedFile != null) {
+					includedFiles.add(includedFile);
+				}
+			}
+		}
+		if (node.hasChildNodes()) {
+			for (DOMNode child : node.getChildren()) {
+				collectIncludedFiles(child, includedFiles);
+			}
+		}
+	}
+}
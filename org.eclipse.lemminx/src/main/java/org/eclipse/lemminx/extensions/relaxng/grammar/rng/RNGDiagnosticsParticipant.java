@@ -78,4 +78,9 @@ public class RNGDiagnosticsParticipant implements IDiagnosticsParticipant {
 		return !SchemaEnabled.never.equals(schemaSettings.getEnabled());
 	}
 
+	@Override
+	public boolean isParallelizable() {
+		return true;
+	}
+
 }
@@ -51,6 +51,12 @@ public class RelaxNGURIResolverExtension implements URIResolverExtension {
 		return RELAXNG_SYSTEM;
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		// the RelaxNG schema is resolved with a deployed file
+		return true;
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		String publicId = resourceIdentifier.getNamespace();
@@ -36,6 +36,8 @@ import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.participants.AggregateRelatedInfoFinder;
 import org.eclipse.lemminx.extensions.relaxng.RelaxNGConstants;
 import org.eclipse.lemminx.extensions.xerces.xmlmodel.msg.XMLModelMessageFormatter;
+import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
+import org.eclipse.lemminx.services.extensions.diagnostics.PartialDiagnosticsPublisher;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticRelatedInformation;
 import org.eclipse.lsp4j.DiagnosticSeverity;
@@ -55,8 +57,8 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 	private static final Logger LOGGER = Logger.getLogger(AbstractLSPErrorReporter.class.getName());
 
 	protected final static Range NO_RANGE = new Range();
-	private final DOMDocument xmlDocument;
-	private final List<Diagnostic> diagnostics;
+	private DOMDocument xmlDocument;
+	private List<Diagnostic> diagnostics;
 
 	private final String source;
 	private boolean hasRelatedInfo;
@@ -104,9 +106,19 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 			}
 		}
 		String code = getCode(domain, key, arguments, exception);
-		if (addDiagnostic(adjustedRange, message, diagnosticSeverity, code, relatedInformations) == null) {
+		Diagnostic diagnostic = addDiagnostic(adjustedRange, message, diagnosticSeverity, code, relatedInformations);
+		if (diagnostic == null) {
 			return null;
 		}
+		PartialDiagnosticsPublisher partialPublisher = getPartialPublisher();
+		if (partialPublisher != null) {
+			// publish the diagnostics while the document is validated
+			partialPublisher.report(diagnostic, isSyntaxError(domain));
+			if (partialPublisher.isMaxProblemsReached()) {
+				// stop the validation to bound the validation time
+				throw new XMLParseException(location, message);
+			}
+		}
 		if (fatalError && !fContinueAfterFatalError) {
 			XMLParseException parseException = (exception != null) ? new XMLParseException(location, message, exception)
 					: new XMLParseException(location, message);
@@ -156,6 +168,15 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 		return false;
 	}
 
+	private static boolean isSyntaxError(String domain) {
+		return XMLMessageFormatter.XML_DOMAIN.equals(domain) || XMLMessageFormatter.XMLNS_DOMAIN.equals(domain);
+	}
+
+	private PartialDiagnosticsPublisher getPartialPublisher() {
+		return diagnostics instanceof DiagnosticsResult ? ((DiagnosticsResult) diagnostics).getPartialPublisher()
+				: null;
+	}
+
 	public Diagnostic addDiagnostic(Range adjustedRange, String message, DiagnosticSeverity severity, String code,
 			List<DiagnosticRelatedInformation> relatedInformation) {
 		Diagnostic d = new Diagnostic(adjustedRange, message, severity, source, code);
@@ -279,6 +300,22 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 		return xmlDocument;
 	}
 
+	/**
+	 * Reuse this reporter to report the errors of the given DOM document in the
+	 * given diagnostics list.
+	 *
+	 * @param xmlDocument    the DOM document.
+	 * @param diagnostics    the diagnostics list to fill.
+	 * @param hasRelatedInfo true if related information must be computed and false
+	 *                       otherwise.
+	 */
+	public void reuse(DOMDocument xmlDocument, List<Diagnostic> diagnostics, boolean hasRelatedInfo) {
+		this.xmlDocument = xmlDocument;
+		this.diagnostics = diagnostics;
+		this.hasRelatedInfo = hasRelatedInfo;
+		this.currentError = null;
+	}
+
 	public static boolean initializeReporter(XMLSchemaValidator schemaValidator, XMLErrorReporter reporter,
 			XMLEntityManager entityManager) {
 		try {
@@ -53,7 +53,7 @@ public abstract class AbstractReferencedGrammarLSPErrorReporter extends Abstract
 	protected final ContentModelManager contentModelManager;
 	private final Map<String, ReferencedGrammarDiagnosticsInfo> referencedGrammarDiagnosticsInfoCache;
 
-	private final boolean hasRelatedInformation;
+	private boolean hasRelatedInformation;
 
 	public AbstractReferencedGrammarLSPErrorReporter(String source, DOMDocument xmlDocument,
 			List<Diagnostic> diagnostics, ContentModelManager contentModelManager, boolean hasRelatedInformation,
@@ -179,6 +179,13 @@ public abstract class AbstractReferencedGrammarLSPErrorReporter extends Abstract
 		return info;
 	}
 
+	@Override
+	public void reuse(DOMDocument xmlDocument, List<Diagnostic> diagnostics, boolean hasRelatedInfo) {
+		super.reuse(xmlDocument, diagnostics, hasRelatedInfo);
+		this.hasRelatedInformation = hasRelatedInfo;
+		referencedGrammarDiagnosticsInfoCache.clear();
+	}
+
 	public void endReport() {
 		if (referencedGrammarDiagnosticsInfoCache.isEmpty()) {
 			return;
@@ -155,6 +155,7 @@ public class LSPXMLEntityManager extends XMLEntityManager {
 			if (grammarPool != null) {
 				grammarPool.clear();
 			}
+			hasProblemsWithReferencedDTD = false;
 		}
 	}
 
@@ -87,7 +87,8 @@ public class ReferencedGrammarDiagnosticsInfo {
 	 */
 	public DOMDocument getGrammarDocument() {
 		if (document == null) {
-			document = DOMUtils.loadDocument(grammarURI, resolverExtensionManager);
+			// the locations of the errors come from the grammar file
+			document = DOMUtils.loadFileDocument(grammarURI, resolverExtensionManager);
 		}
 		return document;
 	}
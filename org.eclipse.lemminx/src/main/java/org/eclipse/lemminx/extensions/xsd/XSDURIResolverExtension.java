@@ -81,6 +81,12 @@ public class XSDURIResolverExtension implements URIResolverExtension {
 		return null;
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		// the XML Schema for XML Schema is resolved with deployed files
+		return true;
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		String publicId = resourceIdentifier.getNamespace();
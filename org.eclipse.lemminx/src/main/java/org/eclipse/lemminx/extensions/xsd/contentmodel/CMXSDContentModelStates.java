@@ -0,0 +1,176 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.xsd.contentmodel;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.xerces.impl.xs.SubstitutionGroupHandler;
+import org.apache.xerces.impl.xs.models.XSCMValidator;
+import org.apache.xerces.xni.QName;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.utils.StringUtils;
+
+/**
+ * Snapshots of the states of a Xerces content model ({@link XSCMValidator})
+ * computed for the child elements of a DOM element.
+ *
+ * <p>
+ * Computing the possible elements at a given offset requires to replay the
+ * transitions of all the previous child elements. For an element with
+ * thousands of children, a copy of the states is kept every
+ * {@link #SNAPSHOT_INTERVAL} children to resume the transitions from the
+ * nearest snapshot instead of the start of the content model.
+ * </p>
+ *
+ * <p>
+ * The snapshots are bound to the DOM element (each parse creates new DOM
+ * nodes) and to the version of its text document, and must be dropped when the
+ * version changes.
+ * </p>
+ *
+ */
+class CMXSDContentModelStates {
+
+	static final int SNAPSHOT_INTERVAL = 32;
+
+	private final XSCMValidator validator;
+
+	private final int version;
+
+	// snapshots[k] is the states of the content model before the child at index k
+	// * SNAPSHOT_INTERVAL
+	private int[][] snapshots;
+
+	// maxEnds[k] is the max end offset of the child elements before the child at
+	// index k * SNAPSHOT_INTERVAL
+	private int[] maxEnds;
+
+	private int size;
+
+	CMXSDContentModelStates(XSCMValidator validator, int version) {
+		this.validator = validator;
+		this.version = version;
+		this.snapshots = new int[4][];
+		this.maxEnds = new int[4];
+	}
+
+	/**
+	 * Returns true if the snapshots have been computed with the given content model
+	 * and text document version and false otherwise.
+	 *
+	 * @param validator the content model.
+	 * @param version   the version of the text document.
+	 * @return true if the snapshots have been computed with the given content model
+	 *         and text document version and false otherwise.
+	 */
+	boolean isValid(XSCMValidator validator, int version) {
+		return this.validator == validator && this.version == version;
+	}
+
+	/**
+	 * Returns the states of the content model after the transitions of the closed
+	 * child elements which end before the given offset and null if one child
+	 * element is not valid according to the content model.
+	 *
+	 * @param children the children of the parent element.
+	 * @param offset   the offset.
+	 * @param handler  the substitution group handler.
+	 * @return the states of the content model after the transitions of the closed
+	 *         child elements which end before the given offset and null if one
+	 *         child element is not valid.
+	 */
+	synchronized int[] computeStates(List<DOMNode> children, int offset, SubstitutionGroupHandler handler) {
+		int[] states;
+		int maxEnd;
+		int snapshot = findSnapshot(offset);
+		if (snapshot >= 0) {
+			states = snapshots[snapshot].clone();
+			maxEnd = maxEnds[snapshot];
+		} else {
+			states = validator.startContentModel();
+			maxEnd = Integer.MIN_VALUE;
+		}
+		for (int i = snapshot >= 0 ? snapshot * SNAPSHOT_INTERVAL : 0; i < children.size(); i++) {
+			if (i % SNAPSHOT_INTERVAL == 0 && i / SNAPSHOT_INTERVAL == size) {
+				addSnapshot(states.clone(), maxEnd);
+			}
+			DOMNode child = children.get(i);
+			if (!child.isElement()) {
+				continue;
+			}
+			DOMElement element = (DOMElement) child;
+			if (element.getEnd() > offset) {
+				// child element is after the given offset, stop the computing
+				break;
+			}
+			maxEnd = Math.max(maxEnd, element.getEnd());
+			if (!element.isClosed()) {
+				// Element is not closed, ignore it
+				continue;
+			}
+			if (validator.oneTransition(createQName(element), states, handler) == null) {
+				return null;
+			}
+		}
+		return states;
+	}
+
+	/**
+	 * Returns the index of the last snapshot which can be used for the given
+	 * offset and -1 otherwise.
+	 */
+	private int findSnapshot(int offset) {
+		// the max end offsets are sorted, search the last one which is before the
+		// offset
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (maxEnds[mid] <= offset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low - 1;
+	}
+
+	private void addSnapshot(int[] states, int maxEnd) {
+		if (size == snapshots.length) {
+			snapshots = Arrays.copyOf(snapshots, size * 2);
+			maxEnds = Arrays.copyOf(maxEnds, size * 2);
+		}
+		snapshots[size] = states;
+		maxEnds[size] = maxEnd;
+		size++;
+	}
+
+	/**
+	 * Returns the number of snapshots.
+	 *
+	 * @return the number of snapshots.
+	 */
+	synchronized int getSnapshotCount() {
+		return size;
+	}
+
+	private static QName createQName(DOMElement tag) {
+		// intern must be called since Xerces uses == to compare String ?
+		// -> see
+		// https://github.com/apache/xerces2-j/blob/trunk/src/org/apache/xerces/impl/xs/SubstitutionGroupHandler.java#L55
+		String namespace = tag.getNamespaceURI();
+		return new QName(tag.getPrefix(), tag.getLocalName().intern(), tag.getTagName().intern(),
+				StringUtils.isEmpty(namespace) ? null : namespace.intern());
+	}
+}
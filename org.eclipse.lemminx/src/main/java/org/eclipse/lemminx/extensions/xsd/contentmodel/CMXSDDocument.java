@@ -11,32 +11,44 @@
  */
 package org.eclipse.lemminx.extensions.xsd.contentmodel;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.apache.xerces.impl.XMLEntityManager;
 import org.apache.xerces.impl.dv.XSSimpleType;
 import org.apache.xerces.impl.dv.xs.XSSimpleTypeDecl;
 import org.apache.xerces.impl.xs.SchemaGrammar;
+import org.apache.xerces.impl.xs.SubstitutionGroupHandler;
 import org.apache.xerces.impl.xs.XMLSchemaLoader;
 import org.apache.xerces.impl.xs.XSComplexTypeDecl;
+import org.apache.xerces.impl.xs.XSDDescription;
 import org.apache.xerces.impl.xs.XSElementDecl;
 import org.apache.xerces.impl.xs.XSElementDeclHelper;
 import org.apache.xerces.impl.xs.XSLoaderImpl;
 import org.apache.xerces.impl.xs.XSParticleDecl;
+import org.apache.xerces.impl.xs.models.CMBuilder;
+import org.apache.xerces.impl.xs.models.CMNodeFactory;
+import org.apache.xerces.impl.xs.models.XSCMValidator;
 import org.apache.xerces.impl.xs.opti.ElementImpl;
 import org.apache.xerces.impl.xs.traversers.XSDHandler;
 import org.apache.xerces.impl.xs.util.SimpleLocator;
 import org.apache.xerces.impl.xs.util.XSObjectListImpl;
+import org.apache.xerces.util.URI.MalformedURIException;
 import org.apache.xerces.xni.QName;
 import org.apache.xerces.xni.XMLLocator;
+import org.apache.xerces.xni.grammars.Grammar;
+import org.apache.xerces.xni.grammars.XMLGrammarDescription;
 import org.apache.xerces.xs.StringList;
 import org.apache.xerces.xs.XSAnnotation;
 import org.apache.xerces.xs.XSAttributeDeclaration;
@@ -84,7 +96,13 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 	private final Map<XSElementDeclaration, CMXSDElementDeclaration> elementMappings;
 	private final Map<CMXSDElementDeclaration, Map<XSTypeDefinition, CMXSDElementDeclaration>> refinedElementMappings;
 
-	private Collection<CMElementDeclaration> elements;
+	private volatile Collection<CMElementDeclaration> elements;
+
+	private volatile CMXSDNameIndex<CMElementDeclaration> elementIndex;
+
+	private final Map<XSComplexTypeDecl, XSCMValidator> contentModels;
+
+	private final Map<DOMElement, CMXSDContentModelStates> contentModelStates;
 
 	private final FilesChangedTracker tracker;
 
@@ -93,8 +111,10 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 	public CMXSDDocument(XSModel model, XSLoaderImpl xsLoaderImpl) {
 		this.model = model;
 		this.xsLoader = xsLoaderImpl;
-		this.elementMappings = new HashMap<>();
-		this.refinedElementMappings = new HashMap<>();
+		this.elementMappings = new ConcurrentHashMap<>();
+		this.refinedElementMappings = new ConcurrentHashMap<>();
+		this.contentModels = new ConcurrentHashMap<>();
+		this.contentModelStates = Collections.synchronizedMap(new WeakHashMap<>());
 		this.tracker = createFilesChangedTracker(model);
 	}
 
@@ -127,13 +147,17 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 
 	@Override
 	public Collection<CMElementDeclaration> getElements() {
+		Collection<CMElementDeclaration> elements = this.elements;
 		if (elements == null) {
+			// the elements are collected in a local list to publish them only once they
+			// are all collected, since the document can be shared by several threads.
 			elements = new ArrayList<>();
 			XSNamedMap map = model.getComponents(XSConstants.ELEMENT_DECLARATION);
 			for (int j = 0; j < map.getLength(); j++) {
 				XSElementDeclaration elementDeclaration = (XSElementDeclaration) map.item(j);
 				collectElement(elementDeclaration, elements);
 			}
+			this.elements = elements;
 		}
 		return elements;
 	}
@@ -172,6 +196,73 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 		return model.getSubstitutionGroup(elementDeclaration);
 	}
 
+	/**
+	 * Returns the compiled content model of the given complex type and null if the
+	 * complex type has no content model.
+	 *
+	 * @param typeDecl the complex type.
+	 * @return the compiled content model of the given complex type and null if the
+	 *         complex type has no content model.
+	 */
+	XSCMValidator getContentModel(XSComplexTypeDecl typeDecl) {
+		XSCMValidator validator = contentModels.get(typeDecl);
+		if (validator == null) {
+			validator = typeDecl.getContentModel(new CMBuilder(new CMNodeFactory()));
+			if (validator != null) {
+				contentModels.put(typeDecl, validator);
+			}
+		}
+		return validator;
+	}
+
+	/**
+	 * Returns the states of the given content model after the transitions of the
+	 * closed child elements of the given parent element which end before the given
+	 * offset and null if one child element is not valid.
+	 *
+	 * <p>
+	 * For a parent element with a lot of children, the states are resumed from the
+	 * snapshots computed by the previous calls for the same DOM element while the
+	 * version of the text document doesn't change.
+	 * </p>
+	 *
+	 * @param validator     the content model of the parent element.
+	 * @param parentElement the parent element.
+	 * @param offset        the offset.
+	 * @return the states of the given content model after the transitions of the
+	 *         child elements and null if one child element is not valid.
+	 */
+	int[] computeContentModelStates(XSCMValidator validator, DOMElement parentElement, int offset) {
+		SubstitutionGroupHandler handler = new SubstitutionGroupHandler(this);
+		if (parentElement == null || !parentElement.hasChildNodes()) {
+			return validator.startContentModel();
+		}
+		List<DOMNode> children = parentElement.getChildren();
+		int version = parentElement.getOwnerDocument().getTextDocument().getVersion();
+		if (children.size() <= CMXSDContentModelStates.SNAPSHOT_INTERVAL) {
+			// few children, replay all transitions without keeping snapshots
+			return new CMXSDContentModelStates(validator, version).computeStates(children, offset, handler);
+		}
+		CMXSDContentModelStates states = contentModelStates.get(parentElement);
+		if (states == null || !states.isValid(validator, version)) {
+			states = new CMXSDContentModelStates(validator, version);
+			contentModelStates.put(parentElement, states);
+		}
+		return states.computeStates(children, offset, handler);
+	}
+
+	/**
+	 * Returns the snapshots of the content model states kept for the given parent
+	 * element and null otherwise.
+	 *
+	 * @param parentElement the parent element.
+	 * @return the snapshots of the content model states kept for the given parent
+	 *         element and null otherwise.
+	 */
+	CMXSDContentModelStates getContentModelStates(DOMElement parentElement) {
+		return contentModelStates.get(parentElement);
+	}
+
 	@Override
 	public CMElementDeclaration findCMElement(DOMElement element, String namespace) {
 		List<DOMElement> paths = new ArrayList<>();
@@ -196,13 +287,10 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 				CMXSDElementDeclaration baseDeclaration = declaration;
 				Map<XSTypeDefinition, CMXSDElementDeclaration> refinedElementMappingsForDeclaration =
 						refinedElementMappings.computeIfAbsent(baseDeclaration,
-								_key -> new HashMap<>());
+								_key -> new ConcurrentHashMap<>());
 
-				declaration = refinedElementMappingsForDeclaration.get(exactType);
-				if (declaration == null) {
-					declaration = baseDeclaration.refineType(exactType);
-					refinedElementMappingsForDeclaration.put(exactType, declaration);
-				}
+				declaration = refinedElementMappingsForDeclaration.computeIfAbsent(exactType,
+						baseDeclaration::refineType);
 			}
 		}
 		return declaration;
@@ -234,21 +322,18 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 	}
 
 	private CMElementDeclaration findElementDeclaration(String tag, String namespace) {
-		for (CMElementDeclaration cmElement : getElements()) {
-			if (cmElement.getLocalName().equals(tag)) {
-				return cmElement;
-			}
+		CMXSDNameIndex<CMElementDeclaration> elementIndex = this.elementIndex;
+		if (elementIndex == null) {
+			elementIndex = new CMXSDNameIndex<>(getElements(), CMElementDeclaration::getLocalName,
+					CMElementDeclaration::getNamespace);
+			this.elementIndex = elementIndex;
 		}
-		return null;
+		return elementIndex.find(tag, namespace);
 	}
 
 	CMElementDeclaration getXSDElement(XSElementDeclaration elementDeclaration) {
-		CMXSDElementDeclaration element = elementMappings.get(elementDeclaration);
-		if (element == null) {
-			element = new CMXSDElementDeclaration(this, elementDeclaration);
-			elementMappings.put(elementDeclaration, element);
-		}
-		return element;
+		return elementMappings.computeIfAbsent(elementDeclaration,
+				declaration -> new CMXSDElementDeclaration(this, declaration));
 	}
 
 	static Collection<String> getEnumerationValues(XSSimpleTypeDefinition typeDefinition) {
@@ -497,12 +582,53 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 
 	}
 
+	/**
+	 * Returns the grammar description, used as key by the validation grammar
+	 * pool, of the given grammar description loaded by the {@link XSLoaderImpl}
+	 * which only sets the literal system id.
+	 * 
+	 * <p>
+	 * The expanded system id is set on a copy since the grammar description is
+	 * shared by the Xerces grammar.
+	 * </p>
+	 * 
+	 * @param grammarDescription the grammar description.
+	 * @return the grammar description with an expanded system id and null if the
+	 *         system id cannot be expanded.
+	 */
+	private static XMLGrammarDescription getExpandedDescription(XMLGrammarDescription grammarDescription) {
+		if (grammarDescription.getExpandedSystemId() != null) {
+			return grammarDescription;
+		}
+		if (!(grammarDescription instanceof XSDDescription)) {
+			return null;
+		}
+		XSDDescription description = (XSDDescription) grammarDescription;
+		String literalSystemId = description.getLiteralSystemId();
+		if (literalSystemId == null) {
+			return null;
+		}
+		try {
+			String expandedSystemId = XMLEntityManager.expandSystemId(literalSystemId,
+					description.getBaseSystemId(), false);
+			if (expandedSystemId == null) {
+				return null;
+			}
+			XSDDescription expandedDescription = description.makeClone();
+			expandedDescription.setExpandedSystemId(expandedSystemId);
+			return expandedDescription;
+		} catch (MalformedURIException e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Returns the schema grammar from the given namespace and null otherwise.
 	 * 
 	 * @param namespaceItem the namespace
 	 * @return the schema grammar from the given namespace and null otherwise.
 	 */
+
 	private static SchemaGrammar getSchemaGrammar(XSNamespaceItem namespaceItem) {
 		return (namespaceItem != null && namespaceItem instanceof SchemaGrammar) ? (SchemaGrammar) namespaceItem : null;
 	}
@@ -782,4 +908,25 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 	public boolean isDirty() {
 		return tracker.isDirty();
 	}
+
+	@Override
+	public Collection<Path> getGrammarFiles() {
+		return tracker.getFiles();
+	}
+
+	@Override
+	public Map<XMLGrammarDescription, Grammar> getValidationGrammars() {
+		Map<XMLGrammarDescription, Grammar> grammars = new LinkedHashMap<>();
+		XSNamespaceItemList namespaces = model.getNamespaceItems();
+		for (int i = 0; i < namespaces.getLength(); i++) {
+			SchemaGrammar grammar = getSchemaGrammar(namespaces.item(i));
+			if (grammar != null) {
+				XMLGrammarDescription description = getExpandedDescription(grammar.getGrammarDescription());
+				if (description != null) {
+					grammars.put(description, grammar);
+				}
+			}
+		}
+		return grammars;
+	}
 }
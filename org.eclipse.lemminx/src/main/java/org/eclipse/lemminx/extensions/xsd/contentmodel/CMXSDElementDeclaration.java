@@ -18,20 +18,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 
 import org.apache.xerces.impl.dv.xs.XSSimpleTypeDecl;
 import org.apache.xerces.impl.xs.SchemaGrammar;
-import org.apache.xerces.impl.xs.SubstitutionGroupHandler;
 import org.apache.xerces.impl.xs.XSComplexTypeDecl;
-import org.apache.xerces.impl.xs.models.CMBuilder;
-import org.apache.xerces.impl.xs.models.CMNodeFactory;
 import org.apache.xerces.impl.xs.models.XSCMValidator;
 import org.apache.xerces.impl.xs.util.XSObjectListImpl;
-import org.apache.xerces.xni.QName;
 import org.apache.xerces.xs.XSAttributeUse;
 import org.apache.xerces.xs.XSComplexTypeDefinition;
 import org.apache.xerces.xs.XSConstants;
@@ -51,9 +46,6 @@ import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
 import org.eclipse.lemminx.settings.SchemaDocumentationType;
 import org.eclipse.lemminx.utils.StringUtils;
 import org.eclipse.lsp4j.MarkupKind;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 /**
  * XSD element declaration implementation.
@@ -69,9 +61,13 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	private final XSTypeDefinition typeDefinition;
 
-	private Collection<CMAttributeDeclaration> attributes;
+	private volatile Collection<CMAttributeDeclaration> attributes;
 
-	private Collection<CMElementDeclaration> elements;
+	private volatile Collection<CMElementDeclaration> elements;
+
+	private volatile CMXSDNameIndex<CMAttributeDeclaration> attributeIndex;
+
+	private volatile CMXSDNameIndex<CMElementDeclaration> elementIndex;
 
 	private String documentation;
 
@@ -114,9 +110,11 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	@Override
 	public Collection<CMAttributeDeclaration> getAttributes() {
+		Collection<CMAttributeDeclaration> attributes = this.attributes;
 		if (attributes == null) {
 			attributes = new ArrayList<>();
 			collectAttributesDeclaration(elementDeclaration, attributes);
+			this.attributes = attributes;
 		}
 		return attributes;
 	}
@@ -149,9 +147,11 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	@Override
 	public Collection<CMElementDeclaration> getElements() {
+		Collection<CMElementDeclaration> elements = this.elements;
 		if (elements == null) {
 			elements = new ArrayList<>();
 			collectElementsDeclaration(elementDeclaration, elements);
+			this.elements = elements;
 		}
 		return elements;
 	}
@@ -162,24 +162,17 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 			// The type definition is complex (ex: xs:all; xs:sequence), returns list of
 			// element declaration according those XML Schema constraints
 
-			// Initialize Xerces validator
-			CMBuilder cmBuilder = new CMBuilder(new CMNodeFactory());
-			XSCMValidator validator = ((XSComplexTypeDecl) typeDefinition).getContentModel(cmBuilder);
+			// Get the compiled Xerces validator
+			XSCMValidator validator = document.getContentModel((XSComplexTypeDecl) typeDefinition);
 			if (validator == null) {
 				return Collections.emptyList();
 			}
 
-			SubstitutionGroupHandler handler = new SubstitutionGroupHandler(document);
-			// Compute list of child element (QName)
-			List<QName> qNames = toQNames(parentElement, offset);
-			// Loop for each element (QName) and check if it is valid according the XML
-			// Schema constraint
-			int[] states = validator.startContentModel();
-			for (QName elementName : qNames) {
-				Object decl = validator.oneTransition(elementName, states, handler);
-				if (decl == null) {
-					return Collections.emptyList();
-				}
+			// Loop for each closed child element before the offset and check if it is
+			// valid according the XML Schema constraint
+			int[] states = document.computeContentModelStates(validator, parentElement, offset);
+			if (states == null) {
+				return Collections.emptyList();
 			}
 
 			// At this step, all child elements are valid, the call of
@@ -266,49 +259,6 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 		return PC_UNKWOWN;
 	}
 
-	/**
-	 * Returns list of element (QName) of child elements of the given parent element
-	 * upon the given offset
-	 *
-	 * @param parentElement the parent element
-	 * @param offset        the offset where child element must be belong to
-	 * @return list of element (QName) of child elements of the given parent element
-	 *         upon the given offset
-	 */
-	private static List<QName> toQNames(DOMElement parentElement, int offset) {
-		if (parentElement == null || !parentElement.hasChildNodes()) {
-			return Collections.emptyList();
-		}
-		List<QName> qNames = new ArrayList<>();
-		NodeList children = parentElement.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.ELEMENT_NODE) {
-				// child node is an element
-				DOMElement element = (DOMElement) child;
-				if (element.getEnd() > offset) {
-					// child element is after the given offset, stop the computing
-					break;
-				}
-				if (!element.isClosed()) {
-					// Element is not closed, ignore it
-					continue;
-				}
-				qNames.add(createQName(element));
-			}
-		}
-		return qNames;
-	}
-
-	private static QName createQName(Element tag) {
-		// intern must be called since Xerces uses == to compare String ?
-		// -> see
-		// https://github.com/apache/xerces2-j/blob/trunk/src/org/apache/xerces/impl/xs/SubstitutionGroupHandler.java#L55
-		String namespace = tag.getNamespaceURI();
-		return new QName(tag.getPrefix(), tag.getLocalName().intern(), tag.getTagName().intern(),
-				StringUtils.isEmpty(namespace) ? null : namespace.intern());
-	}
-
 	private void collectElementsDeclaration(XSElementDeclaration elementDecl,
 			Collection<CMElementDeclaration> elements) {
 		switch (typeDefinition.getTypeCategory()) {
@@ -449,22 +399,24 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	@Override
 	public CMElementDeclaration findCMElement(String tag, String namespace) {
-		for (CMElementDeclaration cmElement : getElements()) {
-			if (cmElement.getLocalName().equals(tag)) {
-				return cmElement;
-			}
+		CMXSDNameIndex<CMElementDeclaration> elementIndex = this.elementIndex;
+		if (elementIndex == null) {
+			elementIndex = new CMXSDNameIndex<>(getElements(), CMElementDeclaration::getLocalName,
+					CMElementDeclaration::getNamespace);
+			this.elementIndex = elementIndex;
 		}
-		return null;
+		return elementIndex.find(tag, namespace);
 	}
 
 	@Override
 	public CMAttributeDeclaration findCMAttribute(String attributeName, String namespace) {
-		for (CMAttributeDeclaration cmAttribute : getAttributes()) {
-			if (cmAttribute.getLocalName().equals(attributeName)) {
-				return cmAttribute;
-			}
+		CMXSDNameIndex<CMAttributeDeclaration> attributeIndex = this.attributeIndex;
+		if (attributeIndex == null) {
+			attributeIndex = new CMXSDNameIndex<>(getAttributes(), CMAttributeDeclaration::getLocalName,
+					CMAttributeDeclaration::getNamespace);
+			this.attributeIndex = attributeIndex;
 		}
-		return null;
+		return attributeIndex.find(attributeName, namespace);
 	}
 
 	@Override
@@ -0,0 +1,87 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.xsd.contentmodel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Read-only index of element or attribute declarations keyed by local name and
+ * namespace, used to find a declaration without iterating over all
+ * declarations of a grammar (ex : the thousands of global elements of UBL or
+ * FpML XML Schemas).
+ *
+ * <p>
+ * The index is immutable once created, so it can be shared by several threads.
+ * </p>
+ *
+ * @param <T> the declaration type.
+ */
+class CMXSDNameIndex<T> {
+
+	private final Map<String, List<T>> declarationsByLocalName;
+
+	private final Function<T, String> namespaceProvider;
+
+	/**
+	 * Create the index of the given declarations.
+	 *
+	 * @param declarations      the declarations.
+	 * @param localNameProvider the function which returns the local name of a
+	 *                          declaration.
+	 * @param namespaceProvider the function which returns the namespace of a
+	 *                          declaration.
+	 */
+	CMXSDNameIndex(Collection<T> declarations, Function<T, String> localNameProvider,
+			Function<T, String> namespaceProvider) {
+		this.declarationsByLocalName = new HashMap<>(declarations.size() * 4 / 3 + 1);
+		this.namespaceProvider = namespaceProvider;
+		for (T declaration : declarations) {
+			declarationsByLocalName.computeIfAbsent(localNameProvider.apply(declaration), k -> new ArrayList<>(1))
+					.add(declaration);
+		}
+	}
+
+	/**
+	 * Returns the declaration with the given local name and namespace and null
+	 * otherwise.
+	 *
+	 * <p>
+	 * When there is no declaration with the given namespace, the first declaration
+	 * with the given local name is returned.
+	 * </p>
+	 *
+	 * @param localName the local name.
+	 * @param namespace the namespace.
+	 * @return the declaration with the given local name and namespace and null
+	 *         otherwise.
+	 */
+	T find(String localName, String namespace) {
+		List<T> declarations = declarationsByLocalName.get(localName);
+		if (declarations == null) {
+			return null;
+		}
+		if (declarations.size() > 1) {
+			for (T declaration : declarations) {
+				if (Objects.equals(namespace, namespaceProvider.apply(declaration))) {
+					return declaration;
+				}
+			}
+		}
+		return declarations.get(0);
+	}
+}
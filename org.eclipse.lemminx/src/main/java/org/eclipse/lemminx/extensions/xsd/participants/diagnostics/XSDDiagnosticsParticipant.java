@@ -79,4 +79,9 @@ public class XSDDiagnosticsParticipant implements IDiagnosticsParticipant {
 		return !SchemaEnabled.never.equals(schemaSettings.getEnabled());
 	}
 
+	@Override
+	public boolean isParallelizable() {
+		return true;
+	}
+
 }
@@ -13,8 +13,10 @@ package org.eclipse.lemminx.extensions.xsd.utils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
 import java.util.function.BiConsumer;
@@ -28,6 +30,7 @@ import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.extensions.contentmodel.model.FilesChangedTracker;
+import org.eclipse.lemminx.services.DocumentResultCache;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lemminx.utils.DOMUtils;
 import org.eclipse.lemminx.utils.StringUtils;
@@ -56,6 +59,12 @@ public class XSDUtils {
 	public static final String XS_IMPORT_TAG = "xs:import";
 	public static final String XS_SCHEMA_TAG = "xs:schema";
 
+	/**
+	 * Origin attributes (xs:element/@type, xs:element/@ref, etc) of an XML Schema
+	 * in the document order, computed once for a version of the DOM document.
+	 */
+	private static final DocumentResultCache<List<DOMAttr>> ORIGIN_ATTRS = new DocumentResultCache<>();
+
 	/**
 	 * Binding type of xs attribute.
 	 *
@@ -293,8 +302,33 @@ public class XSDUtils {
 
 		// Collect references for each references nodes
 
-		NodeList nodes = documentElement.getChildNodes();
-		searchXSOriginAttributes(nodes, targetAttrs, targetNamespacePrefix, collector, cancelChecker);
+		Map<String, List<DOMAttr>> targetAttrsByName = new HashMap<>();
+		for (DOMAttr targetAttr : targetAttrs) {
+			targetAttrsByName.computeIfAbsent(targetAttr.getValue(), k -> new ArrayList<>()).add(targetAttr);
+		}
+		List<DOMAttr> originAttrs = ORIGIN_ATTRS.get(document, null, () -> {
+			List<DOMAttr> attrs = new ArrayList<>();
+			collectXSOriginAttributes(documentElement.getChildNodes(), attrs, cancelChecker);
+			return attrs;
+		});
+		for (DOMAttr originAttr : originAttrs) {
+			if (cancelChecker != null) {
+				cancelChecker.checkCanceled();
+			}
+			String originName = getOriginName(originAttr.getValue(), targetNamespacePrefix);
+			List<DOMAttr> matchingTargetAttrs = targetAttrsByName.get(originName);
+			if (matchingTargetAttrs != null) {
+				BindingType originBnding = XSDUtils.getBindingType(originAttr);
+				for (DOMAttr targetAttr : matchingTargetAttrs) {
+					Element targetElement = targetAttr.getOwnerElement();
+					if (isBounded(originAttr.getOwnerElement(), originBnding, targetElement)) {
+						// node is a xs:complexType, xs:simpleType element, xsl:element, xs:group which
+						// matches the binding type of the originAttr
+						collector.accept(originAttr, targetAttr);
+					}
+				}
+			}
+		}
 	}
 
 	/**
@@ -361,8 +395,16 @@ public class XSDUtils {
 		}
 	}
 
-	private static void searchXSOriginAttributes(NodeList nodes, List<DOMAttr> targetAttrs,
-			String targetNamespacePrefix, BiConsumer<DOMAttr, DOMAttr> collector, CancelChecker cancelChecker) {
+	/**
+	 * Collect the origin attributes (attributes which have a binding type) of the
+	 * given nodes and their children in the document order.
+	 *
+	 * @param nodes         the nodes.
+	 * @param originAttrs   the list of origin attributes to fill.
+	 * @param cancelChecker the cancel checker.
+	 */
+	private static void collectXSOriginAttributes(NodeList nodes, List<DOMAttr> originAttrs,
+			CancelChecker cancelChecker) {
 		for (int i = 0; i < nodes.getLength(); i++) {
 			if (cancelChecker != null) {
 				cancelChecker.checkCanceled();
@@ -374,29 +416,16 @@ public class XSDUtils {
 				if (originAttributes != null) {
 					for (int j = 0; j < originAttributes.getLength(); j++) {
 						DOMAttr originAttr = (DOMAttr) originAttributes.item(j);
-						BindingType originBnding = XSDUtils.getBindingType(originAttr);
-						if (originBnding != BindingType.NONE) {
-							String originName = getOriginName(originAttr.getValue(), targetNamespacePrefix);
-							for (DOMAttr targetAttr : targetAttrs) {
-								Element targetElement = targetAttr.getOwnerElement();
-								if (isBounded(originAttr.getOwnerElement(), originBnding, targetElement)) {
-									// node is a xs:complexType, xs:simpleType element, xsl:element, xs:group which
-									// matches the binding type of the originAttr
-									if (targetAttr != null && (Objects.equal(originName, targetAttr.getValue()))) {
-										collector.accept(originAttr, targetAttr);
-									}
-								}
-							}
+						if (XSDUtils.getBindingType(originAttr) != BindingType.NONE) {
+							originAttrs.add(originAttr);
 						}
 					}
 				}
 			}
 			if (node.hasChildNodes()) {
-				searchXSOriginAttributes(node.getChildNodes(), targetAttrs, targetNamespacePrefix, collector,
-						cancelChecker);
+				collectXSOriginAttributes(node.getChildNodes(), originAttrs, cancelChecker);
 			}
 		}
-
 	}
 
 	public static boolean isXSComplexType(Element element) {
@@ -78,6 +78,12 @@ public class XSLURIResolverExtension implements URIResolverExtension {
 		return null;
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		// the XML Schema depends on the XSL version declared in the document
+		return !XSL_NAMESPACE_URI.equals(publicId);
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		String publicId = resourceIdentifier.getNamespace();
@@ -0,0 +1,105 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+
+/**
+ * Cache of a result (folding ranges, document symbols, document links,
+ * references index) computed from a DOM document.
+ *
+ * <p>
+ * The result is memoized for the DOM document instance (each parse creates a
+ * new DOM document) and for the version of its text document. A result is also
+ * bound to a key which contains the settings values used to compute it.
+ * </p>
+ *
+ * <p>
+ * Clients which poll the same request after each change of the document are
+ * served with the cached result while the document has not changed, so the
+ * cached result must not be modified.
+ * </p>
+ *
+ * @param <T> the result type.
+ */
+public class DocumentResultCache<T> {
+
+	private static class CachedResult<T> {
+
+		private final int version;
+
+		private final Object key;
+
+		private final T result;
+
+		public CachedResult(int version, Object key, T result) {
+			this.version = version;
+			this.key = key;
+			this.result = result;
+		}
+
+		public boolean isValid(int version, Object key) {
+			return this.version == version && Objects.equals(this.key, key);
+		}
+	}
+
+	private final Map<DOMDocument, CachedResult<T>> results = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Returns the cached result of the given DOM document for the given key and
+	 * computes it with the given supplier if the DOM document has changed.
+	 *
+	 * @param document the DOM document.
+	 * @param key      the key (settings values used to compute the result).
+	 * @param compute  the supplier which computes the result.
+	 * @return the cached result of the given DOM document for the given key.
+	 */
+	public T get(DOMDocument document, Object key, Supplier<T> compute) {
+		// Get the version before computing the result, so a result computed while the
+		// document changes is not served for the new version.
+		int version = document.getTextDocument().getVersion();
+		CachedResult<T> cached = results.get(document);
+		if (cached != null && cached.isValid(version, key)) {
+			return cached.result;
+		}
+		T result = compute.get();
+		results.put(document, new CachedResult<>(version, key, result));
+		return result;
+	}
+
+	/**
+	 * Returns the generation of the XML catalogs (and the other URI resolvers
+	 * settings) used by the given DOM document, to add in the key of a result which
+	 * depends on the resolved URIs (ex : document symbols and links).
+	 *
+	 * @param document the DOM document.
+	 * @return the generation of the XML catalogs.
+	 */
+	public static long getResolveGeneration(DOMDocument document) {
+		URIResolverExtensionManager resolverManager = document.getResolverExtensionManager();
+		return resolverManager != null ? resolverManager.getResolveCache().getGeneration() : 0;
+	}
+
+	/**
+	 * Clear the cached results.
+	 */
+	public void clear() {
+		results.clear();
+	}
+}
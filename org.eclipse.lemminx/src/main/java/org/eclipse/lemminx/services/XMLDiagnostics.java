@@ -12,9 +12,19 @@
  */
 package org.eclipse.lemminx.services;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,6 +33,7 @@ import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSetting
 import org.eclipse.lemminx.services.extensions.XMLExtensionsRegistry;
 import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
 import org.eclipse.lemminx.services.extensions.diagnostics.IDiagnosticsParticipant;
+import org.eclipse.lemminx.services.extensions.diagnostics.PartialDiagnosticsPublisher;
 import org.eclipse.lemminx.uriresolver.CacheResourceDownloadingException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -30,22 +41,55 @@ import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 /**
  * XML diagnostics support.
  *
+ * <p>
+ * The diagnostics participants which are thread-safe and independent (see
+ * {@link IDiagnosticsParticipant#isParallelizable()}) are executed in parallel
+ * with a bounded pool of threads shared by all the documents. The diagnostics
+ * of the participants are merged in the registration order of the
+ * participants, so the result doesn't depend on the execution order.
+ * </p>
+ *
  */
 class XMLDiagnostics {
 
-	private final XMLExtensionsRegistry extensionsRegistry;
 	private static final Logger LOGGER = Logger.getLogger(XMLDiagnostics.class.getName());
 
+	/**
+	 * System property used to configure the number of threads used to execute the
+	 * diagnostics participants in parallel ("0" executes the participants one
+	 * after the other).
+	 */
+	public static final String PARTICIPANTS_THREADS_PROPERTY = "lemminx.diagnostics.participants.threads";
+
+	/**
+	 * Time in milliseconds after which a diagnostics participant is reported as
+	 * slow in the log.
+	 */
+	private static final long SLOW_PARTICIPANT_TIME = 1000;
+
+	private static final long CANCEL_CHECK_INTERVAL = 50;
+
+	private static final int PARTICIPANTS_THREADS = getParticipantsThreads();
+
+	private final XMLExtensionsRegistry extensionsRegistry;
+
 	public XMLDiagnostics(XMLExtensionsRegistry extensionsRegistry) {
 		this.extensionsRegistry = extensionsRegistry;
 	}
 
 	public DiagnosticsResult doDiagnostics(DOMDocument xmlDocument, XMLValidationSettings validationSettings,
 			Map<String, Object> validationArgs, CancelChecker cancelChecker) {
+		return doDiagnostics(xmlDocument, validationSettings, validationArgs, null, cancelChecker);
+	}
+
+	public DiagnosticsResult doDiagnostics(DOMDocument xmlDocument, XMLValidationSettings validationSettings,
+			Map<String, Object> validationArgs, PartialDiagnosticsPublisher partialPublisher,
+			CancelChecker cancelChecker) {
 		if (validationSettings != null && !validationSettings.isEnabled()) {
 			return DiagnosticsResult.EMPTY;
 		}
 		DiagnosticsResult diagnostics = new DiagnosticsResult(validationArgs);
+		diagnostics.setPartialPublisher(partialPublisher);
 		doExtensionsDiagnostics(xmlDocument, diagnostics, validationSettings, validationArgs, cancelChecker);
 		return diagnostics;
 	}
@@ -59,19 +103,193 @@ class XMLDiagnostics {
 	 * @param validationArgs
 	 * @param monitor
 	 */
-	private void doExtensionsDiagnostics(DOMDocument xmlDocument, List<Diagnostic> diagnostics,
+	private void doExtensionsDiagnostics(DOMDocument xmlDocument, DiagnosticsResult diagnostics,
 			XMLValidationSettings validationSettings, Map<String, Object> validationArgs, CancelChecker monitor) {
-		for (IDiagnosticsParticipant diagnosticsParticipant : extensionsRegistry.getDiagnosticsParticipants()) {
+		Collection<IDiagnosticsParticipant> participants = extensionsRegistry.getDiagnosticsParticipants();
+		if (PARTICIPANTS_THREADS > 0 && participants.size() > 1
+				&& participants.stream().anyMatch(IDiagnosticsParticipant::isParallelizable)) {
+			doParallelExtensionsDiagnostics(participants, xmlDocument, diagnostics, validationSettings,
+					validationArgs, monitor);
+			return;
+		}
+		for (IDiagnosticsParticipant diagnosticsParticipant : participants) {
+			monitor.checkCanceled();
+			long time = doParticipantDiagnostics(diagnosticsParticipant, xmlDocument, diagnostics,
+					validationSettings, monitor);
+			diagnostics.addParticipantTime(getParticipantName(diagnosticsParticipant), time);
+		}
+	}
+
+	/**
+	 * Execute the parallelizable participants with the shared pool and the other
+	 * participants with the current thread, and merge the diagnostics in the
+	 * registration order of the participants.
+	 */
+	private static void doParallelExtensionsDiagnostics(Collection<IDiagnosticsParticipant> participants,
+			DOMDocument xmlDocument, DiagnosticsResult diagnostics, XMLValidationSettings validationSettings,
+			Map<String, Object> validationArgs, CancelChecker monitor) {
+		List<ParticipantResult> results = new ArrayList<>(participants.size());
+		try {
+			for (IDiagnosticsParticipant participant : participants) {
+				ParticipantResult result = new ParticipantResult(participant, validationArgs,
+						diagnostics.getPartialPublisher());
+				results.add(result);
+				if (participant.isParallelizable()) {
+					result.future = ParticipantsExecutorHolder.EXECUTOR.submit(() -> {
+						monitor.checkCanceled();
+						result.time = doParticipantDiagnostics(participant, xmlDocument, result.diagnostics,
+								validationSettings, monitor);
+						return null;
+					});
+				}
+			}
+			// Execute the participants which are not thread-safe with the current thread
+			for (ParticipantResult result : results) {
+				if (result.future == null) {
+					monitor.checkCanceled();
+					result.time = doParticipantDiagnostics(result.participant, xmlDocument, result.diagnostics,
+							validationSettings, monitor);
+				}
+			}
+			// Merge the diagnostics in the registration order of the participants
+			for (ParticipantResult result : results) {
+				if (result.future != null) {
+					waitFor(result.future, monitor);
+				}
+				diagnostics.addAll(result.diagnostics);
+				result.diagnostics.getFutures().forEach(diagnostics::addFuture);
+				diagnostics.addParticipantTime(getParticipantName(result.participant), result.time);
+			}
+		} finally {
+			// Cancel the participants which are not started when an error occurs
+			for (ParticipantResult result : results) {
+				if (result.future != null) {
+					result.future.cancel(false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Wait for the end of the given participant execution by checking the
+	 * cancellation of the validation.
+	 */
+	private static void waitFor(Future<?> future, CancelChecker monitor) {
+		while (true) {
 			monitor.checkCanceled();
 			try {
-				diagnosticsParticipant.doDiagnostics(xmlDocument, diagnostics, validationSettings, monitor);
-			} catch (CancellationException | CacheResourceDownloadingException e) {
-				throw e;
-			} catch (Exception e) {
-				LOGGER.log(Level.SEVERE, "Error while processing diagnostics for the participant '"
-						+ diagnosticsParticipant.getClass().getName() + "'.", e);
+				future.get(CANCEL_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+				return;
+			} catch (TimeoutException e) {
+				// check the cancellation and wait again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new RuntimeException(cause);
 			}
 		}
 	}
 
+	/**
+	 * Execute the given participant and returns the time spent in milliseconds.
+	 */
+	private static long doParticipantDiagnostics(IDiagnosticsParticipant diagnosticsParticipant,
+			DOMDocument xmlDocument, List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
+			CancelChecker monitor) {
+		long start = System.nanoTime();
+		try {
+			diagnosticsParticipant.doDiagnostics(xmlDocument, diagnostics, validationSettings, monitor);
+		} catch (CancellationException | CacheResourceDownloadingException e) {
+			throw e;
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while processing diagnostics for the participant '"
+					+ getParticipantName(diagnosticsParticipant) + "'.", e);
+		}
+		long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		if (time >= SLOW_PARTICIPANT_TIME) {
+			LOGGER.info("Diagnostics participant '" + getParticipantName(diagnosticsParticipant) + "' took " + time
+					+ " ms for '" + xmlDocument.getDocumentURI() + "'.");
+		} else if (LOGGER.isLoggable(Level.FINE)) {
+			LOGGER.fine("Diagnostics participant '" + getParticipantName(diagnosticsParticipant) + "' took " + time
+					+ " ms for '" + xmlDocument.getDocumentURI() + "'.");
+		}
+		return time;
+	}
+
+	private static String getParticipantName(IDiagnosticsParticipant diagnosticsParticipant) {
+		return diagnosticsParticipant.getClass().getName();
+	}
+
+	/**
+	 * Returns the number of threads used to execute the diagnostics participants
+	 * in parallel (the number of available processors minus one, with at most 4
+	 * threads) which can be overridden with the
+	 * "lemminx.diagnostics.participants.threads" system property.
+	 *
+	 * @return the number of threads used to execute the diagnostics participants
+	 *         in parallel.
+	 */
+	private static int getParticipantsThreads() {
+		String value = System.getProperty(PARTICIPANTS_THREADS_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				int threads = Integer.parseInt(value);
+				if (threads >= 0) {
+					return threads;
+				}
+			} catch (NumberFormatException e) {
+				LOGGER.warning("Invalid value '" + value + "' for the system property '"
+						+ PARTICIPANTS_THREADS_PROPERTY + "'.");
+			}
+		}
+		return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+	}
+
+	/**
+	 * The result of a diagnostics participant executed in parallel.
+	 */
+	private static class ParticipantResult {
+
+		final IDiagnosticsParticipant participant;
+
+		final DiagnosticsResult diagnostics;
+
+		Future<?> future;
+
+		volatile long time;
+
+		ParticipantResult(IDiagnosticsParticipant participant, Map<String, Object> validationArgs,
+				PartialDiagnosticsPublisher partialPublisher) {
+			this.participant = participant;
+			this.diagnostics = new DiagnosticsResult(validationArgs);
+			this.diagnostics.setPartialPublisher(partialPublisher);
+		}
+	}
+
+	/**
+	 * The pool of threads shared by all the documents, created on the first
+	 * parallel execution.
+	 */
+	private static class ParticipantsExecutorHolder {
+
+		static final ExecutorService EXECUTOR = createExecutor();
+
+		private static ExecutorService createExecutor() {
+			AtomicInteger count = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(PARTICIPANTS_THREADS, PARTICIPANTS_THREADS, 60L,
+					TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable,
+								"XML diagnostics participant " + count.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+	}
 }
@@ -33,11 +33,36 @@ class XMLDocumentLink {
 
 	private static Logger LOGGER = Logger.getLogger(XMLDocumentLink.class.getName());
 
+	private final DocumentResultCache<List<DocumentLink>> cache = new DocumentResultCache<>();
+
 	public XMLDocumentLink(XMLExtensionsRegistry extensionsRegistry) {
 		this.extensionsRegistry = extensionsRegistry;
 	}
 
+	/**
+	 * Returns the document links of the given DOM document.
+	 *
+	 * <p>
+	 * The document links are cached until the DOM document, a grammar or a catalog
+	 * is updated, so the returned list must not be modified.
+	 * </p>
+	 *
+	 * @param document the DOM document.
+	 * @return the document links of the given DOM document.
+	 */
 	public List<DocumentLink> findDocumentLinks(DOMDocument document) {
+		return cache.get(document, DocumentResultCache.getResolveGeneration(document),
+				() -> computeDocumentLinks(document));
+	}
+
+	/**
+	 * Clear the cached document links.
+	 */
+	void clearCache() {
+		cache.clear();
+	}
+
+	private List<DocumentLink> computeDocumentLinks(DOMDocument document) {
 		List<DocumentLink> newLinks = new ArrayList<>();
 		for (IDocumentLinkParticipant participant : extensionsRegistry.getDocumentLinkParticipants()) {
 			try {
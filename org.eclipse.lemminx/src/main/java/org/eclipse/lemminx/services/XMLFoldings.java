@@ -13,6 +13,7 @@
 package org.eclipse.lemminx.services;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -26,9 +27,10 @@ import java.util.regex.Pattern;
 
 import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.commons.TextDocument;
-import org.eclipse.lemminx.dom.parser.Scanner;
-import org.eclipse.lemminx.dom.parser.TokenType;
-import org.eclipse.lemminx.dom.parser.XMLScanner;
+import org.eclipse.lemminx.dom.DOMComment;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.services.extensions.XMLExtensionsRegistry;
 import org.eclipse.lemminx.settings.XMLFoldingSettings;
 import org.eclipse.lsp4j.FoldingRange;
@@ -45,6 +47,10 @@ class XMLFoldings {
 
 	private static final Pattern REGION_PATTERN = Pattern.compile("\\s*#(region\\b)|(endregion\\b)");
 
+	private static final String DOCTYPE_TAG_NAME = "!DOCTYPE";
+
+	private final DocumentResultCache<List<FoldingRange>> cache = new DocumentResultCache<>();
+
 	public XMLFoldings(XMLExtensionsRegistry extensionsRegistry) {
 		this.extensionsRegistry = extensionsRegistry;
 	}
@@ -61,45 +67,106 @@ class XMLFoldings {
 		}
 	}
 
-	public List<FoldingRange> getFoldingRanges(TextDocument document, XMLFoldingSettings context,
-			CancelChecker cancelChecker) {
-		Scanner scanner = XMLScanner.createScanner(document.getText());
-		TokenType token = scanner.scan();
-		// Pre-allocate capacity based on document size (estimate: 1 folding per 500 chars)
-		int estimatedCapacity = Math.min(document.getText().length() / 500, 1000);
-		List<FoldingRange> ranges = new ArrayList<>(estimatedCapacity);
+	/**
+	 * Folding ranges collector which visits the nodes of the DOM document in
+	 * document order.
+	 */
+	private class FoldingRangesCollector {
 
-		// Pre-allocate stack capacity (estimate: max nesting depth of 50)
-		List<TagInfo> stack = new ArrayList<>(50);
-		String lastTagName = null;
-		int prevStart = -1;
+		private final TextDocument document;
 
-		try {
-			while (token != TokenType.EOS) {
-				cancelChecker.checkCanceled();
-				switch (token) {
-				case DTDStartDoctypeTag:
-				case StartTag: {
-					String tagName = scanner.getTokenText();
-					int startLine = document.positionAt(scanner.getTokenOffset()).getLine();
-					stack.add(new TagInfo(startLine, tagName));
-					lastTagName = tagName;
-					break;
+		private final boolean includeClosingTagInFold;
+
+		private final List<FoldingRange> ranges;
+
+		private final List<TagInfo> stack;
+
+		private int prevStart;
+
+		public FoldingRangesCollector(TextDocument document, XMLFoldingSettings context) {
+			this.document = document;
+			this.includeClosingTagInFold = isIncludeClosingTagInFold(context);
+			// Pre-allocate capacity based on document size (estimate: 1 folding per 500
+			// chars)
+			int estimatedCapacity = Math.min(document.getText().length() / 500, 1000);
+			this.ranges = new ArrayList<>(estimatedCapacity);
+			// Pre-allocate stack capacity (estimate: max nesting depth of 50)
+			this.stack = new ArrayList<>(50);
+			this.prevStart = -1;
+		}
+
+		/**
+		 * Called when the start of the given node is visited.
+		 */
+		public void startNode(DOMNode node) throws BadLocationException {
+			if (node.isElement()) {
+				DOMElement element = (DOMElement) node;
+				if (element.hasStartTag() && element.hasTagName()) {
+					stack.add(new TagInfo(document.lineAt(element.getStart()), element.getTagName()));
 				}
-				case EndTag: {
-					lastTagName = scanner.getTokenText();
-					break;
+			} else if (node.isDoctype()) {
+				stack.add(new TagInfo(document.lineAt(node.getStart()), DOCTYPE_TAG_NAME));
+			} else if (node.isComment()) {
+				addComment((DOMComment) node);
+			}
+		}
+
+		/**
+		 * Called when the end of the given node is visited (after its children).
+		 */
+		public void endNode(DOMNode node) throws BadLocationException {
+			if (node.isElement()) {
+				DOMElement element = (DOMElement) node;
+				if (!element.hasTagName()) {
+					return;
 				}
-				case StartTagClose:
-					if (lastTagName != null /* || !isEmptyElement(lastTagName) */) {
-						break;
-					}
-					// fallthrough
-				case EndTagClose:
-				case DTDEndDoctypeTag:
-				case StartTagSelfClose: {
+				if (element.isSelfClosed()) {
+					// <foo ... |/>
+					closeTag(element.getTagName(), element.getEnd() - 2);
+				} else if (element.hasEndTag() && element.isEndTagClosed()) {
+					// <foo> ... </foo|>
+					closeTag(element.getTagName(), element.getEndTagCloseOffset());
+				}
+			} else if (node.isDoctype() && node.isClosed()) {
+				// <!DOCTYPE ... |>
+				closeTag(DOCTYPE_TAG_NAME, node.getEnd() - 1);
+			}
+		}
+
+		private void closeTag(String tagName, int closeOffset) throws BadLocationException {
+			int i = stack.size() - 1;
+			while (i >= 0 && !stack.get(i).tagName.equals(tagName)) {
+				i--;
+			}
+			if (i >= 0) {
+				TagInfo stackElement = stack.get(i);
+				// remove obsolete entries ()
+				int j = stack.size() - 1;
+				while (j >= i) {
+					stack.remove(j--);
+				}
+				int startLine = stackElement.startLine;
+				int endLine = document.lineAt(closeOffset);
+
+				if (!includeClosingTagInFold) {
+					endLine -= 1;
+				}
+
+				if (endLine > startLine && prevStart != startLine) {
+					prevStart = addRange(new FoldingRange(startLine, endLine), ranges);
+				}
+			}
+		}
+
+		private void addComment(DOMComment comment) throws BadLocationException {
+			int startLine = document.lineAt(comment.getStartContent());
+			Matcher m = REGION_PATTERN.matcher(comment.getData());
+			if (m.find()) {
+				if ("#region".equals(m.group().trim())) { // start pattern match
+					stack.add(new TagInfo(startLine, "")); // empty tagName marks region
+				} else {
 					int i = stack.size() - 1;
-					while (i >= 0 && !stack.get(i).tagName.equals(lastTagName)) {
+					while (i >= 0 && stack.get(i).tagName != null && !stack.get(i).tagName.isEmpty()) {
 						i--;
 					}
 					if (i >= 0) {
@@ -109,84 +176,98 @@ class XMLFoldings {
 						while (j >= i) {
 							stack.remove(j--);
 						}
-						int startLine = stackElement.startLine;
-						int endLine = document.positionAt(scanner.getTokenOffset()).getLine();
+						int endLine = startLine;
 
-						if (!isIncludeClosingTagInFold(context)){
+						if (!includeClosingTagInFold) {
 							endLine -= 1;
 						}
 
+						startLine = stackElement.startLine;
 						if (endLine > startLine && prevStart != startLine) {
-							prevStart = addRange(new FoldingRange(startLine, endLine), ranges);
-						}
-					}
-					break;
-				}
-				case Comment: {
-					int startLine = document.positionAt(scanner.getTokenOffset()).getLine();
-					String text = scanner.getTokenText();
-					Matcher m = REGION_PATTERN.matcher(text);
-					if (m.find()) {
-						if ("#region".equals(m.group().trim())) { // start pattern match
-							stack.add(new TagInfo(startLine, "")); // empty tagName marks region
-						} else {
-							int i = stack.size() - 1;
-							while (i >= 0 && stack.get(i).tagName != null && !stack.get(i).tagName.isEmpty()) {
-								i--;
-							}
-							if (i >= 0) {
-								TagInfo stackElement = stack.get(i);
-								// remove obsolete entries ()
-								int j = stack.size() - 1;
-								while (j >= i) {
-									stack.remove(j--);
-								}
-								int endLine = startLine;
-
-								if (!isIncludeClosingTagInFold(context)){
-									endLine -= 1;
-								}
-
-								startLine = stackElement.startLine;
-								if (endLine > startLine && prevStart != startLine) {
-									FoldingRange range = new FoldingRange(startLine, endLine);
-									range.setKind(FoldingRangeKind.Region);
-									prevStart = addRange(range, ranges);
-								}
-							}
-						}
-					} else {
-						int endLine = document.positionAt(scanner.getTokenOffset() + scanner.getTokenLength())
-								.getLine();
-
-						if (!isIncludeClosingTagInFold(context)){
-							endLine -= 1;
-						}
-						
-						if (startLine < endLine) {
 							FoldingRange range = new FoldingRange(startLine, endLine);
-							range.setKind(FoldingRangeKind.Comment);
+							range.setKind(FoldingRangeKind.Region);
 							prevStart = addRange(range, ranges);
 						}
 					}
-					break;
 				}
-				default:
+			} else {
+				int endLine = document.lineAt(comment.getEndContent());
+
+				if (!includeClosingTagInFold) {
+					endLine -= 1;
+				}
+
+				if (startLine < endLine) {
+					FoldingRange range = new FoldingRange(startLine, endLine);
+					range.setKind(FoldingRangeKind.Comment);
+					prevStart = addRange(range, ranges);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the folding ranges of the given DOM document.
+	 *
+	 * <p>
+	 * The folding ranges are computed from the DOM nodes (the text is not scanned
+	 * again) and they are cached until the DOM document is updated, so the
+	 * returned list must not be modified.
+	 * </p>
+	 *
+	 * @param xmlDocument   the DOM document.
+	 * @param context       the folding settings.
+	 * @param cancelChecker the cancel checker.
+	 * @return the folding ranges of the given DOM document.
+	 */
+	public List<FoldingRange> getFoldingRanges(DOMDocument xmlDocument, XMLFoldingSettings context,
+			CancelChecker cancelChecker) {
+		int rangeLimit = context != null && context.getRangeLimit() != null ? context.getRangeLimit()
+				: Integer.MAX_VALUE;
+		List<Object> key = Arrays.asList(isIncludeClosingTagInFold(context), rangeLimit);
+		return cache.get(xmlDocument, key,
+				() -> computeFoldingRanges(xmlDocument, context, rangeLimit, cancelChecker));
+	}
+
+	private List<FoldingRange> computeFoldingRanges(DOMDocument xmlDocument, XMLFoldingSettings context,
+			int rangeLimit, CancelChecker cancelChecker) {
+		FoldingRangesCollector collector = new FoldingRangesCollector(xmlDocument.getTextDocument(), context);
+		List<FoldingRange> ranges = collector.ranges;
+		try {
+			// Visit the DOM nodes in document order without recursion (the DOM tree of a
+			// large file can be very deep)
+			DOMNode[] nodes = new DOMNode[16];
+			int[] indexes = new int[16];
+			nodes[0] = xmlDocument;
+			int depth = 1;
+			while (depth > 0) {
+				DOMNode parent = nodes[depth - 1];
+				List<DOMNode> children = parent.getChildren();
+				int index = indexes[depth - 1]++;
+				if (index < children.size()) {
+					cancelChecker.checkCanceled();
+					DOMNode child = children.get(index);
+					collector.startNode(child);
+					if (depth == nodes.length) {
+						nodes = Arrays.copyOf(nodes, depth * 2);
+						indexes = Arrays.copyOf(indexes, depth * 2);
+					}
+					nodes[depth] = child;
+					indexes[depth] = 0;
+					depth++;
+				} else {
+					depth--;
+					if (parent != xmlDocument) {
+						collector.endNode(parent);
+					}
 				}
-				token = scanner.scan();
 			}
 
-			int rangeLimit = context != null && context.getRangeLimit() != null ? context.getRangeLimit()
-					: Integer.MAX_VALUE;
 			if (ranges.size() > rangeLimit) {
 				ranges = limitRanges(ranges, rangeLimit);
 			}
 		} catch (BadLocationException e) {
-			LOGGER.log(Level.SEVERE, "Foldings received a BadLocation while scanning the document", e);
-		} catch (StackOverflowError e) {
-			// This exception occurs with large file, why?
-			// For the moment we catch it.
-			LOGGER.log(Level.SEVERE, "Foldings received a StackOverflowError while scanning the document", e);
+			LOGGER.log(Level.SEVERE, "Foldings received a BadLocation while visiting the document", e);
 		}
 		return ranges;
 	}
@@ -12,8 +12,10 @@
  */
 package org.eclipse.lemminx.services;
 
+import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -22,10 +24,14 @@ import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.customservice.AutoCloseTagResponse;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLProgressiveSettings;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
 import org.eclipse.lemminx.services.extensions.XMLExtensionsRegistry;
 import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
+import org.eclipse.lemminx.services.extensions.diagnostics.PartialDiagnosticsPublisher;
+import org.eclipse.lemminx.services.extensions.diagnostics.XMLDiagnosticsErrorCode;
+import org.eclipse.lemminx.services.extensions.save.ISaveContext;
 import org.eclipse.lemminx.settings.SharedSettings;
 import org.eclipse.lemminx.settings.XMLCodeLensSettings;
 import org.eclipse.lemminx.settings.XMLCompletionSettings;
@@ -42,6 +48,7 @@ import org.eclipse.lsp4j.ColorPresentationParams;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.DocumentHighlight;
 import org.eclipse.lsp4j.DocumentLink;
 import org.eclipse.lsp4j.DocumentSymbol;
@@ -70,6 +77,8 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
  */
 public class XMLLanguageService extends XMLExtensionsRegistry implements IXMLFullFormatter, IXMLMinifier {
 
+	private static final String MAX_PROBLEMS_MESSAGE = "The validation has been stopped after {0} problems (see the ''xml.validation.progressive.maxProblems'' setting).";
+
 	private static final CancelChecker NULL_CHECKER = new CancelChecker() {
 
 		@Override
@@ -122,6 +131,15 @@ public class XMLLanguageService extends XMLExtensionsRegistry implements IXMLFul
 		this.inlineCompletion = new XMLInlineCompletion(this);
 	}
 
+	@Override
+	public void doSave(ISaveContext saveContext) {
+		super.doSave(saveContext);
+		// the symbols and the document links computed by the participants can depend on
+		// the settings and on the saved files (ex : a catalog)
+		symbolsProvider.clearCache();
+		documentLink.clearCache();
+	}
+
 	@Override
 	public String formatFull(String text, String uri, SharedSettings sharedSettings, CancelChecker cancelChecker) {
 		DOMDocument xmlDocument = DOMParser.getInstance().parse(new TextDocument(text, uri), null);
@@ -234,9 +252,34 @@ public class XMLLanguageService extends XMLExtensionsRegistry implements IXMLFul
 				: null;
 
 		// Process validation
-		DiagnosticsResult diagnostics = (DiagnosticsResult) this.doDiagnostics(xmlDocument, validationSettingsForUri,
-				validationArgs, cancelChecker);
+		PartialDiagnosticsPublisher partialPublisher = createPartialPublisher(uri, publishDiagnostics,
+				validationSettings, cancelChecker);
+		DiagnosticsResult diagnostics;
+		if (partialPublisher != null) {
+			partialPublisher.start();
+		}
+		try {
+			diagnostics = this.diagnostics.doDiagnostics(xmlDocument, validationSettingsForUri, validationArgs,
+					partialPublisher, cancelChecker);
+		} finally {
+			if (partialPublisher != null) {
+				partialPublisher.stop();
+			}
+		}
 		cancelChecker.checkCanceled();
+		if (partialPublisher != null) {
+			// keep the order of the partial publications
+			partialPublisher.sortSyntaxErrorsFirst(diagnostics);
+		}
+		if (partialPublisher != null && partialPublisher.isMaxProblemsReached()) {
+			Range range = XMLPositionUtility.selectRootStartTag(xmlDocument);
+			if (range == null) {
+				range = new Range(new Position(0, 0), new Position(0, 0));
+			}
+			diagnostics.add(new Diagnostic(range,
+					MessageFormat.format(MAX_PROBLEMS_MESSAGE, String.valueOf(partialPublisher.getMaxProblems())),
+					DiagnosticSeverity.Information, "xml", XMLDiagnosticsErrorCode.MaxProblemsReached.getCode()));
+		}
 		publishDiagnostics.accept(new PublishDiagnosticsParams(uri, diagnostics));
 
 		// If there are some XSD, DTD which are downloading, wait for all download and
@@ -256,13 +299,35 @@ public class XMLLanguageService extends XMLExtensionsRegistry implements IXMLFul
 		return null;
 	}
 
+	/**
+	 * Returns the publisher used to publish the diagnostics while the document is
+	 * validated if the progressive validation is enabled and null otherwise.
+	 */
+	private static PartialDiagnosticsPublisher createPartialPublisher(String uri,
+			Consumer<PublishDiagnosticsParams> publishDiagnostics, XMLValidationSettings validationSettings,
+			CancelChecker cancelChecker) {
+		XMLProgressiveSettings progressive = validationSettings != null ? validationSettings.getProgressive() : null;
+		if (progressive == null || !progressive.isEnabled()) {
+			return null;
+		}
+		return new PartialDiagnosticsPublisher(partialDiagnostics -> {
+			try {
+				cancelChecker.checkCanceled();
+			} catch (CancellationException e) {
+				// the document has changed, don't publish obsolete diagnostics
+				return;
+			}
+			publishDiagnostics.accept(new PublishDiagnosticsParams(uri, partialDiagnostics));
+		}, progressive.getInterval(), progressive.getBatchSize(), progressive.getMaxProblems());
+	}
+
 	public List<FoldingRange> getFoldingRanges(DOMDocument xmlDocument, XMLFoldingSettings context) {
 		return getFoldingRanges(xmlDocument, context, NULL_CHECKER);
 	}
 
 	public List<FoldingRange> getFoldingRanges(DOMDocument xmlDocument, XMLFoldingSettings context,
 			CancelChecker cancelChecker) {
-		return foldings.getFoldingRanges(xmlDocument.getTextDocument(), context, cancelChecker);
+		return foldings.getFoldingRanges(xmlDocument, context, cancelChecker);
 	}
 
 	public List<SelectionRange> getSelectionRanges(DOMDocument xmlDocument, List<Position> positions,
@@ -79,14 +79,61 @@ class XMLSymbolsProvider {
 	private static final Logger LOGGER = Logger.getLogger(XMLSymbolsProvider.class.getName());
 	private final XMLExtensionsRegistry extensionsRegistry;
 
+	private final DocumentResultCache<SymbolInformationResult> symbolInformationsCache = new DocumentResultCache<>();
+	private final DocumentResultCache<DocumentSymbolsResult> documentSymbolsCache = new DocumentResultCache<>();
+
 	public XMLSymbolsProvider(XMLExtensionsRegistry extensionsRegistry) {
 		this.extensionsRegistry = extensionsRegistry;
 	}
 
+	/**
+	 * Returns the key of the cached symbols of the given DOM document: the symbol
+	 * settings values which are used to compute the symbols, the generation of the
+	 * catalogs and the keys of the symbols participants (ex : the generation of
+	 * the grammars).
+	 */
+	private Object getCacheKey(DOMDocument xmlDocument, XMLSymbolSettings symbolSettings) {
+		List<Object> key = new ArrayList<>();
+		key.add(symbolSettings.getFilterFor(xmlDocument.getDocumentURI()));
+		key.add(symbolSettings.getMaxItemsComputed());
+		key.add(DocumentResultCache.getResolveGeneration(xmlDocument));
+		for (ISymbolsProviderParticipant participant : extensionsRegistry.getSymbolsProviderParticipants()) {
+			key.add(participant.getCacheKey(xmlDocument));
+		}
+		return key;
+	}
+
+	/**
+	 * Clear the cached symbols.
+	 */
+	void clearCache() {
+		symbolInformationsCache.clear();
+		documentSymbolsCache.clear();
+	}
+
 	// -------------- Symbol informations
 
+	/**
+	 * Returns the symbol informations of the given DOM document.
+	 *
+	 * <p>
+	 * The symbols are cached until the DOM document, a grammar or a catalog is
+	 * updated, so the returned result must not be modified.
+	 * </p>
+	 *
+	 * @param xmlDocument    the DOM document.
+	 * @param symbolSettings the symbol settings.
+	 * @param cancelChecker  the cancel checker.
+	 * @return the symbol informations of the given DOM document.
+	 */
 	public SymbolInformationResult findSymbolInformations(DOMDocument xmlDocument, XMLSymbolSettings symbolSettings,
 			CancelChecker cancelChecker) {
+		return symbolInformationsCache.get(xmlDocument, getCacheKey(xmlDocument, symbolSettings),
+				() -> computeSymbolInformations(xmlDocument, symbolSettings, cancelChecker));
+	}
+
+	private SymbolInformationResult computeSymbolInformations(DOMDocument xmlDocument,
+			XMLSymbolSettings symbolSettings, CancelChecker cancelChecker) {
 		AtomicLong limit = symbolSettings.getMaxItemsComputed() >= 0
 				? new AtomicLong(symbolSettings.getMaxItemsComputed())
 				: null;
@@ -159,8 +206,27 @@ class XMLSymbolsProvider {
 
 	// -------------- Document symbols
 
+	/**
+	 * Returns the document symbols of the given DOM document.
+	 *
+	 * <p>
+	 * The symbols are cached until the DOM document, a grammar or a catalog is
+	 * updated, so the returned result must not be modified.
+	 * </p>
+	 *
+	 * @param xmlDocument    the DOM document.
+	 * @param symbolSettings the symbol settings.
+	 * @param cancelChecker  the cancel checker.
+	 * @return the document symbols of the given DOM document.
+	 */
 	public DocumentSymbolsResult findDocumentSymbols(DOMDocument xmlDocument, XMLSymbolSettings symbolSettings,
 			CancelChecker cancelChecker) {
+		return documentSymbolsCache.get(xmlDocument, getCacheKey(xmlDocument, symbolSettings),
+				() -> computeDocumentSymbols(xmlDocument, symbolSettings, cancelChecker));
+	}
+
+	private DocumentSymbolsResult computeDocumentSymbols(DOMDocument xmlDocument, XMLSymbolSettings symbolSettings,
+			CancelChecker cancelChecker) {
 		AtomicLong limit = symbolSettings.getMaxItemsComputed() >= 0
 				? new AtomicLong(symbolSettings.getMaxItemsComputed())
 				: null;
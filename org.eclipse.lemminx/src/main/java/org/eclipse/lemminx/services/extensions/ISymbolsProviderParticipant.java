@@ -67,4 +67,19 @@ public interface ISymbolsProviderParticipant {
 	void findDocumentSymbols(DOMDocument document, DocumentSymbolsResult symbols, XMLSymbolFilter filter,
 			CancelChecker cancelChecker);
 
+	/**
+	 * Returns the key of the external state (ex : the loaded grammars) used by the
+	 * participant to compute the symbols of the given DOM document. The cached
+	 * symbols of the DOM document are computed again when this key changes.
+	 * 
+	 * @param document the DOM document.
+	 * @return the key of the external state used to compute the symbols and null
+	 *         if the symbols depend only on the DOM document.
+	 * 
+	 * @since 0.31.3
+	 */
+	default Object getCacheKey(DOMDocument document) {
+		return null;
+	}
+
 }
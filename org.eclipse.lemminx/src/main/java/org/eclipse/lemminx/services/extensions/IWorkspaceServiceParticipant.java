@@ -11,6 +11,7 @@
 *******************************************************************************/
 package org.eclipse.lemminx.services.extensions;
 
+import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
 import org.eclipse.lsp4j.services.WorkspaceService;
 
@@ -26,4 +27,14 @@ public interface IWorkspaceServiceParticipant {
 	 * @see WorkspaceService#didChangeWorkspaceFolders(DidChangeWorkspaceFoldersParams)
 	 */
 	public void didChangeWorkspaceFolders(DidChangeWorkspaceFoldersParams params);
+
+	/**
+	 * Receive and handle notification about watched files changing on client side.
+	 * @param params the watched files change description
+	 * @see WorkspaceService#didChangeWatchedFiles(DidChangeWatchedFilesParams)
+	 * @since 0.31.3
+	 */
+	default void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
+		// Do nothing
+	}
 }
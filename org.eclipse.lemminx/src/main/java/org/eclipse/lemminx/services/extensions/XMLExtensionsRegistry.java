@@ -111,6 +111,7 @@ public class XMLExtensionsRegistry implements IComponentProvider {
 		components = new HashMap<>();
 		telemetryManager = new TelemetryManager(null);
 		registerComponent(resolverExtensionManager);
+		registerComponent(resolverExtensionManager.getExternalDocumentCache());
 	}
 
 	public void registerComponent(Object component) {
@@ -320,6 +321,7 @@ public class XMLExtensionsRegistry implements IComponentProvider {
 		List<IXMLExtension> extensionReferences = new ArrayList<>();
 		extensions.forEach(extensionReferences::add);
 		extensionReferences.forEach(this::unregisterExtension);
+		resolverExtensionManager.getExternalDocumentCache().clear();
 	}
 
 	public void registerCompletionParticipant(ICompletionParticipant completionParticipant) {
@@ -518,6 +520,7 @@ public class XMLExtensionsRegistry implements IComponentProvider {
 	 */
 	public void setDocumentProvider(IXMLDocumentProvider documentProvider) {
 		this.documentProvider = documentProvider;
+		resolverExtensionManager.setDocumentProvider(documentProvider);
 	}
 
 	public URIResolverExtensionManager getResolverExtensionManager() {
@@ -33,7 +33,16 @@ public class ReferenceCommand extends Command {
 	}
 
 	public void increment() {
-		nbReferences++;
+		increment(1);
+	}
+
+	/**
+	 * Add the given number of references.
+	 * 
+	 * @param count the number of references to add.
+	 */
+	public void increment(int count) {
+		nbReferences += count;
 		super.setTitle(computeTitle(nbReferences));
 	}
 
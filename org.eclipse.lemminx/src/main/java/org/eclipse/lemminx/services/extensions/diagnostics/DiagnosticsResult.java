@@ -14,6 +14,7 @@ package org.eclipse.lemminx.services.extensions.diagnostics;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -49,6 +50,10 @@ public class DiagnosticsResult extends ArrayList<Diagnostic> {
 
 	private transient List<CompletableFuture<?>> futures;
 
+	private transient Map<String, Long> participantTimes;
+
+	private transient PartialDiagnosticsPublisher partialPublisher;
+
 	public DiagnosticsResult(Map<String, Object> validationArgs) {
 		this.validationArgs = validationArgs;
 	}
@@ -84,4 +89,53 @@ public class DiagnosticsResult extends ArrayList<Diagnostic> {
 		return futures;
 	}
 
+	/**
+	 * Returns the publisher used to publish the diagnostics while the document is
+	 * validated and null if the diagnostics are published at the end of the
+	 * validation.
+	 *
+	 * @return the publisher used to publish the diagnostics while the document is
+	 *         validated and null otherwise.
+	 */
+	public PartialDiagnosticsPublisher getPartialPublisher() {
+		return partialPublisher;
+	}
+
+	/**
+	 * Set the publisher used to publish the diagnostics while the document is
+	 * validated.
+	 *
+	 * @param partialPublisher the partial diagnostics publisher.
+	 */
+	public void setPartialPublisher(PartialDiagnosticsPublisher partialPublisher) {
+		this.partialPublisher = partialPublisher;
+	}
+
+	/**
+	 * Add the time spent by the given diagnostics participant.
+	 *
+	 * @param participant the diagnostics participant name.
+	 * @param time        the time in milliseconds.
+	 */
+	public void addParticipantTime(String participant, long time) {
+		if (participantTimes == null) {
+			participantTimes = new LinkedHashMap<>();
+		}
+		participantTimes.merge(participant, time, Long::sum);
+	}
+
+	/**
+	 * Returns the time in milliseconds spent by each diagnostics participant (in
+	 * the order of the participants execution) and an empty map otherwise.
+	 *
+	 * @return the time in milliseconds spent by each diagnostics participant and
+	 *         an empty map otherwise.
+	 */
+	public Map<String, Long> getParticipantTimes() {
+		if (participantTimes == null) {
+			return Collections.emptyMap();
+		}
+		return participantTimes;
+	}
+
 }
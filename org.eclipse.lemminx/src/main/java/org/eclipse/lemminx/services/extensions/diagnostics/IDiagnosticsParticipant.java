@@ -37,4 +37,25 @@ public interface IDiagnosticsParticipant {
 	void doDiagnostics(DOMDocument xmlDocument, List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
 			CancelChecker cancelChecker);
 
+	/**
+	 * Returns true if the participant is thread-safe and independent of the other
+	 * participants and false otherwise.
+	 *
+	 * <p>
+	 * The participants which return true can be executed in parallel with the
+	 * other participants. In this case, the given diagnostics list is a
+	 * {@link DiagnosticsResult} which is owned by the participant, and the
+	 * diagnostics of all participants are merged in the registration order of the
+	 * participants.
+	 * </p>
+	 *
+	 * @return true if the participant is thread-safe and independent of the other
+	 *         participants and false otherwise.
+	 *
+	 * @since 0.31.3
+	 */
+	default boolean isParallelizable() {
+		return false;
+	}
+
 }
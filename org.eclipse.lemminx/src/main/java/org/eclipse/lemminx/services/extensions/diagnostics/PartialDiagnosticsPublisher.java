@@ -0,0 +1,218 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services.extensions.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4j.Diagnostic;
+
+/**
+ * Publish the diagnostics by batches while a document is validated.
+ *
+ * <p>
+ * The diagnostics reported by the validators (see
+ * {@link DiagnosticsResult#getPartialPublisher()}) are published when the
+ * given interval is elapsed since the last publication, or when the given
+ * number of new diagnostics is reached. Each publication contains all the
+ * diagnostics reported since the start of the validation, with the syntax
+ * errors first.
+ * </p>
+ *
+ * <p>
+ * Between {@link #start()} and {@link #stop()}, the reported diagnostics are
+ * also published by a background task when the interval is elapsed, even if
+ * the validators don't report new diagnostics (ex : a long validation of a
+ * valid part of the document).
+ * </p>
+ *
+ * <p>
+ * The validators must stop the validation when
+ * {@link #isMaxProblemsReached()} returns true.
+ * </p>
+ *
+ */
+public class PartialDiagnosticsPublisher {
+
+	private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "XML partial diagnostics");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final Consumer<List<Diagnostic>> publisher;
+
+	private final long interval;
+
+	private final int batchSize;
+
+	private final int maxProblems;
+
+	private final List<Diagnostic> syntaxDiagnostics;
+
+	private final List<Diagnostic> otherDiagnostics;
+
+	private int unpublishedCount;
+
+	private long lastPublishTime;
+
+	private volatile boolean maxProblemsReached;
+
+	private ScheduledFuture<?> flushTask;
+
+	private boolean stopped;
+
+	/**
+	 * Partial diagnostics publisher constructor.
+	 *
+	 * @param publisher   the consumer which publishes all the diagnostics reported
+	 *                    since the start of the validation.
+	 * @param interval    the minimum time in milliseconds between two
+	 *                    publications.
+	 * @param batchSize   the number of new diagnostics which publishes the
+	 *                    diagnostics without waiting for the interval.
+	 * @param maxProblems the number of problems after which the validation must be
+	 *                    stopped and 0 if the validation is never stopped.
+	 */
+	public PartialDiagnosticsPublisher(Consumer<List<Diagnostic>> publisher, long interval, int batchSize,
+			int maxProblems) {
+		this.publisher = publisher;
+		this.interval = TimeUnit.MILLISECONDS.toNanos(interval);
+		this.batchSize = batchSize;
+		this.maxProblems = maxProblems;
+		this.syntaxDiagnostics = new ArrayList<>();
+		this.otherDiagnostics = new ArrayList<>();
+		this.lastPublishTime = System.nanoTime();
+	}
+
+	/**
+	 * Report the given diagnostic and publish the reported diagnostics if the
+	 * interval is elapsed or if the batch size is reached.
+	 *
+	 * @param diagnostic  the diagnostic.
+	 * @param syntaxError true if the diagnostic is a syntax error and false
+	 *                    otherwise.
+	 */
+	public synchronized void report(Diagnostic diagnostic, boolean syntaxError) {
+		if (syntaxError) {
+			syntaxDiagnostics.add(diagnostic);
+		} else {
+			otherDiagnostics.add(diagnostic);
+		}
+		unpublishedCount++;
+		if (maxProblems > 0 && getReportedCount() >= maxProblems) {
+			maxProblemsReached = true;
+		}
+		if (!stopped && (unpublishedCount >= batchSize || System.nanoTime() - lastPublishTime >= interval)) {
+			publish();
+		}
+	}
+
+	/**
+	 * Start the background task which publishes the reported diagnostics when the
+	 * interval is elapsed.
+	 */
+	public synchronized void start() {
+		if (flushTask == null && !stopped && interval > 0) {
+			flushTask = EXECUTOR.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Stop the background task, the diagnostics are no longer published by this
+	 * publisher.
+	 */
+	public synchronized void stop() {
+		stopped = true;
+		if (flushTask != null) {
+			flushTask.cancel(false);
+			flushTask = null;
+		}
+	}
+
+	private synchronized void flush() {
+		if (!stopped && unpublishedCount > 0 && System.nanoTime() - lastPublishTime >= interval) {
+			publish();
+		}
+	}
+
+	private void publish() {
+		List<Diagnostic> diagnostics = new ArrayList<>(getReportedCount());
+		diagnostics.addAll(syntaxDiagnostics);
+		diagnostics.addAll(otherDiagnostics);
+		unpublishedCount = 0;
+		lastPublishTime = System.nanoTime();
+		publisher.accept(diagnostics);
+	}
+
+	/**
+	 * Move the reported syntax errors to the start of the given list, like in the
+	 * partial publications, so that the diagnostics are not reordered in the client
+	 * when the final diagnostics list is published.
+	 *
+	 * @param diagnostics the final diagnostics list to update.
+	 */
+	public synchronized void sortSyntaxErrorsFirst(List<Diagnostic> diagnostics) {
+		if (syntaxDiagnostics.isEmpty()) {
+			return;
+		}
+		Set<Diagnostic> syntaxErrors = Collections.newSetFromMap(new IdentityHashMap<>());
+		syntaxErrors.addAll(syntaxDiagnostics);
+		List<Diagnostic> sorted = new ArrayList<>(diagnostics.size());
+		for (Diagnostic diagnostic : diagnostics) {
+			if (syntaxErrors.contains(diagnostic)) {
+				sorted.add(diagnostic);
+			}
+		}
+		for (Diagnostic diagnostic : diagnostics) {
+			if (!syntaxErrors.contains(diagnostic)) {
+				sorted.add(diagnostic);
+			}
+		}
+		diagnostics.clear();
+		diagnostics.addAll(sorted);
+	}
+
+	private int getReportedCount() {
+		return syntaxDiagnostics.size() + otherDiagnostics.size();
+	}
+
+	/**
+	 * Returns true if the maximum number of problems is reached and the validation
+	 * must be stopped and false otherwise.
+	 *
+	 * @return true if the maximum number of problems is reached and the validation
+	 *         must be stopped and false otherwise.
+	 */
+	public boolean isMaxProblemsReached() {
+		return maxProblemsReached;
+	}
+
+	/**
+	 * Returns the number of problems after which the validation must be stopped
+	 * and 0 if the validation is never stopped.
+	 *
+	 * @return the number of problems after which the validation must be stopped
+	 *         and 0 if the validation is never stopped.
+	 */
+	public int getMaxProblems() {
+		return maxProblems;
+	}
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services.extensions.diagnostics;
+
+/**
+ * Error code of the diagnostics reported by the validation process itself (and
+ * not by a validator).
+ *
+ */
+public enum XMLDiagnosticsErrorCode implements IXMLErrorCode {
+
+	MaxProblemsReached("max_problems_reached");
+
+	private final String code;
+
+	private XMLDiagnosticsErrorCode(String code) {
+		this.code = code;
+	}
+
+	@Override
+	public String getCode() {
+		if (code == null) {
+			return name();
+		}
+		return code;
+	}
+}
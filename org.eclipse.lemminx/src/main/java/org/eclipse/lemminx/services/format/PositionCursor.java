@@ -0,0 +1,84 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services.format;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lsp4j.Position;
+
+/**
+ * Cursor which computes the line/column position of offsets in a single
+ * forward pass over the text.
+ *
+ * <p>
+ * The formatter emits its text edits in document order, so the position of an
+ * edit is computed from the position of the previous edit by scanning only the
+ * characters between them instead of searching the line of each offset in the
+ * line tracker. When an offset is before the cursor, the position is computed
+ * with {@link TextDocument#positionAt(int)} and the cursor restarts from it.
+ * </p>
+ *
+ */
+class PositionCursor {
+
+	private final TextDocument textDocument;
+
+	private final String text;
+
+	private int offset;
+
+	private int line;
+
+	private int lineOffset;
+
+	PositionCursor(TextDocument textDocument) {
+		this.textDocument = textDocument;
+		this.text = textDocument.getText();
+		this.offset = -1;
+	}
+
+	/**
+	 * Returns the position of the given offset.
+	 *
+	 * @param targetOffset the offset.
+	 * @return the position of the given offset.
+	 * @throws BadLocationException if the offset is invalid.
+	 */
+	Position positionAt(int targetOffset) throws BadLocationException {
+		if (targetOffset < offset || offset == -1 || targetOffset > text.length()) {
+			Position position = textDocument.positionAt(targetOffset);
+			offset = targetOffset;
+			line = position.getLine();
+			lineOffset = targetOffset - position.getCharacter();
+			return position;
+		}
+		for (int i = offset; i < targetOffset; i++) {
+			char c = text.charAt(i);
+			if (c == '\r') {
+				if (i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+					if (i + 1 == targetOffset) {
+						// the offset is between '\r' and '\n', the line delimiter is not crossed
+						break;
+					}
+					i++;
+				}
+				line++;
+				lineOffset = i + 1;
+			} else if (c == '\n') {
+				line++;
+				lineOffset = i + 1;
+			}
+		}
+		offset = targetOffset;
+		return new Position(line, targetOffset - lineOffset);
+	}
+}
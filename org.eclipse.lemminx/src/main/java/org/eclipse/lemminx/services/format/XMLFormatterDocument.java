@@ -21,6 +21,7 @@ import java.util.logging.Logger;
 
 import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.commons.TextEditUtils;
 import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMCDATASection;
 import org.eclipse.lemminx.dom.DOMComment;
@@ -35,7 +36,6 @@ import org.eclipse.lemminx.services.extensions.format.IFormatterParticipant;
 import org.eclipse.lemminx.settings.SharedSettings;
 import org.eclipse.lemminx.settings.XMLFormattingOptions;
 import org.eclipse.lemminx.utils.StringUtils;
-import org.eclipse.lemminx.utils.TextEditUtils;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
@@ -62,6 +62,7 @@ public class XMLFormatterDocument {
 
 	private final DOMDocument xmlDocument;
 	private final TextDocument textDocument;
+	private final PositionCursor positionCursor;
 	private final String lineDelimiter;
 	private final SharedSettings sharedSettings;
 	
@@ -98,6 +99,7 @@ public class XMLFormatterDocument {
 			Collection<IFormatterParticipant> formatterParticipants) {
 		this.xmlDocument = xmlDocument;
 		this.textDocument = xmlDocument.getTextDocument();
+		this.positionCursor = new PositionCursor(textDocument);
 		this.lineDelimiter = computeLineDelimiter(textDocument);
 		if (range != null) {
 			try {
@@ -318,6 +320,10 @@ public class XMLFormatterDocument {
 			if (cancelChecker != null) {
 				cancelChecker.checkCanceled();
 			}
+			if (end != -1 && currentDOMNode.getStart() > end) {
+				// the next siblings are after the range to format
+				break;
+			}
 			format(currentDOMNode, parentConstraints, start, end, edits);
 			currentDOMNode = currentDOMNode.getNextSibling();
 		}
@@ -376,11 +382,84 @@ public class XMLFormatterDocument {
 
 	public void formatChildren(DOMNode currentDOMNode, XMLFormattingConstraints parentConstraints, int start, int end,
 			List<TextEdit> edits) {
-		for (DOMNode child : currentDOMNode.getChildren()) {
+		List<DOMNode> children = currentDOMNode.getChildren();
+		int size = children.size();
+		int index = 0;
+		if (start != -1 && end != -1) {
+			// range formatting: the children which end before the range are not formatted
+			// (they don't generate text edits), and the first child to format is searched
+			// with a binary search.
+			index = getFirstChildToFormat(children, start);
+			if (index > 0 && index < size) {
+				skipChildren(children, index, parentConstraints);
+			}
+		}
+		for (int i = index; i < size; i++) {
+			DOMNode child = children.get(i);
+			if (end != -1 && child.getStart() > end) {
+				// the next children are after the range to format
+				break;
+			}
 			format(child, parentConstraints, start, end, edits);
 		}
 	}
 
+	/**
+	 * Returns the index of the first child which ends after the given start
+	 * offset.
+	 * 
+	 * @param children the children sorted by offset.
+	 * @param start    the start offset of the range to format.
+	 * 
+	 * @return the index of the first child which ends after the given start
+	 *         offset.
+	 */
+	private static int getFirstChildToFormat(List<DOMNode> children, int start) {
+		int low = 0;
+		int high = children.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (children.get(mid).getEnd() < start) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Update the given parent constraints like if the first given count of
+	 * children had been formatted.
+	 * 
+	 * @param children          the children.
+	 * @param count             the count of skipped children.
+	 * @param parentConstraints the parent constraints to update.
+	 */
+	private void skipChildren(List<DOMNode> children, int count, XMLFormattingConstraints parentConstraints) {
+		if (parentConstraints.getMixedContentIndentLevel() == 0
+				&& parentConstraints.getFormatElementCategory() == FormatElementCategory.MixedContent) {
+			// see DOMElementFormatter#formatElement
+			for (int i = count - 1; i >= 0; i--) {
+				if (children.get(i).isElement()) {
+					parentConstraints.setMixedContentIndentLevel(parentConstraints.getIndentLevel());
+					break;
+				}
+			}
+		}
+		if (isMaxLineWidthSupported()) {
+			// the available line width is computed from the line of the first formatted
+			// child
+			int childStart = children.get(count).getStart();
+			try {
+				int lineOffset = textDocument.lineOffsetAt(childStart);
+				parentConstraints.setAvailableLineWidth(getMaxLineWidth() - (childStart - lineOffset));
+			} catch (BadLocationException e) {
+				LOGGER.log(Level.SEVERE, e.getMessage(), e);
+			}
+		}
+	}
+
 	public void formatAttributeValue(DOMAttr attr, XMLFormattingConstraints parentConstraints, List<TextEdit> edits) {
 		if (formatterParticipants != null) {
 			for (IFormatterParticipant formatterParticipant : formatterParticipants) {
@@ -646,9 +725,18 @@ public class XMLFormatterDocument {
 	}
 
 	void createTextEditIfNeeded(int from, int to, String expectedContent, List<TextEdit> edits) {
-		TextEdit edit = TextEditUtils.createTextEditIfNeeded(from, to, expectedContent, textDocument);
-		if (edit != null) {
-			edits.add(edit);
+		if (TextEditUtils.isMatchExpectedContent(from, to, expectedContent, textDocument.getText())) {
+			// The expected content exists, no need to create a TextEdit
+			return;
+		}
+		try {
+			// the edits are created in document order, compute the positions with the
+			// cursor instead of searching the line of each offset.
+			Position startPos = positionCursor.positionAt(from);
+			Position endPos = to == from ? startPos : positionCursor.positionAt(to);
+			edits.add(new TextEdit(new Range(startPos, endPos), expectedContent));
+		} catch (BadLocationException e) {
+			LOGGER.log(Level.SEVERE, e.getMessage(), e);
 		}
 	}
 
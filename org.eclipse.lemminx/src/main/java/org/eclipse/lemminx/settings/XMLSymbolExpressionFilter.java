@@ -146,7 +146,7 @@ public class XMLSymbolExpressionFilter {
 		return getMatcher().getNodeSelectorType() == matcherType;
 	}
 
-	private XPathMatcher getMatcher() {
+	XPathMatcher getMatcher() {
 		if (matcher == null) {
 			matcher = new XPathMatcher(xpath);
 		}
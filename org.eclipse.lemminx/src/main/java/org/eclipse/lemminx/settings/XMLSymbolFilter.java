@@ -13,7 +13,9 @@ package org.eclipse.lemminx.settings;
 
 import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.xpath.matcher.CompiledXPathMatcher;
 import org.eclipse.lemminx.xpath.matcher.IXPathNodeMatcher.MatcherType;
+import org.eclipse.lemminx.xpath.matcher.XPathMatcher;
 
 /**
  * XML symbol filter used to show/hide DOM attributes, text nodes specified with
@@ -89,6 +91,43 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 
 	private XMLSymbolExpressionFilter[] expressions;
 
+	private transient volatile CompiledExpressions compiledExpressions;
+
+	/**
+	 * The XPath expressions of the filter compiled in one matcher.
+	 */
+	private static class CompiledExpressions {
+
+		private final XPathMatcher[] matchers;
+
+		private final CompiledXPathMatcher<XMLSymbolExpressionFilter> matcher;
+
+		CompiledExpressions(XMLSymbolExpressionFilter[] expressions) {
+			this.matchers = new XPathMatcher[expressions.length];
+			this.matcher = new CompiledXPathMatcher<>();
+			for (int i = 0; i < expressions.length; i++) {
+				matchers[i] = expressions[i].getMatcher();
+				matcher.add(matchers[i], expressions[i]);
+			}
+		}
+
+		/**
+		 * Returns true if the XPath expressions have not been updated since the
+		 * compilation and false otherwise.
+		 */
+		boolean isValid(XMLSymbolExpressionFilter[] expressions) {
+			if (matchers.length != expressions.length) {
+				return false;
+			}
+			for (int i = 0; i < expressions.length; i++) {
+				if (matchers[i] != expressions[i].getMatcher()) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	/**
 	 * Set the expression list filter.
 	 * 
@@ -96,6 +135,7 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 	 */
 	public void setExpressions(XMLSymbolExpressionFilter[] expressions) {
 		this.expressions = expressions;
+		this.compiledExpressions = null;
 	}
 
 	/**
@@ -119,8 +159,8 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 	 */
 	public XMLSymbolExpressionFilter getFilterForInlineAttr(DOMAttr attrNode){
 		if (expressions != null && expressions.length > 0) {
-			for (XMLSymbolExpressionFilter expression : expressions) {
-				if (expression.match(attrNode) && expression.isInlineAttribute()) {
+			for (XMLSymbolExpressionFilter expression : getCompiledMatcher().matchAll(attrNode)) {
+				if (expression.isInlineAttribute()) {
 					return expression;
 				}
 			}
@@ -141,12 +181,10 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 			return false;
 		}
 		if (expressions != null && expressions.length > 0) {
-			// loop for list of XPath expression and returns the first expression which
-			// matches the given node.
-			for (XMLSymbolExpressionFilter expression : expressions) {
-				if (expression.match(node)) {
-					return !expression.isExcluded();
-				}
+			// get the first expression which matches the given node.
+			XMLSymbolExpressionFilter expression = getCompiledMatcher().matchFirst(node);
+			if (expression != null) {
+				return !expression.isExcluded();
 			}
 		}
 		// By default DOM attributes and Text nodes are excluded.
@@ -160,6 +198,21 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 				node.isDTDNotationDecl();
 	}
 
+	/**
+	 * Returns the XPath expressions of the filter compiled in one matcher.
+	 * 
+	 * @return the XPath expressions of the filter compiled in one matcher.
+	 */
+	private CompiledXPathMatcher<XMLSymbolExpressionFilter> getCompiledMatcher() {
+		XMLSymbolExpressionFilter[] expressions = this.expressions;
+		CompiledExpressions compiled = compiledExpressions;
+		if (compiled == null || !compiled.isValid(expressions)) {
+			compiled = new CompiledExpressions(expressions);
+			compiledExpressions = compiled;
+		}
+		return compiled.matcher;
+	}
+
 	/**
 	 * Returns true if the filter have an expression for the given type (element,
 	 * attribute, text) and false otherwise.
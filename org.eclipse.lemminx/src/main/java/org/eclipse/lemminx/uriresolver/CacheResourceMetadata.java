@@ -0,0 +1,153 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.uriresolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * HTTP validators (ETag, Last-Modified) of a downloaded resource stored in a
+ * file next to the cached file, used to revalidate the cached file with a
+ * conditional request.
+ *
+ */
+class CacheResourceMetadata {
+
+	static final String FILE_EXTENSION = ".lemminx-metadata";
+
+	private static final String ETAG_KEY = "etag";
+	private static final String LAST_MODIFIED_KEY = "lastModified";
+	private static final String LAST_CHECKED_KEY = "lastChecked";
+
+	private final String etag;
+
+	private final String lastModified;
+
+	private final long lastChecked;
+
+	CacheResourceMetadata(String etag, String lastModified, long lastChecked) {
+		this.etag = etag;
+		this.lastModified = lastModified;
+		this.lastChecked = lastChecked;
+	}
+
+	/**
+	 * Returns the ETag header of the downloaded resource and null otherwise.
+	 *
+	 * @return the ETag header of the downloaded resource and null otherwise.
+	 */
+	String getETag() {
+		return etag;
+	}
+
+	/**
+	 * Returns the Last-Modified header of the downloaded resource and null
+	 * otherwise.
+	 *
+	 * @return the Last-Modified header of the downloaded resource and null
+	 *         otherwise.
+	 */
+	String getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * Returns the time (in milliseconds) when the resource was downloaded or
+	 * revalidated for the last time.
+	 *
+	 * @return the time (in milliseconds) when the resource was downloaded or
+	 *         revalidated for the last time.
+	 */
+	long getLastChecked() {
+		return lastChecked;
+	}
+
+	/**
+	 * Returns true if the resource can be revalidated with a conditional request
+	 * and false otherwise.
+	 *
+	 * @return true if the resource can be revalidated with a conditional request
+	 *         and false otherwise.
+	 */
+	boolean hasValidators() {
+		return etag != null || lastModified != null;
+	}
+
+	/**
+	 * Returns a copy of this metadata with the given last checked time.
+	 *
+	 * @param lastChecked the last checked time (in milliseconds).
+	 * @return a copy of this metadata with the given last checked time.
+	 */
+	CacheResourceMetadata withLastChecked(long lastChecked) {
+		return new CacheResourceMetadata(etag, lastModified, lastChecked);
+	}
+
+	/**
+	 * Save the metadata next to the given cached file.
+	 *
+	 * @param resourceCachePath the cached file.
+	 * @throws IOException
+	 */
+	void save(Path resourceCachePath) throws IOException {
+		Properties properties = new Properties();
+		if (etag != null) {
+			properties.setProperty(ETAG_KEY, etag);
+		}
+		if (lastModified != null) {
+			properties.setProperty(LAST_MODIFIED_KEY, lastModified);
+		}
+		properties.setProperty(LAST_CHECKED_KEY, String.valueOf(lastChecked));
+		try (OutputStream out = Files.newOutputStream(getMetadataPath(resourceCachePath))) {
+			properties.store(out, null);
+		}
+	}
+
+	/**
+	 * Returns the metadata stored next to the given cached file and null if there
+	 * is no metadata (resource deployed from the classpath, resource downloaded by
+	 * an old version, etc).
+	 *
+	 * @param resourceCachePath the cached file.
+	 * @return the metadata stored next to the given cached file and null
+	 *         otherwise.
+	 */
+	static CacheResourceMetadata load(Path resourceCachePath) {
+		Path metadataPath = getMetadataPath(resourceCachePath);
+		if (!Files.exists(metadataPath)) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(metadataPath)) {
+			properties.load(in);
+			return new CacheResourceMetadata(properties.getProperty(ETAG_KEY),
+					properties.getProperty(LAST_MODIFIED_KEY),
+					Long.parseLong(properties.getProperty(LAST_CHECKED_KEY, "0")));
+		} catch (IOException | NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the path of the metadata file of the given cached file.
+	 *
+	 * @param resourceCachePath the cached file.
+	 * @return the path of the metadata file of the given cached file.
+	 */
+	static Path getMetadataPath(Path resourceCachePath) {
+		return resourceCachePath.resolveSibling(resourceCachePath.getFileName().toString() + FILE_EXTENSION);
+	}
+}
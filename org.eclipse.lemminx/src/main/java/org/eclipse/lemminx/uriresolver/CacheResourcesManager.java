@@ -14,29 +14,30 @@ package org.eclipse.lemminx.uriresolver;
 
 import static org.eclipse.lemminx.utils.ExceptionUtils.getRootCause;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.URL;
-import java.net.URLConnection;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.lemminx.uriresolver.CacheResourceDownloadingException.CacheResourceDownloadingError;
 import org.eclipse.lemminx.uriresolver.InvalidURIException.InvalidURIError;
+import org.eclipse.lemminx.uriresolver.ResourceDownloader.HttpStatusException;
 import org.eclipse.lemminx.utils.FilesUtils;
 import org.eclipse.lemminx.utils.StringUtils;
 import org.eclipse.lemminx.utils.platform.Platform;
@@ -52,7 +53,6 @@ import com.google.common.io.RecursiveDeleteOption;
  */
 public class CacheResourcesManager {
 
-	private static final String USER_AGENT_KEY = "User-Agent";
 	private static final String USER_AGENT_VALUE = "LemMinX/" + Platform.getVersion().getVersionNumber() + " ("
 			+ Platform.getOS().getName() + " " + Platform.getOS().getVersion() + ")";
 
@@ -63,16 +63,31 @@ public class CacheResourcesManager {
 	private static final String CACHE_PATH = "cache";
 	private static final Logger LOGGER = Logger.getLogger(CacheResourcesManager.class.getName());
 
-	private static final Path TEMP_DOWNLOAD_DIR;
+	/**
+	 * System property used to override the interval (in seconds) after which a
+	 * downloaded resource is revalidated with a conditional request (a negative
+	 * value disables the revalidation).
+	 */
+	public static final String REVALIDATION_INTERVAL_PROPERTY = "lemminx.cache.revalidationInterval";
 
-	static {
-		Path tempDownloadDir = null;
-		try {
-			tempDownloadDir = Files.createTempDirectory("lemminx-temp");
-		} catch (Exception e) {
+	private static final long DEFAULT_REVALIDATION_INTERVAL = TimeUnit.DAYS.toMillis(1);
+
+	// <xs:import|include|redefine|override ... schemaLocation="..."
+	private static final Pattern SCHEMA_LOCATION_PATTERN = Pattern.compile(
+			"<(?:[\\w.-]+:)?(?:import|include|redefine|override)\\b[^>]*?\\bschemaLocation\\s*=\\s*([\"'])(.*?)\\1",
+			Pattern.DOTALL);
+
+	private static final ExecutorService DOWNLOAD_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "XML download " + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
 		}
-		TEMP_DOWNLOAD_DIR = tempDownloadDir;
-	}
+	});
 
 	private final Map<String, CompletableFuture<Path>> resourcesLoading;
 	private boolean useCache;
@@ -81,6 +96,14 @@ public class CacheResourcesManager {
 
 	private final Set<String> protocolsForCache;
 
+	private final ResourceDownloader downloader;
+
+	private final Map<String, Long> nextRevalidations;
+
+	private volatile long revalidationInterval;
+
+	private volatile boolean prefetchImports;
+
 	class ResourceInfo {
 
 		String resourceURI;
@@ -140,13 +163,38 @@ public class CacheResourcesManager {
 		}
 	}
 
+	/**
+	 * Returns the default revalidation interval (1 day) which can be overridden
+	 * with the "lemminx.cache.revalidationInterval" system property (in seconds).
+	 *
+	 * @return the default revalidation interval in milliseconds.
+	 */
+	private static long getDefaultRevalidationInterval() {
+		String value = System.getProperty(REVALIDATION_INTERVAL_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				long interval = Long.parseLong(value);
+				return interval < 0 ? -1 : TimeUnit.SECONDS.toMillis(interval);
+			} catch (NumberFormatException e) {
+				LOGGER.warning("Invalid value '" + value + "' for the system property '"
+						+ REVALIDATION_INTERVAL_PROPERTY + "'.");
+			}
+		}
+		return DEFAULT_REVALIDATION_INTERVAL;
+	}
+
 	public CacheResourcesManager() {
 		this(CacheBuilder.newBuilder().maximumSize(100).expireAfterWrite(30, TimeUnit.SECONDS).build());
 	}
 
 	CacheResourcesManager(Cache<String, CacheResourceDownloadedException> cache) {
 		resourcesLoading = new HashMap<>();
-		protocolsForCache = new HashSet<>();
+		protocolsForCache = ConcurrentHashMap.newKeySet();
+		downloader = new ResourceDownloader(USER_AGENT_VALUE,
+				protocol -> protocolsForCache.contains(formatProtocol(protocol)));
+		nextRevalidations = new ConcurrentHashMap<>();
+		revalidationInterval = getDefaultRevalidationInterval();
+		prefetchImports = true;
 		unavailableURICache = cache;
 		forceDownloadExternalResources = CacheBuilder.newBuilder().maximumSize(100)
 				.expireAfterWrite(30, TimeUnit.SECONDS).build();
@@ -157,6 +205,7 @@ public class CacheResourcesManager {
 	public Path getResource(final String resourceURI) throws IOException {
 		Path resourceCachePath = getResourceCachePath(resourceURI);
 		if (Files.exists(resourceCachePath)) {
+			revalidateIfNeeded(resourceURI, resourceCachePath);
 			return resourceCachePath;
 		}
 
@@ -200,62 +249,20 @@ public class CacheResourcesManager {
 	private CompletableFuture<Path> downloadResource(final String resourceURI, Path resourceCachePath) {
 		return CompletableFuture.supplyAsync(() -> {
 			long start = System.currentTimeMillis();
-			URLConnection conn = null;
 			try {
-				String actualURI = resourceURI;
-				URL url = new URL(actualURI);
-				String originalProtocol = url.getProtocol();
-				if (!protocolsForCache.contains(formatProtocol(originalProtocol))) {
-					throw new InvalidURIException(resourceURI, InvalidURIException.InvalidURIError.UNSUPPORTED_PROTOCOL,
-							originalProtocol);
-				}
-				boolean isOriginalRequestSecure = isSecure(originalProtocol);
 				LOGGER.info("Downloading " + resourceURI + " to " + resourceCachePath + "...");
-				conn = url.openConnection();
-				conn.setRequestProperty(USER_AGENT_KEY, USER_AGENT_VALUE);
-				/* XXX: This should really be implemented using HttpClient or similar */
-				int allowedRedirects = 5;
-				while (conn.getHeaderField("Location") != null && allowedRedirects > 0) //$NON-NLS-1$
-				{
-					allowedRedirects--;
-					url = new URL(actualURI = conn.getHeaderField("Location")); //$NON-NLS-1$
-					String protocol = url.getProtocol();
-					if (!protocolsForCache.contains(formatProtocol(protocol))) {
-						throw new InvalidURIException(url.toString(),
-								InvalidURIException.InvalidURIError.UNSUPPORTED_PROTOCOL, protocol);
-					}
-					if (isOriginalRequestSecure && !isSecure(protocol)) {
-						throw new InvalidURIException(resourceURI,
-								InvalidURIException.InvalidURIError.INSECURE_REDIRECTION, url.toString());
-					}
-					conn = url.openConnection();
-					conn.setRequestProperty(USER_AGENT_KEY, USER_AGENT_VALUE);
-				}
-
-				// Download resource in a temporary file
-				Path path = Files.createTempFile(TEMP_DOWNLOAD_DIR, resourceCachePath.getFileName().toString(), ".lemminx");
-				try (ReadableByteChannel rbc = Channels.newChannel(conn.getInputStream());
-						FileOutputStream fos = new FileOutputStream(path.toFile())) {
-					fos.getChannel().transferFrom(rbc, 0, Long.MAX_VALUE);
-				}
-
-				// Move the temporary file in the lemminx cache folder.
-				Path dir = resourceCachePath.getParent();
-				if (!Files.exists(dir)) {
-					Files.createDirectories(dir);
-				}
-				Files.move(path, resourceCachePath);
+				downloader.download(resourceURI, resourceCachePath, null);
 				long elapsed = System.currentTimeMillis() - start;
 				LOGGER.info("Downloaded " + resourceURI + " to " + resourceCachePath + " in " + elapsed + "ms");
+				nextRevalidations.put(resourceURI, System.currentTimeMillis() + revalidationInterval);
 			} catch (Exception e) {
 				// Do nothing
 				Throwable rootCause = getRootCause(e);
 				String error = "[" + rootCause.getClass().getTypeName() + "] " + rootCause.getMessage();
 				LOGGER.log(Level.SEVERE,
 						"Error while downloading " + resourceURI + " to " + resourceCachePath + " : " + error);
-				String httpResponseCode = getHttpResponseCode(conn);
-				if (httpResponseCode != null) {
-					error = error + " with code: " + httpResponseCode;
+				if (rootCause instanceof HttpStatusException) {
+					error = error + " with code: " + ((HttpStatusException) rootCause).getStatusCode();
 				}
 				CacheResourceDownloadedException cacheException = new CacheResourceDownloadedException(resourceURI,
 						resourceCachePath, error, e);
@@ -265,37 +272,129 @@ public class CacheResourcesManager {
 				synchronized (resourcesLoading) {
 					resourcesLoading.remove(resourceURI);
 				}
-				if (conn != null && conn instanceof HttpURLConnection) {
-					((HttpURLConnection) conn).disconnect();
+			}
+			prefetchImports(resourceURI, resourceCachePath);
+			return resourceCachePath;
+		}, DOWNLOAD_EXECUTOR);
+	}
+
+	/**
+	 * Revalidate the given cached resource in background with a conditional
+	 * request if it was downloaded with HTTP validators (ETag, Last-Modified) and
+	 * if it was not checked since the revalidation interval.
+	 *
+	 * <p>
+	 * The cached file is used while it is revalidated and it is replaced only if
+	 * the server returns a new content.
+	 * </p>
+	 *
+	 * @param resourceURI       the resource URI.
+	 * @param resourceCachePath the cached file.
+	 */
+	private void revalidateIfNeeded(String resourceURI, Path resourceCachePath) {
+		long interval = revalidationInterval;
+		if (interval < 0 || !isDownloadExternalResources()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		Long nextRevalidation = nextRevalidations.get(resourceURI);
+		if (nextRevalidation == null) {
+			// First access to the cached file since the start, load its metadata
+			CacheResourceMetadata metadata = CacheResourceMetadata.load(resourceCachePath);
+			nextRevalidation = metadata != null && metadata.hasValidators() ? metadata.getLastChecked() + interval
+					: Long.MAX_VALUE;
+			nextRevalidations.put(resourceURI, nextRevalidation);
+		}
+		if (now < nextRevalidation) {
+			return;
+		}
+		synchronized (resourcesLoading) {
+			if (resourcesLoading.containsKey(resourceURI)) {
+				return;
+			}
+			nextRevalidations.put(resourceURI, now + interval);
+			resourcesLoading.put(resourceURI, revalidateResource(resourceURI, resourceCachePath));
+		}
+	}
+
+	private CompletableFuture<Path> revalidateResource(final String resourceURI, Path resourceCachePath) {
+		return CompletableFuture.supplyAsync(() -> {
+			boolean modified = false;
+			try {
+				CacheResourceMetadata metadata = CacheResourceMetadata.load(resourceCachePath);
+				if (metadata == null || !metadata.hasValidators()) {
+					return resourceCachePath;
+				}
+				modified = downloader.download(resourceURI, resourceCachePath, metadata);
+				if (modified) {
+					LOGGER.info("Updated " + resourceURI + " in " + resourceCachePath);
 				}
+			} catch (Exception e) {
+				// Keep the cached file, it will be revalidated after the next interval
+				Throwable rootCause = getRootCause(e);
+				LOGGER.log(Level.WARNING, "Error while revalidating " + resourceURI + " : ["
+						+ rootCause.getClass().getTypeName() + "] " + rootCause.getMessage());
+			} finally {
+				synchronized (resourcesLoading) {
+					resourcesLoading.remove(resourceURI);
+				}
+			}
+			if (modified) {
+				prefetchImports(resourceURI, resourceCachePath);
 			}
 			return resourceCachePath;
-		});
+		}, DOWNLOAD_EXECUTOR);
 	}
 
 	/**
-	 * Returns the http response code from a url connection, null if code could not
-	 * be retrived
+	 * Start the download of the XML Schemas imported, included, redefined or
+	 * overridden by the given downloaded resource, so that they are available when
+	 * the grammar is loaded.
 	 *
-	 * @param conn the URL connection
-	 * @return the http response code from a url connection, null if code could not
-	 *         be retrived
+	 * @param resourceURI       the downloaded resource URI.
+	 * @param resourceCachePath the downloaded file.
 	 */
-	private static String getHttpResponseCode(URLConnection conn) {
-		if (conn != null && conn instanceof HttpURLConnection) {
+	private void prefetchImports(String resourceURI, Path resourceCachePath) {
+		if (!prefetchImports) {
+			return;
+		}
+		String content;
+		try {
+			content = FilesUtils.readString(resourceCachePath);
+		} catch (IOException e) {
+			return;
+		}
+		if (!content.contains("schemaLocation")) { //$NON-NLS-1$
+			return;
+		}
+		Matcher matcher = SCHEMA_LOCATION_PATTERN.matcher(content);
+		while (matcher.find()) {
+			String location = matcher.group(2).trim();
 			try {
-				HttpURLConnection httpConn = (HttpURLConnection) conn;
-				return (String.valueOf(httpConn.getResponseCode())) + " " + httpConn.getResponseMessage();
-			} catch (IOException e) {
-				// connection refused and no code could be retrived, do nothing
+				String importURI = URI.create(resourceURI).resolve(location).toString();
+				if (canUseCache(importURI)) {
+					getResource(importURI);
+				}
+			} catch (CacheResourceDownloadingException e) {
+				// The imported resource is downloading
+			} catch (Exception e) {
+				LOGGER.log(Level.FINE, "Cannot prefetch '" + location + "' imported by " + resourceURI, e);
 			}
 		}
-		return null;
 	}
 
-	private boolean isSecure(String protocol) {
-		// really dumb way to check for secure protocol
-		return "https".equals(protocol);
+	/**
+	 * Returns the download or the revalidation of the given resource which is in
+	 * progress and null otherwise.
+	 *
+	 * @param resourceURI the resource URI.
+	 * @return the download or the revalidation of the given resource which is in
+	 *         progress and null otherwise.
+	 */
+	CompletableFuture<Path> getResourceLoading(String resourceURI) {
+		synchronized (resourcesLoading) {
+			return resourcesLoading.get(resourceURI);
+		}
 	}
 
 	public static Path getResourceCachePath(String resourceURI) throws IOException {
@@ -416,6 +515,73 @@ public class CacheResourcesManager {
 			// Remove the cache directory
 			MoreFiles.deleteDirectoryContents(cachePath, RecursiveDeleteOption.ALLOW_INSECURE);
 		}
+		nextRevalidations.clear();
+	}
+
+	/**
+	 * Returns the interval (in milliseconds) after which a downloaded resource is
+	 * revalidated with a conditional request and a negative value if the
+	 * revalidation is disabled.
+	 *
+	 * @return the interval (in milliseconds) after which a downloaded resource is
+	 *         revalidated.
+	 */
+	public long getRevalidationInterval() {
+		return revalidationInterval;
+	}
+
+	/**
+	 * Set the interval (in milliseconds) after which a downloaded resource is
+	 * revalidated with a conditional request and a negative value to disable the
+	 * revalidation.
+	 *
+	 * @param revalidationInterval the interval (in milliseconds) after which a
+	 *                             downloaded resource is revalidated.
+	 */
+	public void setRevalidationInterval(long revalidationInterval) {
+		this.revalidationInterval = revalidationInterval;
+		nextRevalidations.clear();
+	}
+
+	/**
+	 * Returns true if the XML Schemas imported by a downloaded XML Schema are
+	 * downloaded too and false otherwise.
+	 *
+	 * @return true if the XML Schemas imported by a downloaded XML Schema are
+	 *         downloaded too and false otherwise.
+	 */
+	public boolean isPrefetchImports() {
+		return prefetchImports;
+	}
+
+	/**
+	 * Set true if the XML Schemas imported by a downloaded XML Schema must be
+	 * downloaded too and false otherwise.
+	 *
+	 * @param prefetchImports true if the XML Schemas imported by a downloaded XML
+	 *                        Schema must be downloaded too and false otherwise.
+	 */
+	public void setPrefetchImports(boolean prefetchImports) {
+		this.prefetchImports = prefetchImports;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent downloads per host.
+	 *
+	 * @return the maximum number of concurrent downloads per host.
+	 */
+	public int getMaxConnectionsPerHost() {
+		return downloader.getMaxConnectionsPerHost();
+	}
+
+	/**
+	 * Set the maximum number of concurrent downloads per host.
+	 *
+	 * @param maxConnectionsPerHost the maximum number of concurrent downloads per
+	 *                              host.
+	 */
+	public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+		downloader.setMaxConnectionsPerHost(maxConnectionsPerHost);
 	}
 
 	/**
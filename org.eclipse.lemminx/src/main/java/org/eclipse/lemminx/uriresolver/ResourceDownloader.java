@@ -0,0 +1,368 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.uriresolver;
+
+import static org.eclipse.lemminx.utils.ExceptionUtils.getRootCause;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.ConnectException;
+import java.net.ProxySelector;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * Download engine used by {@link CacheResourcesManager} to download the
+ * resources (XML Schema, DTD) in the lemminx cache:
+ *
+ * <ul>
+ * <li>the http(s) resources are downloaded with a shared {@link HttpClient}
+ * which reuses the connections and uses HTTP/2 when the server supports
+ * it.</li>
+ * <li>the number of concurrent downloads per host is limited.</li>
+ * <li>the ETag/Last-Modified headers are stored next to the cached file (see
+ * {@link CacheResourceMetadata}) to revalidate the cached file with a
+ * conditional request.</li>
+ * <li>the other protocols (ex : ftp) are downloaded with
+ * {@link URLConnection}.</li>
+ * </ul>
+ *
+ */
+class ResourceDownloader {
+
+	private static final Logger LOGGER = Logger.getLogger(ResourceDownloader.class.getName());
+
+	/**
+	 * System property used to override the maximum number of concurrent downloads
+	 * per host.
+	 */
+	static final String MAX_CONNECTIONS_PER_HOST_PROPERTY = "lemminx.download.maxConnectionsPerHost";
+
+	private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 4;
+
+	private static final int MAX_REDIRECTS = 5;
+
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+
+	/**
+	 * Timeout to receive the response, to not block a download thread with a
+	 * server which stalls.
+	 */
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+	private static final String USER_AGENT_KEY = "User-Agent";
+
+	private static final Path TEMP_DOWNLOAD_DIR;
+
+	static {
+		Path tempDownloadDir = null;
+		try {
+			tempDownloadDir = Files.createTempDirectory("lemminx-temp");
+		} catch (Exception e) {
+		}
+		TEMP_DOWNLOAD_DIR = tempDownloadDir;
+	}
+
+	/**
+	 * Exception thrown when the server returns an unexpected HTTP status code.
+	 */
+	static class HttpStatusException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int statusCode;
+
+		HttpStatusException(String url, int statusCode) {
+			super("Server returned HTTP response code: " + statusCode + " for URL: " + url);
+			this.statusCode = statusCode;
+		}
+
+		int getStatusCode() {
+			return statusCode;
+		}
+	}
+
+	private final String userAgent;
+
+	private final Predicate<String> supportedProtocol;
+
+	private final Map<String, Semaphore> hostPermits;
+
+	private volatile int maxConnectionsPerHost;
+
+	private HttpClient httpClient;
+
+	/**
+	 * Download engine.
+	 *
+	 * @param userAgent         the User-Agent header value.
+	 * @param supportedProtocol returns true if a protocol (ex : 'https:') can be
+	 *                          downloaded and false otherwise.
+	 */
+	ResourceDownloader(String userAgent, Predicate<String> supportedProtocol) {
+		this.userAgent = userAgent;
+		this.supportedProtocol = supportedProtocol;
+		this.hostPermits = new ConcurrentHashMap<>();
+		this.maxConnectionsPerHost = getDefaultMaxConnectionsPerHost();
+	}
+
+	/**
+	 * Returns the default maximum number of concurrent downloads per host which can
+	 * be overridden with the "lemminx.download.maxConnectionsPerHost" system
+	 * property.
+	 *
+	 * @return the default maximum number of concurrent downloads per host.
+	 */
+	private static int getDefaultMaxConnectionsPerHost() {
+		String value = System.getProperty(MAX_CONNECTIONS_PER_HOST_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				int max = Integer.parseInt(value);
+				if (max > 0) {
+					return max;
+				}
+			} catch (NumberFormatException e) {
+				LOGGER.warning("Invalid value '" + value + "' for the system property '"
+						+ MAX_CONNECTIONS_PER_HOST_PROPERTY + "'.");
+			}
+		}
+		return DEFAULT_MAX_CONNECTIONS_PER_HOST;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent downloads per host.
+	 *
+	 * @return the maximum number of concurrent downloads per host.
+	 */
+	int getMaxConnectionsPerHost() {
+		return maxConnectionsPerHost;
+	}
+
+	/**
+	 * Set the maximum number of concurrent downloads per host. The new value is
+	 * used for the hosts which have not been downloaded yet.
+	 *
+	 * @param maxConnectionsPerHost the maximum number of concurrent downloads per
+	 *                              host.
+	 */
+	void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+		if (maxConnectionsPerHost > 0) {
+			this.maxConnectionsPerHost = maxConnectionsPerHost;
+			hostPermits.clear();
+		}
+	}
+
+	/**
+	 * Download the given resource in the given cached file.
+	 *
+	 * <p>
+	 * When a metadata is given, the request is conditional and the cached file is
+	 * kept if the server answers that the resource is not modified.
+	 * </p>
+	 *
+	 * @param resourceURI       the resource URI to download.
+	 * @param resourceCachePath the cached file.
+	 * @param metadata          the metadata of the cached file and null if the
+	 *                          resource is not cached.
+	 * @return true if the resource was downloaded and false if the cached file is
+	 *         not modified.
+	 * @throws Exception
+	 */
+	boolean download(String resourceURI, Path resourceCachePath, CacheResourceMetadata metadata) throws Exception {
+		URL url = new URL(resourceURI);
+		String originalProtocol = url.getProtocol();
+		if (!supportedProtocol.test(originalProtocol)) {
+			throw new InvalidURIException(resourceURI, InvalidURIException.InvalidURIError.UNSUPPORTED_PROTOCOL,
+					originalProtocol);
+		}
+		if (!isHttp(originalProtocol)) {
+			downloadWithURLConnection(url, resourceCachePath);
+			return true;
+		}
+		boolean isOriginalRequestSecure = isSecure(originalProtocol);
+		Path path = Files.createTempFile(TEMP_DOWNLOAD_DIR, resourceCachePath.getFileName().toString(), ".lemminx");
+		try {
+			int allowedRedirects = MAX_REDIRECTS;
+			while (true) {
+				HttpResponse<Path> response = send(url, metadata, path);
+				String location = response.headers().firstValue("Location").orElse(null); //$NON-NLS-1$
+				if (location != null && allowedRedirects > 0) {
+					allowedRedirects--;
+					url = new URL(url, location);
+					String protocol = url.getProtocol();
+					if (!supportedProtocol.test(protocol) || !isHttp(protocol)) {
+						throw new InvalidURIException(url.toString(),
+								InvalidURIException.InvalidURIError.UNSUPPORTED_PROTOCOL, protocol);
+					}
+					if (isOriginalRequestSecure && !isSecure(protocol)) {
+						throw new InvalidURIException(resourceURI,
+								InvalidURIException.InvalidURIError.INSECURE_REDIRECTION, url.toString());
+					}
+					continue;
+				}
+				int statusCode = response.statusCode();
+				if (statusCode == 304 && metadata != null) {
+					// The cached file is not modified
+					metadata.withLastChecked(System.currentTimeMillis()).save(resourceCachePath);
+					return false;
+				}
+				if (statusCode != 200) {
+					throw new HttpStatusException(url.toString(), statusCode);
+				}
+
+				// Move the temporary file in the lemminx cache folder.
+				Path dir = resourceCachePath.getParent();
+				if (!Files.exists(dir)) {
+					Files.createDirectories(dir);
+				}
+				Files.move(path, resourceCachePath, StandardCopyOption.REPLACE_EXISTING);
+				new CacheResourceMetadata(response.headers().firstValue("ETag").orElse(null), //$NON-NLS-1$
+						response.headers().firstValue("Last-Modified").orElse(null), //$NON-NLS-1$
+						System.currentTimeMillis()).save(resourceCachePath);
+				return true;
+			}
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	private HttpResponse<Path> send(URL url, CacheResourceMetadata metadata, Path path)
+			throws IOException, InterruptedException {
+		HttpRequest.Builder request;
+		try {
+			request = HttpRequest.newBuilder(url.toURI());
+		} catch (Exception e) {
+			throw new InvalidURIException(url.toString(), InvalidURIException.InvalidURIError.ILLEGAL_SYNTAX, e);
+		}
+		request.timeout(REQUEST_TIMEOUT);
+		request.header(USER_AGENT_KEY, userAgent);
+		if (metadata != null) {
+			if (metadata.getETag() != null) {
+				request.header("If-None-Match", metadata.getETag()); //$NON-NLS-1$
+			}
+			if (metadata.getLastModified() != null) {
+				request.header("If-Modified-Since", metadata.getLastModified()); //$NON-NLS-1$
+			}
+		}
+		// Only the body of a successful response is written in the temporary file
+		BodyHandler<Path> bodyHandler = responseInfo -> responseInfo.statusCode() == 200
+				? BodySubscribers.ofFile(path)
+				: BodySubscribers.replacing(path);
+		Semaphore permits = getHostPermits(url);
+		permits.acquire();
+		try {
+			return getHttpClient().send(request.GET().build(), bodyHandler);
+		} catch (ConnectException e) {
+			throw toConnectionError(url, e);
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Returns the connection error of {@link HttpClient} (which wraps a channel
+	 * exception without message) as the error reported by {@link URLConnection}
+	 * (ex : '[java.net.UnknownHostException] server').
+	 */
+	private static IOException toConnectionError(URL url, ConnectException e) {
+		Throwable rootCause = getRootCause(e);
+		if (rootCause instanceof UnresolvedAddressException) {
+			return new UnknownHostException(url.getHost());
+		}
+		if (rootCause.getMessage() != null) {
+			return e;
+		}
+		return new ConnectException("Connection refused");
+	}
+
+	private void downloadWithURLConnection(URL url, Path resourceCachePath) throws IOException {
+		URLConnection conn = url.openConnection();
+		conn.setRequestProperty(USER_AGENT_KEY, userAgent);
+		Path path = Files.createTempFile(TEMP_DOWNLOAD_DIR, resourceCachePath.getFileName().toString(), ".lemminx");
+		Semaphore permits = getHostPermits(url);
+		try {
+			permits.acquire();
+			try (ReadableByteChannel rbc = Channels.newChannel(conn.getInputStream());
+					FileOutputStream fos = new FileOutputStream(path.toFile())) {
+				fos.getChannel().transferFrom(rbc, 0, Long.MAX_VALUE);
+			} finally {
+				permits.release();
+			}
+			Path dir = resourceCachePath.getParent();
+			if (!Files.exists(dir)) {
+				Files.createDirectories(dir);
+			}
+			Files.move(path, resourceCachePath, StandardCopyOption.REPLACE_EXISTING);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	private Semaphore getHostPermits(URL url) {
+		String host = url.getHost() != null ? url.getHost() : "";
+		return hostPermits.computeIfAbsent(host, h -> new Semaphore(maxConnectionsPerHost));
+	}
+
+	private synchronized HttpClient getHttpClient() {
+		if (httpClient == null) {
+			// The client is created lazily to use the proxy and authenticator configured
+			// when the server is launched.
+			HttpClient.Builder builder = HttpClient.newBuilder() //
+					.version(Version.HTTP_2) //
+					.followRedirects(Redirect.NEVER) //
+					.connectTimeout(CONNECT_TIMEOUT);
+			ProxySelector proxySelector = ProxySelector.getDefault();
+			if (proxySelector != null) {
+				builder.proxy(proxySelector);
+			}
+			Authenticator authenticator = Authenticator.getDefault();
+			if (authenticator != null) {
+				builder.authenticator(authenticator);
+			}
+			httpClient = builder.build();
+		}
+		return httpClient;
+	}
+
+	private static boolean isHttp(String protocol) {
+		return "http".equals(protocol) || "https".equals(protocol);
+	}
+
+	private static boolean isSecure(String protocol) {
+		// really dumb way to check for secure protocol
+		return "https".equals(protocol);
+	}
+}
@@ -0,0 +1,278 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.uriresolver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Cache of the URIs resolved by the {@link URIResolverExtensionManager} for a
+ * (base location, public id, system id) triple.
+ *
+ * <p>
+ * The cache is tied to a generation number of the resolvers configuration
+ * (catalogs, file associations, root URI, registered resolvers). When the
+ * configuration changes, the generation is incremented and all cached entries
+ * are discarded. A resolution computed with a previous generation is never
+ * stored, so a resolution which runs in parallel with a configuration change
+ * cannot pollute the cache.
+ * </p>
+ *
+ * <p>
+ * The number of entries is bounded by the system property
+ * {@link #MAX_ENTRIES_PROPERTY} (default 10000), the least recently used
+ * entries are evicted first.
+ * </p>
+ *
+ * @since 0.31.3
+ */
+public class URIResolveCache {
+
+	private static final Logger LOGGER = Logger.getLogger(URIResolveCache.class.getName());
+
+	/**
+	 * System property used to configure the maximum number of cached
+	 * resolutions (0 to disable the cache).
+	 */
+	public static final String MAX_ENTRIES_PROPERTY = "lemminx.uriResolver.cache.maxEntries";
+
+	private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+	/**
+	 * Cached value for a resolution which returns null.
+	 */
+	private static final ResolvedURIInfo NOT_RESOLVED = new ResolvedURIInfo(null, null);
+
+	/**
+	 * Statistics of the URI resolve cache.
+	 */
+	public static class Stats {
+
+		private final long hits;
+
+		private final long misses;
+
+		private final int entries;
+
+		private final long generation;
+
+		Stats(long hits, long misses, int entries, long generation) {
+			this.hits = hits;
+			this.misses = misses;
+			this.entries = entries;
+			this.generation = generation;
+		}
+
+		/**
+		 * Returns the number of resolutions found in the cache.
+		 *
+		 * @return the number of resolutions found in the cache.
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * Returns the number of resolutions which have been computed by the
+		 * resolvers.
+		 *
+		 * @return the number of resolutions which have been computed by the
+		 *         resolvers.
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * Returns the ratio (between 0 and 1) of the resolutions found in the cache.
+		 *
+		 * @return the ratio (between 0 and 1) of the resolutions found in the cache.
+		 */
+		public double getHitRatio() {
+			long total = hits + misses;
+			return total == 0 ? 0 : (double) hits / total;
+		}
+
+		/**
+		 * Returns the number of cached resolutions.
+		 *
+		 * @return the number of cached resolutions.
+		 */
+		public int getEntries() {
+			return entries;
+		}
+
+		/**
+		 * Returns the generation of the resolvers configuration.
+		 *
+		 * @return the generation of the resolvers configuration.
+		 */
+		public long getGeneration() {
+			return generation;
+		}
+
+		@Override
+		public String toString() {
+			return "URIResolveCache [hits=" + hits + ", misses=" + misses + ", hitRatio=" + getHitRatio()
+					+ ", entries=" + entries + ", generation=" + generation + "]";
+		}
+	}
+
+	private static class Key {
+
+		private final String baseLocation;
+
+		private final String publicId;
+
+		private final String systemId;
+
+		private final int hashCode;
+
+		Key(String baseLocation, String publicId, String systemId) {
+			this.baseLocation = baseLocation;
+			this.publicId = publicId;
+			this.systemId = systemId;
+			this.hashCode = Objects.hash(baseLocation, publicId, systemId);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(baseLocation, other.baseLocation) && Objects.equals(publicId, other.publicId)
+					&& Objects.equals(systemId, other.systemId);
+		}
+	}
+
+	private final Map<Key, ResolvedURIInfo> entries;
+
+	private int maxEntries;
+
+	private long generation;
+
+	private long hits;
+
+	private long misses;
+
+	public URIResolveCache() {
+		this(getDefaultMaxEntries());
+	}
+
+	URIResolveCache(int maxEntries) {
+		// access order to evict the least recently used entry
+		this.entries = new LinkedHashMap<Key, ResolvedURIInfo>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, ResolvedURIInfo> eldest) {
+				return size() > URIResolveCache.this.maxEntries;
+			}
+		};
+		this.maxEntries = maxEntries;
+	}
+
+	private static int getDefaultMaxEntries() {
+		String value = System.getProperty(MAX_ENTRIES_PROPERTY, "");
+		if (!value.isEmpty()) {
+			try {
+				return Math.max(0, Integer.parseInt(value));
+			} catch (NumberFormatException e) {
+				LOGGER.warning("Invalid value '" + value + "' for the system property '" + MAX_ENTRIES_PROPERTY + "'.");
+			}
+		}
+		return DEFAULT_MAX_ENTRIES;
+	}
+
+	/**
+	 * Returns the current generation of the resolvers configuration.
+	 *
+	 * @return the current generation of the resolvers configuration.
+	 */
+	public synchronized long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Returns the cached resolution for the given triple, {@link #NOT_RESOLVED}
+	 * if the resolution returned null and null if the triple is not cached.
+	 */
+	synchronized ResolvedURIInfo get(String baseLocation, String publicId, String systemId) {
+		ResolvedURIInfo info = entries.get(new Key(baseLocation, publicId, systemId));
+		if (info != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return info;
+	}
+
+	/**
+	 * Cache the resolution for the given triple if the resolvers configuration
+	 * has not changed since the given generation.
+	 */
+	synchronized void put(String baseLocation, String publicId, String systemId, ResolvedURIInfo info,
+			long resolveGeneration) {
+		if (resolveGeneration != generation || maxEntries == 0) {
+			return;
+		}
+		entries.put(new Key(baseLocation, publicId, systemId), info != null ? info : NOT_RESOLVED);
+	}
+
+	/**
+	 * Returns true if the given cached value is a resolution which returned null.
+	 */
+	static boolean isNotResolved(ResolvedURIInfo info) {
+		return info == NOT_RESOLVED;
+	}
+
+	/**
+	 * Discard all cached resolutions and increment the generation of the
+	 * resolvers configuration. This method must be called when the result of a
+	 * resolver changes (ex : catalogs, file associations or root URI changed).
+	 */
+	public synchronized void invalidate() {
+		generation++;
+		entries.clear();
+	}
+
+	/**
+	 * Set the maximum number of cached resolutions (0 to disable the cache).
+	 *
+	 * @param maxEntries the maximum number of cached resolutions.
+	 */
+	public synchronized void setMaxEntries(int maxEntries) {
+		this.maxEntries = Math.max(0, maxEntries);
+		invalidate();
+	}
+
+	/**
+	 * Returns the statistics of the cache.
+	 *
+	 * @return the statistics of the cache.
+	 */
+	public synchronized Stats getStats() {
+		return new Stats(hits, misses, entries.size(), generation);
+	}
+}
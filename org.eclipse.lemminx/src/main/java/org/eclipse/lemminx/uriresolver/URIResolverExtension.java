@@ -40,6 +40,51 @@ public interface URIResolverExtension extends XMLEntityResolver {
 	 */
 	public String resolve(String baseLocation, String publicId, String systemId);
 
+	/**
+	 * Returns true if the result of {@link #resolve(String, String, String)} for
+	 * the given identifiers can be cached by the
+	 * {@link URIResolverExtensionManager} and false otherwise.
+	 * 
+	 * <p>
+	 * The caching is opt-in: by default a resolver is not cacheable and the
+	 * resolved URIs are not cached while it is registered. A resolver can return
+	 * true only if its result depends only on its configuration (not on the content
+	 * of the document, the workspace, etc) and if it calls
+	 * {@link URIResolveCache#invalidate()} or implements {@link #reloadIfChanged()}
+	 * when its configuration changes.
+	 * </p>
+	 * 
+	 * @param baseLocation - the location of the resource that contains the uri
+	 * @param publicId     - an optional public identifier (i.e. namespace name), or
+	 *                     null if none
+	 * @param systemId     - an absolute or relative URI, or null if none
+	 * @return true if the result of {@link #resolve(String, String, String)} can
+	 *         be cached and false otherwise.
+	 * 
+	 * @since 0.31.3
+	 */
+	default boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		return false;
+	}
+
+	/**
+	 * Reload the configuration of the resolver if it has changed (ex : a catalog
+	 * file has been modified) and returns true if the resolved URIs may have
+	 * changed and false otherwise.
+	 * 
+	 * <p>
+	 * This method is called by the {@link URIResolverExtensionManager} before
+	 * resolving an URI to discard the cached resolutions.
+	 * </p>
+	 * 
+	 * @return true if the resolved URIs may have changed and false otherwise.
+	 * 
+	 * @since 0.31.3
+	 */
+	default boolean reloadIfChanged() {
+		return false;
+	}
+
 	@Override
 	default XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		return null;
@@ -23,6 +23,8 @@ import org.apache.xerces.util.URI.MalformedURIException;
 import org.apache.xerces.xni.XMLResourceIdentifier;
 import org.apache.xerces.xni.XNIException;
 import org.apache.xerces.xni.parser.XMLInputSource;
+import org.eclipse.lemminx.dom.ExternalDocumentCache;
+import org.eclipse.lemminx.services.IXMLDocumentProvider;
 
 /**
  * URI resolver manager.
@@ -34,9 +36,17 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 
 	private final URIResolverExtension defaultURIResolverExtension;
 
+	private final URIResolveCache resolveCache;
+
+	private final ExternalDocumentCache externalDocumentCache;
+
+	private IXMLDocumentProvider documentProvider;
+
 	public URIResolverExtensionManager() {
 		resolvers = new ArrayList<>();
 		this.defaultURIResolverExtension = new DefaultURIResolverExtension();
+		this.resolveCache = new URIResolveCache();
+		this.externalDocumentCache = new ExternalDocumentCache();
 	}
 
 	class DefaultURIResolverExtension implements URIResolverExtension {
@@ -74,6 +84,25 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 		}
 	}
 
+	/**
+	 * Returns the provider of the opened XML documents and null otherwise.
+	 *
+	 * @return the provider of the opened XML documents and null otherwise.
+	 */
+	public IXMLDocumentProvider getDocumentProvider() {
+		return documentProvider;
+	}
+
+	/**
+	 * Set the provider of the opened XML documents used to prefer the editor
+	 * buffer to the file content when an external document is loaded.
+	 *
+	 * @param documentProvider the provider of the opened XML documents.
+	 */
+	public void setDocumentProvider(IXMLDocumentProvider documentProvider) {
+		this.documentProvider = documentProvider;
+	}
+
 	/**
 	 * Register an URI resolver.
 	 *
@@ -81,6 +110,7 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 	 */
 	public void registerResolver(URIResolverExtension resolver) {
 		resolvers.add(resolver);
+		resolveCache.invalidate();
 	}
 
 	/**
@@ -89,21 +119,82 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 	 * @param resolver the URI resolver to unregister.
 	 */
 	public void unregisterResolver(URIResolverExtension resolver) {
-		resolvers.add(resolver);
+		resolvers.remove(resolver);
+		resolveCache.invalidate();
+	}
+
+	/**
+	 * Returns the cache of the resolved URIs.
+	 *
+	 * @return the cache of the resolved URIs.
+	 * 
+	 * @since 0.31.3
+	 */
+	public URIResolveCache getResolveCache() {
+		return resolveCache;
+	}
+
+	/**
+	 * Returns the cache of the DOM documents loaded from files which are not
+	 * opened in an editor.
+	 *
+	 * @return the cache of the DOM documents loaded from files which are not
+	 *         opened in an editor.
+	 * 
+	 * @since 0.31.3
+	 */
+	public ExternalDocumentCache getExternalDocumentCache() {
+		return externalDocumentCache;
 	}
 
 	@Override
 	public String resolve(String baseLocation, String publicId, String systemId) {
-		for (URIResolverExtension resolver : resolvers) {
-			String resolved = resolver.resolve(baseLocation, publicId, systemId);
-			if (resolved != null && !resolved.isEmpty()) {
-				return resolved;
-			}
+		ResolvedURIInfo resolvedURIInfo = resolveInfo(baseLocation, publicId, systemId);
+		if (resolvedURIInfo != null) {
+			return resolvedURIInfo.getResolvedURI();
 		}
 		return defaultURIResolverExtension.resolve(baseLocation, publicId, systemId);
 	}
 
 	public ResolvedURIInfo resolveInfo(String baseLocation, String publicId, String systemId) {
+		if (reloadIfChanged()) {
+			resolveCache.invalidate();
+		}
+		if (!isResolveCacheable(baseLocation, publicId, systemId)) {
+			return doResolveInfo(baseLocation, publicId, systemId);
+		}
+		ResolvedURIInfo cached = resolveCache.get(baseLocation, publicId, systemId);
+		if (cached != null) {
+			return URIResolveCache.isNotResolved(cached) ? null : cached;
+		}
+		long generation = resolveCache.getGeneration();
+		ResolvedURIInfo resolvedURIInfo = doResolveInfo(baseLocation, publicId, systemId);
+		resolveCache.put(baseLocation, publicId, systemId, resolvedURIInfo, generation);
+		return resolvedURIInfo;
+	}
+
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		for (URIResolverExtension resolver : resolvers) {
+			if (!resolver.isResolveCacheable(baseLocation, publicId, systemId)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean reloadIfChanged() {
+		boolean changed = false;
+		for (URIResolverExtension resolver : resolvers) {
+			if (resolver.reloadIfChanged()) {
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private ResolvedURIInfo doResolveInfo(String baseLocation, String publicId, String systemId) {
 		for (URIResolverExtension resolver : resolvers) {
 			String resolvedURI = resolver.resolve(baseLocation, publicId, systemId);
 			if (resolvedURI != null && !resolvedURI.isEmpty()) {
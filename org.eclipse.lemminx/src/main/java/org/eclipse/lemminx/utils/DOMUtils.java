@@ -12,7 +12,6 @@
 package org.eclipse.lemminx.utils;
 
 import java.io.StringReader;
-import java.net.URL;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
@@ -22,6 +21,7 @@ import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lemminx.dom.DOMRange;
+import org.eclipse.lemminx.dom.ExternalDocumentCache;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXNotRecognizedException;
@@ -236,17 +236,42 @@ public class DOMUtils {
 	/**
 	 * Returns the DOM document from the given XML Schema uri.
 	 * 
+	 * <p>
+	 * The DOM document is shared by the {@link ExternalDocumentCache} and must not
+	 * be updated.
+	 * </p>
+	 * 
 	 * @param documentURI              the schema URI
 	 * @param resolverExtensionManager
 	 * @return the DOM document from the given XML Schema uri.
 	 */
 	public static DOMDocument loadDocument(String documentURI, URIResolverExtensionManager resolverExtensionManager) {
-		try {
-			return DOMParser.getInstance().parse(IOUtils.convertStreamToString(new URL(documentURI).openStream()),
-					documentURI, resolverExtensionManager);
-		} catch (Exception e) {
-			return null;
+		if (resolverExtensionManager == null) {
+			return ExternalDocumentCache.load(documentURI, null);
+		}
+		return resolverExtensionManager.getExternalDocumentCache().getDocument(documentURI, resolverExtensionManager);
+	}
+
+	/**
+	 * Returns the DOM document of the file content of the given uri, even if the
+	 * document is opened in an editor.
+	 * 
+	 * <p>
+	 * The DOM document is shared by the {@link ExternalDocumentCache} and must not
+	 * be updated.
+	 * </p>
+	 * 
+	 * @param documentURI              the document URI.
+	 * @param resolverExtensionManager the resolver extension manager.
+	 * @return the DOM document of the file content of the given uri.
+	 */
+	public static DOMDocument loadFileDocument(String documentURI,
+			URIResolverExtensionManager resolverExtensionManager) {
+		if (resolverExtensionManager == null) {
+			return ExternalDocumentCache.load(documentURI, null);
 		}
+		return resolverExtensionManager.getExternalDocumentCache().getFileDocument(documentURI,
+				resolverExtensionManager);
 	}
 
 	/**
@@ -46,7 +46,7 @@ public class StringUtils {
 		return isWhitespace(value, index, value.length());
 	}
 
-	public static boolean isWhitespace(String value, int index, int end) {
+	public static boolean isWhitespace(CharSequence value, int index, int end) {
 		if (value == null) {
 			return false;
 		}
@@ -0,0 +1,293 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.xpath.matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.w3c.dom.Node;
+
+/**
+ * Compiled XPath matcher which matches a DOM node with several XPath
+ * expressions at once.
+ * 
+ * <p>
+ * An {@link XPathMatcher} matches a DOM node by testing its node matchers, from
+ * the last one, with the node and its ancestors. When several XPath expressions
+ * must be matched with each node of a DOM document (symbols filters, colors
+ * expressions, etc), the node and its ancestors are tested again for each
+ * expression.
+ * </p>
+ * 
+ * <p>
+ * The compiled matcher merges the XPath expressions in a tree of node matchers:
+ * a path from the root of the tree is the reversed list of the last node
+ * matchers of an expression (until the first '//' from the end), and the
+ * expressions which end with the same node matchers share the same path. A DOM
+ * node is matched by walking the tree once with the node and its ancestors:
+ * </p>
+ * 
+ * <ul>
+ * <li>a node matcher shared by several expressions is tested once.</li>
+ * <li>the node matchers which match an element or an attribute by its name are
+ * retrieved with a map lookup instead of being tested one by one.</li>
+ * <li>when there are no more node matchers of an expression in the tree, the
+ * start of the expression (which contains '//') is matched with its
+ * {@link XPathMatcher}.</li>
+ * </ul>
+ * 
+ * <p>
+ * The expressions must be added before matching nodes, the compiled matcher can
+ * then be used by several threads.
+ * </p>
+ * 
+ * @param <T> the type of the value associated to an XPath expression.
+ */
+public class CompiledXPathMatcher<T> {
+
+	/**
+	 * Node of the tree of node matchers.
+	 */
+	private static class StepNode {
+
+		private final IXPathNodeMatcher matcher;
+
+		private Map<String, StepNode> elementSteps;
+
+		private Map<String, StepNode> attributeSteps;
+
+		private Map<Object, StepNode> otherSteps;
+
+		private List<Integer> expressions;
+
+		StepNode(IXPathNodeMatcher matcher) {
+			this.matcher = matcher;
+		}
+
+		StepNode getOrCreateChild(IXPathNodeMatcher step) {
+			if (step instanceof XPathElementMatcher) {
+				XPathElementMatcher elementMatcher = (XPathElementMatcher) step;
+				List<XPathAttributeMatcher> attributes = elementMatcher.getAttributes();
+				if (!elementMatcher.isAnyElementName() && (attributes == null || attributes.isEmpty())) {
+					// ex : foo
+					if (elementSteps == null) {
+						elementSteps = new HashMap<>();
+					}
+					return elementSteps.computeIfAbsent(elementMatcher.getLocalName(), k -> new StepNode(step));
+				}
+			} else if (step instanceof XPathAttributeNameMatcher) {
+				XPathAttributeNameMatcher attributeMatcher = (XPathAttributeNameMatcher) step;
+				if (!attributeMatcher.isAnyAttributeName()) {
+					// ex : @foo
+					if (attributeSteps == null) {
+						attributeSteps = new HashMap<>();
+					}
+					return attributeSteps.computeIfAbsent(attributeMatcher.getLocalName(), k -> new StepNode(step));
+				}
+			}
+			// ex : *[@id='foo'], @*, text()
+			if (otherSteps == null) {
+				otherSteps = new LinkedHashMap<>();
+			}
+			return otherSteps.computeIfAbsent(getStepKey(step), k -> new StepNode(step));
+		}
+
+		void addExpression(int index) {
+			if (expressions == null) {
+				expressions = new ArrayList<>();
+			}
+			expressions.add(index);
+		}
+
+		/**
+		 * Returns the key used to share the node matchers which are tested with the
+		 * DOM node.
+		 */
+		private static Object getStepKey(IXPathNodeMatcher step) {
+			if (step instanceof XPathElementMatcher) {
+				XPathElementMatcher elementMatcher = (XPathElementMatcher) step;
+				StringBuilder key = new StringBuilder("element:");
+				key.append(elementMatcher.getLocalName());
+				List<XPathAttributeMatcher> attributes = elementMatcher.getAttributes();
+				if (attributes != null) {
+					for (XPathAttributeMatcher attribute : attributes) {
+						key.append("[@") //
+								.append(attribute.getAttrName()) //
+								.append("='") //
+								.append(attribute.getAttrValue()) //
+								.append("']");
+					}
+				}
+				return key.toString();
+			}
+			if (step instanceof XPathAttributeNameMatcher) {
+				return "attribute:" + ((XPathAttributeNameMatcher) step).getLocalName();
+			}
+			if (step instanceof XPathTextMatcher) {
+				return "text()";
+			}
+			return step;
+		}
+	}
+
+	private final StepNode root;
+
+	private final List<XPathMatcher> matchers;
+
+	private final List<T> values;
+
+	public CompiledXPathMatcher() {
+		this.root = new StepNode(null);
+		this.matchers = new ArrayList<>();
+		this.values = new ArrayList<>();
+	}
+
+	/**
+	 * Add the given XPath matcher with its associated value.
+	 * 
+	 * @param matcher the XPath matcher.
+	 * @param value   the value associated to the XPath matcher.
+	 */
+	public void add(XPathMatcher matcher, T value) {
+		int index = matchers.size();
+		matchers.add(matcher);
+		values.add(value);
+		StepNode node = root;
+		for (int i = matcher.size() - 1; i >= 0; i--) {
+			IXPathNodeMatcher step = matcher.get(i);
+			if (step.isAny()) {
+				break;
+			}
+			node = node.getOrCreateChild(step);
+		}
+		node.addExpression(index);
+	}
+
+	/**
+	 * Returns true if there is no XPath matcher and false otherwise.
+	 * 
+	 * @return true if there is no XPath matcher and false otherwise.
+	 */
+	public boolean isEmpty() {
+		return matchers.isEmpty();
+	}
+
+	/**
+	 * Returns the values of the XPath matchers which match the given DOM node in
+	 * the order of the XPath matchers.
+	 * 
+	 * @param node the DOM node to match.
+	 * @return the values of the XPath matchers which match the given DOM node in
+	 *         the order of the XPath matchers.
+	 */
+	public List<T> matchAll(Node node) {
+		List<Integer> indexes = findMatchingIndexes(node);
+		if (indexes.isEmpty()) {
+			return Collections.emptyList();
+		}
+		Collections.sort(indexes);
+		List<T> result = new ArrayList<>(indexes.size());
+		for (Integer index : indexes) {
+			result.add(values.get(index));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the value of the first XPath matcher which matches the given DOM
+	 * node and null otherwise.
+	 * 
+	 * @param node the DOM node to match.
+	 * @return the value of the first XPath matcher which matches the given DOM
+	 *         node and null otherwise.
+	 */
+	public T matchFirst(Node node) {
+		List<Integer> indexes = findMatchingIndexes(node);
+		if (indexes.isEmpty()) {
+			return null;
+		}
+		return values.get(Collections.min(indexes));
+	}
+
+	/**
+	 * Returns true if an XPath matcher matches the given DOM node and false
+	 * otherwise.
+	 * 
+	 * @param node the DOM node to match.
+	 * @return true if an XPath matcher matches the given DOM node and false
+	 *         otherwise.
+	 */
+	public boolean match(Node node) {
+		return !findMatchingIndexes(node).isEmpty();
+	}
+
+	private List<Integer> findMatchingIndexes(Node node) {
+		if (node == null || matchers.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<Integer> indexes = new ArrayList<>();
+		collect(root, node, 0, indexes);
+		return indexes;
+	}
+
+	/**
+	 * Collect the indexes of the XPath matchers which match the DOM node.
+	 * 
+	 * @param stepNode the current node of the tree of node matchers.
+	 * @param testNode the DOM node (or the ancestor of the DOM node) to test with
+	 *                 the children of the tree node.
+	 * @param depth    the number of node matchers which have been matched.
+	 * @param indexes  the indexes of the XPath matchers which match.
+	 */
+	private void collect(StepNode stepNode, Node testNode, int depth, List<Integer> indexes) {
+		if (stepNode.expressions != null) {
+			for (int index : stepNode.expressions) {
+				XPathMatcher matcher = matchers.get(index);
+				int lastIndex = matcher.size() - 1 - depth;
+				if (lastIndex < 0 || matcher.match(testNode, lastIndex, null)) {
+					indexes.add(index);
+				}
+			}
+		}
+		if (testNode == null) {
+			return;
+		}
+		Node parentNode = XPathMatcher.getTestParentNode(testNode);
+		if (stepNode.elementSteps != null) {
+			String localName = testNode.getLocalName();
+			if (localName == null) {
+				localName = testNode.getNodeName();
+			}
+			StepNode child = stepNode.elementSteps.get(localName);
+			if (child != null) {
+				collect(child, parentNode, depth + 1, indexes);
+			}
+		}
+		if (stepNode.attributeSteps != null && testNode.getNodeType() == Node.ATTRIBUTE_NODE) {
+			StepNode child = stepNode.attributeSteps.get(testNode.getLocalName());
+			if (child != null) {
+				collect(child, parentNode, depth + 1, indexes);
+			}
+		}
+		if (stepNode.otherSteps != null) {
+			for (StepNode child : stepNode.otherSteps.values()) {
+				if (child.matcher.match(testNode, null)) {
+					collect(child, parentNode, depth + 1, indexes);
+				}
+			}
+		}
+	}
+}
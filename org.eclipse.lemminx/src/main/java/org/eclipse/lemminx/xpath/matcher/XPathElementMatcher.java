@@ -149,6 +149,24 @@ public class XPathElementMatcher extends AbstractXPathNodeMatcher {
 		return anyElementName && !hasAttributes;
 	}
 
+	/**
+	 * Returns true if the matcher matches any element name and false otherwise.
+	 * 
+	 * @return true if the matcher matches any element name and false otherwise.
+	 */
+	public boolean isAnyElementName() {
+		return anyElementName;
+	}
+
+	/**
+	 * Returns the XPath attribute matchers of the element and null otherwise.
+	 * 
+	 * @return the XPath attribute matchers of the element and null otherwise.
+	 */
+	List<XPathAttributeMatcher> getAttributes() {
+		return attributes;
+	}
+
 	/**
 	 * Add XPath attribute matcher.
 	 * 
@@ -180,9 +180,30 @@ public class XPathMatcher extends ArrayList<IXPathNodeMatcher> {
 		if (node == null) {
 			return false;
 		}
-		Node testNode = node;
+		return match(node, super.size() - 1, wildcardValues);
+	}
+
+	/**
+	 * Returns true if the given DOM Node match the XPath node matchers of this
+	 * XPath matcher from the first one to the given index and false otherwise.
+	 * 
+	 * <p>
+	 * This method is used by {@link CompiledXPathMatcher} to finish the match of
+	 * an XPath expression when the last node matchers have been matched by the
+	 * node and its ancestors.
+	 * </p>
+	 * 
+	 * @param testNode       the DOM Node to match with the node matcher of the
+	 *                       given index.
+	 * @param lastIndex      the index of the last node matcher to match.
+	 * @param wildcardValues the list of wildcard values and null otherwise.
+	 * @return true if the given DOM Node match the XPath node matchers of this
+	 *         XPath matcher from the first one to the given index and false
+	 *         otherwise.
+	 */
+	boolean match(Node testNode, int lastIndex, final Collection<String> wildcardValues) {
 		IXPathNodeMatcher condition = null;
-		for (int i = super.size() - 1; i >= 0; i--) {
+		for (int i = lastIndex; i >= 0; i--) {
 			if (testNode == null) {
 				return false;
 			}
@@ -256,7 +277,7 @@ public class XPathMatcher extends ArrayList<IXPathNodeMatcher> {
 		return node;
 	}
 
-	private Node getTestParentNode(Node node) {
+	static Node getTestParentNode(Node node) {
 		short nodeType = node.getNodeType();
 		switch (nodeType) {
 		case Node.ATTRIBUTE_NODE:
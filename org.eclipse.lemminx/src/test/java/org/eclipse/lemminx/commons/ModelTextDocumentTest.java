@@ -0,0 +1,152 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the parse of the model of {@link ModelTextDocument} shared by the
+ * threads.
+ *
+ */
+public class ModelTextDocumentTest {
+
+	@Test
+	public void parseOnceForConcurrentReaders() throws Exception {
+		AtomicInteger parseCount = new AtomicInteger();
+		ModelTextDocument<String> document = new ModelTextDocument<>("<root />", "test.xml",
+				(textDocument, cancelChecker) -> {
+					parseCount.incrementAndGet();
+					sleep(200);
+					return textDocument.getText() + "@" + textDocument.getVersion();
+				});
+
+		List<CompletableFuture<String>> readers = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			readers.add(CompletableFuture.supplyAsync(document::getModel));
+		}
+		String model = document.getModel();
+		for (CompletableFuture<String> reader : readers) {
+			assertSame(model, reader.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, parseCount.get());
+	}
+
+	@Test
+	public void cancelParseOfOldVersion() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		ModelTextDocument<String> document = new ModelTextDocument<>("<root />", "test.xml",
+				(textDocument, cancelChecker) -> {
+					started.countDown();
+					if (textDocument.getVersion() == 1) {
+						// slow parse which is stopped when the version changes
+						for (int i = 0; i < 500; i++) {
+							cancelChecker.checkCanceled();
+							sleep(10);
+						}
+					}
+					return "model@" + textDocument.getVersion();
+				});
+		document.setVersion(1);
+
+		CompletableFuture<String> oldVersion = document.getModelAsync();
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		document.setVersion(2);
+
+		assertThrows(CancellationException.class, () -> oldVersion.join());
+		assertEquals("model@2", document.getModel());
+	}
+
+	@Test
+	public void parseAsyncInDedicatedThread() throws Exception {
+		CountDownLatch blocker = new CountDownLatch(1);
+		ModelTextDocument<String> document = new ModelTextDocument<>("<root />", "test.xml",
+				(textDocument, cancelChecker) -> {
+					if (textDocument.getVersion() == 2) {
+						await(blocker);
+					}
+					return Thread.currentThread().getName() + "@" + textDocument.getVersion();
+				});
+		document.setVersion(1);
+		assertEquals(Thread.currentThread().getName() + "@1", document.getModel());
+
+		document.setVersion(2);
+		CompletableFuture<String> newVersion = document.getModelAsync();
+		// the parse of the version 2 is not finished
+		assertNull(document.getExistingModel());
+
+		blocker.countDown();
+		String model = newVersion.get(5, TimeUnit.SECONDS);
+		assertTrue(model.startsWith("XML parse "), model);
+		assertSame(model, document.getModel());
+	}
+
+	@Test
+	public void lastModel() throws Exception {
+		CountDownLatch blocker = new CountDownLatch(1);
+		ModelTextDocument<String> document = new ModelTextDocument<>("<root />", "test.xml",
+				(textDocument, cancelChecker) -> {
+					if (textDocument.getVersion() == 2) {
+						await(blocker);
+					}
+					return "model@" + textDocument.getVersion();
+				});
+		assertNull(document.getLastModel());
+		document.setVersion(1);
+		assertEquals("model@1", document.getModel());
+		assertEquals("model@1", document.getLastModel());
+
+		document.setVersion(2);
+		CompletableFuture<String> newVersion = document.getModelAsync();
+		// the parse of the version 2 is not finished, the previous model is returned
+		assertNull(document.getExistingModel());
+		assertEquals("model@1", document.getLastModel());
+
+		blocker.countDown();
+		assertEquals("model@2", newVersion.get(5, TimeUnit.SECONDS));
+		assertEquals("model@2", document.getLastModel());
+
+		// the whole text is replaced
+		document.setText("<foo />");
+		assertNull(document.getLastModel());
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lemminx.commons.ModelValidationScheduler.Priority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ModelValidationScheduler} tests.
+ *
+ */
+public class ModelValidationSchedulerTest {
+
+	private final List<String> validated = new CopyOnWriteArrayList<>();
+
+	private CountDownLatch blocker = new CountDownLatch(0);
+
+	private CountDownLatch started = new CountDownLatch(0);
+
+	private final ModelValidationScheduler<String> scheduler = new ModelValidationScheduler<>(document -> {
+		started.countDown();
+		try {
+			blocker.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		validated.add(document.getUri() + "@" + document.getVersion());
+	}, 1);
+
+	@AfterEach
+	public void shutdown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	public void coalesceRequests() throws InterruptedException {
+		ModelTextDocument<String> document = createDocument("a.xml");
+		List<String> callbacks = new CopyOnWriteArrayList<>();
+		scheduler.validate(document, Priority.NORMAL, 50, null);
+		scheduler.validate(document, Priority.NORMAL, 50, d -> callbacks.add("first"));
+		scheduler.validate(document, Priority.NORMAL, 50, d -> callbacks.add("second"));
+		waitForCompleted(1);
+
+		assertEquals(Collections.singletonList("a.xml@1"), validated);
+		assertEquals(List.of("first", "second"), callbacks);
+		assertEquals(2, scheduler.getCoalescedCount());
+		assertEquals(0, scheduler.getPendingCount());
+	}
+
+	@Test
+	public void cancelStaleVersion() throws InterruptedException {
+		ModelTextDocument<String> document = createDocument("a.xml");
+		scheduler.validate(document, Priority.HIGH, 50, null);
+		document.setVersion(2);
+		scheduler.validate(document, Priority.HIGH, 50, null);
+		waitForCompleted(1);
+
+		assertEquals(Collections.singletonList("a.xml@2"), validated);
+		assertEquals(1, scheduler.getStaleCount());
+	}
+
+	@Test
+	public void highPriorityFirst() throws InterruptedException {
+		// Block the single worker
+		blocker = new CountDownLatch(1);
+		started = new CountDownLatch(1);
+		scheduler.validate(createDocument("running.xml"), Priority.NORMAL, 0, null);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		scheduler.validate(createDocument("dependent1.xml"), Priority.NORMAL, 0, null);
+		scheduler.validate(createDocument("dependent2.xml"), Priority.NORMAL, 0, null);
+		scheduler.setFocusedDocument("focused.xml");
+		scheduler.validate(createDocument("focused.xml"), Priority.NORMAL, 0, null);
+		scheduler.validate(createDocument("changed.xml"), Priority.HIGH, 0, null);
+		assertEquals(4, scheduler.getQueueDepth());
+
+		blocker.countDown();
+		waitForCompleted(5);
+		assertEquals(List.of("running.xml@1", "focused.xml@1", "changed.xml@1", "dependent1.xml@1",
+				"dependent2.xml@1"), validated);
+	}
+
+	@Test
+	public void handOnCallbackOfStaleVersion() throws InterruptedException {
+		ModelTextDocument<String> document = createDocument("a.xml");
+		List<String> callbacks = new CopyOnWriteArrayList<>();
+		scheduler.validate(document, Priority.NORMAL, 50, d -> callbacks.add("didOpen"));
+		// the document changes before the validation of the new version is scheduled
+		document.setVersion(2);
+		Thread.sleep(150);
+		assertEquals(0, scheduler.getCompletedCount());
+		scheduler.validate(document, Priority.NORMAL, 0, null);
+		waitForCompleted(1);
+
+		assertEquals(Collections.singletonList("a.xml@2"), validated);
+		assertEquals(Collections.singletonList("didOpen"), callbacks);
+		assertEquals(1, scheduler.getStaleCount());
+		assertEquals(0, scheduler.getPendingCount());
+	}
+
+	@Test
+	public void promoteFocusedDocument() throws InterruptedException {
+		// Block the single worker
+		blocker = new CountDownLatch(1);
+		started = new CountDownLatch(1);
+		scheduler.validate(createDocument("running.xml"), Priority.NORMAL, 0, null);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		scheduler.validate(createDocument("dependent.xml"), Priority.NORMAL, 0, null);
+		scheduler.validate(createDocument("focused.xml"), Priority.NORMAL, 0, null);
+		scheduler.validate(createDocument("delayed.xml"), Priority.NORMAL, 200, null);
+		// the queued validation is promoted when the document is focused
+		scheduler.setFocusedDocument("focused.xml");
+		assertEquals(2, scheduler.getQueueDepth());
+		// the priority of the delayed validation is read when it is queued
+		scheduler.setFocusedDocument("delayed.xml");
+		Thread.sleep(300);
+		assertEquals(3, scheduler.getQueueDepth());
+
+		blocker.countDown();
+		waitForCompleted(4);
+		assertEquals(List.of("running.xml@1", "focused.xml@1", "delayed.xml@1", "dependent.xml@1"), validated);
+	}
+
+	@Test
+	public void cleanPendingValidation() throws InterruptedException {
+		scheduler.validate(createDocument("closed.xml"), Priority.NORMAL, 50, null);
+		scheduler.validate(createDocument("opened.xml"), Priority.NORMAL, 50, null);
+		scheduler.cleanPendingValidation("closed.xml");
+		waitForCompleted(1);
+		Thread.sleep(100);
+
+		assertEquals(Collections.singletonList("opened.xml@1"), validated);
+	}
+
+	private void waitForCompleted(int count) throws InterruptedException {
+		long end = System.currentTimeMillis() + 5000;
+		while (scheduler.getCompletedCount() < count && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertEquals(count, scheduler.getCompletedCount());
+	}
+
+	private static ModelTextDocument<String> createDocument(String uri) {
+		ModelTextDocument<String> document = new ModelTextDocument<>("<root />", uri,
+				(textDocument, cancelChecker) -> textDocument.getText());
+		document.setVersion(1);
+		return document;
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.lemminx.dom.parser.Scanner;
+import org.eclipse.lemminx.dom.parser.TokenType;
+import org.eclipse.lemminx.dom.parser.XMLScanner;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link Rope} tests
+ *
+ */
+public class RopeTest {
+
+	@Test
+	public void replace() {
+		Rope rope = Rope.of("abcdef");
+		Rope updated = rope.replace(2, 4, "XYZ");
+		assertEquals("abXYZef", updated.toString());
+		assertEquals(7, updated.length());
+		// the original rope is not modified
+		assertEquals("abcdef", rope.toString());
+
+		assertEquals("XYZabcdef", rope.replace(0, 0, "XYZ").toString());
+		assertEquals("abcdefXYZ", rope.replace(6, 6, "XYZ").toString());
+		assertEquals("", rope.replace(0, 6, "").toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> rope.replace(4, 2, ""));
+		assertThrows(IndexOutOfBoundsException.class, () -> rope.replace(0, 7, ""));
+	}
+
+	@Test
+	public void subSequence() {
+		Rope rope = Rope.of(repeat('a', 300)).replace(300, 300, repeat('b', 300));
+		assertEquals("aabb", rope.subSequence(298, 302).toString());
+		assertEquals('a', rope.charAt(299));
+		assertEquals('b', rope.charAt(300));
+		assertThrows(IndexOutOfBoundsException.class, () -> rope.charAt(600));
+	}
+
+	@Test
+	public void randomEdits() {
+		Random random = new Random(42);
+		StringBuilder expected = new StringBuilder("<root>\n</root>");
+		Rope rope = Rope.of(expected.toString());
+		for (int i = 0; i < 5000; i++) {
+			int start = random.nextInt(expected.length() + 1);
+			int end = start + random.nextInt(Math.min(10, expected.length() - start) + 1);
+			String text = random.nextInt(10) == 0 ? repeat('x', random.nextInt(1000)) : "<a>" + i;
+			expected.replace(start, end, text);
+			rope = rope.replace(start, end, text);
+		}
+		assertEquals(expected.length(), rope.length());
+		assertEquals(expected.toString(), rope.toString());
+		for (int i = 0; i < expected.length(); i++) {
+			assertEquals(expected.charAt(i), rope.charAt(i));
+		}
+	}
+
+	@Test
+	public void scanRope() {
+		Rope rope = Rope.of("<root></root>").replace(6, 6, "<a>text</a>");
+		Scanner scanner = XMLScanner.createScanner(rope);
+		List<String> texts = new ArrayList<>();
+		TokenType token = scanner.scan();
+		while (token != TokenType.EOS) {
+			texts.add(scanner.getTokenText());
+			token = scanner.scan();
+		}
+		assertEquals(List.of("<", "root", ">", "<", "a", ">", "text", "</", "a", ">", "</", "root", ">"), texts);
+	}
+
+	@Test
+	public void textDocumentUpdate() {
+		TextDocument document = new TextDocument("<root>\n</root>", "test.xml");
+		document.setIncremental(true);
+		CharSequence snapshot = document.getTextBuffer();
+
+		List<TextDocumentContentChangeEvent> changes = new ArrayList<>();
+		changes.add(new TextDocumentContentChangeEvent(new Range(new Position(1, 0), new Position(1, 0)), "  <a/>\n"));
+		changes.add(new TextDocumentContentChangeEvent(new Range(new Position(0, 1), new Position(0, 5)), "ROOT"));
+		document.update(changes);
+
+		assertEquals("<ROOT>\n  <a/>\n</root>", document.getTextBuffer().toString());
+		assertEquals("<ROOT>\n  <a/>\n</root>", document.getText());
+		// the snapshot is not affected by the update
+		assertEquals("<root>\n</root>", snapshot.toString());
+
+		// the rope is rebased on the String text, the next update is applied on it
+		changes.clear();
+		changes.add(new TextDocumentContentChangeEvent(new Range(new Position(1, 3), new Position(1, 4)), "b"));
+		document.update(changes);
+		assertEquals("<ROOT>\n  <b/>\n</root>", document.getText());
+	}
+
+	private static String repeat(char c, int count) {
+		return String.valueOf(c).repeat(count);
+	}
+}
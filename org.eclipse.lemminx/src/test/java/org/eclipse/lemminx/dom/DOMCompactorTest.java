@@ -0,0 +1,223 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import static org.eclipse.lemminx.utils.IOUtils.convertStreamToString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.DOMException;
+import org.w3c.dom.NamedNodeMap;
+
+/**
+ * Tests for the compact DOM document created by {@link DOMCompactor} for huge
+ * documents.
+ *
+ */
+public class DOMCompactorTest {
+
+	private static final String XML = "<?xml version=\"1.0\"?>\r\n" + //
+			"<!DOCTYPE root [\r\n" + //
+			"  <!ELEMENT root (a|b)*>\r\n" + //
+			"  <!ATTLIST a attr CDATA #IMPLIED>\r\n" + //
+			"]>\r\n" + //
+			"<root xmlns=\"http://foo\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">\r\n" + //
+			"  <!-- comment -->\r\n" + //
+			"  <a attr=\"value\" other='x'>text</a>\r\n" + //
+			"  <b>\r\n" + //
+			"    <c/>\r\n" + //
+			"    <d name='x'>  </d>\r\n" + //
+			"    <![CDATA[ cdata ]]>\r\n" + //
+			"  </b>\r\n" + //
+			"  <a attr=\"value2\"></a>\r\n" + //
+			"  <?pi content?>\r\n" + //
+			"  <unclosed>\r\n" + //
+			"</root>\r\n" + //
+			"<!-- end -->";
+
+	private int threshold;
+
+	@BeforeEach
+	public void saveThreshold() {
+		threshold = DOMParser.getInstance().getCompactThreshold();
+	}
+
+	@AfterEach
+	public void restoreThreshold() {
+		DOMParser.getInstance().setCompactThreshold(threshold);
+	}
+
+	@Test
+	public void sameDOMAsNotCompact() {
+		assertSameDOMAsNotCompact(XML, "test.xml");
+		String largeFile = convertStreamToString(DOMCompactorTest.class.getResourceAsStream("/xml/largeFile.xml"));
+		assertSameDOMAsNotCompact(largeFile, "largeFile.xml");
+		assertSameDOMAsNotCompact("<!ELEMENT root (a|b)*>\r\n<!ATTLIST a attr CDATA #IMPLIED>", "test.dtd");
+	}
+
+	@Test
+	public void compactThreshold() {
+		DOMParser.getInstance().setCompactThreshold(XML.length() + 1);
+		assertFalse(parse(XML).isCompact());
+		DOMParser.getInstance().setCompactThreshold(XML.length());
+		assertTrue(parse(XML).isCompact());
+		DOMParser.getInstance().setCompactThreshold(-1);
+		assertFalse(parse(XML).isCompact());
+	}
+
+	@Test
+	public void navigate() {
+		DOMParser.getInstance().setCompactThreshold(0);
+		DOMDocument document = parse(XML);
+		DOMElement root = document.getDocumentElement();
+		assertNotNull(root);
+		assertEquals(2, root.getAttributes().getLength());
+		assertEquals("http://foo", root.getAttributes().getNamedItem("xmlns").getNodeValue());
+
+		DOMNode a = root.getFirstChild().getNextSibling();
+		assertEquals("a", a.getNodeName());
+		assertEquals("value", ((DOMElement) a).getAttribute("attr"));
+		assertEquals("b", a.getNextSibling().getNodeName());
+		assertSame(a, a.getNextSibling().getPreviousSibling());
+		assertEquals(1, a.getChildNodes().getLength());
+		assertSame(a.getFirstChild(), a.getChildNodes().item(0));
+
+		// tag names are interned
+		List<DOMNode> children = root.getChildren();
+		assertSame(((DOMElement) children.get(1)).getTagName(), ((DOMElement) children.get(3)).getTagName());
+		assertSame(document.findNodeAt(XML.indexOf("<c/>") + 1), root.getChildren().get(2).getChildren().get(0));
+	}
+
+	@Test
+	public void updateCompactNode() {
+		DOMParser.getInstance().setCompactThreshold(0);
+		DOMDocument document = parse(XML);
+		DOMElement root = document.getDocumentElement();
+		DOMNode b = root.getChildren().get(2);
+		int size = root.getChildren().size();
+
+		// update the attributes and the children of compact nodes
+		root.setAttribute("attr", "new");
+		assertEquals(3, root.getAttributeNodes().size());
+		assertEquals("new", root.getAttribute("attr"));
+
+		DOMElement element = document.createElement(0, 0);
+		root.addChild(element);
+		assertEquals(size + 1, root.getChildren().size());
+		assertSame(element, root.getLastChild());
+		assertSame(b, root.getChildren().get(2));
+		assertSame(root.getChildren().get(3), b.getNextSibling());
+
+		// the other nodes are not impacted
+		assertEquals(3, b.getChildren().size());
+		assertEquals(1, ((DOMElement) b.getChildren().get(1)).getAttributeNodes().size());
+	}
+
+	@Test
+	public void updateCompactList() {
+		DOMParser.getInstance().setCompactThreshold(0);
+		DOMDocument document = parse(XML);
+		DOMElement root = document.getDocumentElement();
+		DOMElement a = (DOMElement) root.getChildren().get(1);
+		DOMElement b = (DOMElement) root.getChildren().get(2);
+		List<DOMNode> children = b.getChildren();
+		DOMNode c = children.get(0);
+		DOMNode d = children.get(1);
+
+		// update the compact children list
+		assertSame(c, children.remove(0));
+		assertEquals(2, children.size());
+		assertSame(d, children.get(0));
+		children.add(0, c);
+		assertSame(c, b.getFirstChild());
+		assertSame(d, c.getNextSibling());
+
+		// update the compact attributes with the NamedNodeMap API
+		NamedNodeMap attributes = a.getAttributes();
+		DOMAttr other = (DOMAttr) attributes.getNamedItem("other");
+		assertSame(other, attributes.removeNamedItem("other"));
+		assertEquals(1, attributes.getLength());
+		assertNull(attributes.setNamedItem(other));
+		assertSame(other, attributes.item(1));
+		DOMAttr attr = (DOMAttr) attributes.getNamedItem("attr");
+		assertSame(attr, attributes.setNamedItem(new DOMAttr("attr", a)));
+		assertEquals(2, attributes.getLength());
+		assertThrows(DOMException.class, () -> attributes.removeNamedItem("unknown"));
+		DOMAttr xsi = root.getAttributeNode("xmlns:xsi");
+		assertSame(xsi, root.getAttributes().getNamedItemNS(xsi.getNamespaceURI(), "xsi"));
+
+		// the other nodes of the shared array are not impacted
+		DOMElement lastA = (DOMElement) root.getChildren().get(3);
+		assertEquals("value2", lastA.getAttribute("attr"));
+		assertEquals(3, b.getChildren().size());
+		assertSame(root.getChildren().get(3), b.getNextSibling());
+	}
+
+	private void assertSameDOMAsNotCompact(String text, String uri) {
+		DOMParser.getInstance().setCompactThreshold(-1);
+		DOMDocument expected = DOMParser.getInstance().parse(text, uri, null);
+		assertFalse(expected.isCompact());
+		DOMParser.getInstance().setCompactThreshold(0);
+		DOMDocument actual = DOMParser.getInstance().parse(text, uri, null);
+		assertTrue(actual.isCompact());
+		assertSameDOM(expected, actual);
+	}
+
+	private static DOMDocument parse(String text) {
+		return DOMParser.getInstance().parse(text, "test.xml", null);
+	}
+
+	private static void assertSameDOM(DOMNode expected, DOMNode actual) {
+		String message = "Node " + expected.getNodeName() + " at " + expected.getStart();
+		assertEquals(expected.getNodeType(), actual.getNodeType(), message);
+		assertEquals(expected.getNodeName(), actual.getNodeName(), message);
+		assertEquals(expected.getStart(), actual.getStart(), message);
+		assertEquals(expected.getEnd(), actual.getEnd(), message);
+		assertEquals(expected.isClosed(), actual.isClosed(), message);
+		assertEquals(expected.getNodeValue(), actual.getNodeValue(), message);
+		assertEquals(expected.hasAttributes(), actual.hasAttributes(), message);
+		if (expected.hasAttributes()) {
+			List<DOMAttr> expectedAttrs = expected.getAttributeNodes();
+			List<DOMAttr> actualAttrs = actual.getAttributeNodes();
+			assertEquals(expectedAttrs.size(), actualAttrs.size(), message);
+			assertEquals(expected.getAttributes().getLength(), actual.getAttributes().getLength(), message);
+			for (int i = 0; i < expectedAttrs.size(); i++) {
+				DOMAttr expectedAttr = expectedAttrs.get(i);
+				DOMAttr actualAttr = actualAttrs.get(i);
+				assertEquals(expectedAttr.getName(), actualAttr.getName(), message);
+				assertEquals(expectedAttr.getOriginalValue(), actualAttr.getOriginalValue(), message);
+				assertEquals(expectedAttr.getStart(), actualAttr.getStart(), message);
+				assertEquals(expectedAttr.getEnd(), actualAttr.getEnd(), message);
+			}
+		}
+		List<DOMNode> expectedChildren = expected.getChildren();
+		List<DOMNode> actualChildren = actual.getChildren();
+		assertEquals(expectedChildren.size(), actualChildren.size(), message);
+		assertEquals(expected.getChildNodes().getLength(), actual.getChildNodes().getLength(), message);
+		for (int i = 0; i < expectedChildren.size(); i++) {
+			DOMNode child = actualChildren.get(i);
+			assertSame(actual, child.getParentNode(), message);
+			assertSame(i > 0 ? actualChildren.get(i - 1) : null, child.getPreviousSibling(), message);
+			assertSameDOM(expectedChildren.get(i), child);
+		}
+	}
+}
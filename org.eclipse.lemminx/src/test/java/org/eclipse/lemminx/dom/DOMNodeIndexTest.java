@@ -0,0 +1,151 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import static org.eclipse.lemminx.utils.IOUtils.convertStreamToString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DOMNodeIndex} used by {@link DOMDocument#findNodeAt(int)}
+ * and {@link DOMDocument#findNodeBefore(int)}.
+ *
+ */
+public class DOMNodeIndexTest {
+
+	private static final String XML = "<?xml version=\"1.0\"?>\r\n" + //
+			"<!DOCTYPE root [\r\n" + //
+			"  <!ELEMENT root (a|b)*>\r\n" + //
+			"  <!ATTLIST a attr CDATA #IMPLIED>\r\n" + //
+			"]>\r\n" + //
+			"<root xmlns=\"http://foo\">\r\n" + //
+			"  <!-- comment -->\r\n" + //
+			"  <a attr=\"value\" other='x'>text</a>\r\n" + //
+			"  <b>\r\n" + //
+			"    <c/>\r\n" + //
+			"    <d name='x'>  </d>\r\n" + //
+			"    <![CDATA[ cdata ]]>\r\n" + //
+			"    <e>\r\n" + //
+			"  </b>\r\n" + //
+			"  <f attr=\"\r\n" + //
+			"  <?pi content?>\r\n" + //
+			"  </>\r\n" + //
+			"  <unclosed>\r\n" + //
+			"</root>\r\n" + //
+			"<!-- end --> <";
+
+	@Test
+	public void sameNodesAsTreeSearch() {
+		assertSameNodesAsTreeSearch(XML, "test.xml");
+		assertSameNodesAsTreeSearch("", "test.xml");
+		assertSameNodesAsTreeSearch("<a><b></a></b>", "test.xml");
+		assertSameNodesAsTreeSearch("<!ELEMENT root (a|b)*>\r\n<!ATTLIST a attr CDATA #IMPLIED>", "test.dtd");
+		String largeFile = convertStreamToString(DOMNodeIndexTest.class.getResourceAsStream("/xml/largeFile.xml"));
+		assertSameNodesAsTreeSearch(largeFile, "largeFile.xml");
+	}
+
+	@Test
+	public void flatDocument() {
+		StringBuilder xml = new StringBuilder("<root>");
+		for (int i = 0; i < 10000; i++) {
+			xml.append("<item id=\"").append(i).append("\" />");
+		}
+		xml.append("</root>");
+		String text = xml.toString();
+		DOMDocument document = DOMParser.getInstance().parse(text, "test.xml", null);
+		int offset = text.indexOf("id=\"5000\"") + 4;
+		DOMNode item = document.findNodeAt(offset);
+		assertSame(document.getDocumentElement().getChildren().get(5000), item);
+		DOMAttr attr = document.findAttrAt(offset);
+		assertNotNull(attr);
+		assertEquals("5000", attr.getValue());
+	}
+
+	@Test
+	public void findAttrAtWithManyAttributes() {
+		StringBuilder xml = new StringBuilder("<root");
+		for (int i = 0; i < 20; i++) {
+			xml.append(" a").append(i).append("=\"").append(i).append("\"");
+		}
+		xml.append(" />");
+		String text = xml.toString();
+		DOMDocument document = DOMParser.getInstance().parse(text, "test.xml", null);
+		DOMElement root = document.getDocumentElement();
+		for (int offset = 0; offset <= text.length(); offset++) {
+			assertSame(findAttrAtLinear(root, offset), DOMNode.findAttrAt(root, offset), "Offset " + offset);
+		}
+		assertEquals("a12", document.findAttrAt(text.indexOf("a12") + 1).getName());
+		assertNull(document.findAttrAt(text.length() - 1));
+	}
+
+	private static void assertSameNodesAsTreeSearch(String text, String uri) {
+		assertSameNodesAsTreeSearch(DOMParser.getInstance().parse(text, uri, null));
+	}
+
+	private static void assertSameNodesAsTreeSearch(DOMDocument document) {
+		int length = document.getText().length();
+		for (int offset = 0; offset <= length; offset++) {
+			assertSame(findNodeAtInTree(document, offset), document.findNodeAt(offset), "findNodeAt " + offset);
+			assertSame(findNodeBeforeInTree(document, offset), document.findNodeBefore(offset),
+					"findNodeBefore " + offset);
+		}
+	}
+
+	private static DOMNode findNodeAtInTree(DOMNode node, int offset) {
+		DOMNode child = findLastChildBefore(node, offset);
+		if (child != null && DOMNode.isIncluded(child, offset)) {
+			return findNodeAtInTree(child, offset);
+		}
+		return node;
+	}
+
+	private static DOMNode findNodeBeforeInTree(DOMNode node, int offset) {
+		DOMNode child = findLastChildBefore(node, offset);
+		if (child != null) {
+			if (offset < child.getEnd()) {
+				return findNodeBeforeInTree(child, offset);
+			}
+			DOMNode lastChild = child.getLastChild();
+			if (lastChild != null && lastChild.getEnd() == child.getEnd()) {
+				return findNodeBeforeInTree(child, offset);
+			}
+			return child;
+		}
+		return node;
+	}
+
+	private static DOMNode findLastChildBefore(DOMNode node, int offset) {
+		DOMNode result = null;
+		for (DOMNode child : node.getChildren()) {
+			if (child.getStart() < offset) {
+				result = child;
+			}
+		}
+		return result;
+	}
+
+	private static DOMAttr findAttrAtLinear(DOMNode node, int offset) {
+		List<DOMAttr> attributes = node.getAttributeNodes();
+		for (DOMAttr attr : attributes) {
+			if (attr.isIncluded(offset)) {
+				return attr;
+			}
+		}
+		return null;
+	}
+}
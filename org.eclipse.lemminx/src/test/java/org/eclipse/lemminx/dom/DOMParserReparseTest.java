@@ -0,0 +1,169 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.ModelTextDocument;
+import org.eclipse.lemminx.commons.TextChangeRange;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DOMParser#reparse(DOMDocument, TextDocument, TextChangeRange, boolean, org.eclipse.lsp4j.jsonrpc.CancelChecker)}.
+ *
+ */
+public class DOMParserReparseTest {
+
+	private static final String XML = "<?xml version=\"1.0\"?>\r\n" + //
+			"<root xmlns=\"http://foo\">\r\n" + //
+			"  <!-- comment -->\r\n" + //
+			"  <a attr=\"value\">text</a>\r\n" + //
+			"  <b>\r\n" + //
+			"    <c/>\r\n" + //
+			"    <d name='x'>  </d>\r\n" + //
+			"  </b>\r\n" + //
+			"</root>";
+
+	@Test
+	public void previousDocumentIsNotModified() throws BadLocationException {
+		TextDocument document = new TextDocument(XML, "test.xml");
+		document.setIncremental(true);
+		DOMDocument previous = DOMParser.getInstance().parse(document, null);
+		DOMElement root = previous.getDocumentElement();
+		List<String> ranges = getRanges(previous, new ArrayList<>());
+
+		int offset = XML.indexOf("<c/>");
+		DOMDocument updated = reparse(document, previous, offset, 0, "<foo bar=\"baz\">text</foo>");
+
+		assertNotSame(previous, updated);
+		assertEquals(ranges, getRanges(previous, new ArrayList<>()));
+		assertSame(root, previous.getDocumentElement());
+		assertSame(previous, root.getOwnerDocument());
+		assertEquals(getRanges(DOMParser.getInstance().parse(document, null), new ArrayList<>()),
+				getRanges(updated, new ArrayList<>()));
+	}
+
+	@Test
+	public void textChangeSincePreviousDocument() throws BadLocationException {
+		TextDocument document = new TextDocument(XML, "test.xml");
+		document.setIncremental(true);
+		DOMDocument first = DOMParser.getInstance().parse(document, null);
+
+		int offset = XML.indexOf(">text<") + 1;
+		DOMDocument second = reparse(document, first, offset, 0, "ab");
+		DOMDocument third = reparse(document, second, document.getText().indexOf("'>  </d>") + 2, 1, "");
+
+		assertEquals("[" + offset + ", " + offset + " -> " + (offset + 2) + "]",
+				second.getTextChangeSince(first.getParseStamp()).toString());
+		// the changes of the two parses are merged
+		int end = XML.indexOf("'>  </d>") + 3;
+		assertEquals("[" + offset + ", " + end + " -> " + (end + 1) + "]",
+				third.getTextChangeSince(first.getParseStamp()).toString());
+		assertNull(first.getTextChangeSince(third.getParseStamp()));
+		assertNull(DOMParser.getInstance().parse(document, null).getTextChangeSince(first.getParseStamp()));
+	}
+
+	@Test
+	public void noTextChangeWithOtherTextDocument() throws BadLocationException {
+		DOMDocument previous = DOMParser.getInstance().parse(new TextDocument(XML, "test.xml"), null);
+		TextDocument document = new TextDocument(XML, "test.xml");
+
+		DOMDocument updated = reparse(document, previous, 0, 0, " ");
+		assertNull(updated.getTextChangeSince(previous.getParseStamp()));
+	}
+
+	@Test
+	public void modelTextDocument() {
+		DOMParser parser = DOMParser.getInstance();
+		ModelTextDocument<DOMDocument> document = new ModelTextDocument<>(XML, "test.xml",
+				(textDocument, cancelChecker) -> parser.parse(textDocument, null, true, cancelChecker),
+				(previousDocument, textDocument, change, cancelChecker) -> parser.reparse(previousDocument,
+						textDocument, change, true, cancelChecker));
+		document.setIncremental(true);
+		DOMDocument model = document.getModel();
+		List<String> ranges = getRanges(model, new ArrayList<>());
+
+		// 2 edits in the content of <a> are tracked in one change
+		int offset = XML.indexOf(">text<") + 1;
+		document.setVersion(1);
+		document.update(Arrays.asList(createChange(document, offset, 0, "ab")));
+		document.setVersion(2);
+		document.update(Arrays.asList(createChange(document, offset + 1, 1, "")));
+		DOMDocument updated = document.getModel();
+		assertNotSame(model, updated);
+		// the model used by other threads is not modified
+		assertEquals(ranges, getRanges(model, new ArrayList<>()));
+		assertEquals("[" + offset + ", " + offset + " -> " + (offset + 1) + "]",
+				updated.getTextChangeSince(model.getParseStamp()).toString());
+		assertEquals(getRanges(parser.parse(document, null), new ArrayList<>()),
+				getRanges(updated, new ArrayList<>()));
+	}
+
+	@Test
+	public void mergeChanges() {
+		// "0123456789" -> insert "ab" at 2 -> "01ab23456789"
+		TextChangeRange change = TextChangeRange.of(2, 0, 2);
+		// "01ab23456789" -> remove "345" at 5 -> "01ab2" + "6789"
+		change = change.merge(5, 3, 0);
+		assertEquals(2, change.getStart());
+		assertEquals(6, change.getOldEnd());
+		assertEquals(5, change.getNewEnd());
+		assertEquals(-1, change.getDelta());
+
+		// edit before the range
+		change = TextChangeRange.of(5, 1, 1).merge(0, 1, 3);
+		assertEquals(0, change.getStart());
+		assertEquals(6, change.getOldEnd());
+		assertEquals(8, change.getNewEnd());
+	}
+
+	private static List<String> getRanges(DOMNode node, List<String> ranges) {
+		ranges.add(node.getNodeName() + "[" + node.getStart() + "," + node.getEnd() + "]");
+		if (node.hasAttributes()) {
+			for (DOMAttr attr : node.getAttributeNodes()) {
+				ranges.add(attr.getName() + "[" + attr.getStart() + "," + attr.getEnd() + "]");
+			}
+		}
+		for (DOMNode child : node.getChildren()) {
+			getRanges(child, ranges);
+		}
+		return ranges;
+	}
+
+	private static DOMDocument reparse(TextDocument document, DOMDocument previous, int offset, int removedLength,
+			String inserted) throws BadLocationException {
+		document.update(Arrays.asList(createChange(document, offset, removedLength, inserted)));
+		return DOMParser.getInstance().reparse(previous, document,
+				TextChangeRange.of(offset, removedLength, inserted.length()), true, null);
+	}
+
+	private static TextDocumentContentChangeEvent createChange(TextDocument document, int offset, int removedLength,
+			String inserted) {
+		try {
+			Range range = new Range(document.positionAt(offset), document.positionAt(offset + removedLength));
+			return new TextDocumentContentChangeEvent(range, inserted);
+		} catch (BadLocationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
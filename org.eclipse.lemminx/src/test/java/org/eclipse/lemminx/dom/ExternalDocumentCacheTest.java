@@ -0,0 +1,149 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.lemminx.dom.ExternalDocumentCache.Stats;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.utils.DOMUtils;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ExternalDocumentCache}.
+ *
+ */
+public class ExternalDocumentCacheTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void reuseDocumentWhileFileIsNotChanged() throws Exception {
+		ExternalDocumentCache cache = new ExternalDocumentCache(-1);
+		URIResolverExtensionManager resolverExtensionManager = new URIResolverExtensionManager();
+		String uri = createFile("a.xsd", "<schema />");
+
+		DOMDocument document = cache.getDocument(uri, resolverExtensionManager);
+		assertNotNull(document);
+		assertEquals("schema", document.getDocumentElement().getTagName());
+		assertSame(document, cache.getDocument(uri, resolverExtensionManager));
+		Stats stats = cache.getStats();
+		assertEquals(1, stats.getHits());
+		assertEquals(1, stats.getMisses());
+		assertEquals(1, stats.getEntries());
+
+		// the file is updated (the size changes even if the last modified time has
+		// the same value)
+		createFile("a.xsd", "<xs:schema />");
+		DOMDocument updated = cache.getDocument(uri, resolverExtensionManager);
+		assertNotSame(document, updated);
+		assertEquals("xs:schema", updated.getDocumentElement().getTagName());
+		assertEquals(1, cache.getStats().getEntries());
+
+		// the file is deleted
+		Files.delete(tempDir.resolve("a.xsd"));
+		assertNull(cache.getDocument(uri, resolverExtensionManager));
+		assertEquals(0, cache.getStats().getEntries());
+	}
+
+	@Test
+	public void evict() throws Exception {
+		ExternalDocumentCache cache = new ExternalDocumentCache(-1);
+		URIResolverExtensionManager resolverExtensionManager = new URIResolverExtensionManager();
+		String uri = createFile("a.xsd", "<schema />");
+
+		DOMDocument document = cache.getDocument(uri, resolverExtensionManager);
+		cache.evict(uri);
+		assertEquals(0, cache.getStats().getEntries());
+		assertNotSame(document, cache.getDocument(uri, resolverExtensionManager));
+
+		// the document is parsed again for another resolver extension manager
+		document = cache.getDocument(uri, resolverExtensionManager);
+		assertNotSame(document, cache.getDocument(uri, new URIResolverExtensionManager()));
+	}
+
+	@Test
+	public void preferOpenedDocument() throws Exception {
+		ExternalDocumentCache cache = new ExternalDocumentCache(-1);
+		URIResolverExtensionManager resolverExtensionManager = new URIResolverExtensionManager();
+		String uri = createFile("a.xsd", "<schema />");
+		DOMDocument openedDocument = DOMParser.getInstance().parse("<opened />", uri, resolverExtensionManager);
+		resolverExtensionManager.setDocumentProvider(documentURI -> uri.equals(documentURI) ? openedDocument : null);
+
+		assertSame(openedDocument, cache.getDocument(uri, resolverExtensionManager));
+		assertEquals(0, cache.getStats().getEntries());
+
+		// the file content is loaded to be kept by a grammar
+		DOMDocument fileDocument = cache.getFileDocument(uri, resolverExtensionManager);
+		assertEquals("<schema />", fileDocument.getText());
+		assertEquals(1, cache.getStats().getEntries());
+	}
+
+	@Test
+	public void evictLeastRecentlyUsedDocuments() throws Exception {
+		String content = "<schema />";
+		// budget for 2 documents
+		ExternalDocumentCache cache = new ExternalDocumentCache(2 * 8 * content.length());
+		URIResolverExtensionManager resolverExtensionManager = new URIResolverExtensionManager();
+		String a = createFile("a.xsd", content);
+		String b = createFile("b.xsd", content);
+		String c = createFile("c.xsd", content);
+
+		DOMDocument documentA = cache.getDocument(a, resolverExtensionManager);
+		DOMDocument documentB = cache.getDocument(b, resolverExtensionManager);
+		assertSame(documentA, cache.getDocument(a, resolverExtensionManager));
+		cache.getDocument(c, resolverExtensionManager);
+
+		// b is the least recently used document
+		Stats stats = cache.getStats();
+		assertEquals(2, stats.getEntries());
+		assertEquals(1, stats.getEvictions());
+		assertSame(documentA, cache.getDocument(a, resolverExtensionManager));
+		assertNotSame(documentB, cache.getDocument(b, resolverExtensionManager));
+	}
+
+	@Test
+	public void cachePerLanguageService() throws Exception {
+		XMLLanguageService ls1 = new XMLLanguageService();
+		XMLLanguageService ls2 = new XMLLanguageService();
+		ExternalDocumentCache cache1 = ls1.getComponent(ExternalDocumentCache.class);
+		ExternalDocumentCache cache2 = ls2.getComponent(ExternalDocumentCache.class);
+		assertSame(ls1.getResolverExtensionManager().getExternalDocumentCache(), cache1);
+		assertNotSame(cache1, cache2);
+		String uri = createFile("a.xsd", "<schema />");
+
+		DOMDocument document = DOMUtils.loadDocument(uri, ls1.getResolverExtensionManager());
+		assertSame(document, DOMUtils.loadDocument(uri, ls1.getResolverExtensionManager()));
+		assertEquals(1, cache1.getStats().getEntries());
+		assertEquals(0, cache2.getStats().getEntries());
+
+		// the cache is cleared when the language service is disposed
+		ls1.dispose();
+		assertEquals(0, cache1.getStats().getEntries());
+	}
+
+	private String createFile(String fileName, String content) throws Exception {
+		Path file = tempDir.resolve(fileName);
+		Files.write(file, content.getBytes());
+		return file.toUri().toString();
+	}
+}
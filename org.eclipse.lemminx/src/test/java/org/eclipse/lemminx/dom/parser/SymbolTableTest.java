@@ -0,0 +1,94 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SymbolTable} used by the DOM parser to share the names.
+ *
+ */
+public class SymbolTableTest {
+
+	@Test
+	public void intern() {
+		SymbolTable symbols = new SymbolTable();
+		String text = "<a><bb></bb><a/></a>";
+		String a = symbols.intern(text, 1, 2);
+		assertEquals("a", a);
+		assertSame(a, symbols.intern(text, 13, 14));
+		assertSame(a, symbols.intern(text, 18, 19));
+		String bb = symbols.intern(text, 4, 6);
+		assertEquals("bb", bb);
+		assertSame(bb, symbols.intern(text, 9, 11));
+		assertEquals("", symbols.intern(text, 0, 0));
+		assertEquals(3, symbols.size());
+	}
+
+	@Test
+	public void rehash() {
+		SymbolTable symbols = new SymbolTable();
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			text.append("name").append(i).append(' ');
+		}
+		String[] names = text.toString().split(" ");
+		String[] interned = new String[names.length];
+		int start = 0;
+		for (int i = 0; i < names.length; i++) {
+			interned[i] = symbols.intern(text, start, start + names[i].length());
+			assertEquals(names[i], interned[i]);
+			start += names[i].length() + 1;
+		}
+		assertEquals(1000, symbols.size());
+		start = 0;
+		for (int i = 0; i < names.length; i++) {
+			assertSame(interned[i], symbols.intern(text, start, start + names[i].length()));
+			start += names[i].length() + 1;
+		}
+	}
+
+	@Test
+	public void parserSharesNames() {
+		String xml = "<?pi content?>\r\n" + //
+				"<root attr=\"1\">\r\n" + //
+				"  <item attr=\"2\" />\r\n" + //
+				"  <item attr=\"3\"></item>\r\n" + //
+				"  <?pi content?>\r\n" + //
+				"</root>";
+		DOMDocument document = DOMParser.getInstance().parse(xml, "test.xml", null);
+		DOMElement root = document.getDocumentElement();
+		List<DOMNode> children = root.getChildren();
+		DOMElement item1 = (DOMElement) children.get(0);
+		DOMElement item2 = (DOMElement) children.get(1);
+		assertEquals("item", item1.getTagName());
+		assertSame(item1.getTagName(), item2.getTagName());
+		assertSame(root.getAttributeNode("attr").getName(), item1.getAttributeNode("attr").getName());
+		assertSame(item1.getAttributeNode("attr").getName(), item2.getAttributeNode("attr").getName());
+		assertSame(document.getChildren().get(0).getNodeName(), children.get(2).getNodeName());
+		assertEquals("pi", children.get(2).getNodeName());
+
+		// the names of 2 parsed documents are not shared
+		DOMDocument other = DOMParser.getInstance().parse(xml, "test.xml", null);
+		assertNotSame(item1.getTagName(), ((DOMElement) other.getDocumentElement().getChildren().get(0)).getTagName());
+	}
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.XMLAssert.SettingsSaveContext;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.ModelTextDocument;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.participants.XMLSchemaErrorCode;
+import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.SchemaEnabled;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the incremental XML validation which revalidates only the changed
+ * top-level element.
+ *
+ */
+public class IncrementalXMLValidationTest {
+
+	private static final String INVOICE = "<invoice xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\"src/test/resources/xsd/invoice.xsd\">\n"
+			+ //
+			"  <date>2017-11-30</date>\n" + //
+			"  <number>abc</number>\n" + //
+			"  <products>\n" + //
+			"    <product price=\"1\" />\n" + //
+			"  </products>\n" + //
+			"  <payments>\n" + //
+			"    <payment amount=\"100\" method=\"credit2\"/>\n" + //
+			"  </payments>\n" + //
+			"</invoice>";
+
+	@Test
+	public void revalidateChangedElement() {
+		XMLLanguageService incremental = createLanguageService();
+		ModelTextDocument<DOMDocument> document = createDocument(incremental, INVOICE);
+		List<Diagnostic> first = validateIncremental(incremental, document);
+		assertEquals(5, first.size());
+
+		// Add an attribute and an element in the products element
+		String xml = replace(document, "<product price=\"1\" />",
+				"<product price=\"1\" description=\"a\" />\n    <product />");
+		List<Diagnostic> second = validateIncremental(incremental, document);
+		assertSameDiagnostics(validateFull(xml), second);
+
+		// the diagnostics before the changed element are reused
+		Diagnostic numberError = findDiagnostic(first, XMLSchemaErrorCode.cvc_datatype_valid_1_2_1);
+		assertSame(numberError, findDiagnostic(second, XMLSchemaErrorCode.cvc_datatype_valid_1_2_1));
+		// the diagnostics after the changed element are shifted
+		Diagnostic paymentError = findDiagnostic(second, XMLSchemaErrorCode.cvc_enumeration_valid);
+		assertEquals(8, paymentError.getRange().getStart().getLine());
+	}
+
+	@Test
+	public void revalidateElementOrder() {
+		XMLLanguageService incremental = createLanguageService();
+		ModelTextDocument<DOMDocument> document = createDocument(incremental, INVOICE);
+		validateIncremental(incremental, document);
+
+		// The content of 'payments' is changed, 'products' must be validated as
+		// the third child of 'invoice'
+		String xml = replace(document, "method=\"credit2\"", "method=\"credit\"");
+		List<Diagnostic> diagnostics = validateIncremental(incremental, document);
+		assertSameDiagnostics(validateFull(xml), diagnostics);
+		assertEquals(3, diagnostics.size());
+	}
+
+	@Test
+	public void revalidateSeveralChanges() {
+		XMLLanguageService incremental = createLanguageService();
+		ModelTextDocument<DOMDocument> document = createDocument(incremental, INVOICE);
+		List<Diagnostic> first = validateIncremental(incremental, document);
+
+		// several incremental parses between two validations
+		replace(document, "<product price=\"1\" />", "<product price=\"1\" />\n    <product />");
+		document.getModel();
+		String xml = replace(document, "<product />", "<product price=\"a\" />");
+		List<Diagnostic> second = validateIncremental(incremental, document);
+		assertSameDiagnostics(validateFull(xml), second);
+		assertSame(findDiagnostic(first, XMLSchemaErrorCode.cvc_datatype_valid_1_2_1),
+				findDiagnostic(second, XMLSchemaErrorCode.cvc_datatype_valid_1_2_1));
+	}
+
+	@Test
+	public void fullValidationWhenDocumentElementChanges() {
+		XMLLanguageService incremental = createLanguageService();
+		ModelTextDocument<DOMDocument> document = createDocument(incremental, INVOICE);
+		List<Diagnostic> first = validateIncremental(incremental, document);
+
+		String xml = replace(document, "<invoice ", "<invoice  ");
+		List<Diagnostic> second = validateIncremental(incremental, document);
+		assertSameDiagnostics(validateFull(xml), second);
+		assertNotSame(findDiagnostic(first, XMLSchemaErrorCode.cvc_datatype_valid_1_2_1),
+				findDiagnostic(second, XMLSchemaErrorCode.cvc_datatype_valid_1_2_1));
+	}
+
+	@Test
+	public void fullValidationAfterSyntaxError() {
+		XMLLanguageService incremental = createLanguageService();
+		ModelTextDocument<DOMDocument> document = createDocument(incremental, INVOICE);
+		validateIncremental(incremental, document);
+
+		// syntax error in the products element
+		String xml = replace(document, "<product price=\"1\" />", "<product price=\"1\" /><");
+		assertSameDiagnostics(validateFull(xml), validateIncremental(incremental, document));
+
+		// fix the syntax error
+		replace(document, "<product price=\"1\" /><", "<product price=\"1\" />");
+		assertSameDiagnostics(validateFull(INVOICE), validateIncremental(incremental, document));
+	}
+
+	@Test
+	public void fullValidationWhenNestedSettingsChange() {
+		XMLLanguageService incremental = createLanguageService();
+		ModelTextDocument<DOMDocument> document = createDocument(incremental, INVOICE);
+		XMLValidationRootSettings validation = createValidationSettings(true);
+		List<Diagnostic> first = validate(incremental, document.getModel(), validation);
+		assertNotNull(findDiagnostic(first, XMLSchemaErrorCode.cvc_datatype_valid_1_2_1));
+
+		// the same settings instance is updated
+		replace(document, "method=\"credit2\"", "method=\"credit\"");
+		validation.getSchema().setEnabled(SchemaEnabled.never);
+		List<Diagnostic> second = validate(incremental, document.getModel(), validation);
+		assertNull(findDiagnostic(second, XMLSchemaErrorCode.cvc_datatype_valid_1_2_1));
+	}
+
+	private static XMLLanguageService createLanguageService() {
+		XMLLanguageService xmlLanguageService = new XMLLanguageService();
+		ContentModelSettings settings = new ContentModelSettings();
+		settings.setUseCache(true);
+		xmlLanguageService.doSave(new SettingsSaveContext(settings));
+		return xmlLanguageService;
+	}
+
+	private static ModelTextDocument<DOMDocument> createDocument(XMLLanguageService xmlLanguageService,
+			String xml) {
+		DOMParser parser = DOMParser.getInstance();
+		URIResolverExtensionManager resolverManager = xmlLanguageService.getResolverExtensionManager();
+		ModelTextDocument<DOMDocument> document = new ModelTextDocument<>(xml, "test.xml",
+				(textDocument, cancelChecker) -> parser.parse(textDocument, resolverManager, true, cancelChecker),
+				(previousDocument, textDocument, change, cancelChecker) -> parser.reparse(previousDocument,
+						textDocument, change, true, cancelChecker));
+		document.setIncremental(true);
+		return document;
+	}
+
+	private static String replace(ModelTextDocument<DOMDocument> document, String oldText, String newText) {
+		try {
+			int offset = document.getText().indexOf(oldText);
+			Range range = new Range(document.positionAt(offset), document.positionAt(offset + oldText.length()));
+			document.update(Arrays.asList(new TextDocumentContentChangeEvent(range, newText)));
+			return document.getText();
+		} catch (BadLocationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static List<Diagnostic> validateIncremental(XMLLanguageService xmlLanguageService,
+			ModelTextDocument<DOMDocument> document) {
+		return validate(xmlLanguageService, document.getModel(), true);
+	}
+
+	private static List<Diagnostic> validateFull(String xml) {
+		XMLLanguageService xmlLanguageService = createLanguageService();
+		TextDocument document = new TextDocument(xml, "test.xml");
+		return validate(xmlLanguageService,
+				DOMParser.getInstance().parse(document, xmlLanguageService.getResolverExtensionManager()), false);
+	}
+
+	private static List<Diagnostic> validate(XMLLanguageService xmlLanguageService, DOMDocument xmlDocument,
+			boolean incremental) {
+		return validate(xmlLanguageService, xmlDocument, createValidationSettings(incremental));
+	}
+
+	private static List<Diagnostic> validate(XMLLanguageService xmlLanguageService, DOMDocument xmlDocument,
+			XMLValidationRootSettings validation) {
+		xmlLanguageService.setDocumentProvider((uri) -> xmlDocument);
+		return xmlLanguageService.doDiagnostics(xmlDocument, validation, Collections.emptyMap(), () -> {
+		});
+	}
+
+	private static XMLValidationRootSettings createValidationSettings(boolean incremental) {
+		XMLValidationRootSettings validation = new XMLValidationRootSettings();
+		validation.setNoGrammar("ignore");
+		validation.setIncremental(incremental);
+		return validation;
+	}
+
+	private static Diagnostic findDiagnostic(List<Diagnostic> diagnostics, XMLSchemaErrorCode code) {
+		return diagnostics.stream().filter(d -> code.getCode().equals(d.getCode().getLeft())).findFirst()
+				.orElse(null);
+	}
+
+	private static void assertSameDiagnostics(List<Diagnostic> expected, List<Diagnostic> actual) {
+		assertEquals(toString(expected), toString(actual));
+	}
+
+	private static String toString(List<Diagnostic> diagnostics) {
+		return diagnostics.stream() //
+				.sorted(Comparator.comparing((Diagnostic d) -> d.getRange().getStart().getLine())
+						.thenComparing(d -> d.getRange().getStart().getCharacter())
+						.thenComparing(d -> d.getCode().getLeft())) //
+				.map(d -> d.getRange() + " " + d.getCode().getLeft() + " " + d.getMessage()) //
+				.collect(Collectors.joining("\n"));
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.XMLAssert.SettingsSaveContext;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPXMLParserPool;
+import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lsp4j.Diagnostic;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LSPXMLParserPool} which reuses Xerces parsers between
+ * validations.
+ *
+ */
+public class LSPXMLParserPoolTest {
+
+	private static final String XSD_XML = "<invoice xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\"src/test/resources/xsd/invoice.xsd\">\n"
+			+ //
+			"  <date>2017-11-30</date>\n" + //
+			"  <number>abc</number>\n" + //
+			"</invoice>";
+
+	private static final String OTHER_XSD_XML = "<Annotation xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\"src/test/resources/xsd/pattern.xsd\"\n"
+			+ //
+			"	Term=\"X\"></Annotation>";
+
+	private static final String DTD_XML = "<!DOCTYPE note [\n" + //
+			"  <!ELEMENT note (to)>\n" + //
+			"  <!ELEMENT to (#PCDATA)>\n" + //
+			"]>\n" + //
+			"<note>\n" + //
+			"  <from />\n" + //
+			"</note>";
+
+	private static final String NO_GRAMMAR_XML = "<root>\n" + //
+			"  <a></b>\n" + //
+			"</root>";
+
+	@Test
+	public void reuseParser() {
+		XMLLanguageService xmlLanguageService = createLanguageService();
+		ContentModelManager contentModelManager = xmlLanguageService.getComponent(ContentModelManager.class);
+		LSPXMLParserPool pool = contentModelManager.getParserPool();
+		long hits = pool.getHitCount();
+		long misses = pool.getMissCount();
+
+		String first = validate(xmlLanguageService, XSD_XML);
+		assertEquals(misses + 1, pool.getMissCount());
+		assertEquals(1, pool.getIdleCount());
+
+		String second = validate(xmlLanguageService, XSD_XML);
+		assertEquals(hits + 1, pool.getHitCount());
+		assertEquals(misses + 1, pool.getMissCount());
+		assertEquals(1, pool.getIdleCount());
+		assertEquals(first, second);
+	}
+
+	@Test
+	public void noStateLeakBetweenDocuments() {
+		XMLLanguageService xmlLanguageService = createLanguageService();
+		ContentModelManager contentModelManager = xmlLanguageService.getComponent(ContentModelManager.class);
+		LSPXMLParserPool pool = contentModelManager.getParserPool();
+		String[] xmls = { XSD_XML, DTD_XML, NO_GRAMMAR_XML, XSD_XML, OTHER_XSD_XML, NO_GRAMMAR_XML, DTD_XML };
+		for (String xml : xmls) {
+			// the reused parser must report the same diagnostics than a new parser
+			assertEquals(validate(createLanguageService(), xml), validate(xmlLanguageService, xml));
+		}
+		// DTD validation is enabled only for the document with DOCTYPE, which requires
+		// another parser configuration
+		assertEquals(2, pool.getMissCount());
+		assertEquals(xmls.length - 2, pool.getHitCount());
+	}
+
+	private static XMLLanguageService createLanguageService() {
+		XMLLanguageService xmlLanguageService = new XMLLanguageService();
+		ContentModelSettings settings = new ContentModelSettings();
+		settings.setUseCache(true);
+		xmlLanguageService.doSave(new SettingsSaveContext(settings));
+		xmlLanguageService.initializeIfNeeded();
+		return xmlLanguageService;
+	}
+
+	private static String validate(XMLLanguageService xmlLanguageService, String xml) {
+		TextDocument document = new TextDocument(xml, "test.xml");
+		DOMDocument xmlDocument = DOMParser.getInstance().parse(document,
+				xmlLanguageService.getResolverExtensionManager());
+		xmlLanguageService.setDocumentProvider((uri) -> xmlDocument);
+		XMLValidationRootSettings validation = new XMLValidationRootSettings();
+		List<Diagnostic> diagnostics = xmlLanguageService.doDiagnostics(xmlDocument, validation,
+				Collections.emptyMap(), () -> {
+				});
+		return diagnostics.stream() //
+				.map(d -> d.getRange() + " " + d.getCode().getLeft() + " " + d.getMessage()) //
+				.collect(Collectors.joining("\n"));
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.XMLAssert;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLProgressiveSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.services.extensions.diagnostics.PartialDiagnosticsPublisher;
+import org.eclipse.lemminx.services.extensions.diagnostics.XMLDiagnosticsErrorCode;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the progressive validation which publishes the diagnostics while
+ * the document is validated.
+ *
+ */
+public class XMLProgressiveValidationTest extends AbstractCacheBasedTest {
+
+	@Test
+	public void publishByBatches() {
+		String xml = generateXML(10);
+		List<PublishDiagnosticsParams> actual = publishDiagnostics(xml, 3, 0);
+		// 3 partial publications (with 3, 6 and 9 diagnostics) and the final
+		// publication
+		assertEquals(Arrays.asList(3, 6, 9, 10), getSizes(actual));
+		// the partial publications are included in the final publication
+		List<Diagnostic> all = actual.get(actual.size() - 1).getDiagnostics();
+		for (int i = 0; i < actual.size() - 1; i++) {
+			assertTrue(all.containsAll(actual.get(i).getDiagnostics()));
+		}
+	}
+
+	@Test
+	public void maxProblems() {
+		String xml = generateXML(10);
+		List<PublishDiagnosticsParams> actual = publishDiagnostics(xml, 100, 4);
+		assertEquals(Arrays.asList(4 + 1), getSizes(actual));
+		List<Diagnostic> diagnostics = actual.get(0).getDiagnostics();
+		Diagnostic stopped = diagnostics.get(diagnostics.size() - 1);
+		assertEquals(DiagnosticSeverity.Information, stopped.getSeverity());
+		assertEquals(XMLDiagnosticsErrorCode.MaxProblemsReached.getCode(), stopped.getCode().getLeft());
+		// the range of the root start tag
+		assertEquals(new Range(new Position(4, 1), new Position(4, 5)), stopped.getRange());
+		assertEquals(
+				"The validation has been stopped after 4 problems (see the 'xml.validation.progressive.maxProblems' setting).",
+				stopped.getMessage().getLeft());
+	}
+
+	@Test
+	public void progressiveDisabled() {
+		String xml = generateXML(10);
+		XMLValidationRootSettings settings = new XMLValidationRootSettings();
+		List<PublishDiagnosticsParams> actual = new ArrayList<>();
+		publishDiagnostics(xml, settings, actual);
+		assertEquals(Arrays.asList(10), getSizes(actual));
+	}
+
+	@Test
+	public void syntaxErrorsFirst() {
+		List<List<Diagnostic>> published = new ArrayList<>();
+		PartialDiagnosticsPublisher publisher = new PartialDiagnosticsPublisher(published::add, 1000, 3, 0);
+		Diagnostic schemaError = new Diagnostic(new Range(), "schema");
+		Diagnostic syntaxError = new Diagnostic(new Range(), "syntax");
+		Diagnostic otherSchemaError = new Diagnostic(new Range(), "other schema");
+		publisher.report(schemaError, false);
+		publisher.report(syntaxError, true);
+		assertEquals(0, published.size());
+		publisher.report(otherSchemaError, false);
+		assertEquals(Arrays.asList(Arrays.asList(syntaxError, schemaError, otherSchemaError)), published);
+
+		// the final diagnostics list has the same order than the partial publications
+		Diagnostic lastError = new Diagnostic(new Range(), "last");
+		List<Diagnostic> all = new ArrayList<>(Arrays.asList(schemaError, syntaxError, otherSchemaError, lastError));
+		publisher.sortSyntaxErrorsFirst(all);
+		assertEquals(Arrays.asList(syntaxError, schemaError, otherSchemaError, lastError), all);
+	}
+
+	@Test
+	public void publishWhenIntervalIsElapsed() throws Exception {
+		List<List<Diagnostic>> published = new CopyOnWriteArrayList<>();
+		PartialDiagnosticsPublisher publisher = new PartialDiagnosticsPublisher(published::add, 10, 100, 0);
+		Diagnostic error = new Diagnostic(new Range(), "error");
+		publisher.start();
+		publisher.report(error, false);
+		// the diagnostic is published by the background task without waiting for a
+		// new report
+		long timeout = System.currentTimeMillis() + 5000;
+		while (published.isEmpty() && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		assertEquals(Arrays.asList(Arrays.asList(error)), published);
+
+		// nothing is published once the publisher is stopped
+		publisher.stop();
+		publisher.report(new Diagnostic(new Range(), "other"), false);
+		Thread.sleep(50);
+		assertEquals(1, published.size());
+	}
+
+	private static List<PublishDiagnosticsParams> publishDiagnostics(String xml, int batchSize, int maxProblems) {
+		XMLValidationRootSettings settings = new XMLValidationRootSettings();
+		XMLProgressiveSettings progressive = settings.getProgressive();
+		progressive.setEnabled(true);
+		// publish only when the batch size is reached
+		progressive.setInterval(Integer.MAX_VALUE);
+		progressive.setBatchSize(batchSize);
+		progressive.setMaxProblems(maxProblems);
+		List<PublishDiagnosticsParams> actual = new ArrayList<>();
+		publishDiagnostics(xml, settings, actual);
+		return actual;
+	}
+
+	private static void publishDiagnostics(String xml, XMLValidationRootSettings settings,
+			List<PublishDiagnosticsParams> actual) {
+		XMLLanguageService ls = new XMLLanguageService();
+		DOMDocument document = DOMParser.getInstance().parse(xml, "test.xml", ls.getResolverExtensionManager());
+		ls.setDocumentProvider((uri) -> document);
+		XMLAssert.publishDiagnostics(document, settings, actual, ls);
+	}
+
+	private static List<Integer> getSizes(List<PublishDiagnosticsParams> actual) {
+		return actual.stream().map(params -> params.getDiagnostics().size()).collect(Collectors.toList());
+	}
+
+	private static String generateXML(int count) {
+		StringBuilder xml = new StringBuilder("<!DOCTYPE root [\r\n" + //
+				"  <!ELEMENT root (a)*>\r\n" + //
+				"  <!ELEMENT a EMPTY>\r\n" + //
+				"]>\r\n" + //
+				"<root>\r\n");
+		for (int i = 0; i < count; i++) {
+			xml.append("  <a attr").append(i).append("=\"\" />\r\n");
+		}
+		return xml.append("</root>").toString();
+	}
+}
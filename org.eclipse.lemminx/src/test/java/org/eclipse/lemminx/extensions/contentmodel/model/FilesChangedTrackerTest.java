@@ -16,6 +16,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.lemminx.extensions.contentmodel.BaseFileTempTest;
 import org.junit.jupiter.api.Test;
@@ -42,4 +47,68 @@ public class FilesChangedTrackerTest extends BaseFileTempTest {
 		assertFalse(tracker.isDirty(), "NO Dirty after file modification on isDirty second call");
 
 	}
+
+	@Test
+	public void trackFileWithWatchService() throws Exception {
+		FilesChangedTracker tracker = new FilesChangedTracker(new FilesWatcher(true, 100));
+		Path file = getTempDirPath().resolve("watched.xml");
+		Files.write(file, "<root />".getBytes());
+		tracker.addFileURI(file.toUri());
+		assertFalse(tracker.isDirty(), "No dirty after file creation");
+		// wait for the end of the period where the last modified time is checked
+		Thread.sleep(200);
+
+		// modify the file without notifying the watcher, the watch service must
+		// notify the change
+		Files.write(file, "<root></root>".getBytes());
+		Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(2)));
+		assertTrue(waitForDirty(tracker), "Dirty after file modification");
+		assertFalse(tracker.isDirty(), "NO Dirty after file modification on isDirty second call");
+
+		// delete the file
+		Files.delete(file);
+		assertTrue(waitForDirty(tracker), "Dirty after file deletion");
+		assertTrue(tracker.isDirty(), "Dirty while the file is deleted");
+	}
+
+	@Test
+	public void trackFileWithPolling() throws Exception {
+		FilesChangedTracker tracker = new FilesChangedTracker(new FilesWatcher(false, 200));
+		Path file = getTempDirPath().resolve("polled.xml");
+		Files.write(file, "<root />".getBytes());
+		tracker.addFileURI(file.toUri());
+		assertFalse(tracker.isDirty(), "No dirty after file creation");
+
+		Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(2)));
+		// the last modified time is checked at most once per polling interval
+		assertFalse(tracker.isDirty(), "No dirty before the polling interval");
+		assertTrue(waitForDirty(tracker), "Dirty after the polling interval");
+	}
+
+	@Test
+	public void trackFileWithClientNotification() throws Exception {
+		FilesWatcher watcher = new FilesWatcher(false, TimeUnit.HOURS.toMillis(1));
+		FilesChangedTracker tracker = new FilesChangedTracker(watcher);
+		Path file = getTempDirPath().resolve("notified.xml");
+		Files.write(file, "<root />".getBytes());
+		tracker.addFileURI(file.toUri());
+		assertFalse(tracker.isDirty(), "No dirty after file creation");
+
+		Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(2)));
+		assertFalse(tracker.isDirty(), "No dirty before the client notification");
+		watcher.fileChanged(file.toUri().toString());
+		assertTrue(tracker.isDirty(), "Dirty after the client notification");
+		assertFalse(tracker.isDirty(), "NO Dirty after the client notification on isDirty second call");
+	}
+
+	private static boolean waitForDirty(FilesChangedTracker tracker) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < timeout) {
+			if (tracker.isDirty()) {
+				return true;
+			}
+			Thread.sleep(20);
+		}
+		return false;
+	}
 }
@@ -0,0 +1,103 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lemminx.extensions.contentmodel.BaseFileTempTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link FilesWatcher}
+ *
+ */
+public class FilesWatcherTest extends BaseFileTempTest {
+
+	private static class TestListener implements FilesWatcher.Listener {
+
+		private final CountDownLatch changed = new CountDownLatch(1);
+
+		@Override
+		public void fileChanged() {
+			changed.countDown();
+		}
+
+		@Override
+		public void watchCancelled() {
+		}
+	}
+
+	@Test
+	public void notifyFileChange() throws Exception {
+		FilesWatcher watcher = new FilesWatcher(true, TimeUnit.HOURS.toMillis(1));
+		Path dir = Files.createDirectories(getTempDirPath().resolve("watcher/notified"));
+		Path file = dir.resolve("notified.xsd");
+		Files.write(file, "<xs:schema />".getBytes());
+		TestListener listener = new TestListener();
+		assertTrue(watcher.watch(file, listener), "File is watched");
+		assertTrue(watcher.isWatched(dir), "Directory is watched");
+
+		// modify the file without notifying the watcher
+		Files.write(file, "<xs:schema></xs:schema>".getBytes());
+		assertTrue(listener.changed.await(10, TimeUnit.SECONDS), "Listener notified by the watch service");
+	}
+
+	@Test
+	public void fileOfAnotherFileSystemIsNotWatched() throws Exception {
+		FilesWatcher watcher = new FilesWatcher(true, TimeUnit.HOURS.toMillis(1));
+		Path dir = Files.createDirectories(getTempDirPath().resolve("watcher/zip"));
+		TestListener listener = new TestListener();
+		// create the watch service for the default file system
+		assertTrue(watcher.watch(dir.resolve("default.xsd"), listener), "File is watched");
+
+		Path zip = dir.resolve("grammars.zip");
+		Files.deleteIfExists(zip);
+		try (FileSystem zipFileSystem = FileSystems.newFileSystem(URI.create("jar:" + zip.toUri()),
+				Collections.singletonMap("create", "true"))) {
+			Path file = Files.createDirectories(zipFileSystem.getPath("/xsd")).resolve("grammar.xsd");
+			assertFalse(watcher.watch(file, listener), "File of a zip file system is not watched");
+			assertFalse(watcher.isWatched(file.getParent()), "Directory of a zip file system is not watched");
+		}
+	}
+
+	@Test
+	public void unregisterReleasedListeners() throws Exception {
+		FilesWatcher watcher = new FilesWatcher(true, TimeUnit.HOURS.toMillis(1));
+		Path dir = Files.createDirectories(getTempDirPath().resolve("watcher/released"));
+		TestListener listener = new TestListener();
+		assertTrue(watcher.watch(dir.resolve("released.xsd"), listener), "File is watched");
+		watcher.purgeReleasedListeners();
+		assertTrue(watcher.isWatched(dir), "Directory is watched while the listener is used");
+
+		// release the listener like when the grammar which tracks the file is released
+		WeakReference<TestListener> released = new WeakReference<>(listener);
+		listener = null;
+		long timeout = System.currentTimeMillis() + 10000;
+		while (released.get() != null && System.currentTimeMillis() < timeout) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		watcher.purgeReleasedListeners();
+		assertFalse(watcher.isWatched(dir), "Directory is not watched after the listener is released");
+	}
+}
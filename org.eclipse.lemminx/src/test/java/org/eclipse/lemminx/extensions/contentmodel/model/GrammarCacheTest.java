@@ -0,0 +1,161 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.GrammarCache.Stats;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link GrammarCache}.
+ *
+ */
+public class GrammarCacheTest {
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		GrammarCache cache = new GrammarCache(300);
+		cache.put("a", "a.xsd", "A", 100);
+		cache.put("b", "b.xsd", "B", 100);
+		cache.put("c", "c.xsd", "C", 100);
+		// 'a' is used, 'b' is the least recently used entry
+		assertEquals("A", cache.get("a"));
+		cache.put("d", "d.xsd", "D", 100);
+
+		assertNull(cache.get("b"));
+		assertEquals("A", cache.get("a"));
+		assertEquals("C", cache.get("c"));
+		assertEquals("D", cache.get("d"));
+
+		Stats stats = cache.getStats();
+		assertEquals(4, stats.getHits());
+		assertEquals(1, stats.getMisses());
+		assertEquals(1, stats.getEvictions());
+		assertEquals(3, stats.getEntries());
+		assertEquals(300, stats.getSize());
+	}
+
+	@Test
+	public void evictByWeight() {
+		GrammarCache cache = new GrammarCache(300);
+		cache.put("a", "a.xsd", "A", 100);
+		cache.put("b", "b.xsd", "B", 100);
+		// a huge grammar evicts all other grammars but it is kept
+		cache.put("c", "c.xsd", "C", 1000);
+		assertNull(cache.peek("a"));
+		assertNull(cache.peek("b"));
+		assertEquals("C", cache.peek("c"));
+		assertEquals(1000, cache.getStats().getSize());
+
+		cache.put("d", "d.xsd", "D", 100);
+		assertNull(cache.peek("c"));
+		assertEquals(100, cache.getStats().getSize());
+		assertEquals(3, cache.getStats().getEvictions());
+	}
+
+	@Test
+	public void pinnedGrammars() {
+		GrammarCache cache = new GrammarCache(200);
+		cache.pin("file:///doc1.xml", Arrays.asList("a.xsd"));
+		cache.pin("file:///doc2.xml", Arrays.asList("a.xsd", "b.xsd"));
+		cache.put("a", "a.xsd", "A", 100);
+		cache.put("b", "b.xsd", "B", 100);
+		cache.put("c", "c.xsd", "C", 100);
+		// 'a' and 'b' are pinned, the cache exceeds the budget
+		assertEquals("A", cache.peek("a"));
+		assertEquals("B", cache.peek("b"));
+		assertEquals("C", cache.peek("c"));
+		assertEquals(2, cache.getStats().getPinnedEntries());
+
+		// 'b' is unpinned when doc2.xml is closed
+		cache.unpin("file:///doc2.xml");
+		assertTrue(cache.isPinned("a.xsd"));
+		assertFalse(cache.isPinned("b.xsd"));
+		assertNull(cache.peek("b"));
+		assertEquals("A", cache.peek("a"));
+		assertEquals("C", cache.peek("c"));
+
+		// the grammars pinned by a document are updated
+		cache.pin("file:///doc1.xml", Collections.emptyList());
+		assertFalse(cache.isPinned("a.xsd"));
+	}
+
+	@Test
+	public void pinGrammarsResolvedWithCatalog() {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.setDocumentProvider((uri) -> null);
+		ls.initializeIfNeeded();
+		ContentModelManager manager = ls.getComponent(ContentModelManager.class);
+		manager.setUseCache(true);
+		manager.setCatalogs(new String[] { "src/test/resources/catalogs/catalog.xml" });
+
+		String xml = "<invoice xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+				"    xsi:noNamespaceSchemaLocation=\"http://invoice.xsd\" />";
+		DOMDocument document = DOMParser.getInstance().parse(xml, "test.xml", ls.getResolverExtensionManager());
+		manager.findCMDocument(document, null, false);
+		ls.doDiagnostics(document, new XMLValidationSettings(), Collections.emptyMap(), () -> {
+		});
+		manager.pinGrammars(document);
+
+		// the content model document (keyed by the URI resolved with the catalog) and
+		// the Xerces grammar (keyed by the expanded system id) are pinned
+		Stats stats = manager.getGrammarCache().getStats();
+		assertEquals(stats.getEntries(), stats.getPinnedEntries());
+	}
+
+	@Test
+	public void removeAndClear() {
+		GrammarCache cache = new GrammarCache(-1);
+		cache.put("a", "a.xsd", "A", 100);
+		cache.put(1, "b.xsd", "B", 100);
+		assertEquals("A", cache.putIfAbsent("a", "a.xsd", "A2", 100));
+		assertEquals(200, cache.getStats().getSize());
+
+		cache.removeIf(key -> key instanceof Integer);
+		assertNull(cache.peek(1));
+		assertNotNull(cache.peek("a"));
+		assertEquals(100, cache.getStats().getSize());
+
+		assertEquals("A", cache.remove("a"));
+		assertEquals(0, cache.getStats().getSize());
+
+		cache.put("a", "a.xsd", "A", 100);
+		cache.clear();
+		assertEquals(0, cache.getStats().getEntries());
+		assertEquals(0, cache.getStats().getSize());
+	}
+
+	@Test
+	public void setMaxSize() {
+		GrammarCache cache = new GrammarCache(-1);
+		for (int i = 0; i < 10; i++) {
+			cache.put(i, i + ".xsd", i, 100);
+		}
+		assertEquals(1000, cache.getStats().getSize());
+		cache.setMaxSize(500);
+		assertEquals(5, cache.getStats().getEntries());
+		assertNull(cache.peek(4));
+		assertNotNull(cache.peek(5));
+	}
+}
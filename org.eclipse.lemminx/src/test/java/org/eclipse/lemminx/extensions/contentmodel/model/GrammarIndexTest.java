@@ -0,0 +1,138 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.xerces.impl.xs.XSDDescription;
+import org.apache.xerces.xni.grammars.Grammar;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.BaseFileTempTest;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.utils.FilesUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link GrammarIndex} used to preload the grammars when the server
+ * restarts.
+ *
+ */
+public class GrammarIndexTest extends BaseFileTempTest {
+
+	private static final String XSD = "<?xml version=\"1.0\" encoding=\"utf-8\" ?>\r\n" + //
+			"<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+			"  <xs:include schemaLocation=\"included.xsd\" />\r\n" + //
+			"  <xs:element name=\"root\" type=\"rootType\" />\r\n" + //
+			"</xs:schema>";
+
+	private static final String INCLUDED_XSD = "<?xml version=\"1.0\" encoding=\"utf-8\" ?>\r\n" + //
+			"<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+			"  <xs:complexType name=\"rootType\">\r\n" + //
+			"    <xs:sequence>\r\n" + //
+			"      <xs:element name=\"tag\" />\r\n" + //
+			"    </xs:sequence>\r\n" + //
+			"  </xs:complexType>\r\n" + //
+			"</xs:schema>";
+
+	private static final String XML = "<root xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+			"    xsi:noNamespaceSchemaLocation=\"tag.xsd\" />";
+
+	@Test
+	public void preloadGrammars() throws Exception {
+		Path xsdPath = getTempDirPath().resolve("tag.xsd");
+		Path includedPath = getTempDirPath().resolve("included.xsd");
+		createFile(xsdPath.toUri(), XSD);
+		createFile(includedPath.toUri(), INCLUDED_XSD);
+		String xmlURI = getTempDirPath().resolve("tag.xml").toUri().toString();
+
+		// First session: the grammar is loaded and stored in the index
+		XMLLanguageService ls = createLanguageService();
+		ContentModelManager manager = ls.getComponent(ContentModelManager.class);
+		assertEquals(0, manager.preloadGrammars().get(5, TimeUnit.SECONDS));
+		assertEquals(1, findCMDocument(ls, xmlURI).size());
+		// the grammar index is saved in background
+		manager.flushGrammarIndex();
+		Path indexPath = FilesUtils.getDeployedPath(Paths.get("cache", "grammar-index.json"));
+		assertTrue(Files.exists(indexPath));
+		String index = new String(Files.readAllBytes(indexPath));
+		assertTrue(index.contains(xsdPath.toUri().toString()), index);
+		assertTrue(index.contains(includedPath.toUri().toString()), index);
+
+		// Second session: the grammar is preloaded
+		ls = createLanguageService();
+		manager = ls.getComponent(ContentModelManager.class);
+		manager.setUseCache(true);
+		assertEquals(1, manager.preloadGrammars().get(5, TimeUnit.SECONDS));
+		// the XML Schema grammar is preloaded in the Xerces grammar pool used by the
+		// validation
+		XSDDescription description = new XSDDescription();
+		description.setExpandedSystemId(xsdPath.toUri().toString());
+		Grammar grammar = manager.getGrammarPool().retrieveGrammar(description);
+		assertNotNull(grammar);
+		// the description shared by the Xerces grammar is not updated
+		assertNull(grammar.getGrammarDescription().getExpandedSystemId());
+		assertEquals(1, findCMDocument(ls, xmlURI).size());
+		// the grammar is already loaded
+		assertEquals(0, manager.preloadGrammars().get(5, TimeUnit.SECONDS));
+
+		// Third session: the included XML Schema has changed, the grammar is not
+		// preloaded and it is removed from the index
+		updateFile(includedPath.toUri(), INCLUDED_XSD.replace("tag", "label"));
+		manager = createLanguageService().getComponent(ContentModelManager.class);
+		assertEquals(0, manager.preloadGrammars().get(5, TimeUnit.SECONDS));
+		index = new String(Files.readAllBytes(indexPath));
+		assertFalse(index.contains(xsdPath.toUri().toString()), index);
+	}
+
+	@Test
+	public void grammarIndexDisabled() throws Exception {
+		createFile(getTempDirPath().resolve("tag.xsd").toUri(), XSD);
+		createFile(getTempDirPath().resolve("included.xsd").toUri(), INCLUDED_XSD);
+		String xmlURI = getTempDirPath().resolve("tag.xml").toUri().toString();
+
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.setDocumentProvider((uri) -> null);
+		ls.initializeIfNeeded();
+		ContentModelManager manager = ls.getComponent(ContentModelManager.class);
+		assertFalse(manager.isGrammarIndexEnabled());
+		assertEquals(1, findCMDocument(ls, xmlURI).size());
+		assertFalse(Files.exists(FilesUtils.getDeployedPath(Paths.get("cache", "grammar-index.json"))));
+		assertEquals(0, manager.preloadGrammars().get(5, TimeUnit.SECONDS));
+	}
+
+	private static XMLLanguageService createLanguageService() {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.setDocumentProvider((uri) -> null);
+		ls.initializeIfNeeded();
+		ContentModelManager manager = ls.getComponent(ContentModelManager.class);
+		assertNotNull(manager);
+		manager.setGrammarIndexEnabled(true);
+		return ls;
+	}
+
+	private static Collection<CMDocument> findCMDocument(XMLLanguageService ls, String xmlURI) {
+		DOMDocument document = DOMParser.getInstance().parse(XML, xmlURI, ls.getResolverExtensionManager());
+		ContentModelManager manager = ls.getComponent(ContentModelManager.class);
+		return manager.findCMDocument(document, null, false);
+	}
+}
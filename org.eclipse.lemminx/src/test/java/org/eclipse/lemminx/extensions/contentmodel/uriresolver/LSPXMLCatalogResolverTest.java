@@ -0,0 +1,150 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.uriresolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.xerces.util.XMLCatalogResolver;
+import org.eclipse.lemminx.extensions.contentmodel.BaseFileTempTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LSPXMLCatalogResolver} which resolves the catalog entries
+ * with the lookup tables of {@link CompiledCatalog}.
+ *
+ */
+public class LSPXMLCatalogResolverTest extends BaseFileTempTest {
+
+	private static final String CATALOG_START = "<catalog xmlns=\"urn:oasis:names:tc:entity:xmlns:xml:catalog\">\n";
+
+	private static final String CATALOG_END = "</catalog>";
+
+	@Test
+	public void sameResultsAsXercesResolver() throws IOException {
+		URI catalogURI = getTempDirPath().toUri().resolve("catalog.xml");
+		URI nextURI = getTempDirPath().toUri().resolve("next.xml");
+		URI delegateURI = getTempDirPath().toUri().resolve("delegate.xml");
+		StringBuilder catalog = new StringBuilder(CATALOG_START);
+		for (int i = 0; i < 100; i++) {
+			catalog.append("  <uri name=\"http://example.org/ns/").append(i).append("\" uri=\"xsd/").append(i)
+					.append(".xsd\" />\n");
+			catalog.append("  <system systemId=\"http://example.org/dtd/").append(i).append(".dtd\" uri=\"dtd/")
+					.append(i).append(".dtd\" />\n");
+		}
+		catalog.append("  <uri name=\"http://example.org/ns/1\" uri=\"xsd/duplicate.xsd\" />\n") //
+				.append("  <rewriteURI uriStartString=\"http://rewrite.org/\" rewritePrefix=\"rewrite/\" />\n") //
+				.append("  <rewriteURI uriStartString=\"http://rewrite.org/a/\" rewritePrefix=\"rewrite-a/\" />\n") //
+				.append("  <rewriteURI uriStartString=\"http://rewrite.org/a/\" rewritePrefix=\"ignored/\" />\n") //
+				.append("  <rewriteSystem systemIdStartString=\"http://rewrite.org/\" rewritePrefix=\"system/\" />\n") //
+				.append("  <uriSuffix uriSuffix=\"/suffix.xsd\" uri=\"suffix.xsd\" />\n") //
+				.append("  <uriSuffix uriSuffix=\"/a/suffix.xsd\" uri=\"a-suffix.xsd\" />\n") //
+				.append("  <systemSuffix systemIdSuffix=\"/suffix.dtd\" uri=\"suffix.dtd\" />\n") //
+				.append("  <group xml:base=\"http://base.org/\">\n") //
+				.append("    <uri name=\"http://example.org/base\" uri=\"base.xsd\" />\n") //
+				.append("  </group>\n") //
+				.append("  <delegateURI uriStartString=\"http://delegate.org/\" catalog=\"delegate.xml\" />\n") //
+				.append("  <nextCatalog catalog=\"next.xml\" />\n") //
+				.append(CATALOG_END);
+		createFile(catalogURI, catalog.toString());
+		createFile(nextURI, CATALOG_START //
+				+ "  <uri name=\"http://example.org/next\" uri=\"next.xsd\" />\n" //
+				+ "  <uri name=\"http://example.org/ns/2\" uri=\"ignored.xsd\" />\n" //
+				+ CATALOG_END);
+		createFile(delegateURI, CATALOG_START //
+				+ "  <uri name=\"http://delegate.org/foo\" uri=\"delegate.xsd\" />\n" //
+				+ CATALOG_END);
+
+		String[] catalogs = { catalogURI.toString() };
+		XMLCatalogResolver expected = new XMLCatalogResolver(catalogs);
+		LSPXMLCatalogResolver actual = new LSPXMLCatalogResolver(catalogs);
+
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 101; i++) {
+			ids.add("http://example.org/ns/" + i);
+			ids.add("http://example.org/dtd/" + i + ".dtd");
+		}
+		ids.add("http://rewrite.org/foo.xsd");
+		ids.add("http://rewrite.org/a/foo.xsd");
+		ids.add("http://rewrite.org/a");
+		ids.add("http://rewrite.org/");
+		ids.add("http://other.org/suffix.xsd");
+		ids.add("http://other.org/a/suffix.xsd");
+		ids.add("http://other.org/suffix.dtd");
+		ids.add("http://example.org/base");
+		ids.add("http://delegate.org/foo");
+		ids.add("http://delegate.org/bar");
+		ids.add("http://example.org/next");
+		ids.add("http://example.org/unknown");
+		for (String id : ids) {
+			assertEquals(expected.resolveURI(id), actual.resolveIdentifier(id, null, null, null), "URI " + id);
+			String expectedSystem = expected.resolveSystem(id);
+			if (expectedSystem == null) {
+				expectedSystem = expected.resolveURI(id);
+			}
+			assertEquals(expectedSystem, actual.resolveIdentifier(null, null, id, null), "System " + id);
+		}
+		assertEquals(getTempDirPath().toUri().resolve("rewrite-a/foo.xsd").toString(),
+				actual.resolveIdentifier("http://rewrite.org/a/foo.xsd", null, null, null));
+		assertEquals("http://base.org/base.xsd", actual.resolveIdentifier("http://example.org/base", null, null, null));
+		assertNull(actual.resolveIdentifier("http://example.org/unknown", null, null, null));
+	}
+
+	@Test
+	public void reloadChangedCatalog() throws IOException {
+		URI catalogURI = getTempDirPath().toUri().resolve("catalog.xml");
+		URI nextURI = getTempDirPath().toUri().resolve("next.xml");
+		URI otherURI = getTempDirPath().toUri().resolve("other.xml");
+		createFile(catalogURI, CATALOG_START //
+				+ "  <uri name=\"http://example.org/foo\" uri=\"foo.xsd\" />\n" //
+				+ "  <nextCatalog catalog=\"next.xml\" />\n" //
+				+ CATALOG_END);
+		createFile(nextURI, CATALOG_START //
+				+ "  <uri name=\"http://example.org/next\" uri=\"next.xsd\" />\n" //
+				+ CATALOG_END);
+		createFile(otherURI, CATALOG_START //
+				+ "  <uri name=\"http://example.org/other\" uri=\"other.xsd\" />\n" //
+				+ CATALOG_END);
+
+		LSPXMLCatalogResolver resolver = new LSPXMLCatalogResolver(
+				new String[] { catalogURI.toString(), otherURI.toString() });
+		assertEquals(resolve("next.xsd"), resolver.resolveIdentifier("http://example.org/next", null, null, null));
+		assertEquals(resolve("other.xsd"), resolver.resolveIdentifier("http://example.org/other", null, null, null));
+		assertEquals(0, resolver.getGeneration());
+
+		// the change of a subordinate catalog is detected with the file watcher
+		updateFile(nextURI, CATALOG_START //
+				+ "  <uri name=\"http://example.org/next\" uri=\"next2.xsd\" />\n" //
+				+ CATALOG_END);
+		resolver.reloadChangedCatalogs();
+		assertEquals(1, resolver.getGeneration());
+		assertEquals(resolve("next2.xsd"), resolver.resolveIdentifier("http://example.org/next", null, null, null));
+
+		// reload only the catalog which uses the saved file
+		assertTrue(resolver.reloadCatalog(otherURI.toString()));
+		assertEquals(2, resolver.getGeneration());
+		assertFalse(resolver.reloadCatalog(getTempDirPath().toUri().resolve("unknown.xml").toString()));
+		assertEquals(2, resolver.getGeneration());
+		assertEquals(resolve("other.xsd"), resolver.resolveIdentifier("http://example.org/other", null, null, null));
+	}
+
+	private String resolve(String file) {
+		return getTempDirPath().toUri().resolve(file).toString();
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.references.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.references.search.SearchNode.Direction;
+import org.eclipse.lemminx.extensions.references.search.XMLReferencesIndex.ExpressionIndex;
+import org.eclipse.lemminx.extensions.references.search.XMLReferencesIndex.IndexedNode;
+import org.eclipse.lemminx.extensions.references.settings.XMLReferenceExpression;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link XMLReferencesIndex}.
+ *
+ */
+public class XMLReferencesIndexTest {
+
+	private static final String XML = "<TEI>\r\n" + //
+			"  <p xml:id=\"A\" />\r\n" + //
+			"  <p xml:id=\"B\" />\r\n" + //
+			"  <link target=\"#A #B\" />\r\n" + //
+			"  <link target=\"A\" />\r\n" + //
+			"  <xi:include href=\"other.xml\" />\r\n" + //
+			"</TEI>";
+
+	@Test
+	public void indexSearchNodes() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "file:///test/tei.xml", null);
+		XMLReferenceExpression target = createTargetExpression();
+
+		XMLReferencesIndex index = XMLReferencesIndex.getIndex(document);
+		ExpressionIndex expressionIndex = index.getExpressionIndex(target, null);
+		assertEquals(5, expressionIndex.getNodes().size());
+		assertEquals("A <--, B <--, #A -->, #B -->, A -->", toString(expressionIndex.getNodes()));
+
+		// 'A' (without the '#' prefix) doesn't match the 'A' declaration
+		assertEquals("A <--, #A -->", toString(expressionIndex.getNodes("A")));
+		assertEquals("B <--, #B -->", toString(expressionIndex.getNodes("B")));
+		assertTrue(expressionIndex.getNodes("C").isEmpty());
+
+		assertEquals(1, index.getIncludedFiles().size());
+		assertTrue(index.getIncludedFiles().contains("other.xml"));
+	}
+
+	@Test
+	public void reuseIndex() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "file:///test/tei.xml", null);
+		XMLReferenceExpression target = createTargetExpression();
+
+		XMLReferencesIndex index = XMLReferencesIndex.getIndex(document);
+		ExpressionIndex expressionIndex = index.getExpressionIndex(target, null);
+		assertSame(index, XMLReferencesIndex.getIndex(document));
+		assertSame(expressionIndex, index.getExpressionIndex(target, null));
+		assertNotSame(expressionIndex, index.getExpressionIndex(createTargetExpression(), null));
+
+		// another version of the document
+		DOMDocument updated = DOMParser.getInstance().parse(XML, "file:///test/tei.xml", null);
+		assertNotSame(index, XMLReferencesIndex.getIndex(updated));
+	}
+
+	@Test
+	public void matchValue() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "file:///test/tei.xml", null);
+		XMLReferenceExpression target = createTargetExpression();
+		List<IndexedNode> nodes = XMLReferencesIndex.getIndex(document).getExpressionIndex(target, null).getNodes();
+
+		SearchNode to = nodes.get(0).getSearchNode();
+		SearchNode from = nodes.get(2).getSearchNode();
+		SearchNode invalidFrom = nodes.get(4).getSearchNode();
+		assertEquals(Direction.TO, to.getDirection());
+		assertEquals("A", to.getMatchValue());
+		assertEquals("A", from.getMatchValue());
+		assertEquals(null, invalidFrom.getMatchValue());
+		assertTrue(from.matchesValue(to));
+		assertFalse(invalidFrom.matchesValue(to));
+
+		ReferenceLink link = new ReferenceLink(target);
+		link.addTo(to);
+		link.addFrom(from);
+		link.addFrom(invalidFrom);
+		assertEquals(1, link.getFromsCount(to));
+		assertTrue(link.hasTo(from));
+		assertFalse(link.hasTo(invalidFrom));
+	}
+
+	private static XMLReferenceExpression createTargetExpression() {
+		XMLReferenceExpression target = new XMLReferenceExpression();
+		target.setPrefix("#");
+		target.setFrom("@target");
+		target.setTo("@xml:id");
+		target.setMultiple(true);
+		return target;
+	}
+
+	private static String toString(List<IndexedNode> nodes) {
+		return nodes.stream() //
+				.map(node -> node.getSearchNode().toString()) //
+				.collect(Collectors.joining(", "));
+	}
+}
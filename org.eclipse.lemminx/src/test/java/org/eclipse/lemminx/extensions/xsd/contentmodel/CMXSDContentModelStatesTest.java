@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.xsd.contentmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CMXSDContentModelStates} used to compute the possible
+ * elements of an element with a lot of children.
+ *
+ */
+public class CMXSDContentModelStatesTest extends AbstractCacheBasedTest {
+
+	private static final String URI = Paths.get("src/test/resources/xsd/contentModelStates.xml").toUri()
+			.toString();
+
+	private XMLLanguageService ls;
+
+	@BeforeEach
+	public void initializeLanguageService() {
+		ls = new XMLLanguageService();
+		ls.setDocumentProvider((uri) -> null);
+		ls.initializeIfNeeded();
+	}
+
+	@Test
+	public void possibleElementsWithSnapshots() {
+		String xml = generateXML(100, -1);
+		DOMDocument document = DOMParser.getInstance().parse(xml, URI, ls.getResolverExtensionManager());
+		DOMElement root = document.getDocumentElement();
+		CMElementDeclaration declaration = getCMDocument(document).findCMElement(root);
+
+		int endOffset = xml.indexOf("</root>");
+		assertEquals(Arrays.asList("end", "item"), getPossibleElementNames(declaration, root, endOffset));
+		// a snapshot is kept every 32 children
+		CMXSDContentModelStates states = getStates(document, root);
+		assertEquals(4, states.getSnapshotCount());
+
+		// the possible elements are computed from the snapshots
+		for (int i = 0; i < 100; i += 7) {
+			int offset = xml.indexOf("<item id=\"" + i + "\"");
+			assertEquals(Arrays.asList("end", "item"), getPossibleElementNames(declaration, root, offset));
+		}
+		assertSame(states, getStates(document, root));
+		assertEquals(4, states.getSnapshotCount());
+	}
+
+	@Test
+	public void possibleElementsWithInvalidChild() {
+		String xml = generateXML(100, 40);
+		DOMDocument document = DOMParser.getInstance().parse(xml, URI, ls.getResolverExtensionManager());
+		DOMElement root = document.getDocumentElement();
+		CMElementDeclaration declaration = getCMDocument(document).findCMElement(root);
+
+		// after <end />, the item elements are not valid
+		assertEquals(Collections.emptyList(), getPossibleElementNames(declaration, root, xml.indexOf("</root>")));
+		assertEquals(Collections.emptyList(),
+				getPossibleElementNames(declaration, root, xml.indexOf("<item id=\"70\"")));
+		// before <end />, the item and end elements are valid
+		assertEquals(Arrays.asList("end", "item"),
+				getPossibleElementNames(declaration, root, xml.indexOf("<item id=\"20\"")));
+		assertEquals(Arrays.asList("end", "item"), getPossibleElementNames(declaration, root, xml.indexOf("<end")));
+		// nothing is possible after <end />
+		assertEquals(Collections.emptyList(),
+				getPossibleElementNames(declaration, root, xml.indexOf("<item id=\"40\"")));
+	}
+
+	@Test
+	public void possibleElementsAfterParse() throws Exception {
+		String xml = generateXML(100, -1);
+		TextDocument textDocument = new TextDocument(xml, URI);
+		textDocument.setIncremental(true);
+		DOMDocument document = DOMParser.getInstance().parse(textDocument, ls.getResolverExtensionManager());
+		DOMElement root = document.getDocumentElement();
+		CMElementDeclaration declaration = getCMDocument(document).findCMElement(root);
+		assertEquals(Arrays.asList("end", "item"), getPossibleElementNames(declaration, root, xml.indexOf("</root>")));
+		CMXSDContentModelStates states = getStates(document, root);
+
+		// insert <end /> before the 10th item
+		int offset = xml.indexOf("<item id=\"10\"");
+		Range range = new Range(textDocument.positionAt(offset), textDocument.positionAt(offset));
+		textDocument.update(Collections.singletonList(new TextDocumentContentChangeEvent(range, "<end />")));
+		DOMDocument updated = DOMParser.getInstance().parse(textDocument, ls.getResolverExtensionManager());
+		assertNotSame(document, updated);
+
+		// the snapshots computed for the previous DOM document are not used
+		String text = textDocument.getText();
+		DOMElement updatedRoot = updated.getDocumentElement();
+		assertEquals(Collections.emptyList(),
+				getPossibleElementNames(declaration, updatedRoot, text.indexOf("</root>")));
+		assertNotSame(states, getStates(updated, updatedRoot));
+		// the previous DOM document is not modified
+		assertSame(states, getStates(document, root));
+	}
+
+	private CMXSDDocument getCMDocument(DOMDocument document) {
+		ContentModelManager manager = ls.getComponent(ContentModelManager.class);
+		Collection<CMDocument> cmDocuments = manager.findCMDocument(document, null, false);
+		assertEquals(1, cmDocuments.size());
+		return (CMXSDDocument) cmDocuments.iterator().next();
+	}
+
+	private CMXSDContentModelStates getStates(DOMDocument document, DOMElement root) {
+		return getCMDocument(document).getContentModelStates(root);
+	}
+
+	private static List<String> getPossibleElementNames(CMElementDeclaration declaration, DOMElement parent,
+			int offset) {
+		return declaration.getPossibleElements(parent, offset).stream() //
+				.map(CMElementDeclaration::getLocalName) //
+				.sorted() //
+				.collect(Collectors.toList());
+	}
+
+	private static String generateXML(int count, int endIndex) {
+		StringBuilder xml = new StringBuilder("<root xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" ");
+		xml.append("xsi:noNamespaceSchemaLocation=\"contentModelStates.xsd\">\n");
+		for (int i = 0; i < count; i++) {
+			if (i == endIndex) {
+				xml.append("  <end />\n");
+			}
+			xml.append("  <item id=\"").append(i).append("\" />\n");
+		}
+		return xml.append("</root>").toString();
+	}
+}
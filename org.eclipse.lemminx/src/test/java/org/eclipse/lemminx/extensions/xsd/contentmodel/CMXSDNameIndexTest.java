@@ -0,0 +1,110 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.xsd.contentmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMAttributeDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CMXSDNameIndex} used to find the element and attribute
+ * declarations of an XML Schema.
+ *
+ */
+public class CMXSDNameIndexTest extends AbstractCacheBasedTest {
+
+	private static final String POM = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\"\r\n" + //
+			"	xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\r\n" + //
+			"	xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 maven-4.0.0.xsd\">\r\n" + //
+			"	<build>\r\n" + //
+			"		<plugins>\r\n" + //
+			"			<plugin combine.children=\"append\" />\r\n" + //
+			"		</plugins>\r\n" + //
+			"	</build>\r\n" + //
+			"</project>";
+
+	@Test
+	public void findByLocalNameAndNamespace() {
+		List<String[]> names = Arrays.asList(new String[] { "a", null }, new String[] { "b", "ns1" },
+				new String[] { "b", "ns2" }, new String[] { "c", "ns1" });
+		CMXSDNameIndex<String[]> index = new CMXSDNameIndex<>(names, name -> name[0], name -> name[1]);
+		assertSame(names.get(0), index.find("a", null));
+		assertSame(names.get(1), index.find("b", "ns1"));
+		assertSame(names.get(2), index.find("b", "ns2"));
+		// no declaration with the namespace, the first declaration with the local
+		// name is returned
+		assertSame(names.get(1), index.find("b", "ns3"));
+		assertSame(names.get(3), index.find("c", null));
+		assertNull(index.find("d", null));
+	}
+
+	@Test
+	public void findCMElementAndAttribute() throws Exception {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.setDocumentProvider((uri) -> null);
+		ls.initializeIfNeeded();
+		ContentModelManager manager = ls.getComponent(ContentModelManager.class);
+		String uri = Paths.get("src/test/resources/xsd/pom.xml").toUri().toString();
+		DOMDocument document = DOMParser.getInstance().parse(POM, uri, ls.getResolverExtensionManager());
+		Collection<CMDocument> cmDocuments = manager.findCMDocument(document, null, false);
+		assertEquals(1, cmDocuments.size());
+		CMDocument cmDocument = cmDocuments.iterator().next();
+
+		DOMElement plugin = (DOMElement) document.findNodeAt(POM.indexOf("<plugin ") + 1);
+		CMElementDeclaration pluginDeclaration = cmDocument.findCMElement(plugin);
+		assertNotNull(pluginDeclaration);
+		assertEquals("plugin", pluginDeclaration.getLocalName());
+		assertNotNull(pluginDeclaration.findCMElement("artifactId", "http://maven.apache.org/POM/4.0.0"));
+		assertNull(pluginDeclaration.findCMElement("unknown", "http://maven.apache.org/POM/4.0.0"));
+
+		CMElementDeclaration projectDeclaration = cmDocument.findCMElement(document.getDocumentElement());
+		CMAttributeDeclaration attribute = projectDeclaration.findCMAttribute("child.project.url.inherit.append.path",
+				null);
+		assertNotNull(attribute);
+		assertNull(projectDeclaration.findCMAttribute("unknown", null));
+
+		// the declarations are shared by the threads
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<CMElementDeclaration>> results = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				results.add(executor.submit(() -> cmDocument.findCMElement(plugin)));
+			}
+			for (Future<CMElementDeclaration> result : results) {
+				assertSame(pluginDeclaration, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.performance;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+
+/**
+ * This utility class is used to compare the memory retained by a huge DOM
+ * document parsed by {@link DOMParser} with and without compaction.
+ *
+ * <p>
+ * The number of generated elements can be given as first argument (default
+ * 500000).
+ * </p>
+ *
+ */
+public class DOMParserMemoryPerformance {
+
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 500000;
+		String text = generateXML(count);
+		TextDocument document = new TextDocument(text, "huge.xml");
+		System.err.println("Generated 'huge.xml' with " + count + " elements (" + text.length() + " characters).");
+
+		DOMParser parser = DOMParser.getInstance();
+		int threshold = parser.getCompactThreshold();
+		try {
+			parser.setCompactThreshold(-1);
+			measure("Default DOM", document);
+			parser.setCompactThreshold(0);
+			measure("Compact DOM", document);
+		} finally {
+			parser.setCompactThreshold(threshold);
+		}
+	}
+
+	private static void measure(String label, TextDocument document) {
+		long before = usedMemory();
+		long start = System.currentTimeMillis();
+		DOMDocument xmlDocument = DOMParser.getInstance().parse(document, null);
+		long time = System.currentTimeMillis() - start;
+		long retained = usedMemory() - before;
+		System.err.println(label + ": parsed in " + time + " ms, retained " + (retained / 1024 / 1024) + " MB"
+				+ (xmlDocument.isCompact() ? " (compact)." : "."));
+	}
+
+	private static String generateXML(int count) {
+		StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<catalog>\n");
+		for (int i = 0; i < count; i++) {
+			xml.append("  <item id=\"").append(i).append("\" type=\"book\">\n") //
+					.append("    <title lang=\"en\">Title ").append(i).append("</title>\n") //
+					.append("    <price currency=\"EUR\">").append(i % 100).append("</price>\n") //
+					.append("    <empty />\n") //
+					.append("  </item>\n");
+		}
+		return xml.append("</catalog>").toString();
+	}
+
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
@@ -24,30 +25,66 @@ import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 
 /**
  * This utility class is used to check the performance of
- * {@link TextDocument#update(List)}, updating the large content.xml file
+ * {@link TextDocument#update(List)}, updating the large content.xml file.
+ * 
+ * <p>
+ * Each round compares the time to apply a batch of updates and to read the
+ * String text after each update:
+ * <ul>
+ * <li>before: the text is copied in a StringBuilder which is updated (like the
+ * old StringBuilder based implementation did).</li>
+ * <li>after: the rope text buffer of the text document is updated and the text
+ * is read with {@link TextDocument#getText()}.</li>
+ * </ul>
+ * </p>
  * 
  * @author Angelo ZERR
  *
  */
 public class TextDocumentUpdatePerformance {
 
-	public static void main(String[] args) {
+	private static final int UPDATES_PER_ROUND = 1000;
+
+	public static void main(String[] args) throws BadLocationException {
 		InputStream in = TextDocumentUpdatePerformance.class.getResourceAsStream("/xml/content.xml");
 		String text = convertStreamToString(in);
 		TextDocument document = new TextDocument(text, "content.xml");
 		document.setIncremental(true);
-		// Continuously parses the large content.xml file with the DOM parser.
+		int offset = document.offsetAt(new Position(14, 13));
+		// Continuously updates the large content.xml file.
 		while (true) {
 			long start = System.currentTimeMillis();
+			text = updateBefore(text, offset);
+			long beforeTime = System.currentTimeMillis() - start;
+			long afterTime = updateAfter(document);
+			System.err.println("Update 'content.xml' text document " + UPDATES_PER_ROUND + " times: before="
+					+ beforeTime + " ms, after=" + afterTime + " ms.");
+		}
+
+	}
+
+	private static String updateBefore(String text, int offset) {
+		for (int i = 0; i < UPDATES_PER_ROUND; i++) {
+			// Insert a space
+			StringBuilder buffer = new StringBuilder(text);
+			buffer.replace(offset, offset, " ");
+			text = buffer.toString();
+		}
+		return text;
+	}
+
+	private static long updateAfter(TextDocument document) {
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < UPDATES_PER_ROUND; i++) {
 			// Insert a space
 			List<TextDocumentContentChangeEvent> changes = new ArrayList<>();
 			TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(
 					new Range(new Position(14, 13), new Position(14, 13)), " ");
 			changes.add(change);
 			document.update(changes);
-			System.err.println("Update 'content.xml' text document in " + (System.currentTimeMillis() - start) + " ms.");
+			document.getText();
 		}
-
+		return System.currentTimeMillis() - start;
 	}
 
 }
@@ -0,0 +1,181 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.services.extensions.XMLExtensionsRegistry;
+import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
+import org.eclipse.lemminx.services.extensions.diagnostics.IDiagnosticsParticipant;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link XMLDiagnostics} with diagnostics participants executed in
+ * parallel.
+ *
+ */
+public class XMLDiagnosticsTest {
+
+	private static final DOMDocument DOCUMENT = DOMParser.getInstance().parse("<root />", "test.xml", null);
+
+	@Test
+	public void mergeInRegistrationOrder() {
+		TestParticipant slow = new TestParticipant("slow", true) {
+			@Override
+			protected void validate(CancelChecker cancelChecker) throws InterruptedException {
+				Thread.sleep(100);
+			}
+		};
+		List<IDiagnosticsParticipant> participants = Arrays.asList(slow, new TestParticipant("sequential", false),
+				new TestParticipant("parallel", true));
+		DiagnosticsResult result = doDiagnostics(participants, () -> {
+		});
+		assertEquals(Arrays.asList("slow", "sequential", "parallel"), getMessages(result));
+		// the times are reported by participant class
+		assertEquals(Arrays.asList(slow.getClass().getName(), TestParticipant.class.getName()),
+				new ArrayList<>(result.getParticipantTimes().keySet()));
+		assertTrue(result.getParticipantTimes().get(slow.getClass().getName()) >= 100);
+	}
+
+	@Test
+	public void parallelExecution() {
+		// the sequential participant is executed by the current thread while the
+		// parallel participant is executed by the pool
+		CountDownLatch latch = new CountDownLatch(2);
+		TestParticipant parallel = new TestParticipant("parallel", true) {
+			@Override
+			protected void validate(CancelChecker cancelChecker) throws InterruptedException {
+				latch.countDown();
+				assertTrue(latch.await(5, TimeUnit.SECONDS));
+			}
+		};
+		TestParticipant sequential = new TestParticipant("sequential", false) {
+			@Override
+			protected void validate(CancelChecker cancelChecker) throws InterruptedException {
+				latch.countDown();
+				assertTrue(latch.await(5, TimeUnit.SECONDS));
+			}
+		};
+		DiagnosticsResult result = doDiagnostics(Arrays.asList(parallel, sequential), () -> {
+		});
+		assertEquals(Arrays.asList("parallel", "sequential"), getMessages(result));
+	}
+
+	@Test
+	public void errorInParallelParticipant() {
+		TestParticipant error = new TestParticipant("error", true) {
+			@Override
+			protected void validate(CancelChecker cancelChecker) {
+				throw new IllegalStateException("Error in participant");
+			}
+		};
+		DiagnosticsResult result = doDiagnostics(
+				Arrays.asList(new TestParticipant("before", true), error, new TestParticipant("after", false)),
+				() -> {
+				});
+		// the diagnostics of the participant are added before the error
+		assertEquals(Arrays.asList("before", "error", "after"), getMessages(result));
+	}
+
+	@Test
+	public void cancelParallelParticipant() {
+		AtomicBoolean canceled = new AtomicBoolean();
+		CancelChecker cancelChecker = () -> {
+			if (canceled.get()) {
+				throw new CancellationException();
+			}
+		};
+		TestParticipant longParticipant = new TestParticipant("long", true) {
+			@Override
+			protected void validate(CancelChecker cancelChecker) throws InterruptedException {
+				while (true) {
+					cancelChecker.checkCanceled();
+					Thread.sleep(10);
+				}
+			}
+		};
+		TestParticipant cancel = new TestParticipant("cancel", false) {
+			@Override
+			protected void validate(CancelChecker cancelChecker) {
+				canceled.set(true);
+			}
+		};
+		assertThrows(CancellationException.class,
+				() -> doDiagnostics(Arrays.asList(longParticipant, cancel), cancelChecker));
+	}
+
+	private static DiagnosticsResult doDiagnostics(List<IDiagnosticsParticipant> participants,
+			CancelChecker cancelChecker) {
+		XMLExtensionsRegistry registry = new XMLExtensionsRegistry() {
+			@Override
+			public Collection<IDiagnosticsParticipant> getDiagnosticsParticipants() {
+				return participants;
+			}
+		};
+		return new XMLDiagnostics(registry).doDiagnostics(DOCUMENT, new XMLValidationSettings(),
+				Collections.emptyMap(), cancelChecker);
+	}
+
+	private static List<String> getMessages(List<Diagnostic> diagnostics) {
+		return diagnostics.stream().map(diagnostic -> diagnostic.getMessage().getLeft()).collect(Collectors.toList());
+	}
+
+	private static class TestParticipant implements IDiagnosticsParticipant {
+
+		private final String message;
+
+		private final boolean parallelizable;
+
+		public TestParticipant(String message, boolean parallelizable) {
+			this.message = message;
+			this.parallelizable = parallelizable;
+		}
+
+		@Override
+		public void doDiagnostics(DOMDocument xmlDocument, List<Diagnostic> diagnostics,
+				XMLValidationSettings validationSettings, CancelChecker cancelChecker) {
+			diagnostics.add(new Diagnostic(new Range(), message));
+			try {
+				validate(cancelChecker);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		protected void validate(CancelChecker cancelChecker) throws InterruptedException {
+		}
+
+		@Override
+		public boolean isParallelizable() {
+			return parallelizable;
+		}
+	}
+}
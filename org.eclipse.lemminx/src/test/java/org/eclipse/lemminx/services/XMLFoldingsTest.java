@@ -13,6 +13,9 @@
 package org.eclipse.lemminx.services;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -24,6 +27,8 @@ import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lemminx.settings.XMLFoldingSettings;
 import org.eclipse.lsp4j.FoldingRange;
 import org.eclipse.lsp4j.FoldingRangeCapabilities;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -420,6 +425,51 @@ public class XMLFoldingsTest {
 		assertRanges(input,  new ExpectedIndentRange[] {r(0, 3)}, settings);
 	}
 
+	@Test
+	public void testFoldWithNamelessEndTag() {
+		String[] input = new String[] {
+			/*0*/"<a>",
+			/*1*/"</>",
+			/*2*/"</a>"
+		};
+		assertRanges(input, new ExpectedIndentRange[] {r(0, 1)});
+	}
+
+	@Test
+	public void cachedFoldingRanges() throws Exception {
+		String xml = "<a>\n" + //
+				"<b>\n" + //
+				"text\n" + //
+				"</b>\n" + //
+				"</a>";
+		TextDocument document = new TextDocument(xml, "test.xml");
+		document.setIncremental(true);
+		DOMDocument xmlDocument = DOMParser.getInstance().parse(document, null);
+		XMLLanguageService languageService = new XMLLanguageService();
+		XMLFoldingSettings settings = new XMLFoldingSettings();
+
+		List<FoldingRange> ranges = languageService.getFoldingRanges(xmlDocument, settings);
+		assertEquals(2, ranges.size());
+		// same version of the DOM document -> cached ranges
+		assertSame(ranges, languageService.getFoldingRanges(xmlDocument, settings));
+
+		// other settings -> new ranges
+		settings.setIncludeClosingTagInFold(true);
+		List<FoldingRange> rangesWithClosingTag = languageService.getFoldingRanges(xmlDocument, settings);
+		assertNotSame(ranges, rangesWithClosingTag);
+		assertEquals(4, rangesWithClosingTag.get(1).getEndLine());
+
+		// a new DOM document is parsed -> new ranges
+		int offset = xml.indexOf("text");
+		Range range = new Range(document.positionAt(offset), document.positionAt(offset));
+		document.update(Collections.singletonList(new TextDocumentContentChangeEvent(range, "new\n")));
+		DOMDocument updated = DOMParser.getInstance().parse(document, null);
+		assertNotSame(xmlDocument, updated);
+		List<FoldingRange> updatedRanges = languageService.getFoldingRanges(updated, settings);
+		assertNotSame(rangesWithClosingTag, updatedRanges);
+		assertEquals(5, updatedRanges.get(1).getEndLine());
+	}
+
 	private static void assertRanges(String[] lines, ExpectedIndentRange[] expected) {
 		assertRanges(lines, expected, "", null, new XMLFoldingSettings());
 	}
@@ -16,13 +16,21 @@ import static org.eclipse.lemminx.XMLAssert.l;
 import static org.eclipse.lemminx.XMLAssert.r;
 import static org.eclipse.lemminx.XMLAssert.si;
 import static org.eclipse.lemminx.XMLAssert.testSymbolInformationsFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lemminx.settings.XMLSymbolExpressionFilter;
 import org.eclipse.lemminx.settings.XMLSymbolFilter;
 import org.eclipse.lemminx.settings.XMLSymbolSettings;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -659,4 +667,42 @@ public class XMLSymbolInformationsTest {
 				si("baz", SymbolKind.Field, l(testURI, r(2, 1, 2, 54)), "foo"), //
 				si("bar: @attr3: value3", SymbolKind.Field, l(testURI, r(3, 1, 3, 46)), "foo"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void cachedSymbols() {
+		String xml = "<a><b></b></a>";
+		DOMDocument xmlDocument = DOMParser.getInstance().parse(xml, testURI, null);
+		XMLLanguageService languageService = new XMLLanguageService();
+		XMLSymbolSettings symbolSettings = new XMLSymbolSettings();
+
+		CancelChecker cancelChecker = () -> {
+		};
+
+		SymbolInformationResult symbols = languageService.findSymbolInformations(xmlDocument, symbolSettings,
+				cancelChecker);
+		assertEquals(2, symbols.size());
+		// same version of the DOM document -> cached symbols
+		assertSame(symbols, languageService.findSymbolInformations(xmlDocument, symbolSettings, cancelChecker));
+
+		// other settings -> new symbols
+		symbolSettings.setMaxItemsComputed(1);
+		SymbolInformationResult limitedSymbols = languageService.findSymbolInformations(xmlDocument,
+				symbolSettings, cancelChecker);
+		assertNotSame(symbols, limitedSymbols);
+		assertTrue(limitedSymbols.isResultLimitExceeded());
+
+		// a new DOM document -> new symbols
+		symbolSettings.setMaxItemsComputed(-1);
+		DOMDocument newDocument = DOMParser.getInstance().parse(xml, testURI, null);
+		SymbolInformationResult newSymbols = languageService.findSymbolInformations(newDocument, symbolSettings,
+				cancelChecker);
+		assertNotSame(symbols, newSymbols);
+
+		// the grammars have changed -> new symbols
+		ContentModelManager contentModelManager = languageService.getComponent(ContentModelManager.class);
+		contentModelManager.setUseCache(true);
+		contentModelManager.getGrammarPool().clear();
+		assertNotSame(newSymbols,
+				languageService.findSymbolInformations(newDocument, symbolSettings, cancelChecker));
+	}
+}
@@ -18,7 +18,10 @@ import java.util.Collections;
 import org.eclipse.lemminx.AbstractCacheBasedTest;
 import org.eclipse.lemminx.MockXMLLanguageServer;
 import org.eclipse.lemminx.XMLLanguageServer;
+import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
+import org.eclipse.lsp4j.FileChangeType;
+import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.WorkspaceFoldersChangeEvent;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,10 +36,17 @@ public class WorkspaceServiceParticipantTest extends AbstractCacheBasedTest {
 
 		public DidChangeWorkspaceFoldersParams didChangeWorkspaceFolders;
 
+		public DidChangeWatchedFilesParams didChangeWatchedFiles;
+
 		@Override
 		public void didChangeWorkspaceFolders(DidChangeWorkspaceFoldersParams params) {
 			this.didChangeWorkspaceFolders = params;
 		}
+
+		@Override
+		public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
+			this.didChangeWatchedFiles = params;
+		}
 	}
 
 	private CaptureWokspaceServiceCalls workspaceServiceParticipant;
@@ -56,4 +66,11 @@ public class WorkspaceServiceParticipantTest extends AbstractCacheBasedTest {
 		assertArrayEquals(new String[] { "added" }, workspaceServiceParticipant.didChangeWorkspaceFolders.getEvent().getAdded().stream().map(WorkspaceFolder::getUri).toArray(String[]::new));
 		assertArrayEquals(new String[] { "removed" }, workspaceServiceParticipant.didChangeWorkspaceFolders.getEvent().getRemoved().stream().map(WorkspaceFolder::getUri).toArray(String[]::new));
 	}
+
+	@Test
+	public void testWatchedFiles() {
+		DidChangeWatchedFilesParams params = new DidChangeWatchedFilesParams(Collections.singletonList(new FileEvent("file:///schema.xsd", FileChangeType.Changed)));
+		server.getWorkspaceService().didChangeWatchedFiles(params);
+		assertArrayEquals(new String[] { "file:///schema.xsd" }, workspaceServiceParticipant.didChangeWatchedFiles.getChanges().stream().map(FileEvent::getUri).toArray(String[]::new));
+	}
 }
@@ -0,0 +1,66 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PositionCursor}.
+ *
+ */
+public class PositionCursorTest {
+
+	private static final String TEXT = "<root>\r\n" + //
+			"  <a/>\n" + //
+			"  <b/>\r" + //
+			"\r\n" + //
+			"\n" + //
+			"  <c/></root>";
+
+	@Test
+	public void forward() throws BadLocationException {
+		TextDocument document = new TextDocument(TEXT, "test.xml");
+		PositionCursor cursor = new PositionCursor(document);
+		for (int offset = 0; offset <= TEXT.length(); offset++) {
+			assertEquals(document.positionAt(offset), cursor.positionAt(offset), "Offset " + offset);
+		}
+	}
+
+	@Test
+	public void forwardWithGaps() throws BadLocationException {
+		TextDocument document = new TextDocument(TEXT, "test.xml");
+		for (int step = 2; step < 8; step++) {
+			PositionCursor cursor = new PositionCursor(document);
+			for (int offset = 0; offset <= TEXT.length(); offset += step) {
+				assertEquals(document.positionAt(offset), cursor.positionAt(offset), "Offset " + offset);
+			}
+		}
+	}
+
+	@Test
+	public void backward() throws BadLocationException {
+		TextDocument document = new TextDocument(TEXT, "test.xml");
+		PositionCursor cursor = new PositionCursor(document);
+		for (int offset = TEXT.length(); offset >= 0; offset--) {
+			assertEquals(document.positionAt(offset), cursor.positionAt(offset), "Offset " + offset);
+		}
+		int end = TEXT.indexOf("<c/>");
+		assertEquals(document.positionAt(end), cursor.positionAt(end));
+		int start = TEXT.indexOf("<b/>");
+		assertEquals(document.positionAt(start), cursor.positionAt(start));
+		assertEquals(document.positionAt(end), cursor.positionAt(end));
+	}
+}
@@ -458,6 +458,29 @@ public class XMLFormatterWithRangeTest {
 				);
 	}
 
+	@Test
+	public void rangeInManySiblings() throws BadLocationException {
+		StringBuilder content = new StringBuilder("<root>\n");
+		StringBuilder expected = new StringBuilder("<root>\n");
+		for (int i = 0; i < 100; i++) {
+			content.append("<a   />\n");
+			expected.append("<a   />\n");
+		}
+		content.append("  |<b   />\n" + //
+				"  <c   />|\n");
+		expected.append("  <b />\n" + //
+				"  <c />\n");
+		for (int i = 0; i < 100; i++) {
+			content.append("<d   />\n");
+			expected.append("<d   />\n");
+		}
+		content.append("</root>");
+		expected.append("</root>");
+		assertFormat(content.toString(), expected.toString(), //
+				te(101, 4, 101, 7, " "), //
+				te(102, 4, 102, 7, " "));
+	}
+
 	private static void assertFormat(String unformatted, String actual, TextEdit... expectedEdits)
 			throws BadLocationException {
 		assertFormat(unformatted, actual, new SharedSettings(), expectedEdits);
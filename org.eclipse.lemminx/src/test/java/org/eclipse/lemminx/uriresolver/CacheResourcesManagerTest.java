@@ -14,13 +14,23 @@ package org.eclipse.lemminx.uriresolver;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -195,6 +205,168 @@ public class CacheResourcesManagerTest extends AbstractCacheBasedTest {
 		}
 	}
 
+	@Test
+	public void testRevalidation() throws Exception {
+		Map<String, String> contents = new ConcurrentHashMap<>();
+		contents.put("/grammar.dtd", "<!ELEMENT root EMPTY>");
+		List<String> ifNoneMatches = new CopyOnWriteArrayList<>();
+		server = new FileServer(new ContentHandler(contents, ifNoneMatches));
+		server.start();
+		String uri = server.getUri("/grammar.dtd");
+
+		Path path = download(uri);
+		assertEquals("<!ELEMENT root EMPTY>", FilesUtils.readString(path));
+		assertTrue(Files.exists(CacheResourceMetadata.getMetadataPath(path)));
+
+		// The resource is not revalidated before the revalidation interval
+		assertEquals(path, cacheResourcesManager.getResource(uri));
+		assertNull(cacheResourcesManager.getResourceLoading(uri));
+
+		// Not modified
+		cacheResourcesManager.setRevalidationInterval(0);
+		assertEquals(path, cacheResourcesManager.getResource(uri));
+		awaitLoading(uri);
+		assertEquals(Arrays.asList(null, etag("<!ELEMENT root EMPTY>")), ifNoneMatches);
+		assertEquals("<!ELEMENT root EMPTY>", FilesUtils.readString(path));
+
+		// Modified
+		contents.put("/grammar.dtd", "<!ELEMENT root ANY>");
+		assertEquals(path, cacheResourcesManager.getResource(uri));
+		awaitLoading(uri);
+		assertEquals(3, ifNoneMatches.size());
+		assertEquals("<!ELEMENT root ANY>", FilesUtils.readString(path));
+		assertEquals(etag("<!ELEMENT root ANY>"), CacheResourceMetadata.load(path).getETag());
+
+		// The cached file is kept when the server is offline
+		server.stop();
+		assertEquals(path, cacheResourcesManager.getResource(uri));
+		awaitLoading(uri);
+		assertEquals("<!ELEMENT root ANY>", FilesUtils.readString(path));
+	}
+
+	@Test
+	public void testPrefetchImports() throws Exception {
+		Map<String, String> contents = new ConcurrentHashMap<>();
+		contents.put("/main.xsd", "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+				"  <xs:import namespace=\"http://foo\" schemaLocation=\"imports/imported.xsd\" />\r\n" + //
+				"</xs:schema>");
+		contents.put("/imports/imported.xsd", "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+				"  <xs:include\r\n" + //
+				"     schemaLocation='included.xsd' />\r\n" + //
+				"</xs:schema>");
+		contents.put("/imports/included.xsd", "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" />");
+		server = new FileServer(new ContentHandler(contents, new CopyOnWriteArrayList<>()));
+		server.start();
+
+		download(server.getUri("/main.xsd"));
+		// The imported schema is downloaded before the download of main.xsd is
+		// completed, the included schema before the download of the imported schema
+		// is completed.
+		assertPrefetched(server.getUri("/imports/imported.xsd"));
+		assertPrefetched(server.getUri("/imports/included.xsd"));
+	}
+
+	private void assertPrefetched(String uri) throws Exception {
+		awaitLoading(uri);
+		assertTrue(Files.exists(CacheResourcesManager.getResourceCachePath(uri)), uri + " should be downloaded");
+		assertNotNull(cacheResourcesManager.getResource(uri));
+	}
+
+	@Test
+	public void testMaxConnectionsPerHost() throws Exception {
+		AtomicInteger concurrentRequests = new AtomicInteger();
+		AtomicInteger maxConcurrentRequests = new AtomicInteger();
+		Handler slowHandler = new AbstractHandler() {
+			@Override
+			public void handle(String target, Request baseRequest, HttpServletRequest request,
+					HttpServletResponse response) throws IOException, ServletException {
+				int concurrent = concurrentRequests.incrementAndGet();
+				maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+				try {
+					TimeUnit.MILLISECONDS.sleep(100);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					concurrentRequests.decrementAndGet();
+				}
+				response.getWriter().write("<!ELEMENT root EMPTY>");
+				baseRequest.setHandled(true);
+			}
+		};
+		server = new FileServer(slowHandler);
+		server.start();
+		cacheResourcesManager.setMaxConnectionsPerHost(1);
+		List<CompletableFuture<Path>> downloads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			try {
+				cacheResourcesManager.getResource(server.getUri("/slow" + i + ".dtd"));
+				fail("cacheResourcesManager should be busy downloading the url");
+			} catch (CacheResourceDownloadingException containsFuture) {
+				downloads.add(containsFuture.getFuture());
+			}
+		}
+		for (CompletableFuture<Path> download : downloads) {
+			assertNotNull(download.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, maxConcurrentRequests.get());
+	}
+
+	private Path download(String uri) throws Exception {
+		try {
+			cacheResourcesManager.getResource(uri);
+			fail("cacheResourcesManager should be busy downloading the url");
+			return null;
+		} catch (CacheResourceDownloadingException containsFuture) {
+			return containsFuture.getFuture().get(2, TimeUnit.SECONDS);
+		}
+	}
+
+	private void awaitLoading(String uri) throws Exception {
+		CompletableFuture<Path> loading = cacheResourcesManager.getResourceLoading(uri);
+		if (loading != null) {
+			loading.get(2, TimeUnit.SECONDS);
+		}
+	}
+
+	private static String etag(String content) {
+		return "\"" + Integer.toHexString(content.hashCode()) + "\"";
+	}
+
+	/**
+	 * Serves the given contents with an ETag and answers 304 to a conditional
+	 * request when the content is not modified.
+	 */
+	private static class ContentHandler extends AbstractHandler {
+
+		private final Map<String, String> contents;
+
+		private final List<String> ifNoneMatches;
+
+		ContentHandler(Map<String, String> contents, List<String> ifNoneMatches) {
+			this.contents = contents;
+			this.ifNoneMatches = ifNoneMatches;
+		}
+
+		@Override
+		public void handle(String target, Request baseRequest, HttpServletRequest request,
+				HttpServletResponse response) throws IOException, ServletException {
+			String content = contents.get(target);
+			if (content == null) {
+				return;
+			}
+			baseRequest.setHandled(true);
+			String ifNoneMatch = request.getHeader("If-None-Match");
+			ifNoneMatches.add(ifNoneMatch);
+			String etag = etag(content);
+			response.setHeader("ETag", etag);
+			if (etag.equals(ifNoneMatch)) {
+				response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				return;
+			}
+			response.getWriter().write(content);
+		}
+	}
+
 	private Cache<String, CacheResourceDownloadedException> testingCache() {
 		return CacheBuilder.newBuilder().expireAfterWrite(100, TimeUnit.MILLISECONDS).maximumSize(1).build();
 	}
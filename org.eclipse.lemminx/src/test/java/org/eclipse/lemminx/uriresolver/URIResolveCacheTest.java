@@ -0,0 +1,132 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.uriresolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the resolved URIs cache {@link URIResolveCache} used by
+ * {@link URIResolverExtensionManager}.
+ *
+ */
+public class URIResolveCacheTest {
+
+	private static class CountingResolver implements URIResolverExtension {
+
+		private int count;
+
+		private String result = "file:///resolved.xsd";
+
+		@Override
+		public String resolve(String baseLocation, String publicId, String systemId) {
+			count++;
+			return "http://foo".equals(publicId) ? result : null;
+		}
+
+		@Override
+		public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+			return !"http://dynamic".equals(publicId);
+		}
+	}
+
+	@Test
+	public void cacheResolution() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver();
+		manager.registerResolver(resolver);
+
+		assertEquals("file:///resolved.xsd", manager.resolve("file:///foo.xml", "http://foo", null));
+		assertEquals("file:///resolved.xsd", manager.resolve("file:///foo.xml", "http://foo", null));
+		assertEquals("file:///resolved.xsd",
+				manager.resolveInfo("file:///foo.xml", "http://foo", null).getResolvedURI());
+		assertEquals(1, resolver.count);
+
+		// unresolved URI are cached too
+		assertNull(manager.resolveInfo("file:///foo.xml", "http://bar", null));
+		assertNull(manager.resolveInfo("file:///foo.xml", "http://bar", null));
+		assertEquals(2, resolver.count);
+
+		URIResolveCache.Stats stats = manager.getResolveCache().getStats();
+		assertEquals(3, stats.getHits());
+		assertEquals(2, stats.getMisses());
+		assertEquals(0.6, stats.getHitRatio(), 0.001);
+		assertEquals(2, stats.getEntries());
+	}
+
+	@Test
+	public void invalidate() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver();
+		manager.registerResolver(resolver);
+		long generation = manager.getResolveCache().getGeneration();
+
+		assertEquals("file:///resolved.xsd", manager.resolve("file:///foo.xml", "http://foo", null));
+		resolver.result = "file:///other.xsd";
+		assertEquals("file:///resolved.xsd", manager.resolve("file:///foo.xml", "http://foo", null));
+
+		manager.getResolveCache().invalidate();
+		assertEquals(generation + 1, manager.getResolveCache().getGeneration());
+		assertEquals("file:///other.xsd", manager.resolve("file:///foo.xml", "http://foo", null));
+		assertEquals(2, resolver.count);
+
+		// a resolution computed with a previous generation is not cached
+		manager.getResolveCache().put("file:///foo.xml", "http://baz", null, null, generation);
+		assertEquals(1, manager.getResolveCache().getStats().getEntries());
+
+		// unregister a resolver invalidates the cache
+		manager.unregisterResolver(resolver);
+		assertEquals("file:///foo.xsd", manager.resolve("file:///foo.xml", "http://foo", "foo.xsd"));
+		assertNull(manager.resolveInfo("file:///foo.xml", "http://foo", null));
+		assertEquals(2, resolver.count);
+	}
+
+	@Test
+	public void notCacheable() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver();
+		manager.registerResolver(resolver);
+
+		manager.resolve("file:///foo.xml", "http://dynamic", null);
+		manager.resolve("file:///foo.xml", "http://dynamic", null);
+		assertEquals(2, resolver.count);
+		assertEquals(0, manager.getResolveCache().getStats().getEntries());
+	}
+
+	@Test
+	public void notCacheableByDefault() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver();
+		manager.registerResolver(resolver);
+		// a resolver which doesn't opt in disables the cache
+		manager.registerResolver((baseLocation, publicId, systemId) -> null);
+
+		manager.resolve("file:///foo.xml", "http://foo", null);
+		manager.resolve("file:///foo.xml", "http://foo", null);
+		assertEquals(2, resolver.count);
+		assertEquals(0, manager.getResolveCache().getStats().getEntries());
+	}
+
+	@Test
+	public void disabled() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver();
+		manager.registerResolver(resolver);
+		manager.getResolveCache().setMaxEntries(0);
+
+		manager.resolve("file:///foo.xml", "http://foo", null);
+		manager.resolve("file:///foo.xml", "http://foo", null);
+		assertEquals(2, resolver.count);
+	}
+}
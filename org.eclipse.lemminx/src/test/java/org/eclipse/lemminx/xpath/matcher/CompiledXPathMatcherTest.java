@@ -0,0 +1,141 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.xpath.matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CompiledXPathMatcher}.
+ *
+ */
+public class CompiledXPathMatcherTest {
+
+	private static final String XML = "<?xml version=\"1.0\"?>\r\n" + //
+			"<foo xmlns:x=\"http://x\">\r\n" + //
+			"	<bar attr1=\"value1\" attr2=\"value2\">ABCD</bar>\r\n" + //
+			"	<baz attr1=\"baz-value1\" attr2=\"baz-value2\">EFGH</baz>\r\n" + //
+			"	<a>\r\n" + //
+			"		<b>\r\n" + //
+			"			<c id=\"c1\" />\r\n" + //
+			"			<bar attr1=\"value1\">IJKL</bar>\r\n" + //
+			"		</b>\r\n" + //
+			"		<x:b><c id=\"c2\" /></x:b>\r\n" + //
+			"	</a>\r\n" + //
+			"	<!-- comment -->\r\n" + //
+			"</foo>";
+
+	private static final List<String> XPATHS = Arrays.asList(null, //
+			"", //
+			"//@*", //
+			"//@attr1", //
+			"/foo/bar/@attr1", //
+			"//bar/@*", //
+			"/foo/baz/@*", //
+			"//text()", //
+			"//bar/text()", //
+			"/foo/bar/text()", //
+			"//*[@attr1='value1']", //
+			"//bar[@attr1='value1']", //
+			"//bar[@attr1='value1'][@attr2='value2']", //
+			"//bar[@attr1='value1']/@attr2", //
+			"/foo/*/@attr1", //
+			"foo", //
+			"bar", //
+			"foo//", //
+			"a//c", //
+			"//a//c/@id", //
+			"a/b/c", //
+			"//b/c", //
+			"//c", //
+			"c", //
+			"@id", //
+			"//x:b/c", //
+			"//foo", //
+			"/foo");
+
+	@Test
+	public void sameMatchesAsXPathMatcher() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", null);
+		CompiledXPathMatcher<String> compiled = new CompiledXPathMatcher<>();
+		List<XPathMatcher> matchers = new ArrayList<>();
+		for (String xpath : XPATHS) {
+			XPathMatcher matcher = new XPathMatcher(xpath);
+			matchers.add(matcher);
+			compiled.add(matcher, xpath);
+		}
+		List<DOMNode> nodes = new ArrayList<>();
+		collectNodes(document, nodes);
+		for (DOMNode node : nodes) {
+			List<String> expected = new ArrayList<>();
+			for (int i = 0; i < matchers.size(); i++) {
+				if (matchers.get(i).match(node)) {
+					expected.add(XPATHS.get(i));
+				}
+			}
+			String message = "Node " + node.getNodeName() + " at " + node.getStart();
+			assertEquals(expected, compiled.matchAll(node), message);
+			assertEquals(expected.isEmpty() ? null : expected.get(0), compiled.matchFirst(node), message);
+			assertEquals(!expected.isEmpty(), compiled.match(node), message);
+		}
+	}
+
+	@Test
+	public void matchInOrder() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", null);
+		DOMElement bar = (DOMElement) document.getDocumentElement().getChildren().get(0);
+		DOMAttr attr1 = bar.getAttributeNode("attr1");
+
+		CompiledXPathMatcher<String> compiled = new CompiledXPathMatcher<>();
+		compiled.add(new XPathMatcher("//baz/@attr1"), "baz");
+		compiled.add(new XPathMatcher("//@*"), "any");
+		compiled.add(new XPathMatcher("/foo/bar/@attr1"), "bar");
+		assertEquals(Arrays.asList("any", "bar"), compiled.matchAll(attr1));
+		assertEquals("any", compiled.matchFirst(attr1));
+	}
+
+	@Test
+	public void empty() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", null);
+		CompiledXPathMatcher<String> compiled = new CompiledXPathMatcher<>();
+		assertTrue(compiled.isEmpty());
+		assertFalse(compiled.match(document.getDocumentElement()));
+		assertNull(compiled.matchFirst(document.getDocumentElement()));
+		compiled.add(new XPathMatcher("foo"), "foo");
+		assertFalse(compiled.isEmpty());
+		assertFalse(compiled.match(null));
+	}
+
+	private static void collectNodes(DOMNode node, List<DOMNode> nodes) {
+		nodes.add(node);
+		List<DOMAttr> attributes = node.getAttributeNodes();
+		if (attributes != null) {
+			nodes.addAll(attributes);
+		}
+		for (DOMNode child : node.getChildren()) {
+			collectNodes(child, nodes);
+		}
+	}
+}